@@ -0,0 +1,168 @@
+package com.project.mentoridge.modules.log.component;
+
+import com.project.mentoridge.modules.account.enums.GenderType;
+import com.project.mentoridge.modules.account.enums.RoleType;
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.log.component.LogService.Property;
+import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.Log;
+import org.apache.commons.lang3.ObjectUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 로그 1건 작성 비용 비교 (./gradlew jmh)
+ * - reflection_* / methodHandle_* : 같은 문자열(String.format + PrintWriter)을 만들고 필드 접근 방식만 다름
+ *   (getDeclaredField + setAccessible 매번 vs 기동 시 컴파일한 FieldAccessor) - 결과가 같은지 @Setup 에서 확인
+ * - structured_*  : 현재 LogService 경로 (MethodHandle 접근자 + 구조화된 변경 내역(LogChange), 문자열 변환은 조회 시점)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LogServiceBenchmark {
+
+    private static final String TITLE = "[User] ";
+
+    @FunctionalInterface
+    private interface Getter {
+        Object get(Object vo, int index) throws Exception;
+    }
+
+    private UserLogService userLogService;
+    private List<Property> properties;
+    private Getter reflection;
+    private Getter methodHandle;
+    private User before;
+    private User after;
+
+    @Setup
+    public void setup() throws Exception {
+
+        LogRepository logRepository = log -> {};
+        userLogService = new UserLogService(logRepository);
+        userLogService.init();
+        userLogService.afterPropertiesSet();
+
+        properties = userLogService.properties;
+        reflection = (vo, index) -> {
+            Field field = vo.getClass().getDeclaredField(properties.get(index).getField());
+            field.setAccessible(true);
+            return field.get(vo);
+        };
+        List<Function<Object, Object>> getters = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            getters.add(FieldAccessor.compile(User.class, property.getField()));
+        }
+        methodHandle = (vo, index) -> getters.get(index).apply(vo);
+
+        before = User.builder()
+                .username("usernameA")
+                .name("nameA")
+                .gender(GenderType.MALE)
+                .birthYear("20220318")
+                .phoneNumber("01012345678")
+                .nickname("nicknameA")
+                .zone("서울특별시 강남구 청담동")
+                .role(RoleType.MENTEE)
+                .build();
+        after = User.builder()
+                .username("usernameB")
+                .name("nameB")
+                .gender(GenderType.FEMALE)
+                .birthYear("20220319")
+                .phoneNumber("01012345679")
+                .nickname("nicknameB")
+                .zone("서울특별시 강남구 삼성동")
+                .role(RoleType.MENTOR)
+                .build();
+
+        if (!reflection_insert().equals(methodHandle_insert()) || !reflection_update().equals(methodHandle_update())) {
+            throw new IllegalStateException("reflection and methodHandle render different content");
+        }
+    }
+
+    @Benchmark
+    public String reflection_insert() throws Exception {
+        return renderInsert(before, reflection);
+    }
+
+    @Benchmark
+    public String methodHandle_insert() throws Exception {
+        return renderInsert(before, methodHandle);
+    }
+
+    @Benchmark
+    public Log structured_insert() {
+        return userLogService.insert(before, before);
+    }
+
+    @Benchmark
+    public String reflection_update() throws Exception {
+        return renderUpdate(before, after, reflection);
+    }
+
+    @Benchmark
+    public String methodHandle_update() throws Exception {
+        return renderUpdate(before, after, methodHandle);
+    }
+
+    @Benchmark
+    public Log structured_update() {
+        return userLogService.update(before, before, after);
+    }
+
+        private String renderInsert(Object vo, Getter getter) throws Exception {
+
+            StringWriter sw = new StringWriter();
+            PrintWriter pw = new PrintWriter(sw);
+            pw.print(TITLE);
+
+            int count = 0;
+            for (int i = 0; i < properties.size(); i++) {
+                Object value = getter.get(vo, i);
+                if (ObjectUtils.isNotEmpty(value)) {
+                    if (count == 0) {
+                        pw.print(String.format("%s : %s", properties.get(i).getName(), value.toString()));
+                    } else {
+                        pw.print(String.format(", %s : %s", properties.get(i).getName(), value.toString()));
+                    }
+                    count += 1;
+                }
+            }
+            return sw.toString();
+        }
+
+        private String renderUpdate(Object before, Object after, Getter getter) throws Exception {
+
+            StringWriter sw = new StringWriter();
+            PrintWriter pw = new PrintWriter(sw);
+            pw.print(TITLE);
+
+            int count = 0;
+            for (int i = 0; i < properties.size(); i++) {
+
+                Object beforeValue = getter.get(before, i);
+                Object afterValue = getter.get(after, i);
+                if (ObjectUtils.isNotEmpty(beforeValue) || ObjectUtils.isNotEmpty(afterValue)) {
+                    String beforeStr = beforeValue != null ? beforeValue.toString() : "없음";
+                    String afterStr = afterValue != null ? afterValue.toString() : "없음";
+                    if (!beforeStr.equals(afterStr)) {
+                        if (count == 0) {
+                            pw.print(String.format("%s : %s → %s", properties.get(i).getName(), beforeStr, afterStr));
+                        } else {
+                            pw.print(String.format(", %s : %s → %s", properties.get(i).getName(), beforeStr, afterStr));
+                        }
+                        count += 1;
+                    }
+                }
+            }
+            return sw.toString();
+        }
+}
@@ -0,0 +1,21 @@
+package com.project.mentoridge.config;
+
+import com.project.mentoridge.modules.log.component.query.QueryInspector;
+import com.project.mentoridge.modules.log.component.query.QueryTimeListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+    // 요청별 SQL 수 / 실행 시간 집계 (QueryBudgetFilter)
+    @Bean
+    public HibernatePropertiesCustomizer queryBudgetCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimeListener.class.getName());
+        };
+    }
+}
@@ -1,34 +1,55 @@
 package com.project.mentoridge.config.aspect;
 
+import com.project.mentoridge.config.controllerAdvice.RestControllerExceptionAdvice;
 import com.project.mentoridge.config.security.PrincipalDetails;
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.log.component.latency.LatencyRecorder;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.AccessLog;
+import com.project.mentoridge.utils.LocalDateTimeUtil;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.util.UrlPathHelper;
 
 import javax.servlet.http.HttpServletRequest;
-import java.text.SimpleDateFormat;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 
+/**
+ * 컨트롤러 호출마다 접근 로그(AccessLog)를 남긴다
+ * - 저장은 LogRepository 의 큐에 넘기기만 하고 요청 스레드에서 Mongo 에 쓰지 않음
+ * - 같은 값으로 endpoint 별 응답 시간 분포(LatencyRecorder)도 기록
+ */
 @RequiredArgsConstructor
 @Component
 @Aspect
 public class LoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
+    // 예외 → 응답 상태 : RestControllerExceptionAdvice 의 @ResponseStatus 를 그대로 사용
+    private static final ExceptionHandlerMethodResolver EXCEPTION_RESOLVER = new ExceptionHandlerMethodResolver(RestControllerExceptionAdvice.class);
+
     private final UrlPathHelper urlPathHelper;
-    private final SimpleDateFormat simpleDateFormat;
     private final LogRepository logRepository;
+    private final LatencyRecorder latencyRecorder;
 
 //    // TODO - CHECK : within
 //    @Pointcut("execution(* com.project.mentoridge.modules.*.controller.*.*(..))")
@@ -37,55 +58,91 @@ public class LoggingAspect {
     @Around("execution(* com.project.mentoridge.modules.*.controller.*.*(..))")
     public Object log(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
 
-        // HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (!(requestAttributes instanceof ServletRequestAttributes)) {
+            return proceedingJoinPoint.proceed(proceedingJoinPoint.getArgs());
+        }
+        ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) requestAttributes;
+
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable exception = null;
+        try {
+            result = proceedingJoinPoint.proceed(proceedingJoinPoint.getArgs());
+            return result;
+        } catch (Throwable e) {
+            exception = e;
+            throw e;
+        } finally {
+            long latencyMs = (System.nanoTime() - start) / 1_000_000;
+            try {
+                record(servletRequestAttributes.getRequest(), getStatus(result, exception, servletRequestAttributes.getResponse()), latencyMs);
+            } catch (Exception e) {
+                // 로그 기록 실패가 요청에 영향을 주지 않도록
+                logger.warn("access log failed", e);
+            }
+        }
+    }
+
+        private void record(HttpServletRequest request, int status, long latencyMs) {
+
+            String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            latencyRecorder.record(request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED"), latencyMs, status >= 500);
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        Long userId = null;
-        String username = null;
-        LocalDateTime lastLoginAt = null;
-        if (authentication != null) {
+            Long userId = null;
+            String username = null;
+            LocalDateTime lastLoginAt = null;
+            if (authentication != null) {
 
-            // 로그인
-            Object principal = authentication.getPrincipal();
+                // 로그인
+                Object principal = authentication.getPrincipal();
 
-            if (principal instanceof PrincipalDetails) {
+                if (principal instanceof PrincipalDetails) {
 
-                PrincipalDetails principalDetails = (PrincipalDetails) principal;
-                if (principalDetails.getUser() != null) {
+                    PrincipalDetails principalDetails = (PrincipalDetails) principal;
+                    if (principalDetails.getUser() != null) {
 
-                    User user = principalDetails.getUser();
-                    userId = user.getId();
-                    username = user.getUsername();
-                    lastLoginAt = user.getLastLoginAt();
+                        User user = principalDetails.getUser();
+                        userId = user.getId();
+                        username = user.getUsername();
+                        lastLoginAt = user.getLastLoginAt();
+                    }
                 }
             }
+
+            AccessLog accessLog = AccessLog.builder()
+                    .method(request.getMethod())
+                    .accessPath(urlPathHelper.getOriginatingRequestUri(request))
+                    .pattern(pattern)
+                    .status(status)
+                    .latencyMs(latencyMs)
+                    .userAgent(request.getHeader(HttpHeaders.USER_AGENT))
+                    // 프록시(로드밸런서)를 거친 경우 server.forward-headers-strategy 로 신뢰하는 프록시의 X-Forwarded-For 만 반영된 주소
+                    .ip(request.getRemoteAddr())
+                    .userId(userId)
+                    .username(username)
+                    .loginAt(LocalDateTimeUtil.getDateTimeToString(lastLoginAt))
+                    .build();
+            logRepository.saveAccessLog(accessLog);
         }
 
-//        System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-//        System.out.println("sessionId : " + session.getId());
-//        System.out.println("osType : " + request.getHeader(HttpHeaders.USER_AGENT));
-//        System.out.println("accessPath : " + new UrlPathHelper().getOriginatingRequestUri(request));
-//        System.out.println("ip : " + request.getRemoteAddr());
-//
-//        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.KOREA);
-//        System.out.println("lastAccessAt : " + sdf.format(session.getLastAccessedTime()));
-//        System.out.println("userId : " + userId);
-//        System.out.println("username : " + username);
-//        System.out.println("LoginAt : " + lastLoginAt);
-//        System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-//        Log log = Log.builder()
-//                .sessionId(session.getId())
-//                .osType(request.getHeader(HttpHeaders.USER_AGENT))
-//                .accessPath(urlPathHelper.getOriginatingRequestUri(request))
-//                .ip(request.getRemoteAddr())
-//                .lastAccessAt(simpleDateFormat.format(session.getLastAccessedTime()))
-//                .userId(userId)
-//                .username(username)
-//                .loginAt(LocalDateTimeUtil.getDateTimeToString(lastLoginAt))
-//                .build();
-        // logRepository.save(log);
-
-        return proceedingJoinPoint.proceed(proceedingJoinPoint.getArgs());
-    }
+        private int getStatus(Object result, Throwable exception, HttpServletResponse response) {
+
+            if (exception != null) {
+                if (exception instanceof Exception) {
+                    Method handler = EXCEPTION_RESOLVER.resolveMethodByThrowable(exception);
+                    ResponseStatus responseStatus = handler != null ? AnnotatedElementUtils.findMergedAnnotation(handler, ResponseStatus.class) : null;
+                    if (responseStatus != null) {
+                        return responseStatus.code().value();
+                    }
+                }
+                return HttpStatus.INTERNAL_SERVER_ERROR.value();
+            }
+            if (result instanceof ResponseEntity) {
+                return ((ResponseEntity<?>) result).getStatusCodeValue();
+            }
+            return response != null ? response.getStatus() : HttpStatus.OK.value();
+        }
 }
@@ -0,0 +1,41 @@
+package com.project.mentoridge.config.aspect;
+
+import com.project.mentoridge.modules.log.component.tracer.TraceStatus;
+import com.project.mentoridge.modules.log.component.tracer.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+// TraceFilter 가 시작한 요청 안에서 controller → service → repository 호출을 span 으로 기록
+@RequiredArgsConstructor
+@Component
+@Aspect
+public class TraceAspect {
+
+    private final Tracer tracer;
+
+    @Around("(execution(* com.project.mentoridge.modules..controller..*(..))" +
+            " || execution(* com.project.mentoridge.modules..service..*(..))" +
+            " || execution(* com.project.mentoridge.modules..repository..*(..))" +
+            " || execution(* org.springframework.data.repository.Repository+.*(..)))" +
+            " && !within(com.project.mentoridge.modules.log..)")
+    public Object trace(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+
+        // 요청 밖(스케줄러 등)에서는 기록하지 않음
+        if (!tracer.isTracing()) {
+            return proceedingJoinPoint.proceed();
+        }
+
+        TraceStatus status = tracer.begin(proceedingJoinPoint.getSignature().toShortString());
+        try {
+            Object result = proceedingJoinPoint.proceed();
+            tracer.end(status);
+            return result;
+        } catch (Throwable e) {
+            tracer.exception(status, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.mentoridge.config.filter;
+
+import com.project.mentoridge.modules.log.component.query.QueryBudget;
+import com.project.mentoridge.modules.log.component.query.QueryContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 요청 단위로 QueryContext 를 열고, 끝나면 QueryBudget 으로 검사
+@ConditionalOnProperty(name = "mentoridge-config.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudget queryBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        QueryContext context = QueryContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryContext.end();
+        }
+        queryBudget.check(request.getMethod() + " " + request.getRequestURI(), context);
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.mentoridge.config.filter;
+
+import com.project.mentoridge.modules.log.component.tracer.TraceStatus;
+import com.project.mentoridge.modules.log.component.tracer.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 요청마다 trace id 를 만들어 MDC, 응답 헤더에 넣고 요청 전체를 첫 번째 span 으로 기록
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class TraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID = "traceId";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        TraceStatus status = tracer.begin(request.getMethod() + " " + request.getRequestURI());
+        String traceId = status.getTraceId().getId();
+        MDC.put(TRACE_ID, traceId);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+
+        try {
+            filterChain.doFilter(request, response);
+            tracer.end(status);
+        } catch (Exception e) {
+            tracer.exception(status, e);
+            throw e;
+        } finally {
+            tracer.clear();
+            MDC.remove(TRACE_ID);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.project.mentoridge.modules.account.controller;
 import com.project.mentoridge.config.security.CurrentUser;
 import com.project.mentoridge.modules.account.controller.response.NotificationResponse;
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.notification.service.NotificationService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -30,6 +31,15 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @ApiOperation("알림 리스트 - 커서 페이징 (이전 응답의 nextCursor)")
+    @GetMapping("/scroll")
+    public ResponseEntity<?> getNotifications(@CurrentUser User user,
+                                              @RequestParam(required = false) String cursor) {
+
+        CursorResponse<NotificationResponse> notifications = notificationService.getNotificationResponses(user, cursor);
+        return ResponseEntity.ok(notifications);
+    }
+
     @ApiOperation("알림 확인")
     @PutMapping
     public ResponseEntity<?> checkAllNotifications(@CurrentUser User user) {
@@ -13,6 +13,7 @@ import com.project.mentoridge.modules.log.component.MenteeLogService;
 import com.project.mentoridge.modules.purchase.repository.EnrollmentRepository;
 import com.project.mentoridge.modules.purchase.repository.PickRepository;
 import com.project.mentoridge.modules.purchase.service.EnrollmentService;
+import com.project.mentoridge.modules.purchase.service.PickedLecturePriceCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -32,6 +33,7 @@ public class MenteeService extends AbstractService {
     private final MessageRepository messageRepository;
 
     private final PickRepository pickRepository;
+    private final PickedLecturePriceCache pickedLecturePriceCache;
     private final EnrollmentService enrollmentService;
     private final EnrollmentRepository enrollmentRepository;
 
@@ -66,6 +68,7 @@ public class MenteeService extends AbstractService {
         chatroomRepository.deleteByIds(chatroomIds);
         // pick 삭제
         pickRepository.deleteByMentee(mentee);
+        pickedLecturePriceCache.evict(menteeUser.getId());
         // enrollment 삭제
         enrollmentRepository.findByMentee(mentee).forEach(enrollment -> {
             enrollmentService.deleteEnrollment(enrollment);
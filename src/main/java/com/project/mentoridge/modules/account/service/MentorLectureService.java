@@ -9,11 +9,11 @@ import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.base.AbstractService;
 import com.project.mentoridge.modules.lecture.controller.response.EachLectureResponse;
 import com.project.mentoridge.modules.lecture.controller.response.LectureResponse;
-import com.project.mentoridge.modules.lecture.repository.LectureQueryRepository;
 import com.project.mentoridge.modules.lecture.repository.LectureRepository;
 import com.project.mentoridge.modules.lecture.repository.LectureSearchRepository;
 import com.project.mentoridge.modules.lecture.repository.dto.LectureMentorQueryDto;
 import com.project.mentoridge.modules.lecture.repository.dto.LectureReviewQueryDto;
+import com.project.mentoridge.modules.lecture.service.LectureStatsService;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.lecture.vo.LecturePrice;
 import com.project.mentoridge.modules.purchase.controller.response.EnrollmentResponse;
@@ -40,7 +40,7 @@ public class MentorLectureService extends AbstractService {
 
     private final LectureRepository lectureRepository;
     private final LectureSearchRepository lectureSearchRepository;
-    private final LectureQueryRepository lectureQueryRepository;
+    private final LectureStatsService lectureStatsService;
 
 
     public Page<LectureResponse> getLectureResponses(User mentorUser, Integer page) {
@@ -72,15 +72,17 @@ public class MentorLectureService extends AbstractService {
         List<Long> lectureIds = lecturePrices.stream().map(EachLectureResponse::getLectureId).collect(Collectors.toList());
         List<Long> lecturePriceIds = lecturePrices.stream().map(lecturePrice -> lecturePrice.getLecturePrice().getLecturePriceId()).collect(Collectors.toList());
 
+        // 집계 테이블(lecture_price_stats, mentor_stats)에서 카드당 한 행으로 조회
+        LectureStatsService.LectureStats lectureStats = lectureStatsService.getLectureStats(lectureIds, lecturePriceIds);
         // 2022.04.18 - lecturePriceId 기준으로 enrollmentCount
-        Map<Long, Long> lectureEnrollmentQueryDtoMap = lectureQueryRepository.findLectureEnrollmentQueryDtoMap(lecturePriceIds);
+        Map<Long, Long> lectureEnrollmentQueryDtoMap = lectureStats.getEnrollmentCounts();
         // lecturePriceId 기준
-        Map<Long, Long> lecturePickQueryDtoMap = lectureQueryRepository.findLecturePickQueryDtoMap(lecturePriceIds);
+        Map<Long, Long> lecturePickQueryDtoMap = lectureStats.getPickCounts();
 
         // lectureId, lecturePriceId 기준
-        Map<Long, LectureReviewQueryDto> lectureReviewQueryDtoMap = lectureQueryRepository.findLectureReviewQueryDtoMap(lectureIds, lecturePriceIds);
-        // lectureId 기준
-        Map<Long, LectureMentorQueryDto> lectureMentorQueryDtoMap = lectureQueryRepository.findLectureMentorQueryDtoMap(lectureIds);
+        Map<Long, LectureReviewQueryDto> lectureReviewQueryDtoMap = lectureStats.getReviews();
+        // mentorId 기준
+        Map<Long, LectureMentorQueryDto> lectureMentorQueryDtoMap = lectureStats.getMentors();
 
         lecturePrices.forEach(lectureResponse -> {
 
@@ -98,8 +98,10 @@ public class UserService extends AbstractService {
         // message 삭제
         messageRepository.deleteBySender(user);
         // liking 삭제
+        postRepository.subtractLikingCountsByUser(user.getId());
         likingRepository.deleteByUser(user);
         // comment 삭제
+        postRepository.subtractCommentCountsByUser(user.getId());
         commentRepository.deleteByUser(user);
 
         // post 삭제
@@ -13,6 +13,7 @@ import com.project.mentoridge.modules.log.component.LoginLogService;
 import com.project.mentoridge.modules.log.component.UserLogService;
 import lombok.*;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.annotations.Where;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
@@ -70,15 +71,25 @@ public class User extends BaseEntity {
     private LocalDateTime emailVerifiedAt;
 
     // UNIQUE
+    // 토큰은 로그인/토큰 갱신 때만 사용 : 사용자 조회(ex. loadUserByUsername) 시 읽지 않음
+    @ToString.Exclude
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("token")
     private String fcmToken;
+    @ToString.Exclude
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("token")
     private String refreshToken;
 
     @Column(nullable = false, columnDefinition = "boolean default false")
     private boolean deleted = false;
     private LocalDateTime deletedAt;
+    @ToString.Exclude
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("quit")
     private String quitReason;
 
     private LocalDateTime lastLoginAt;
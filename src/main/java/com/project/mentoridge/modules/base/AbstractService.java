@@ -26,6 +26,23 @@ public abstract class AbstractService {
         return PageRequest.of(page - 1, PAGE_SIZE, Sort.by("id").descending());
     }
 
+    // 커서 페이징 : 다음 페이지 여부 확인용으로 한 건 더 조회 (CursorResponse.of)
+    protected static PageRequest getCursorRequest() {
+        return PageRequest.of(0, PAGE_SIZE + 1);
+    }
+
+    // 커서 페이징 (id 역순) : 첫 페이지는 Long.MAX_VALUE 미만
+    protected static Long getCursorIdOrMax(String cursor) {
+        Cursor decoded = Cursor.decode(cursor);
+        return decoded != null ? decoded.getId() : Long.MAX_VALUE;
+    }
+
+    // 커서 페이징 (id 순) : 첫 페이지는 0 초과
+    protected static Long getCursorIdOrZero(String cursor) {
+        Cursor decoded = Cursor.decode(cursor);
+        return decoded != null ? decoded.getId() : 0L;
+    }
+
     protected static Mentor getMentor(MentorRepository mentorRepository, User mentorUser) {
         return Optional.ofNullable(mentorRepository.findByUser(mentorUser))
                 .orElseThrow(() -> new EntityNotFoundException(MENTOR));
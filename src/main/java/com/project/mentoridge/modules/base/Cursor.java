@@ -0,0 +1,80 @@
+package com.project.mentoridge.modules.base;
+
+import com.project.mentoridge.config.exception.InvalidInputException;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징 토큰
+ * - 마지막 행의 정렬 키와 id 를 "key:id" 로 묶어서 base64(url) 인코딩
+ * - id 로만 정렬하는 목록은 key 없이 id 만 사용
+ * - 다음 페이지 조회 : (key, id) 보다 뒤에 있는 행을 size + 1 건 조회 (offset, count 쿼리 없음)
+ */
+@Getter
+public class Cursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final String key;   // 정렬 키 (id 정렬이면 null)
+    private final Long id;
+
+    private Cursor(String key, Long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static Cursor of(Long id) {
+        return new Cursor(null, id);
+    }
+
+    public static Cursor of(Object key, Long id) {
+        return new Cursor(key != null ? key.toString() : null, id);
+    }
+
+    public String encode() {
+        String value = key != null ? key + SEPARATOR + id : String.valueOf(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static Cursor decode(String cursor) {
+
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            String key = separator >= 0 ? value.substring(0, separator) : null;
+            return new Cursor(key, Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new InvalidInputException("잘못된 커서입니다.");
+        }
+    }
+
+    public boolean hasKey() {
+        return key != null;
+    }
+
+    public Long getKeyAsLong() {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("잘못된 커서입니다.");
+        }
+    }
+
+    public Double getKeyAsDouble() {
+        try {
+            return Double.parseDouble(key);
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new InvalidInputException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.mentoridge.modules.base;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이징 결과
+ * - size + 1 건을 조회해서 다음 페이지 존재 여부를 판단
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 전달
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorResponse(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, String> cursor) {
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursor.apply(content.get(content.size() - 1)) : null;
+        return new CursorResponse<>(content, hasNext, nextCursor);
+    }
+
+    public <R> CursorResponse<R> map(Function<T, R> mapper) {
+
+        List<R> mapped = new ArrayList<>(content.size());
+        for (T item : content) {
+            mapped.add(mapper.apply(item));
+        }
+        return new CursorResponse<>(mapped, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.mentoridge.modules.base;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxyHelper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 엔티티/컬렉션 이벤트를 EntityChangedEvent 로 발행
+ * - 캐시, 색인, 통계, 감사 로그가 각자 Hibernate 리스너와 TransactionSynchronization 을 등록하지 않고 이 이벤트를 구독
+ * - 커밋 후 처리는 @TransactionalEventListener(AFTER_COMMIT) 로 (트랜잭션별 모으기/롤백 시 버리기를 Spring 이 처리)
+ */
+@RequiredArgsConstructor
+@Component
+public class EntityChangeDispatcher implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+        PostCollectionRecreateEventListener, PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void init() {
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        eventPublisher.publishEvent(EntityChangedEvent.inserted(event.getEntity(), event.getPersister().getMappedClass()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        eventPublisher.publishEvent(EntityChangedEvent.updated(event.getEntity(), event.getPersister().getMappedClass(),
+                event.getPersister().getPropertyNames(), event.getOldState(), event.getState(), event.getDirtyProperties()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(event.getEntity(), event.getPersister().getMappedClass()));
+    }
+
+    // 새 컬렉션 (엔티티 생성 또는 컬렉션 교체) : 교체 전 컬렉션은 엔티티를 로딩할 때의 state 에 남아 있다
+    //  - 엔티티 생성, 또는 같은 flush 에서 엔티티 update 가 일어났으면 (update 에서 비교) 같은 컬렉션이므로 null
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+
+        Object owner = event.getAffectedOwnerOrNull();
+        if (owner == null) {
+            return;
+        }
+        String propertyName = getPropertyName(event.getCollection());
+        Object before = null;
+        EntityEntry entry = event.getSession().getPersistenceContext().getEntry(owner);
+        if (entry != null && entry.getLoadedState() != null) {
+            Object loaded = entry.getLoadedValue(propertyName);
+            if (loaded instanceof PersistentCollection && loaded != event.getCollection()) {
+                before = loaded;
+            }
+        }
+        collectionChanged(owner, propertyName, before, event.getCollection());
+    }
+
+    // 컬렉션 내부 변경 : 변경 전 값은 같은 컬렉션의 스냅샷
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        collectionChanged(event.getAffectedOwnerOrNull(), getPropertyName(event.getCollection()), event.getCollection(), event.getCollection());
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        collectionChanged(event.getAffectedOwnerOrNull(), getPropertyName(event.getCollection()), event.getCollection(), null);
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+        private void collectionChanged(Object owner, String propertyName, Object before, Object after) {
+            if (owner != null) {
+                eventPublisher.publishEvent(EntityChangedEvent.collectionChanged(owner, HibernateProxyHelper.getClassWithoutInitializingProxy(owner),
+                        propertyName, before, after));
+            }
+        }
+
+        // role : 엔티티명.필드명 (ex. com.project.mentoridge.modules.lecture.vo.Lecture.systems)
+        private static String getPropertyName(PersistentCollection collection) {
+            String role = collection.getRole();
+            return role != null ? role.substring(role.lastIndexOf('.') + 1) : null;
+        }
+}
@@ -0,0 +1,81 @@
+package com.project.mentoridge.modules.base;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 엔티티 변경 (EntityChangeDispatcher 가 flush 시점에 발행)
+ * - flush 시점 처리 : @EventListener
+ * - 커밋 후 처리 : @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true) - 롤백되면 호출되지 않음
+ */
+@Getter
+public class EntityChangedEvent {
+
+    public enum Type {
+        INSERT, UPDATE, DELETE,
+        // 컬렉션(ex. Lecture.systems) 생성/변경/삭제 : entity 는 컬렉션을 가진 엔티티
+        COLLECTION
+    }
+
+    private final Type type;
+    // 컬렉션 변경에서 소유 엔티티를 알 수 없으면 null
+    private final Object entity;
+    private final Class<?> entityClass;
+
+    // UPDATE : Hibernate 가 들고 있는 state
+    // COLLECTION : { 컬렉션 필드명 }, { 변경 전 컬렉션(PersistentCollection 스냅샷) 또는 null }, { 변경 후 컬렉션 또는 null(삭제) }
+    private final String[] propertyNames;
+    private final Object[] oldState;
+    private final Object[] state;
+    private final int[] dirtyProperties;
+
+    private EntityChangedEvent(Type type, Object entity, Class<?> entityClass,
+                               String[] propertyNames, Object[] oldState, Object[] state, int[] dirtyProperties) {
+        this.type = type;
+        this.entity = entity;
+        this.entityClass = entityClass;
+        this.propertyNames = propertyNames;
+        this.oldState = oldState;
+        this.state = state;
+        this.dirtyProperties = dirtyProperties;
+    }
+
+    public static EntityChangedEvent inserted(Object entity, Class<?> entityClass) {
+        return new EntityChangedEvent(Type.INSERT, entity, entityClass, null, null, null, null);
+    }
+
+    public static EntityChangedEvent updated(Object entity, Class<?> entityClass,
+                                             String[] propertyNames, Object[] oldState, Object[] state, int[] dirtyProperties) {
+        return new EntityChangedEvent(Type.UPDATE, entity, entityClass, propertyNames, oldState, state, dirtyProperties);
+    }
+
+    public static EntityChangedEvent deleted(Object entity, Class<?> entityClass) {
+        return new EntityChangedEvent(Type.DELETE, entity, entityClass, null, null, null, null);
+    }
+
+    public static EntityChangedEvent collectionChanged(Object owner, Class<?> ownerClass, String propertyName, Object before, Object after) {
+        return new EntityChangedEvent(Type.COLLECTION, owner, ownerClass,
+                new String[]{propertyName}, new Object[]{before}, new Object[]{after}, null);
+    }
+
+    public boolean is(Class<?> type) {
+        return entityClass != null && type.isAssignableFrom(entityClass);
+    }
+
+    /**
+     * @return UPDATE 가 아니거나 변경된 컬럼을 알 수 없으면 true
+     */
+    public boolean isDirty(String... properties) {
+
+        if (type != Type.UPDATE || dirtyProperties == null || propertyNames == null) {
+            return true;
+        }
+        for (int index : dirtyProperties) {
+            if (Arrays.asList(properties).contains(propertyNames[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
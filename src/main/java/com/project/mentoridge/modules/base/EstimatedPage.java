@@ -0,0 +1,28 @@
+package com.project.mentoridge.modules.base;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * totalElements 가 정확한 값이 아닌 하한값인 페이지 (PageCounter 추정 모드)
+ * - 응답에 totalEstimated : true 로 표시
+ */
+public class EstimatedPage<T> extends PageImpl<T> {
+
+    public EstimatedPage(List<T> content, Pageable pageable, long total) {
+        super(content, pageable, total);
+    }
+
+    public boolean isTotalEstimated() {
+        return true;
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new EstimatedPage<>(getConvertedContent(converter), getPageable(), getTotalElements());
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.mentoridge.modules.base;
+
+import lombok.Getter;
+import org.hibernate.proxy.HibernateProxyHelper;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 페이지 total count 캐시 키
+ * - name + 정규화한 필터 값 (페이지 번호는 포함하지 않음 : 같은 조건의 모든 페이지가 count 를 공유)
+ * - dependsOn : 이 엔티티들이 변경되면 캐시된 count 를 버린다
+ * - dependsOnProperties : 엔티티의 이 필드들이 변경(또는 생성/삭제)될 때만 버린다
+ */
+@Getter
+public class PageCountKey {
+
+    private final String value;
+    // 엔티티명 또는 엔티티명.필드명 (PageCounter 의 generation 키)
+    private final List<String> dependencies = new ArrayList<>();
+    private final Map<Class<?>, Set<String>> properties = new HashMap<>();
+
+    private PageCountKey(String value) {
+        this.value = value;
+    }
+
+    public static PageCountKey of(String name, Object... filters) {
+
+        StringBuilder value = new StringBuilder(name);
+        for (Object filter : filters) {
+            value.append('|').append(normalize(filter));
+        }
+        return new PageCountKey(value.toString());
+    }
+
+    public PageCountKey dependsOn(Class<?>... entities) {
+        for (Class<?> entity : entities) {
+            dependencies.add(dependency(entity, null));
+        }
+        return this;
+    }
+
+    // ex. 멘토 지역만 검색 조건에 쓰이면 로그인(User.lastLoginAt) 등 다른 변경에는 count 를 유지
+    public PageCountKey dependsOnProperties(Class<?> entity, String... names) {
+        for (String name : names) {
+            dependencies.add(dependency(entity, name));
+        }
+        properties.computeIfAbsent(entity, k -> new HashSet<>()).addAll(Arrays.asList(names));
+        return this;
+    }
+
+    static String dependency(Class<?> entity, String property) {
+        return property == null ? entity.getName() : entity.getName() + "." + property;
+    }
+
+        // 엔티티는 toString 대신 id, 컬렉션은 순서 무관
+        private static String normalize(Object filter) {
+
+            if (filter == null) {
+                return "";
+            }
+            if (filter instanceof BaseEntity) {
+                return HibernateProxyHelper.getClassWithoutInitializingProxy(filter).getSimpleName() + "#" + ((BaseEntity) filter).getId();
+            }
+            if (filter instanceof Enum) {
+                return ((Enum<?>) filter).name();
+            }
+            if (filter instanceof Collection) {
+                return ((Collection<?>) filter).stream()
+                        .map(PageCountKey::normalize)
+                        .sorted()
+                        .collect(Collectors.joining(",", "[", "]"));
+            }
+            return filter.toString();
+        }
+}
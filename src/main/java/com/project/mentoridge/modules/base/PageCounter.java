@@ -0,0 +1,173 @@
+package com.project.mentoridge.modules.base;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 페이지 목록의 total count 계산 (fetchResults 의 count 쿼리 대체)
+ * - 첫 페이지/마지막 페이지처럼 조회 결과만으로 total 을 알 수 있으면 count 하지 않음
+ * - 같은 조건(PageCountKey)의 count 는 ttl 동안 캐시, 의존 엔티티가 변경되면 무효화 (엔티티 타입별, 필드별 generation)
+ * - 추정 모드 : threshold 건까지만 세고, 넘으면 totalElements 를 하한값으로 응답 (EstimatedPage)
+ */
+@Component
+public class PageCounter {
+
+    @Value("${mentoridge-config.page-count.cache.enabled:true}")
+    private boolean cacheEnabled;
+    @Value("${mentoridge-config.page-count.cache.ttl-ms:30000}")
+    private long ttlMs;
+    @Value("${mentoridge-config.page-count.cache.max-entries:10000}")
+    private int maxEntries;
+    @Value("${mentoridge-config.page-count.estimate.enabled:false}")
+    private boolean estimateEnabled;
+    @Value("${mentoridge-config.page-count.estimate.threshold:1000}")
+    private int estimateThreshold;
+
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    // PageCountKey.dependsOnProperties 로 등록된 필드 : update 시 이 필드가 변경된 경우만 필드 generation 증가
+    private final Map<Class<?>, Set<String>> trackedProperties = new ConcurrentHashMap<>();
+
+    /**
+     * @param countQuery 페이지 조회와 같은 조건으로 id 만 select (fetch join 없이)
+     */
+    public <T> Page<T> getPage(List<T> content, Pageable pageable, PageCountKey key, JPAQuery<?> countQuery) {
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        long offset = pageable.getOffset();
+        int pageSize = pageable.getPageSize();
+        // 마지막 페이지 : 조회 결과로 total 계산
+        if (content.size() < pageSize && (offset == 0 || !content.isEmpty())) {
+            return new PageImpl<>(content, pageable, offset + content.size());
+        }
+
+        Count count = getCount(key, countQuery);
+        if (count.estimated) {
+            // 최소한 현재 페이지 + (가득 찼으면) 다음 페이지는 있는 것으로
+            long lowerBound = offset + content.size() + (content.size() == pageSize ? 1 : 0);
+            return new EstimatedPage<>(content, pageable, Math.max(count.value, lowerBound));
+        }
+        return new PageImpl<>(content, pageable, count.value);
+    }
+
+        private Count getCount(PageCountKey key, JPAQuery<?> countQuery) {
+
+            // 쓰기 트랜잭션 안에서는 flush 되지 않은 변경이 있을 수 있으므로 직접 count
+            if (!cacheEnabled || (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+                return count(countQuery);
+            }
+
+            key.getProperties().forEach((entity, names) ->
+                    trackedProperties.computeIfAbsent(entity, k -> ConcurrentHashMap.newKeySet()).addAll(names));
+            // count 전에 generation 을 읽어야 count 중 변경이 있으면 다음 조회에서 다시 계산
+            long now = System.currentTimeMillis();
+            long[] generation = getGeneration(key.getDependencies());
+            Entry entry = counts.get(key.getValue());
+            if (entry != null && entry.expiresAt > now && Arrays.equals(entry.generation, generation)) {
+                return entry.count;
+            }
+
+            Count count = count(countQuery);
+            if (counts.size() >= maxEntries) {
+                counts.values().removeIf(expired -> expired.expiresAt <= now);
+                if (counts.size() >= maxEntries) {
+                    counts.clear();
+                }
+            }
+            counts.put(key.getValue(), new Entry(count, generation, now + ttlMs));
+            return count;
+        }
+
+        private Count count(JPAQuery<?> countQuery) {
+
+            if (estimateEnabled) {
+                int counted = countQuery.clone().limit(estimateThreshold + 1L).fetch().size();
+                return counted > estimateThreshold ? new Count(estimateThreshold, true) : new Count(counted, false);
+            }
+            return new Count(countQuery.fetchCount(), false);
+        }
+
+        private long[] getGeneration(List<String> dependencies) {
+
+            long[] generation = new long[dependencies.size()];
+            for (int i = 0; i < generation.length; i++) {
+                AtomicLong value = generations.get(dependencies.get(i));
+                generation[i] = value != null ? value.get() : 0;
+            }
+            return generation;
+        }
+
+    // flush 시점에 한 번, 커밋 후 한 번 더 증가
+    // - 커밋 전에 다른 트랜잭션이 이전 값으로 count 해서 캐시한 경우 대비
+    @EventListener
+    public void onFlush(EntityChangedEvent event) {
+        changed(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterCommit(EntityChangedEvent event) {
+        changed(event);
+    }
+
+        private void changed(EntityChangedEvent event) {
+
+            Class<?> entity = event.getEntityClass();
+            if (entity == null) {
+                return;
+            }
+            increase(PageCountKey.dependency(entity, null));
+            Set<String> names = trackedProperties.get(entity);
+            if (names != null) {
+                for (String name : names) {
+                    // 생성/삭제/컬렉션 변경은 모든 필드
+                    if (event.isDirty(name)) {
+                        increase(PageCountKey.dependency(entity, name));
+                    }
+                }
+            }
+        }
+
+        private void increase(String dependency) {
+            generations.computeIfAbsent(dependency, k -> new AtomicLong()).incrementAndGet();
+        }
+
+    private static class Count {
+
+        private final long value;
+        private final boolean estimated;
+
+        private Count(long value, boolean estimated) {
+            this.value = value;
+            this.estimated = estimated;
+        }
+    }
+
+    private static class Entry {
+
+        private final Count count;
+        private final long[] generation;
+        private final long expiresAt;
+
+        private Entry(Count count, long[] generation, long expiresAt) {
+            this.count = count;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
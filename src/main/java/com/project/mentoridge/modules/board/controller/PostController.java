@@ -41,6 +41,13 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostResponses(user, search, page));
     }
 
+    @ApiOperation("글 리스트 - 커서 페이징 (이전 응답의 nextCursor)")
+    @GetMapping("/scroll")
+    public ResponseEntity<?> getPosts(@CurrentUser User user, @RequestParam(name = "search", required = false) String search,
+                                      @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(postService.getPostResponses(user, search, cursor));
+    }
+
     @ApiOperation("글 조회")
     @GetMapping("/{post_id}")
     public ResponseEntity<?> getPost(@CurrentUser User user, @PathVariable(name = "post_id") Long postId) {
@@ -30,6 +30,12 @@ public class UserPostController {
         return ResponseEntity.ok(postService.getPostResponsesOfUser(user, page));
     }
 
+    @ApiOperation("작성한 글 리스트 - 커서 페이징 (이전 응답의 nextCursor)")
+    @GetMapping("/scroll")
+    public ResponseEntity<?> getPostsOfUser(@CurrentUser User user, @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(postService.getPostResponsesOfUser(user, cursor));
+    }
+
     @ApiOperation("글 조회")
     @GetMapping("/{post_id}")
     public ResponseEntity<?> getPost(@CurrentUser User user, @PathVariable(name = "post_id") Long postId) {
@@ -61,9 +67,21 @@ public class UserPostController {
         return ResponseEntity.ok(postService.getCommentingPostResponses(user, page));
     }
 
+    @ApiOperation("댓글단 글 리스트 - 커서 페이징 (이전 응답의 nextCursor)")
+    @GetMapping("/commenting/scroll")
+    public ResponseEntity<?> getCommentingPosts(@CurrentUser User user, @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(postService.getCommentingPostResponses(user, cursor));
+    }
+
     @ApiOperation("좋아요한 글 리스트 - 페이징")
     @GetMapping("/liking")
     public ResponseEntity<?> getLikingPosts(@CurrentUser User user, @RequestParam(defaultValue = "1") Integer page) {
         return ResponseEntity.ok(postService.getLikingPostResponses(user, page));
     }
+
+    @ApiOperation("좋아요한 글 리스트 - 커서 페이징 (이전 응답의 nextCursor)")
+    @GetMapping("/liking/scroll")
+    public ResponseEntity<?> getLikingPosts(@CurrentUser User user, @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(postService.getLikingPostResponses(user, cursor));
+    }
 }
@@ -26,13 +26,20 @@ public class PostResponse {
     private Boolean liked = null;
 
     public PostResponse(Post post) {
+        this(post, post.getContent());
+    }
+
+    // 목록 : content 대신 미리보기 (post.content 를 읽지 않음)
+    public PostResponse(Post post, String content) {
         this.postId = post.getId();
         this.userNickname = post.getUser().getNickname();
         this.userImage = post.getUser().getImage();
         this.category = post.getCategory();
         this.title = post.getTitle();
-        this.content = post.getContent();
+        this.content = content;
         this.createdAt = LocalDateTimeUtil.getDateTimeToString(post.getCreatedAt());
         this.hits = post.getHits();
+        this.likingCount = post.getLikingCount();
+        this.commentCount = post.getCommentCount();
     }
 }
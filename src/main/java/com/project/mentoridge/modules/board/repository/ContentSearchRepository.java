@@ -1,21 +1,25 @@
 package com.project.mentoridge.modules.board.repository;
 
+import com.project.mentoridge.modules.base.PageCountKey;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.board.controller.response.PostResponse;
 import com.project.mentoridge.modules.board.vo.Comment;
 import com.project.mentoridge.modules.board.vo.Post;
 import com.project.mentoridge.modules.board.vo.QComment;
 import com.project.mentoridge.modules.board.vo.QPost;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Transactional(readOnly = true)
@@ -25,6 +29,8 @@ public class ContentSearchRepository {
 
     private final EntityManager em;
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter pageCounter;
+    private final PostQueryRepository postQueryRepository;
     private final QPost post = QPost.post;
     private final QComment comment = QComment.comment;
 
@@ -34,24 +40,39 @@ public class ContentSearchRepository {
         // assertNotNull(searchRequest);
         // String content = searchRequest.getContent();
 
-        // 각각 조회
-        // comment
-        List<Comment> comments = jpaQueryFactory.selectFrom(comment)
-                .where(comment.content.containsIgnoreCase(content)).fetchResults().getResults();
-        List<Long> postIds = comments.stream()
-                .map(comment -> comment.getPost().getId()).collect(Collectors.toList());
-
-        // post
-        QueryResults<Post> posts = jpaQueryFactory.selectFrom(post)
+        // 댓글은 엔티티를 읽지 않고 서브쿼리로
+        List<Post> posts = jpaQueryFactory.selectFrom(post)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .where(post.title.containsIgnoreCase(content).or(post.content.containsIgnoreCase(content)).or(post.id.in(postIds)))
+                .where(containsContent(content))
                 // 글 최신순으로 변경
                 .orderBy(post.id.desc())
-                .fetchResults();
+                .fetch();
 
-        List<PostResponse> postResponses = posts.getResults().stream()
-                .map(PostResponse::new).collect(Collectors.toList());
-        return new PageImpl<>(postResponses, pageable, posts.getTotal());
+        Map<Long, String> excerpts = postQueryRepository.findContentExcerptMap(posts.stream().map(Post::getId).collect(Collectors.toList()));
+        List<PostResponse> postResponses = posts.stream()
+                .map(post -> new PostResponse(post, excerpts.get(post.getId()))).collect(Collectors.toList());
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(post.id)
+                .from(post)
+                .where(containsContent(content));
+        return pageCounter.getPage(postResponses, pageable,
+                PageCountKey.of("post.content-search", content).dependsOn(Post.class, Comment.class), countQuery);
     }
+
+    // 커서 페이징 (id 역순) : PostSearchRepository 색인을 사용하지 않을 때
+    public List<Post> findPostsSearchedByContent(String content, Long idLessThan, int limit) {
+        return jpaQueryFactory.selectFrom(post)
+                .where(post.id.lt(idLessThan), containsContent(content))
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+        private BooleanExpression containsContent(String content) {
+            return post.title.containsIgnoreCase(content)
+                    .or(post.content.containsIgnoreCase(content))
+                    .or(post.id.in(JPAExpressions.select(comment.post.id)
+                            .from(comment)
+                            .where(comment.content.containsIgnoreCase(content))));
+        }
 }
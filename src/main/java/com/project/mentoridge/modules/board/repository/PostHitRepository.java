@@ -0,0 +1,161 @@
+package com.project.mentoridge.modules.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 조회 수 write-behind 버퍼
+ * - 조회할 때마다 post 행을 update 하지 않고 postId 별로 메모리에 누적했다가
+ *   주기적으로(+ 종료 시) 모아서 batch update (hits = hits + 누적 수 : 행 잠금은 flush 할 때만, 동시 조회에도 누락 없음)
+ * - 누적 카운터는 스레드 기준으로 나눠서(stripe) 조회 스레드 간 잠금 경합을 줄임
+ * - 아직 반영되지 않은 조회 수는 응답에 더해서 보여줌 (flush 가 커밋된 직후 잠깐 중복될 수 있음)
+ * - flush 에 실패하면 다음 flush 에서 다시 시도, 비정상 종료 시 반영 전 조회 수는 유실 (높은 정합성이 필요하지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class PostHitRepository {
+
+    private static final String UPDATE_HITS = "update post set hits = hits + ? where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${mentoridge-config.board.hits.stripes:16}")
+    private int stripeCount;
+
+    private Stripe[] stripes;
+    // flush 중인 조회 수 : update 가 끝날 때까지 응답에 포함
+    private Map<Long, Long> flushing = Collections.emptyMap();
+    // 조회 수 합산과 stripe 교체가 섞이지 않도록 (hit 은 stripe 잠금만 사용)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    void init() {
+
+        stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void hit(Long postId) {
+        Stripe stripe = stripes[(int) (Thread.currentThread().getId() % stripes.length)];
+        synchronized (stripe) {
+            stripe.hits.merge(postId, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * @return 아직 post 에 반영되지 않은 조회 수
+     */
+    public long getPending(Long postId) {
+        return getPending(Collections.singleton(postId)).getOrDefault(postId, 0L);
+    }
+
+    /**
+     * @return postId -> 아직 post 에 반영되지 않은 조회 수 (없으면 없음)
+     */
+    public Map<Long, Long> getPending(Collection<Long> postIds) {
+
+        Map<Long, Long> pending = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return pending;
+        }
+
+        lock.readLock().lock();
+        try {
+            for (Long postId : postIds) {
+                long hits = flushing.getOrDefault(postId, 0L);
+                for (Stripe stripe : stripes) {
+                    synchronized (stripe) {
+                        hits += stripe.hits.getOrDefault(postId, 0L);
+                    }
+                }
+                if (hits > 0) {
+                    pending.put(postId, hits);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return pending;
+    }
+
+    @Scheduled(fixedDelayString = "${mentoridge-config.board.hits.flush-interval-ms:1000}")
+    public synchronized void flush() {
+
+        // postId 순으로 update (동시에 flush 하는 다른 서버와 잠금 순서를 맞춤)
+        Map<Long, Long> hits = new TreeMap<>();
+        lock.writeLock().lock();
+        try {
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    if (stripe.hits.isEmpty()) {
+                        continue;
+                    }
+                    stripe.hits.forEach((postId, count) -> hits.merge(postId, count, Long::sum));
+                    stripe.hits = new HashMap<>();
+                }
+            }
+            flushing = hits;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (hits.isEmpty()) {
+            return;
+        }
+
+        boolean flushed = false;
+        try {
+            List<Object[]> args = new ArrayList<>(hits.size());
+            hits.forEach((postId, count) -> args.add(new Object[]{count, postId}));
+            transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_HITS, args));
+            flushed = true;
+        } catch (Exception e) {
+            log.error("[hits] flush failed - posts : {}", hits.size(), e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // 실패하면 다음 flush 에서 다시 시도
+                if (!flushed) {
+                    synchronized (stripes[0]) {
+                        hits.forEach((postId, count) -> stripes[0].hits.merge(postId, count, Long::sum));
+                    }
+                }
+                flushing = Collections.emptyMap();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @PreDestroy
+    void destroy() {
+        flush();
+    }
+
+    private static class Stripe {
+
+        // postId -> 누적 조회 수
+        private Map<Long, Long> hits = new HashMap<>();
+    }
+}
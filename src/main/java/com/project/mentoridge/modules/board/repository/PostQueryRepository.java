@@ -1,20 +1,23 @@
 package com.project.mentoridge.modules.board.repository;
 
+import com.project.mentoridge.modules.base.PageCountKey;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.board.controller.response.PostResponse;
 import com.project.mentoridge.modules.board.repository.dto.PostCommentQueryDto;
 import com.project.mentoridge.modules.board.repository.dto.PostLikingQueryDto;
-import com.project.mentoridge.modules.board.vo.Post;
-import com.project.mentoridge.modules.board.vo.QPost;
-import com.querydsl.core.QueryResults;
+import com.project.mentoridge.modules.board.vo.*;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,7 +30,32 @@ public class PostQueryRepository {
 
     private final EntityManager em;
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter pageCounter;
     private final QPost post = QPost.post;
+    private final QComment comment = QComment.comment;
+    private final QLiking liking = QLiking.liking;
+
+    // 목록에 보여줄 내용 길이
+    public static final int EXCERPT_LENGTH = 100;
+
+    /*
+    SELECT post_id, SUBSTRING(content, 1, 100) FROM post
+    WHERE post_id IN ()
+     */
+    // 목록용 내용 미리보기 : content(LOB) 전체를 읽지 않고 앞부분만
+    public Map<Long, String> findContentExcerptMap(List<Long> postIds) {
+
+        Map<Long, String> excerpts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return excerpts;
+        }
+        jpaQueryFactory.select(post.id, post.content.substring(0, EXCERPT_LENGTH))
+                .from(post)
+                .where(post.id.in(postIds))
+                .fetch()
+                .forEach(tuple -> excerpts.put(tuple.get(0, Long.class), tuple.get(1, String.class)));
+        return excerpts;
+    }
 
     /*
     SELECT post_id, COUNT(*) FROM comment
@@ -64,35 +92,74 @@ public class PostQueryRepository {
 
     // 댓글단 글 리스트
     /*
-     SELECT * FROM post
-     WHERE post_id in (SELECT post_id FROM comment WHERE user_id = 2);
+     SELECT * FROM post p
+     WHERE EXISTS (SELECT 1 FROM comment c WHERE c.user_id = 2 AND c.post_id = p.post_id)
+     ORDER BY p.post_id DESC LIMIT 10 OFFSET 0;
      */
+    // 댓글단 글 id 를 미리 읽지 않고 semi-join (comment(user_id, post_id) 인덱스) : 여러 번 댓글 달아도 한 번
     public Page<PostResponse> findCommentingPosts(Long userId, Pageable pageable) {
+        return getPosts(commentedBy(userId), pageable,
+                PageCountKey.of("post.commenting", userId).dependsOn(Post.class, Comment.class));
+    }
 
-        List<Long> postIds = em.createQuery("select c.post.id from Comment c where c.user.id = :userId", Long.class)
-                .setParameter("userId", userId).getResultList();
-        return getPosts(postIds, pageable);
+    // 커서 페이징 (id 역순)
+    public List<Post> findCommentingPosts(Long userId, Long idLessThan, int limit) {
+        return getPosts(commentedBy(userId), idLessThan, limit);
     }
 
     /*
-     SELECT * FROM post
-     WHERE post_id in (SELECT post_id FROM liking WHERE user_id = 2);
+     SELECT * FROM post p
+     WHERE EXISTS (SELECT 1 FROM liking l WHERE l.user_id = 2 AND l.post_id = p.post_id)
+     ORDER BY p.post_id DESC LIMIT 10 OFFSET 0;
      */
-    // 좋아요한 글 리스트
+    // 좋아요한 글 리스트 : liking(user_id, post_id) 인덱스
     public Page<PostResponse> findLikingPosts(Long userId, Pageable pageable) {
-
-        List<Long> postIds = em.createQuery("select l.post.id from Liking l where l.user.id = :userId", Long.class)
-                .setParameter("userId", userId).getResultList();
-        return getPosts(postIds, pageable);
+        return getPosts(likedBy(userId), pageable,
+                PageCountKey.of("post.liking", userId).dependsOn(Post.class, Liking.class));
     }
 
-    private PageImpl<PostResponse> getPosts(List<Long> postIds, Pageable pageable) {
-        QueryResults<Post> posts = jpaQueryFactory.selectFrom(post)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .where(post.id.in(postIds))
-                .fetchResults();
-        List<PostResponse> result = posts.getResults().stream().map(PostResponse::new).collect(Collectors.toList());
-        return new PageImpl<>(result, pageable, posts.getTotal());
+    // 커서 페이징 (id 역순)
+    public List<Post> findLikingPosts(Long userId, Long idLessThan, int limit) {
+        return getPosts(likedBy(userId), idLessThan, limit);
     }
+
+        private BooleanExpression commentedBy(Long userId) {
+            return JPAExpressions.selectOne()
+                    .from(comment)
+                    .where(comment.user.id.eq(userId), comment.post.eq(post))
+                    .exists();
+        }
+
+        private BooleanExpression likedBy(Long userId) {
+            return JPAExpressions.selectOne()
+                    .from(liking)
+                    .where(liking.user.id.eq(userId), liking.post.eq(post))
+                    .exists();
+        }
+
+        private Page<PostResponse> getPosts(BooleanExpression condition, Pageable pageable, PageCountKey key) {
+
+            List<Post> posts = jpaQueryFactory.selectFrom(post)
+                    .where(condition)
+                    .orderBy(post.id.desc())
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch();
+            Map<Long, String> excerpts = findContentExcerptMap(posts.stream().map(Post::getId).collect(Collectors.toList()));
+            List<PostResponse> result = posts.stream()
+                    .map(post -> new PostResponse(post, excerpts.get(post.getId()))).collect(Collectors.toList());
+
+            JPAQuery<Long> countQuery = jpaQueryFactory.select(post.id)
+                    .from(post)
+                    .where(condition);
+            return pageCounter.getPage(result, pageable, key, countQuery);
+        }
+
+        private List<Post> getPosts(BooleanExpression condition, Long idLessThan, int limit) {
+            return jpaQueryFactory.selectFrom(post)
+                    .where(post.id.lt(idLessThan), condition)
+                    .orderBy(post.id.desc())
+                    .limit(limit)
+                    .fetch();
+        }
 }
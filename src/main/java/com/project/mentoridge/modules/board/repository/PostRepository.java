@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +21,51 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Optional<Post> findByUserAndId(User user, Long postId);
     List<Post> findByUser(User user);
     Page<Post> findByUser(User user, Pageable pageable);
+    // 커서 페이징 (count 쿼리 없음)
+    List<Post> findByUserAndIdLessThanOrderByIdDesc(User user, Long id, Pageable pageable);
+    List<Post> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
 
     @Query(value = "select p.id from Post p where p.user = :user")
     List<Long> findIdsByUser(@Param("user") User user);
 
+    @Query(value = "select p.id from Post p where p.id > :id order by p.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+
+    // 댓글 수, 좋아요 수 증감 : 엔티티 값이 아닌 현재 행 기준으로 (동시 변경에도 누락 없음)
+    @Transactional
+    @Modifying
+    @Query(value = "update Post p set p.commentCount = p.commentCount + :delta where p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update Post p set p.likingCount = p.likingCount + :delta where p.id = :postId")
+    int addLikingCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 사용자의 댓글, 좋아요를 일괄 삭제하기 전에 호출
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update post p set comment_count = comment_count - (select count(*) from comment c where c.post_id = p.post_id and c.user_id = :userId) " +
+            "where p.post_id in (select c.post_id from comment c where c.user_id = :userId)", nativeQuery = true)
+    int subtractCommentCountsByUser(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update post p set liking_count = liking_count - (select count(*) from liking l where l.post_id = p.post_id and l.user_id = :userId) " +
+            "where p.post_id in (select l.post_id from liking l where l.user_id = :userId)", nativeQuery = true)
+    int subtractLikingCountsByUser(@Param("userId") Long userId);
+
+    // 실제 댓글 수, 좋아요 수와 다른 행만 다시 계산
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update post p set " +
+            "comment_count = (select count(*) from comment c where c.post_id = p.post_id), " +
+            "liking_count = (select count(*) from liking l where l.post_id = p.post_id) " +
+            "where p.post_id in :postIds " +
+            "and (p.comment_count <> (select count(*) from comment c where c.post_id = p.post_id) " +
+            "or p.liking_count <> (select count(*) from liking l where l.post_id = p.post_id))", nativeQuery = true)
+    int recountByIds(@Param("postIds") Collection<Long> postIds);
+
     @Transactional
     @Modifying
     void deleteByUser(User user);
@@ -0,0 +1,275 @@
+package com.project.mentoridge.modules.board.repository;
+
+import com.project.mentoridge.modules.base.Cursor;
+import com.project.mentoridge.modules.board.repository.search.PostTextIndex;
+import com.project.mentoridge.modules.board.vo.Comment;
+import com.project.mentoridge.modules.board.vo.Post;
+import com.project.mentoridge.modules.board.vo.QComment;
+import com.project.mentoridge.modules.board.vo.QPost;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 검색(제목, 내용, 댓글 내용)을 PostTextIndex(메모리) 에서 하고, 현재 페이지의 게시글만 id 로 조회
+ * - 기본으로 사용 (mentoridge-config.board.search-index.enabled, 기본 true), 기동 후 첫 색인이 끝나기 전에만 ContentSearchRepository
+ * - PostService, CommentService 의 작성/수정/삭제를 커밋 후 반영
+ * - 누락(ex. 탈퇴한 사용자의 댓글 일괄 삭제) 대비 주기적으로 전체 재색인
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class PostSearchRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final QPost post = QPost.post;
+    private final QComment comment = QComment.comment;
+
+    @Value("${mentoridge-config.board.search-index.enabled:true}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private PostTextIndex index = new PostTextIndex();
+    private volatile boolean ready;
+    // 재색인 중에 반영된 변경 : 새 색인에 다시 반영 (같은 변경을 두 번 반영해도 결과는 같음)
+    private List<Consumer<PostTextIndex>> replay;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+
+        if (!enabled) {
+            return;
+        }
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${mentoridge-config.board.search-index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${mentoridge-config.board.search-index.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            PostTextIndex rebuilt = new PostTextIndex();
+            readOnlyTransaction.executeWithoutResult(status -> load(rebuilt));
+
+            int size;
+            lock.writeLock().lock();
+            try {
+                replay.forEach(update -> update.accept(rebuilt));
+                index = rebuilt;
+                size = index.getSize();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("[board-search] rebuilt - size : {}", size);
+
+        } catch (Exception e) {
+            log.error("[board-search] rebuild failed", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+        // id 순으로 청크 단위 조회
+        private void load(PostTextIndex rebuilt) {
+
+            Long last = 0L;
+            List<Tuple> posts;
+            do {
+                posts = jpaQueryFactory.select(post.id, post.title, post.content)
+                        .from(post)
+                        .where(post.id.gt(last))
+                        .orderBy(post.id.asc())
+                        .limit(CHUNK_SIZE)
+                        .fetch();
+                for (Tuple row : posts) {
+                    last = row.get(post.id);
+                    rebuilt.addPost(last, row.get(post.title), row.get(post.content));
+                }
+            } while (posts.size() == CHUNK_SIZE);
+
+            last = 0L;
+            List<Tuple> comments;
+            do {
+                comments = jpaQueryFactory.select(comment.id, comment.post.id, comment.content)
+                        .from(comment)
+                        .where(comment.id.gt(last))
+                        .orderBy(comment.id.asc())
+                        .limit(CHUNK_SIZE)
+                        .fetch();
+                for (Tuple row : comments) {
+                    last = row.get(comment.id);
+                    rebuilt.addComment(last, row.get(comment.post.id), row.get(comment.content));
+                }
+            } while (comments.size() == CHUNK_SIZE);
+        }
+
+    // 페이지 번호 검색 : 관련도 순
+    public Page<Post> findPostsSearchedByContent(String content, Pageable pageable) {
+
+        PostTextIndex.Result result;
+        lock.readLock().lock();
+        try {
+            result = index.search(content, pageable.getOffset(), pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Post> posts = findPosts(result.getHits()).stream()
+                .map(SearchedPost::getPost)
+                .collect(Collectors.toList());
+        return new PageImpl<>(posts, pageable, result.getTotal());
+    }
+
+    /**
+     * 커서 검색 : 관련도 순, cursor(점수:postId) 뒤부터 limit 건
+     */
+    public List<SearchedPost> findPostsSearchedByContent(String content, Cursor cursor, int limit) {
+
+        PostTextIndex.Hit after = cursor != null ? new PostTextIndex.Hit(cursor.getId(), cursor.getKeyAsDouble()) : null;
+        List<PostTextIndex.Hit> hits;
+        lock.readLock().lock();
+        try {
+            hits = index.searchAfter(content, after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return findPosts(hits);
+    }
+
+        // 색인 순서 유지, 그 사이 삭제된 것은 제외
+        private List<SearchedPost> findPosts(List<PostTextIndex.Hit> hits) {
+
+            if (hits.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Long> postIds = hits.stream().map(PostTextIndex.Hit::getPostId).collect(Collectors.toList());
+            Map<Long, Post> posts = postRepository.findAllById(postIds).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            return hits.stream()
+                    .filter(hit -> posts.containsKey(hit.getPostId()))
+                    .map(hit -> new SearchedPost(posts.get(hit.getPostId()), hit.getScore()))
+                    .collect(Collectors.toList());
+        }
+
+    public void postSaved(Post post) {
+        Long postId = post.getId();
+        String title = post.getTitle();
+        String content = post.getContent();
+        afterCommit(textIndex -> textIndex.addPost(postId, title, content));
+    }
+
+    public void postDeleted(Long postId) {
+        afterCommit(textIndex -> textIndex.removePost(postId));
+    }
+
+    public void commentSaved(Comment comment) {
+        Long commentId = comment.getId();
+        Long postId = comment.getPost().getId();
+        String content = comment.getContent();
+        afterCommit(textIndex -> textIndex.addComment(commentId, postId, content));
+    }
+
+    public void commentDeleted(Long commentId) {
+        afterCommit(textIndex -> textIndex.removeComment(commentId));
+    }
+
+        // 롤백된 변경은 반영하지 않음
+        private void afterCommit(Consumer<PostTextIndex> update) {
+
+            if (!enabled) {
+                return;
+            }
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                apply(update);
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        }
+
+        private void apply(Consumer<PostTextIndex> update) {
+
+            lock.writeLock().lock();
+            try {
+                update.accept(index);
+                if (replay != null) {
+                    replay.add(update);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+    @Getter
+    public static class SearchedPost {
+
+        private final Post post;
+        // 다음 페이지 커서
+        private final double score;
+
+        private SearchedPost(Post post, double score) {
+            this.post = post;
+            this.score = score;
+        }
+    }
+}
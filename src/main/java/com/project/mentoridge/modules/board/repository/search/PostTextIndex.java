@@ -0,0 +1,280 @@
+package com.project.mentoridge.modules.board.repository.search;
+
+import com.project.mentoridge.utils.TokenizeUtil;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 게시판 검색어 용 역색인 - 게시글(postId) 하나가 문서 하나 (제목 + 내용 + 댓글 내용)
+ * - 한글은 음절 bigram, 그 외 문자/숫자는 단어 단위 (TokenizeUtil)
+ * - 검색어 토큰은 접두어로 비교 (ex. title -> title1, title2) : term 을 정렬해서 보관
+ * - 검색어의 모든 토큰을 포함하는 게시글만, BM25 점수 내림차순 (같으면 최신 글 먼저)
+ * - 게시글 필드와 댓글을 따로 보관 : 댓글 하나가 추가/삭제되어도 게시글 전체를 다시 색인하지 않음
+ * - 동기화하지 않음 : PostSearchRepository 의 lock 안에서만 사용
+ */
+public class PostTextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    static final int TITLE_WEIGHT = 3;
+    static final int CONTENT_WEIGHT = 1;
+    static final int COMMENT_WEIGHT = 1;
+
+    // 점수 내림차순, 같으면 postId 내림차순
+    private static final Comparator<Hit> RANK = Comparator.comparingDouble(Hit::getScore).reversed()
+            .thenComparing(Comparator.comparing(Hit::getPostId).reversed());
+
+    // term -> postId -> (가중치 적용한) term frequency
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // postId -> term frequency (게시글 + 댓글 합계)
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    // postId -> 게시글 필드의 term frequency
+    private final Map<Long, Map<String, Integer>> posts = new HashMap<>();
+    // commentId -> 댓글의 term frequency
+    private final Map<Long, Map<String, Integer>> comments = new HashMap<>();
+    private final Map<Long, Long> commentPostIds = new HashMap<>();
+    private final Map<Long, Set<Long>> postCommentIds = new HashMap<>();
+
+    public void addPost(Long postId, String title, String content) {
+
+        Map<String, Integer> previous = posts.remove(postId);
+        if (previous != null) {
+            apply(postId, previous, -1);
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        addField(frequencies, title, TITLE_WEIGHT);
+        addField(frequencies, content, CONTENT_WEIGHT);
+        posts.put(postId, frequencies);
+        apply(postId, frequencies, 1);
+    }
+
+    // 게시글의 댓글도 함께 제외
+    public void removePost(Long postId) {
+
+        Map<String, Integer> previous = posts.remove(postId);
+        if (previous != null) {
+            apply(postId, previous, -1);
+        }
+        Set<Long> commentIds = postCommentIds.remove(postId);
+        if (commentIds != null) {
+            for (Long commentId : commentIds) {
+                commentPostIds.remove(commentId);
+                apply(postId, comments.remove(commentId), -1);
+            }
+        }
+    }
+
+    public void addComment(Long commentId, Long postId, String content) {
+
+        removeComment(commentId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        addField(frequencies, content, COMMENT_WEIGHT);
+        comments.put(commentId, frequencies);
+        commentPostIds.put(commentId, postId);
+        postCommentIds.computeIfAbsent(postId, k -> new HashSet<>()).add(commentId);
+        apply(postId, frequencies, 1);
+    }
+
+    public void removeComment(Long commentId) {
+
+        Long postId = commentPostIds.remove(commentId);
+        if (postId == null) {
+            return;
+        }
+        Set<Long> commentIds = postCommentIds.get(postId);
+        commentIds.remove(commentId);
+        if (commentIds.isEmpty()) {
+            postCommentIds.remove(postId);
+        }
+        apply(postId, comments.remove(commentId), -1);
+    }
+
+        private static void addField(Map<String, Integer> frequencies, String text, int weight) {
+            for (String token : TokenizeUtil.tokenize(text)) {
+                frequencies.merge(token, weight, Integer::sum);
+            }
+        }
+
+        // 게시글/댓글의 term frequency 를 문서에 더하거나(sign = 1) 뺀다(sign = -1)
+        private void apply(Long postId, Map<String, Integer> frequencies, int sign) {
+
+            if (frequencies.isEmpty()) {
+                return;
+            }
+
+            Map<String, Integer> document = documents.computeIfAbsent(postId, k -> new HashMap<>());
+            int length = 0;
+            for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+                String term = frequency.getKey();
+                int delta = sign * frequency.getValue();
+                length += delta;
+
+                Integer updated = document.merge(term, delta, (a, b) -> a + b == 0 ? null : a + b);
+                if (updated != null) {
+                    postings.computeIfAbsent(term, k -> new HashMap<>()).put(postId, updated);
+                    continue;
+                }
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(postId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+
+            totalLength += length;
+            if (document.isEmpty()) {
+                documents.remove(postId);
+                lengths.remove(postId);
+            } else {
+                lengths.merge(postId, length, Integer::sum);
+            }
+        }
+
+    public void clear() {
+        postings.clear();
+        documents.clear();
+        lengths.clear();
+        totalLength = 0;
+        posts.clear();
+        comments.clear();
+        commentPostIds.clear();
+        postCommentIds.clear();
+    }
+
+    public int getSize() {
+        return documents.size();
+    }
+
+    /**
+     * 페이지 번호 검색
+     */
+    public Result search(String keyword, long offset, int limit) {
+
+        Map<Long, Double> scores = score(keyword);
+        List<Hit> hits = top(scores, null, (int) Math.min(Integer.MAX_VALUE, offset + limit));
+        List<Hit> page = offset < hits.size() ? hits.subList((int) offset, hits.size()) : Collections.emptyList();
+        return new Result(page, scores.size());
+    }
+
+    /**
+     * 커서 검색 : after(이전 페이지의 마지막) 뒤부터 limit 건 - 일치하는 게시글 수만큼만 계산 (전체 정렬, count 없음)
+     */
+    public List<Hit> searchAfter(String keyword, Hit after, int limit) {
+        return top(score(keyword), after, limit);
+    }
+
+        private static List<Hit> top(Map<Long, Double> scores, Hit after, int limit) {
+
+            if (limit <= 0 || scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            // 가장 낮은 순위가 head
+            PriorityQueue<Hit> heap = new PriorityQueue<>(RANK.reversed());
+            for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                Hit hit = new Hit(score.getKey(), score.getValue());
+                if (after != null && RANK.compare(hit, after) <= 0) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.add(hit);
+                } else if (RANK.compare(hit, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(hit);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(RANK);
+            return hits;
+        }
+
+        /**
+         * @return 검색어의 모든 토큰을 포함하는 게시글의 BM25 점수 (postId 기준)
+         */
+        private Map<Long, Double> score(String keyword) {
+
+            Set<String> terms = new LinkedHashSet<>(TokenizeUtil.tokenize(keyword));
+            if (terms.isEmpty() || documents.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = prefixPosting(term);
+                if (posting.isEmpty()) {
+                    return Collections.emptyMap();
+                }
+                termPostings.add(posting);
+            }
+            // 가장 짧은 posting 부터 교집합
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long postId : termPostings.get(0).keySet()) {
+                double score = 0;
+                double normalization = K1 * (1 - B + B * lengths.get(postId) / averageLength);
+                for (Map<Long, Integer> posting : termPostings) {
+                    Integer frequency = posting.get(postId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    score += idf * frequency * (K1 + 1) / (frequency + normalization);
+                }
+                scores.put(postId, score);
+            }
+            return scores;
+        }
+
+        // term 으로 시작하는 모든 term 의 posting 합계
+        private Map<Long, Integer> prefixPosting(String term) {
+
+            SortedMap<String, Map<Long, Integer>> matched = postings.subMap(term, term + Character.MAX_VALUE);
+            if (matched.size() == 1) {
+                return matched.values().iterator().next();
+            }
+            Map<Long, Integer> posting = new HashMap<>();
+            for (Map<Long, Integer> each : matched.values()) {
+                each.forEach((postId, frequency) -> posting.merge(postId, frequency, Integer::sum));
+            }
+            return posting;
+        }
+
+    @Getter
+    public static class Hit {
+
+        private final Long postId;
+        private final double score;
+
+        public Hit(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+
+    @Getter
+    public static class Result {
+
+        // 현재 페이지
+        private final List<Hit> hits;
+        private final int total;
+
+        private Result(List<Hit> hits, int total) {
+            this.hits = hits;
+            this.total = total;
+        }
+    }
+}
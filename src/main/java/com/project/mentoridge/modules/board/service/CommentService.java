@@ -10,6 +10,7 @@ import com.project.mentoridge.modules.board.controller.request.CommentUpdateRequ
 import com.project.mentoridge.modules.board.controller.response.CommentResponse;
 import com.project.mentoridge.modules.board.repository.CommentRepository;
 import com.project.mentoridge.modules.board.repository.PostRepository;
+import com.project.mentoridge.modules.board.repository.PostSearchRepository;
 import com.project.mentoridge.modules.board.vo.Comment;
 import com.project.mentoridge.modules.board.vo.Post;
 import com.project.mentoridge.modules.log.component.CommentLogService;
@@ -31,6 +32,7 @@ public class CommentService extends AbstractService {
 
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostSearchRepository postSearchRepository;
 
         private User getUser(String username) {
             return userRepository.findByUsername(username).orElseThrow(UnauthorizedException::new);
@@ -49,8 +51,9 @@ public class CommentService extends AbstractService {
 
         User commentWriter = getUser(user.getUsername());
         Post post = getPost(postId);
-        Comment saved = commentRepository.save(createRequest.toEntity(user, post));
-        commentLogService.insert(commentWriter, saved);
+        Comment saved = commentRepository.save(createRequest.toEntity(commentWriter, post));
+        postRepository.addCommentCount(postId, 1);
+        postSearchRepository.commentSaved(saved);
         return saved;
     }
 
@@ -60,7 +63,8 @@ public class CommentService extends AbstractService {
         Post post = getPost(postId);
         Comment comment = commentRepository.findByUserAndPostAndId(commentWriter, post, commentId)
                 .orElseThrow(() -> new EntityNotFoundException(COMMENT));
-        comment.update(updateRequest, commentWriter, commentLogService);
+        comment.update(updateRequest);
+        postSearchRepository.commentSaved(comment);
     }
 
     public void deleteComment(User user, Long postId, Long commentId) {
@@ -71,6 +75,8 @@ public class CommentService extends AbstractService {
                 .orElseThrow(() -> new EntityNotFoundException(COMMENT));
         comment.delete(commentWriter, commentLogService);
         commentRepository.delete(comment);
+        postRepository.addCommentCount(postId, -1);
+        postSearchRepository.commentDeleted(commentId);
     }
 
 }
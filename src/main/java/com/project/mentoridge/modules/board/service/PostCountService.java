@@ -0,0 +1,63 @@
+package com.project.mentoridge.modules.board.service;
+
+import com.project.mentoridge.modules.board.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 댓글 수, 좋아요 수(post.comment_count, liking_count) 보정
+ * - 평소에는 댓글/좋아요 변경 시 update 쿼리로 증감 (CommentService, PostService, UserService)
+ * - 누락되거나 직접 수정된 데이터는 매일 실제 수로 다시 계산 (값이 다른 행만 update)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostCountService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+
+    /**
+     * @return 값이 달라서 다시 계산한 게시글 수
+     */
+    @Transactional
+    public int recount(Collection<Long> postIds) {
+
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        return postRepository.recountByIds(postIds);
+    }
+
+    // 청크마다 별도 트랜잭션
+    @Scheduled(cron = "${mentoridge-config.board.counts.reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+
+        try {
+            long posts = 0;
+            long corrected = 0;
+            Long last = 0L;
+            List<Long> postIds;
+            do {
+                postIds = postRepository.findIdsAfter(last, PageRequest.of(0, CHUNK_SIZE));
+                if (!postIds.isEmpty()) {
+                    corrected += postRepository.recountByIds(postIds);
+                    last = postIds.get(postIds.size() - 1);
+                    posts += postIds.size();
+                }
+            } while (postIds.size() == CHUNK_SIZE);
+            log.info("[post-counts] reconciled - posts : {}, corrected : {}", posts, corrected);
+
+        } catch (Exception e) {
+            log.error("[post-counts] reconcile failed", e);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.project.mentoridge.config.exception.UnauthorizedException;
 import com.project.mentoridge.modules.account.repository.UserRepository;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.base.AbstractService;
+import com.project.mentoridge.modules.base.Cursor;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.board.controller.request.PostCreateRequest;
 import com.project.mentoridge.modules.board.controller.request.PostUpdateRequest;
 import com.project.mentoridge.modules.board.controller.response.PostResponse;
@@ -16,6 +18,7 @@ import com.project.mentoridge.modules.log.component.PostLogService;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.util.Streamable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +37,9 @@ public class PostService extends AbstractService {
     private final PostRepository postRepository;
     private final PostQueryRepository postQueryRepository;
     private final ContentSearchRepository contentSearchRepository;
+    private final PostSearchRepository postSearchRepository;
     private final PostLogService postLogService;
+    private final PostHitRepository postHitRepository;
 
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
@@ -55,48 +60,22 @@ public class PostService extends AbstractService {
                     .orElseThrow(() -> new EntityNotFoundException(POST));
         }
         
-        // -> Locking 방지를 위해 테이블로 분리 : insert로 해결
-        // -> 조회 시마다 Liking 카운트
-        // -> 조회 시 성능 이슈 발생
-        // TODO - CHECK
-        // - 좋아요 수는 높은 정합성을 요구하는 데이터인가? 아니다
-        // - 스케줄러로 특정 주기마다 count를 계산해서 Post 테이블에 좋아요 수 update
-        private void setCounts(Page<PostResponse> postResponses) {
+        // 댓글 수, 좋아요 수는 post 의 comment_count, liking_count (PostResponse 생성 시 설정)
+        // -> 아직 반영되지 않은 조회 수만 더함
+        private void setCounts(Streamable<PostResponse> postResponses) {
             List<Long> postIds = postResponses.stream().map(PostResponse::getPostId).collect(Collectors.toList());
-            Map<Long, Long> postCommentQueryDtoMap = postQueryRepository.findPostCommentQueryDtoMap(postIds);
-            Map<Long, Long> postLikingQueryDtoMap = postQueryRepository.findPostLikingQueryDtoMap(postIds);
-
-            postResponses.stream()
-                    .forEach(postResponse -> {
-                        Long postId = postResponse.getPostId();
-                        if (postCommentQueryDtoMap.get(postId) != null) {
-                            postResponse.setCommentCount(postCommentQueryDtoMap.get(postId));
-                        } else {
-                            postResponse.setCommentCount(0L);
-                        }
-                        if (postLikingQueryDtoMap.get(postId) != null) {
-                            postResponse.setLikingCount(postLikingQueryDtoMap.get(postId));
-                        } else {
-                            postResponse.setLikingCount(0L);
-                        }
-                    });
-        }
-
-        private void setCount(PostResponse postResponse) {
-            Long postId = postResponse.getPostId();
-            Long commentCount = postQueryRepository.findPostCommentQueryDtoMap(postId);
-            if (commentCount != null) {
-                postResponse.setCommentCount(commentCount);
-            } else {
-                postResponse.setCommentCount(0L);
-            }
-            Long likingCount = postQueryRepository.findPostLikingQueryDtoMap(postId);
-            if (likingCount != null) {
-                postResponse.setLikingCount(likingCount);
-            } else {
-                postResponse.setLikingCount(0L);
+            Map<Long, Long> pending = postHitRepository.getPending(postIds);
+            if (pending.isEmpty()) {
+                return;
             }
+            postResponses.forEach(postResponse ->
+                    postResponse.setHits(postResponse.getHits() + pending.getOrDefault(postResponse.getPostId(), 0L).intValue()));
+        }
 
+        // 목록 : content 대신 미리보기를 한 번에 조회 (post.content 는 지연 로딩 - 읽지 않음)
+        private Page<PostResponse> toPostResponses(Page<Post> posts) {
+            Map<Long, String> excerpts = postQueryRepository.findContentExcerptMap(posts.map(Post::getId).getContent());
+            return posts.map(post -> new PostResponse(post, excerpts.get(post.getId())));
         }
 
         private void setLiked(User user, Long postId, PostResponse response) {
@@ -113,74 +92,141 @@ public class PostService extends AbstractService {
     public Page<PostResponse> getPostResponsesOfUser(User user, Integer page) {
 
         user = getUser(user.getUsername());
-        Page<PostResponse> postResponses = postRepository.findByUser(user, getPageDescRequest(page)).map(PostResponse::new);
+        Page<PostResponse> postResponses = toPostResponses(postRepository.findByUser(user, getPageDescRequest(page)));
 
         setCounts(postResponses);
         return postResponses;
     }
 
+    // 커서 페이징 (id 역순)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPostResponsesOfUser(User user, String cursor) {
+
+        user = getUser(user.getUsername());
+        List<Post> posts = postRepository.findByUserAndIdLessThanOrderByIdDesc(user, getCursorIdOrMax(cursor), getCursorRequest());
+        return getPostResponses(posts);
+    }
+
     @Transactional(readOnly = true)
     public Page<PostResponse> getPostResponses(User user, Integer page) {
 
         // user = getUser(user.getUsername());
-        Page<PostResponse> postResponses = postRepository.findAll(getPageDescRequest(page)).map(PostResponse::new);
+        Page<PostResponse> postResponses = toPostResponses(postRepository.findAll(getPageDescRequest(page)));
         setCounts(postResponses);
         return postResponses;
     }
 
-    // TODO - Post, Comment + 닉네임(?) 둘 다 search
-    // Post title/content, Comment content
+    // TODO - 닉네임(?) search
+    // Post title/content, Comment content : 색인으로 관련도 순 (첫 색인이 끝나기 전에만 최신순)
     @Transactional(readOnly = true)
     public Page<PostResponse> getPostResponses(User user, String search, Integer page) {
 
+        // 검색어가 없으면 전체 목록 (조회 수는 getPostResponses 에서 더함 - 두 번 더하지 않도록 바로 반환)
+        if (StringUtils.isBlank(search)) {
+            return getPostResponses(user, page);
+        }
+
         Page<PostResponse> postResponses = null;
-        if (!StringUtils.isBlank(search)) {
-            postResponses = contentSearchRepository.findPostsSearchedByContent(search, getPageDescRequest(page));
+        if (postSearchRepository.isEnabled()) {
+            postResponses = toPostResponses(postSearchRepository.findPostsSearchedByContent(search, getPageDescRequest(page)));
         } else {
-            postResponses = getPostResponses(user, page);
+            postResponses = contentSearchRepository.findPostsSearchedByContent(search, getPageDescRequest(page));
         }
         setCounts(postResponses);
         return postResponses;
     }
 
-    @Transactional
+    // 커서 페이징 (id 역순)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPostResponses(User user, String cursor) {
+        List<Post> posts = postRepository.findByIdLessThanOrderByIdDesc(getCursorIdOrMax(cursor), getCursorRequest());
+        return getPostResponses(posts);
+    }
+
+    // 커서 페이징 + 검색 : 색인으로 관련도 순(커서 = 점수:postId), 첫 색인이 끝나기 전에만 id 역순(커서 = postId)
+    // - 첫 페이지는 색인 준비 여부로, 다음 페이지부터는 커서 형식으로 결정 (중간에 정렬이 바뀌지 않도록)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPostResponses(User user, String search, String cursor) {
+
+        if (StringUtils.isBlank(search)) {
+            return getPostResponses(user, cursor);
+        }
+
+        Cursor decoded = Cursor.decode(cursor);
+        if (postSearchRepository.isEnabled() && (decoded == null || decoded.hasKey())) {
+            List<PostSearchRepository.SearchedPost> posts = postSearchRepository.findPostsSearchedByContent(search, decoded, PAGE_SIZE + 1);
+            Map<Long, String> excerpts = postQueryRepository.findContentExcerptMap(posts.stream()
+                    .map(searched -> searched.getPost().getId()).collect(Collectors.toList()));
+            CursorResponse<PostResponse> postResponses = CursorResponse.of(posts, PAGE_SIZE,
+                    searched -> Cursor.of(searched.getScore(), searched.getPost().getId()).encode())
+                    .map(searched -> new PostResponse(searched.getPost(), excerpts.get(searched.getPost().getId())));
+            setCounts(Streamable.of(postResponses.getContent()));
+            return postResponses;
+        }
+
+        List<Post> posts = contentSearchRepository.findPostsSearchedByContent(search, getCursorIdOrMax(cursor), PAGE_SIZE + 1);
+        return getPostResponses(posts);
+    }
+
+        private CursorResponse<PostResponse> getPostResponses(List<Post> posts) {
+            Map<Long, String> excerpts = postQueryRepository.findContentExcerptMap(posts.stream().map(Post::getId).collect(Collectors.toList()));
+            CursorResponse<PostResponse> postResponses = CursorResponse.of(posts, PAGE_SIZE, post -> Cursor.of(post.getId()).encode())
+                    .map(post -> new PostResponse(post, excerpts.get(post.getId())));
+            setCounts(Streamable.of(postResponses.getContent()));
+            return postResponses;
+        }
+
+    // 조회 수는 PostHitRepository 에 누적 (post 행을 update 하지 않음)
+    @Transactional(readOnly = true)
     public PostResponse getPostResponse(User user, Long postId) {
 
         user = getUser(user.getUsername());
-        // TODO : 동시성 이슈 체크
-        // select ~ for update
         Post post = getPost(postId);
-        post.hit();
+        postHitRepository.hit(postId);
 
         PostResponse postResponse = new PostResponse(post);
-        setCount(postResponse);
+        postResponse.setHits(post.getHits() + (int) postHitRepository.getPending(postId));
         setLiked(user, postId, postResponse);
         return postResponse;
     }
 
-    // 댓글단 글 리스트
+    // 댓글단 글 리스트 (id 역순)
     @Transactional(readOnly = true)
     public Page<PostResponse> getCommentingPostResponses(User user, Integer page) {
 
-        Page<PostResponse> posts = postQueryRepository.findCommentingPosts(user.getId(), getPageRequest(page));
+        Page<PostResponse> posts = postQueryRepository.findCommentingPosts(user.getId(), getPageDescRequest(page));
         setCounts(posts);
         return posts;
     }
 
-    // 좋아요한 글 리스트
+    // 커서 페이징 (id 역순)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getCommentingPostResponses(User user, String cursor) {
+        List<Post> posts = postQueryRepository.findCommentingPosts(user.getId(), getCursorIdOrMax(cursor), PAGE_SIZE + 1);
+        return getPostResponses(posts);
+    }
+
+    // 좋아요한 글 리스트 (id 역순)
     @Transactional(readOnly = true)
     public Page<PostResponse> getLikingPostResponses(User user, Integer page) {
 
-        Page<PostResponse> posts = postQueryRepository.findLikingPosts(user.getId(), getPageRequest(page));
+        Page<PostResponse> posts = postQueryRepository.findLikingPosts(user.getId(), getPageDescRequest(page));
         setCounts(posts);
         return posts;
     }
 
+    // 커서 페이징 (id 역순)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getLikingPostResponses(User user, String cursor) {
+        List<Post> posts = postQueryRepository.findLikingPosts(user.getId(), getCursorIdOrMax(cursor), PAGE_SIZE + 1);
+        return getPostResponses(posts);
+    }
+
     public Post createPost(User user, PostCreateRequest createRequest) {
 
         user = getUser(user.getUsername());
         Post saved = postRepository.save(createRequest.toEntity(user));
-        postLogService.insert(user, saved);
+        postSearchRepository.postSaved(saved);
         return saved;
     }
 
@@ -188,7 +234,8 @@ public class PostService extends AbstractService {
 
         user = getUser(user.getUsername());
         Post post = getPost(user, postId);
-        post.update(updateRequest, user, postLogService);
+        post.update(updateRequest);
+        postSearchRepository.postSaved(post);
     }
 
     public void deletePost(User user, Long postId) {
@@ -206,6 +253,7 @@ public class PostService extends AbstractService {
         commentRepository.deleteByPost(post);
         likingRepository.deleteByPost(post);
         postRepository.delete(post);
+        postSearchRepository.postDeleted(postId);
     }
 
     public void likePost(User user, Long postId) {
@@ -220,9 +268,11 @@ public class PostService extends AbstractService {
                     .post(post)
                     .build());
             likingLogService.insert(user, saved);
+            postRepository.addLikingCount(postId, 1);
         } else {
             liking.delete(user, likingLogService);
             likingRepository.delete(liking);
+            postRepository.addLikingCount(postId, -1);
         }
     }
 
@@ -37,16 +37,11 @@ public class Comment extends BaseEntity {
         this.content = content;
     }
 
-    private void update(CommentUpdateRequest commentUpdateRequest) {
+    // 변경 이력은 AuditEventListener 가 기록
+    public void update(CommentUpdateRequest commentUpdateRequest) {
         this.content = commentUpdateRequest.getContent();
     }
 
-    public void update(CommentUpdateRequest commentUpdateRequest, User user, CommentLogService commentLogService) {
-        Comment before = this.copy();
-        update(commentUpdateRequest);
-        commentLogService.update(user, before, this);
-    }
-
     public void delete(User user, CommentLogService commentLogService) {
         if (this.post != null) {
             this.post.getComments().remove(this);
@@ -54,12 +49,4 @@ public class Comment extends BaseEntity {
         }
         commentLogService.delete(user, this);
     }
-
-    private Comment copy() {
-        return Comment.builder()
-                .post(post)
-                .user(user)
-                .content(content)
-                .build();
-    }
 }
@@ -7,6 +7,7 @@ import com.project.mentoridge.modules.board.controller.request.PostUpdateRequest
 import com.project.mentoridge.modules.board.enums.CategoryType;
 import com.project.mentoridge.modules.log.component.PostLogService;
 import lombok.*;
+import org.hibernate.annotations.LazyGroup;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -28,14 +29,24 @@ public class Post extends BaseEntity {
 
     private String title;
 
+    // 목록에서는 읽지 않음 (PostQueryRepository.findContentExcerptMap) : 상세 조회 등 처음 접근할 때 조회
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
     private String content;
 
     private String image;
 
-    // 조회 수
+    // 조회 수 : PostHitRepository 가 모아서 update (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
     private int hits = 0;
 
+    // 댓글 수, 좋아요 수 : 댓글/좋아요 변경 시 update 쿼리로 증감, PostCountService 가 주기적으로 보정
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long commentCount = 0;
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long likingCount = 0;
+
     // TODO - TEST
     /*
     JPA can only remove and cascade the remove over entities it knows about,
@@ -71,36 +82,19 @@ public class Post extends BaseEntity {
         this.likings.addAll(likings);
     }
 
-    private void update(PostUpdateRequest postUpdateRequest) {
+    // 변경 이력은 AuditEventListener 가 기록
+    public void update(PostUpdateRequest postUpdateRequest) {
+        // 지연 로딩된 내용을 먼저 읽어서 변경 이력에 이전 내용이 남도록 (AuditEventListener)
+        this.getContent();
         this.category = postUpdateRequest.getCategory();
         this.title = postUpdateRequest.getTitle();
         this.content = postUpdateRequest.getContent();
         this.image = postUpdateRequest.getImage();
     }
 
-    public void update(PostUpdateRequest postUpdateRequest, User user, PostLogService postLogService) {
-        Post before = this.copy();
-        update(postUpdateRequest);
-        postLogService.update(user, before, this);
-    }
-
     public void delete(User user, PostLogService postLogService) {
 //        this.comments.clear();
 //        this.likings.clear();
         postLogService.delete(user, this);
     }
-
-    public void hit() {
-        this.hits += 1;
-    }
-
-    private Post copy() {
-        return Post.builder()
-                .user(user)
-                .category(category)
-                .title(title)
-                .content(content)
-                .image(image)
-                .build();
-    }
 }
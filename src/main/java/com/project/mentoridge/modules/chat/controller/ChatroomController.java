@@ -4,6 +4,7 @@ import com.project.mentoridge.config.security.CurrentUser;
 import com.project.mentoridge.config.security.Nullable;
 import com.project.mentoridge.config.security.PrincipalDetails;
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.chat.service.ChatService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -63,6 +64,13 @@ public class ChatroomController {
         return ResponseEntity.ok(messages);
     }
 
+    @ApiOperation("메시지 조회 - 커서 페이징 (이전 응답의 nextCursor)")
+    @GetMapping("/{chatroom_id}/messages/scroll")
+    public ResponseEntity<?> getMessages(@CurrentUser User user, @PathVariable(name = "chatroom_id") Long chatroomId, @RequestParam(required = false) String cursor) {
+        CursorResponse<ChatMessage> messages = chatService.getChatMessagesOfChatroom(user, chatroomId, cursor);
+        return ResponseEntity.ok(messages);
+    }
+
     @ApiOperation("채팅방/상대 신고")
     @PutMapping("/{chatroom_id}/accuse")
     public ResponseEntity<?> accuse(@CurrentUser User user,
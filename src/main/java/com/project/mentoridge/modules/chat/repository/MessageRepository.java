@@ -19,6 +19,8 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
 
     List<Message> findByChatroom(Chatroom chatroom);
     Page<Message> findByChatroom(Chatroom chatroom, Pageable pageable);
+    // 커서 페이징 (count 쿼리 없음)
+    List<Message> findByChatroomAndIdLessThanOrderByIdDesc(Chatroom chatroom, Long id, Pageable pageable);
 
     List<Message> findBySender(User user);
 
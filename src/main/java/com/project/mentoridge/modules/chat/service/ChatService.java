@@ -11,6 +11,8 @@ import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.base.AbstractService;
 import com.project.mentoridge.modules.base.BaseEntity;
+import com.project.mentoridge.modules.base.Cursor;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.chat.controller.ChatMessage;
 import com.project.mentoridge.modules.chat.controller.response.ChatroomResponse;
 import com.project.mentoridge.modules.chat.enums.MessageType;
@@ -137,6 +139,21 @@ public class ChatService extends AbstractService {
         return messageRepository.findByChatroom(chatroom, PageRequest.of(page - 1, PAGE_SIZE, Sort.by("id").descending())).map(ChatMessage::new);
     }
 
+    // 커서 페이징 (id 역순) : 이전 응답의 nextCursor 보다 오래된 메시지
+    // - 채팅방의 멘토, 멘티만 조회 가능
+    public CursorResponse<ChatMessage> getChatMessagesOfChatroom(User user, Long chatroomId, String cursor) {
+
+        Chatroom chatroom = chatroomRepository.findWithMentorUserAndMenteeUserById(chatroomId)
+                .orElseThrow(() -> new EntityNotFoundException(CHATROOM));
+        if (!chatroom.getMentor().getUser().getId().equals(user.getId())
+                && !chatroom.getMentee().getUser().getId().equals(user.getId())) {
+            throw new UnauthorizedException();
+        }
+        List<Message> messages = messageRepository.findByChatroomAndIdLessThanOrderByIdDesc(chatroom, getCursorIdOrMax(cursor), getCursorRequest());
+        return CursorResponse.of(messages, PAGE_SIZE, message -> Cursor.of(message.getId()).encode())
+                .map(ChatMessage::new);
+    }
+
     // 멘토가 채팅방 생성
     public Long createChatroomByMentor(PrincipalDetails principalDetails, Long menteeId) {
         return createChatroomByMentor(principalDetails.getAuthority(), principalDetails.getUser(), menteeId);
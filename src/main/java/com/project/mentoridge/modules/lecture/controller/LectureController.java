@@ -3,6 +3,7 @@ package com.project.mentoridge.modules.lecture.controller;
 import com.project.mentoridge.config.security.CurrentUser;
 import com.project.mentoridge.config.security.Nullable;
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.lecture.controller.request.LectureCreateRequest;
 import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
 import com.project.mentoridge.modules.lecture.controller.request.LectureUpdateRequest;
@@ -49,6 +50,20 @@ public class LectureController {
         Page<EachLectureResponse> lectures = lectureService.getEachLectureResponses(user, zone, lectureListRequest, page);
         return ResponseEntity.ok(lectures);
     }
+
+    @PreAuthorize("hasRole('ROLE_MENTEE')")
+    @ApiOperation("강의 목록 조회 - 커서 페이징 (이전 응답의 nextCursor)")
+    @GetMapping("/scroll")
+    public ResponseEntity<?> getEachLectures(@CurrentUser User user,
+                                             @RequestParam(name = "_zone", required = false) String zone,
+                                             @Validated @ModelAttribute LectureListRequest lectureListRequest, BindingResult bindingResult,
+                                             @RequestParam(required = false) String cursor) {
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.badRequest().body(bindingResult.getAllErrors());
+        }
+        CursorResponse<EachLectureResponse> lectures = lectureService.getEachLectureResponses(user, zone, lectureListRequest, cursor);
+        return ResponseEntity.ok(lectures);
+    }
 /*
     @ApiOperation("강의 개별 조회")
     @GetMapping(value = "/{lecture_id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -1,6 +1,7 @@
 package com.project.mentoridge.modules.lecture.controller.request;
 
 import com.project.mentoridge.modules.lecture.enums.DifficultyType;
+import com.project.mentoridge.modules.lecture.enums.LectureSortType;
 import com.project.mentoridge.modules.lecture.enums.SystemType;
 import lombok.*;
 
@@ -14,18 +15,22 @@ public class LectureListRequest {
     // private String zone;
 
     private String title;
+    private String keyword;                         // 검색어 : 제목, 부제목, 소개, 과목명 / 관련도 순 정렬
     private List<String> subjects;                  // 언어   / length == 0일 때 전체
     private SystemType systemType;                  // 수업방식 : 온라인, 오프라인 / null일 때 전체
     private Boolean isGroup;                        // 그룹여부 : 개인, 그룹    / null일 때 전체
     private List<DifficultyType> difficultyTypes;   // 레벨 : 입문, 초급, 중급, 고급 / length == 0일 때 전체
+    private LectureSortType sort;                   // 정렬 : popular - 인기순 / null일 때 등록순(검색어가 있으면 관련도 순)
 
     @Builder(access = AccessLevel.PUBLIC)
-    private LectureListRequest(String title, List<String> subjects, SystemType systemType, Boolean isGroup, List<DifficultyType> difficultyTypes) {
+    private LectureListRequest(String title, String keyword, List<String> subjects, SystemType systemType, Boolean isGroup, List<DifficultyType> difficultyTypes, LectureSortType sort) {
         this.title = title;
+        this.keyword = keyword;
         this.subjects = subjects;
         this.systemType = systemType;
         this.isGroup = isGroup;
         this.difficultyTypes = difficultyTypes;
+        this.sort = sort;
     }
 
 //    // TODO - CHECK : -Duplicate
@@ -29,11 +29,16 @@ public class EachLectureResponse extends AbstractLectureResponse {
 
 
     public EachLectureResponse(LecturePrice lecturePrice, Lecture lecture) {
+        this(lecturePrice, lecture, lecture.getContent());
+    }
+
+    // 목록 : content 대신 미리보기 (lecture.content 를 읽지 않음)
+    public EachLectureResponse(LecturePrice lecturePrice, Lecture lecture, String content) {
         this.lectureId = lecture.getId();
         this.title = lecture.getTitle();
         this.subTitle = lecture.getSubTitle();
         this.introduce = lecture.getIntroduce();
-        this.content = lecture.getContent();
+        this.content = content;
         this.difficulty = lecture.getDifficulty();
         this.systems = lecture.getSystems().stream()
                 .map(SystemTypeResponse::new).collect(Collectors.toList());
@@ -51,4 +56,27 @@ public class EachLectureResponse extends AbstractLectureResponse {
 //        this.picked = null;
 //        this.pickCount = null;
     }
+
+    // 캐시된 응답에 사용자별 필드(picked)를 채울 때 사용
+    public EachLectureResponse(EachLectureResponse eachLectureResponse) {
+        this.lectureId = eachLectureResponse.getLectureId();
+        this.title = eachLectureResponse.getTitle();
+        this.subTitle = eachLectureResponse.getSubTitle();
+        this.introduce = eachLectureResponse.getIntroduce();
+        this.content = eachLectureResponse.getContent();
+        this.difficulty = eachLectureResponse.getDifficulty();
+        this.systems = eachLectureResponse.getSystems();
+        this.lectureSubjects = eachLectureResponse.getLectureSubjects();
+        this.thumbnail = eachLectureResponse.getThumbnail();
+        this.approved = eachLectureResponse.isApproved();
+
+        this.lecturePrice = eachLectureResponse.getLecturePrice();
+        this.lectureMentor = eachLectureResponse.getLectureMentor();
+
+        this.reviewCount = eachLectureResponse.getReviewCount();
+        this.scoreAverage = eachLectureResponse.getScoreAverage();
+        this.enrollmentCount = eachLectureResponse.getEnrollmentCount();
+        this.picked = eachLectureResponse.getPicked();
+        this.pickCount = eachLectureResponse.getPickCount();
+    }
 }
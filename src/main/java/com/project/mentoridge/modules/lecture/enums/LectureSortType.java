@@ -0,0 +1,27 @@
+package com.project.mentoridge.modules.lecture.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.project.mentoridge.modules.base.Enumerable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 강의 목록 정렬 (요청 파라미터 sort=popular)
+@Getter
+@AllArgsConstructor
+public enum LectureSortType implements Enumerable {
+
+    REGISTERED("registered", "등록순"),
+    POPULAR("popular", "인기순");
+
+    private String type;
+    private String name;
+
+    public static LectureSortType find(String type) {
+        return Enumerable.find(type, values());
+    }
+
+    @JsonCreator
+    public static LectureSortType findToNull(String type) {
+        return Enumerable.findToNull(type, values());
+    }
+}
@@ -6,16 +6,47 @@ import com.project.mentoridge.modules.base.Enumerable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 public enum SystemType implements Enumerable {
 
-    ONLINE("ONLINE", "온라인"),
-    OFFLINE("OFFLINE", "오프라인");
+    ONLINE("ONLINE", "온라인", 1),
+    OFFLINE("OFFLINE", "오프라인", 2);
     // NEGOTIABLE("NEGOTIABLE", "장소 협의 가능");
 
     private String type;
     private String name;
+    // lecture.system_mask 의 비트 (값을 바꾸면 기존 행도 변환해야 함)
+    private int bit;
+
+    public static int toMask(Collection<SystemType> systemTypes) {
+        int mask = 0;
+        if (systemTypes != null) {
+            for (SystemType systemType : systemTypes) {
+                mask |= systemType.bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * systemType 을 포함하는 system_mask 값 전체 - 비트 연산 대신 IN 으로 조회해서 인덱스를 사용
+     */
+    public static List<Integer> masksContaining(SystemType systemType) {
+        int all = toMask(Arrays.asList(values()));
+        List<Integer> masks = new ArrayList<>();
+        for (int mask = 1; mask <= all; mask++) {
+            if ((mask & systemType.bit) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
 
     public static SystemType find(String type) {
         return Enumerable.find(type, values());
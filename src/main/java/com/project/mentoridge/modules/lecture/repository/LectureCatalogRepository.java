@@ -0,0 +1,308 @@
+package com.project.mentoridge.modules.lecture.repository;
+
+import com.project.mentoridge.modules.account.vo.QMentor;
+import com.project.mentoridge.modules.account.vo.QUser;
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.address.embeddable.Address;
+import com.project.mentoridge.modules.base.EntityChangedEvent;
+import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
+import com.project.mentoridge.modules.lecture.enums.SystemType;
+import com.project.mentoridge.modules.lecture.repository.catalog.LectureCatalogEntry;
+import com.project.mentoridge.modules.lecture.repository.catalog.LectureCatalogIndex;
+import com.project.mentoridge.modules.lecture.vo.Lecture;
+import com.project.mentoridge.modules.lecture.vo.LecturePrice;
+import com.project.mentoridge.modules.lecture.vo.LectureSubject;
+import com.project.mentoridge.modules.lecture.vo.QLecture;
+import com.project.mentoridge.modules.lecture.vo.QLecturePrice;
+import com.project.mentoridge.modules.lecture.vo.QLectureSubject;
+import com.project.mentoridge.modules.subject.vo.QSubject;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 목록을 LectureCatalogIndex(메모리) 에서 검색하고, 현재 페이지의 LecturePrice 만 id 로 조회
+ * - 기본으로 사용 (mentoridge-config.lecture.catalog-index.enabled, 기본 true), 기동 후 첫 색인(검색어 색인 포함)이 끝나기 전에만 LectureSearchRepository
+ * - Lecture, LecturePrice, LectureSubject, lecture_system_type, 멘토 User(지역) 변경을 EntityChangedEvent 로 받아서
+ *   커밋 후 주기적으로(refresh) 해당 강의만 다시 색인 (생성/수정/승인/모집 시작/종료/삭제 모두 포함)
+ * - 검색 요청은 DB 조회나 lock 없이 현재 색인만 읽는다
+ * - 누락 대비 주기적으로 전체 재색인
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class LectureCatalogRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final LectureSearchRepository lectureSearchRepository;
+    private final LecturePopularityRepository lecturePopularityRepository;
+    private final LectureTextSearchRepository lectureTextSearchRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final QLecturePrice lecturePrice = QLecturePrice.lecturePrice;
+    private final QLecture lecture = QLecture.lecture;
+    private final QLectureSubject lectureSubject = QLectureSubject.lectureSubject;
+    private final QSubject subject = QSubject.subject;
+    private final QMentor mentor = QMentor.mentor;
+    private final QUser user = QUser.user;
+    private final EnumPath<SystemType> systemType = Expressions.enumPath(SystemType.class, "systemType");
+
+    @Value("${mentoridge-config.lecture.catalog-index.enabled:true}")
+    private boolean enabled;
+
+    private LectureCatalogIndex index;
+    private volatile boolean ready;
+
+    // 커밋된 변경 : 다음 refresh 에서 다시 색인
+    private final Queue<Long> changedLectureIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> changedMentorUserIds = new ConcurrentLinkedQueue<>();
+    // 조회 + 반영을 한 번에 하나씩 : 먼저 조회한 (이전) 상태가 나중에 반영되지 않도록
+    private final Lock refreshLock = new ReentrantLock();
+    // 재색인 중에 반영된 변경 : 재색인 결과(먼저 조회한 상태)로 덮어써지므로 재색인 후 다시 반영
+    private Set<Long> replayLectureIds;
+    private Set<Long> replayMentorUserIds;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+
+        // 검색어 색인은 LectureSearchRepository 와 공유
+        index = new LectureCatalogIndex(lectureTextSearchRepository.getIndex());
+        if (!enabled) {
+            return;
+        }
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 검색어 색인(LectureTextSearchRepository)도 공유하므로 함께 준비된 뒤부터
+    public boolean isEnabled() {
+        return enabled && ready && lectureTextSearchRepository.isReady();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${mentoridge-config.lecture.catalog-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${mentoridge-config.lecture.catalog-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+
+        if (!enabled) {
+            return;
+        }
+
+        refreshLock.lock();
+        try {
+            // 아직 반영하지 않은 변경도 재색인 후 다시 반영 (재색인이 실패해도 남도록)
+            replayLectureIds = drain(changedLectureIds);
+            replayMentorUserIds = drain(changedMentorUserIds);
+        } finally {
+            refreshLock.unlock();
+        }
+
+        try {
+            List<LectureCatalogEntry> entries = readOnlyTransaction.execute(status -> findEntries(null));
+            refreshLock.lock();
+            try {
+                index.rebuild(entries);
+            } finally {
+                refreshLock.unlock();
+            }
+            ready = true;
+            log.info("[catalog] rebuilt - size : {}", index.getSize());
+        } catch (Exception e) {
+            log.error("[catalog] rebuild failed", e);
+        } finally {
+            refreshLock.lock();
+            try {
+                changedLectureIds.addAll(replayLectureIds);
+                changedMentorUserIds.addAll(replayMentorUserIds);
+                replayLectureIds = null;
+                replayMentorUserIds = null;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+    }
+
+    // 커밋된 변경을 주기적으로 반영 (검색 요청은 현재 색인만 읽는다)
+    @Scheduled(fixedDelayString = "${mentoridge-config.lecture.catalog-index.refresh-interval-ms:1000}")
+    public void refresh() {
+
+        if (!enabled || !ready || (changedLectureIds.isEmpty() && changedMentorUserIds.isEmpty())) {
+            return;
+        }
+
+        refreshLock.lock();
+        try {
+            Set<Long> lectureIds = drain(changedLectureIds);
+            Set<Long> mentorUserIds = drain(changedMentorUserIds);
+            if (lectureIds.isEmpty() && mentorUserIds.isEmpty()) {
+                return;
+            }
+            if (replayLectureIds != null) {
+                replayLectureIds.addAll(lectureIds);
+                replayMentorUserIds.addAll(mentorUserIds);
+            }
+
+            BooleanExpression changed = null;
+            if (!lectureIds.isEmpty()) {
+                changed = lecture.id.in(lectureIds);
+            }
+            if (!mentorUserIds.isEmpty()) {
+                changed = changed == null ? user.id.in(mentorUserIds) : changed.or(user.id.in(mentorUserIds));
+            }
+            BooleanExpression condition = changed;
+            try {
+                index.replace(lectureIds, mentorUserIds, readOnlyTransaction.execute(status -> findEntries(condition)));
+            } catch (Exception e) {
+                // 다음 refresh 에서 다시 시도
+                changedLectureIds.addAll(lectureIds);
+                changedMentorUserIds.addAll(mentorUserIds);
+                log.error("[catalog] refresh failed", e);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public Page<LecturePrice> findLecturePricesByZoneAndSearch(User _user, Address zone, LectureListRequest request, Pageable pageable) {
+
+        LectureCatalogIndex.Result result = index.search(_user != null ? _user.getId() : null, zone, request,
+                pageable.getOffset(), pageable.getPageSize(), lecturePopularityRepository.getIndex());
+        if (result.getLecturePriceIds().isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, result.getTotal());
+        }
+
+        Map<Long, LecturePrice> lecturePrices = lectureSearchRepository.findLecturePricesByIds(result.getLecturePriceIds()).stream()
+                .collect(Collectors.toMap(LecturePrice::getId, Function.identity()));
+        // 색인 순서(lecturePriceId 오름차순, 관련도 순, 인기순) 유지, 그 사이 삭제된 것은 제외
+        List<LecturePrice> content = result.getLecturePriceIds().stream()
+                .map(lecturePrices::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, result.getTotal());
+    }
+
+        private static Set<Long> drain(Queue<Long> queue) {
+            Set<Long> ids = new HashSet<>();
+            Long id;
+            while ((id = queue.poll()) != null) {
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        // 승인 + 모집 중인 LecturePrice
+        private List<LectureCatalogEntry> findEntries(BooleanExpression condition) {
+
+            List<LecturePrice> lecturePrices = jpaQueryFactory.selectFrom(lecturePrice)
+                    .innerJoin(lecturePrice.lecture, lecture)
+                    .fetchJoin()
+                    .innerJoin(lecture.mentor, mentor)
+                    .fetchJoin()
+                    .innerJoin(mentor.user, user)
+                    .fetchJoin()
+                    .where(lecture.approved.isTrue(), lecturePrice.closed.isFalse(), condition)
+                    .fetch();
+            if (lecturePrices.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Long> lectureIds = lecturePrices.stream().map(lecturePrice -> lecturePrice.getLecture().getId())
+                    .distinct().collect(Collectors.toList());
+            // 컬렉션은 강의별로 한 번에 조회
+            Map<Long, List<String>> subjects = new HashMap<>();
+            Map<Long, List<SystemType>> systems = new HashMap<>();
+            for (List<Long> chunk : chunks(lectureIds)) {
+                for (Tuple tuple : jpaQueryFactory.select(lectureSubject.lecture.id, subject.krSubject)
+                        .from(lectureSubject)
+                        .innerJoin(lectureSubject.subject, subject)
+                        .where(lectureSubject.lecture.id.in(chunk))
+                        .fetch()) {
+                    subjects.computeIfAbsent(tuple.get(lectureSubject.lecture.id), k -> new ArrayList<>()).add(tuple.get(subject.krSubject));
+                }
+                for (Tuple tuple : jpaQueryFactory.select(lecture.id, systemType)
+                        .from(lecture)
+                        .innerJoin(lecture.systems, systemType)
+                        .where(lecture.id.in(chunk))
+                        .fetch()) {
+                    systems.computeIfAbsent(tuple.get(lecture.id), k -> new ArrayList<>()).add(tuple.get(systemType));
+                }
+            }
+
+            return lecturePrices.stream().map(lecturePrice -> {
+                Lecture _lecture = lecturePrice.getLecture();
+                User mentorUser = _lecture.getMentor().getUser();
+                Address zone = mentorUser.getZone();
+                return LectureCatalogEntry.builder()
+                        .lecturePriceId(lecturePrice.getId())
+                        .lectureId(_lecture.getId())
+                        .mentorUserId(mentorUser.getId())
+                        .title(_lecture.getTitle())
+                        .subjects(subjects.get(_lecture.getId()))
+                        .difficulty(_lecture.getDifficulty())
+                        .systems(systems.get(_lecture.getId()))
+                        .isGroup(lecturePrice.isGroup())
+                        .state(zone != null ? zone.getState() : null)
+                        .siGunGu(zone != null ? zone.getSiGunGu() : null)
+                        .build();
+            }).collect(Collectors.toList());
+        }
+
+        private static List<List<Long>> chunks(List<Long> ids) {
+            final int chunkSize = 1000;
+            List<List<Long>> chunks = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i += chunkSize) {
+                chunks.add(ids.subList(i, Math.min(ids.size(), i + chunkSize)));
+            }
+            return chunks;
+        }
+
+    // 커밋된 변경만 큐로 (롤백되면 호출되지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void changed(EntityChangedEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        Object entity = event.getEntity();
+        if (entity instanceof Lecture) {
+            changedLectureIds.add(((Lecture) entity).getId());
+        } else if (entity instanceof LecturePrice) {
+            changedLectureIds.add(((LecturePrice) entity).getLecture().getId());
+        } else if (entity instanceof LectureSubject && ((LectureSubject) entity).getLecture() != null) {
+            changedLectureIds.add(((LectureSubject) entity).getLecture().getId());
+        } else if (entity instanceof User && event.isDirty("zone") && index.containsMentorUser(((User) entity).getId())) {
+            // 멘토 지역 변경
+            changedMentorUserIds.add(((User) entity).getId());
+        }
+    }
+}
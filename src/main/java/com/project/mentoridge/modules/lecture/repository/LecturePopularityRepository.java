@@ -0,0 +1,270 @@
+package com.project.mentoridge.modules.lecture.repository;
+
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.address.embeddable.Address;
+import com.project.mentoridge.modules.base.EntityChangedEvent;
+import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
+import com.project.mentoridge.modules.lecture.enums.LectureSortType;
+import com.project.mentoridge.modules.lecture.repository.catalog.LecturePopularityIndex;
+import com.project.mentoridge.modules.lecture.vo.LecturePrice;
+import com.project.mentoridge.modules.purchase.vo.Enrollment;
+import com.project.mentoridge.modules.purchase.vo.Pick;
+import com.project.mentoridge.modules.review.vo.MenteeReview;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 목록 인기순(sort=popular) 정렬
+ * - LecturePrice 점수 = 최근 수강 확인, 좋아요, 리뷰(평점 / 5)에 가중치를 곱하고 반감기로 감쇠한 합 (LecturePopularityIndex)
+ * - Enrollment, Pick, MenteeReview 변경을 EntityChangedEvent 로 받아서 커밋 후 해당 LecturePrice 의 점수만 다시 계산
+ * - 매일 기준 시각을 옮겨서 전체를 다시 계산 (window 보다 오래된 활동은 제외)
+ * - 목록 조회 시 메모리의 점수 순서대로 조건에 맞는 것을 골라서 현재 페이지만 조회
+ *   (LectureCatalogRepository 가 켜져 있으면 색인에서 바로 정렬)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class LecturePopularityRepository {
+
+    static final double ENROLLMENT_WEIGHT = 3;
+    static final double PICK_WEIGHT = 1;
+    static final double REVIEW_WEIGHT = 2;
+    // 점수 순서대로 조건을 확인하는 단위
+    private static final int BATCH_SIZE = 500;
+
+    private final LectureQueryRepository lectureQueryRepository;
+    private final LectureSearchRepository lectureSearchRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${mentoridge-config.lecture.popularity.enabled:true}")
+    private boolean enabled;
+    @Value("${mentoridge-config.lecture.popularity.half-life-days:7}")
+    private long halfLifeDays;
+    @Value("${mentoridge-config.lecture.popularity.window-days:60}")
+    private long windowDays;
+
+    private volatile LecturePopularityIndex index;
+
+    // 커밋된 변경 : 다음 refresh 에서 다시 계산
+    private final Queue<Long> changedLecturePriceIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> changedEnrollmentIds = new ConcurrentLinkedQueue<>();
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+
+        if (!enabled) {
+            return;
+        }
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return enabled && index != null;
+    }
+
+    /**
+     * @return 첫 계산 전이거나 꺼져 있으면 null
+     */
+    public LecturePopularityIndex getIndex() {
+        return enabled ? index : null;
+    }
+
+    public static boolean isPopular(LectureListRequest request) {
+        return request != null && request.getSort() == LectureSortType.POPULAR;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${mentoridge-config.lecture.popularity.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 다시 계산하는 동안 커밋된 변경은 다음 refresh 에서 새 색인에 반영
+            changedLecturePriceIds.clear();
+            changedEnrollmentIds.clear();
+            LecturePopularityIndex rebuilt = new LecturePopularityIndex(System.currentTimeMillis(), TimeUnit.DAYS.toMillis(halfLifeDays));
+            rebuilt.putAll(readOnlyTransaction.execute(status -> computeScores(rebuilt, null)));
+            index = rebuilt;
+            log.info("[popularity] rebuilt - size : {}", rebuilt.getSize());
+        } catch (Exception e) {
+            log.error("[popularity] rebuild failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mentoridge-config.lecture.popularity.refresh-interval-ms:1000}")
+    public void refresh() {
+
+        LecturePopularityIndex current = index;
+        if (!enabled || current == null) {
+            return;
+        }
+
+        Set<Long> lecturePriceIds = drain(changedLecturePriceIds);
+        Set<Long> enrollmentIds = drain(changedEnrollmentIds);
+        if (lecturePriceIds.isEmpty() && enrollmentIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            current.putAll(readOnlyTransaction.execute(status -> {
+                // 리뷰 -> 수강(LecturePrice)
+                if (!enrollmentIds.isEmpty()) {
+                    lecturePriceIds.addAll(lectureQueryRepository.findLecturePriceIdsByEnrollmentIds(enrollmentIds));
+                }
+                Map<Long, Double> scores = computeScores(current, lecturePriceIds);
+                // 활동이 모두 없어진 LecturePrice 는 0 (색인에서 제외)
+                lecturePriceIds.forEach(lecturePriceId -> scores.putIfAbsent(lecturePriceId, 0.0));
+                return scores;
+            }));
+        } catch (Exception e) {
+            // 다음 refresh 에서 다시 시도
+            changedLecturePriceIds.addAll(lecturePriceIds);
+            changedEnrollmentIds.addAll(enrollmentIds);
+            log.error("[popularity] refresh failed", e);
+        }
+    }
+
+        private static Set<Long> drain(Queue<Long> queue) {
+            Set<Long> ids = new HashSet<>();
+            Long id;
+            while ((id = queue.poll()) != null) {
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        // lecturePriceIds 가 null 이면 전체
+        private Map<Long, Double> computeScores(LecturePopularityIndex target, Collection<Long> lecturePriceIds) {
+
+            LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+            Map<Long, Double> scores = new HashMap<>();
+            for (Tuple activity : lectureQueryRepository.findEnrollmentActivities(since, lecturePriceIds)) {
+                addScore(scores, target, activity, ENROLLMENT_WEIGHT);
+            }
+            for (Tuple activity : lectureQueryRepository.findPickActivities(since, lecturePriceIds)) {
+                addScore(scores, target, activity, PICK_WEIGHT);
+            }
+            // 평점이 높을수록, 리뷰가 많을수록
+            for (Tuple activity : lectureQueryRepository.findReviewActivities(since, lecturePriceIds)) {
+                Integer score = activity.get("score", Integer.class);
+                addScore(scores, target, activity, REVIEW_WEIGHT * (score != null ? score : 0) / 5);
+            }
+            return scores;
+        }
+
+        private static void addScore(Map<Long, Double> scores, LecturePopularityIndex target, Tuple activity, double weight) {
+            LocalDateTime at = activity.get("at", LocalDateTime.class);
+            if (at != null) {
+                long millis = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                scores.merge(activity.get("lecturePriceId", Long.class), weight * target.weight(millis), Double::sum);
+            }
+        }
+
+    /**
+     * LectureSearchRepository.findLecturePricesByZoneAndSearch 와 같은 조건, 인기순
+     * - 점수 순서대로 BATCH_SIZE 개씩 조건에 맞는지 확인해서 현재 페이지까지만 채운다 (조건에 맞는 id 전체를 조회하지 않음)
+     * - 점수 있는 것이 모자라면 점수 없는 것을 lecturePriceId 순으로 이어서 채운다
+     */
+    public Page<LecturePrice> findLecturePricesByZoneAndSearch(User _user, Address zone, LectureListRequest request, Pageable pageable) {
+
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        List<Long> pageIds = new ArrayList<>(limit);
+        long matched = 0;
+
+        List<Long> rankedIds = index.getRankedIds();
+        for (int from = 0; from < rankedIds.size() && pageIds.size() < limit; from += BATCH_SIZE) {
+            List<Long> batch = rankedIds.subList(from, Math.min(rankedIds.size(), from + BATCH_SIZE));
+            Set<Long> matches = new HashSet<>(lectureSearchRepository.findLecturePriceIdsByZoneAndSearch(_user, zone, request, batch));
+            for (Long lecturePriceId : batch) {
+                if (matches.contains(lecturePriceId) && matched++ >= offset && pageIds.size() < limit) {
+                    pageIds.add(lecturePriceId);
+                }
+            }
+        }
+
+        if (pageIds.size() < limit) {
+            // 점수 있는 것은 모두 확인함
+            Set<Long> ranked = new HashSet<>(rankedIds);
+            Long last = 0L;
+            List<Long> lecturePriceIds;
+            do {
+                lecturePriceIds = lectureSearchRepository.findLecturePriceIdsByZoneAndSearch(_user, zone, request, last, BATCH_SIZE);
+                for (Long lecturePriceId : lecturePriceIds) {
+                    last = lecturePriceId;
+                    if (!ranked.contains(lecturePriceId) && matched++ >= offset && pageIds.size() < limit) {
+                        pageIds.add(lecturePriceId);
+                    }
+                }
+            } while (lecturePriceIds.size() == BATCH_SIZE && pageIds.size() < limit);
+        }
+
+        List<LecturePrice> content = Collections.emptyList();
+        if (!pageIds.isEmpty()) {
+            Map<Long, LecturePrice> lecturePrices = lectureSearchRepository.findLecturePricesByIds(pageIds).stream()
+                    .collect(Collectors.toMap(LecturePrice::getId, Function.identity()));
+            content = pageIds.stream()
+                    .map(lecturePrices::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+        return lectureSearchRepository.getZoneAndSearchPage(content, _user, zone, request, pageable);
+    }
+
+    // 커밋된 변경만 큐로 (롤백되면 호출되지 않음), 연관 엔티티는 프록시일 수 있으므로 id 만 사용
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void changed(EntityChangedEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        Object entity = event.getEntity();
+        if (entity instanceof Enrollment) {
+            LecturePrice lecturePrice = ((Enrollment) entity).getLecturePrice();
+            addChanged(changedLecturePriceIds, lecturePrice != null ? lecturePrice.getId() : null);
+        } else if (entity instanceof Pick) {
+            LecturePrice lecturePrice = ((Pick) entity).getLecturePrice();
+            addChanged(changedLecturePriceIds, lecturePrice != null ? lecturePrice.getId() : null);
+        } else if (entity instanceof MenteeReview) {
+            Enrollment enrollment = ((MenteeReview) entity).getEnrollment();
+            addChanged(changedEnrollmentIds, enrollment != null ? enrollment.getId() : null);
+        }
+    }
+
+        private static void addChanged(Queue<Long> queue, Long id) {
+            if (id != null) {
+                queue.add(id);
+            }
+        }
+}
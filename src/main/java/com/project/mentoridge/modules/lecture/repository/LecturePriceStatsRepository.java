@@ -0,0 +1,16 @@
+package com.project.mentoridge.modules.lecture.repository;
+
+import com.project.mentoridge.modules.lecture.vo.LecturePriceStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface LecturePriceStatsRepository extends JpaRepository<LecturePriceStats, Long> {
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete from LecturePriceStats s where not exists (select lp.id from LecturePrice lp where lp.id = s.lecturePriceId)")
+    int deleteOrphans();
+}
@@ -4,11 +4,17 @@ import com.project.mentoridge.modules.lecture.repository.dto.LectureEnrollmentQu
 import com.project.mentoridge.modules.lecture.repository.dto.LectureMentorQueryDto;
 import com.project.mentoridge.modules.lecture.repository.dto.LecturePickQueryDto;
 import com.project.mentoridge.modules.lecture.repository.dto.LectureReviewQueryDto;
+import com.project.mentoridge.modules.lecture.repository.dto.LectureStatsQueryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +27,24 @@ public class LectureQueryRepository {
 
     private final EntityManager em;
 
+    // 목록에 보여줄 내용 길이
+    public static final int EXCERPT_LENGTH = 100;
+
+    // 목록용 내용 미리보기 : content(LOB) 전체를 읽지 않고 앞부분만
+    public Map<Long, String> findContentExcerptMap(List<Long> lectureIds) {
+
+        Map<Long, String> excerpts = new HashMap<>();
+        if (lectureIds.isEmpty()) {
+            return excerpts;
+        }
+        em.createQuery("select l.id as lectureId, substring(l.content, 1, :length) as content from Lecture l " +
+                        "where l.id in :lectureIds", Tuple.class)
+                .setParameter("length", EXCERPT_LENGTH)
+                .setParameter("lectureIds", lectureIds)
+                .getResultList()
+                .forEach(tuple -> excerpts.put(tuple.get("lectureId", Long.class), tuple.get("content", String.class)));
+        return excerpts;
+    }
 
     public Map<Long, Long> findLectureEnrollmentQueryDtoMap(List<Long> lecturePriceIds) {
         List<LectureEnrollmentQueryDto> lectureEnrollments = em.createQuery("select new com.project.mentoridge.modules.lecture.repository.dto.LectureEnrollmentQueryDto(e.lecturePrice.id, count(e.id)) from Enrollment e " +
@@ -69,6 +93,16 @@ public class LectureQueryRepository {
                 .getResultList().stream().findAny();
     }
 
+    // 강의 전체(모든 가격) 리뷰 개수, 평점
+    public LectureReviewQueryDto findLectureReviewQueryDto(Long lectureId) {
+        Tuple lectureReview = em.createQuery("select count(r.id) as reviewCount, avg(r.score) as scoreAverage from MenteeReview r " +
+                        "where r.lecture.id = :lectureId", Tuple.class)
+                .setParameter("lectureId", lectureId)
+                .getSingleResult();
+        Double scoreAverage = lectureReview.get("scoreAverage", Double.class);
+        return new LectureReviewQueryDto(lectureId, null, lectureReview.get("reviewCount", Long.class), scoreAverage != null ? scoreAverage : 0.0);
+    }
+
     /*
     SELECT t.mentor_id, COUNT(DISTINCT l.lecture_id), COUNT(DISTINCT r.review_id) FROM lecture l
     INNER JOIN mentor t ON l.mentor_id = t.mentor_id
@@ -83,4 +117,114 @@ public class LectureQueryRepository {
 
         return lectureMentors.stream().collect(Collectors.toMap(LectureMentorQueryDto::getMentorId, lectureMentorQueryDto -> lectureMentorQueryDto));
     }
+
+    // lecture_price_stats + mentor_stats : 카드 하나당 한 행
+    public List<LectureStatsQueryDto> findLectureStatsQueryDtos(Collection<Long> lecturePriceIds) {
+        return em.createQuery("select new com.project.mentoridge.modules.lecture.repository.dto.LectureStatsQueryDto(s.lectureId, s.lecturePriceId, s.mentorId, " +
+                        "s.enrollmentCount, s.pickCount, s.reviewCount, s.scoreSum, m.lectureCount, m.reviewCount) from LecturePriceStats s " +
+                        "left join MentorStats m on m.mentorId = s.mentorId " +
+                        "where s.lecturePriceId in :lecturePriceIds", LectureStatsQueryDto.class)
+                .setParameter("lecturePriceIds", lecturePriceIds)
+                .getResultList();
+    }
+
+    // 통계 재계산용 : lecturePriceId, lectureId, mentorId
+    public List<Tuple> findLecturePriceOwners(Collection<Long> lecturePriceIds) {
+        return em.createQuery("select lp.id as lecturePriceId, l.id as lectureId, l.mentor.id as mentorId from LecturePrice lp " +
+                        "inner join lp.lecture l " +
+                        "where lp.id in :lecturePriceIds", Tuple.class)
+                .setParameter("lecturePriceIds", lecturePriceIds)
+                .getResultList();
+    }
+
+    // lecturePriceId 기준 리뷰 개수, 점수 합계
+    public Map<Long, Tuple> findLectureReviewSumMap(Collection<Long> lecturePriceIds) {
+        List<Tuple> lectureReviews = em.createQuery("select e.lecturePrice.id as lecturePriceId, count(r.id) as reviewCount, sum(r.score) as scoreSum from MenteeReview r " +
+                        "inner join Enrollment e on r.enrollment.id = e.id " +
+                        "where e.lecturePrice.id in :lecturePriceIds " +
+                        "group by e.lecturePrice.id", Tuple.class)
+                .setParameter("lecturePriceIds", lecturePriceIds)
+                .getResultList();
+        return lectureReviews.stream()
+                .collect(Collectors.toMap(tuple -> tuple.get("lecturePriceId", Long.class), tuple -> tuple));
+    }
+
+    public Map<Long, Long> findMentorLectureCountMap(Collection<Long> mentorIds) {
+        List<Tuple> mentorLectures = em.createQuery("select l.mentor.id as mentorId, count(l.id) as lectureCount from Lecture l " +
+                        "where l.mentor.id in :mentorIds group by l.mentor.id", Tuple.class)
+                .setParameter("mentorIds", mentorIds)
+                .getResultList();
+        return mentorLectures.stream()
+                .collect(Collectors.toMap(tuple -> tuple.get("mentorId", Long.class), tuple -> tuple.get("lectureCount", Long.class)));
+    }
+
+    public Map<Long, Long> findMentorReviewCountMap(Collection<Long> mentorIds) {
+        List<Tuple> mentorReviews = em.createQuery("select l.mentor.id as mentorId, count(r.id) as reviewCount from MenteeReview r " +
+                        "inner join r.lecture l " +
+                        "where l.mentor.id in :mentorIds group by l.mentor.id", Tuple.class)
+                .setParameter("mentorIds", mentorIds)
+                .getResultList();
+        return mentorReviews.stream()
+                .collect(Collectors.toMap(tuple -> tuple.get("mentorId", Long.class), tuple -> tuple.get("reviewCount", Long.class)));
+    }
+
+    public List<Long> findMentorIds(Collection<Long> mentorIds) {
+        return em.createQuery("select t.id from Mentor t where t.id in :mentorIds", Long.class)
+                .setParameter("mentorIds", mentorIds)
+                .getResultList();
+    }
+
+    public List<Long> findLecturePriceIdsByEnrollmentIds(Collection<Long> enrollmentIds) {
+        return em.createQuery("select distinct e.lecturePrice.id from Enrollment e where e.id in :enrollmentIds", Long.class)
+                .setParameter("enrollmentIds", enrollmentIds)
+                .getResultList();
+    }
+
+    public List<Long> findMentorIdsByLectureIds(Collection<Long> lectureIds) {
+        return em.createQuery("select distinct l.mentor.id from Lecture l where l.id in :lectureIds", Long.class)
+                .setParameter("lectureIds", lectureIds)
+                .getResultList();
+    }
+
+    // 전체 재계산용 (id 순서로 끊어서 조회)
+    public List<Long> findLecturePriceIdsAfter(Long lastLecturePriceId, int size) {
+        return em.createQuery("select lp.id from LecturePrice lp where lp.id > :lastLecturePriceId order by lp.id", Long.class)
+                .setParameter("lastLecturePriceId", lastLecturePriceId)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    public List<Long> findMentorIdsAfter(Long lastMentorId, int size) {
+        return em.createQuery("select t.id from Mentor t where t.id > :lastMentorId order by t.id", Long.class)
+                .setParameter("lastMentorId", lastMentorId)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    // 인기순 점수 계산용 최근 활동 : lecturePriceId, at (+ 리뷰 score) / lecturePriceIds 가 null 이면 전체
+    public List<Tuple> findEnrollmentActivities(LocalDateTime since, Collection<Long> lecturePriceIds) {
+        return setLecturePriceIds(em.createQuery("select e.lecturePrice.id as lecturePriceId, e.checkedAt as at from Enrollment e " +
+                        "where e.checked = true and e.checkedAt >= :since" + (lecturePriceIds != null ? " and e.lecturePrice.id in :lecturePriceIds" : ""), Tuple.class)
+                .setParameter("since", since), lecturePriceIds)
+                .getResultList();
+    }
+
+    public List<Tuple> findPickActivities(LocalDateTime since, Collection<Long> lecturePriceIds) {
+        return setLecturePriceIds(em.createQuery("select p.lecturePrice.id as lecturePriceId, p.createdAt as at from Pick p " +
+                        "where p.createdAt >= :since" + (lecturePriceIds != null ? " and p.lecturePrice.id in :lecturePriceIds" : ""), Tuple.class)
+                .setParameter("since", since), lecturePriceIds)
+                .getResultList();
+    }
+
+    public List<Tuple> findReviewActivities(LocalDateTime since, Collection<Long> lecturePriceIds) {
+        return setLecturePriceIds(em.createQuery("select e.lecturePrice.id as lecturePriceId, r.createdAt as at, r.score as score from MenteeReview r " +
+                        "inner join Enrollment e on r.enrollment.id = e.id " +
+                        "where r.createdAt >= :since" + (lecturePriceIds != null ? " and e.lecturePrice.id in :lecturePriceIds" : ""), Tuple.class)
+                .setParameter("since", since), lecturePriceIds)
+                .getResultList();
+    }
+
+        private static TypedQuery<Tuple> setLecturePriceIds(TypedQuery<Tuple> query, Collection<Long> lecturePriceIds) {
+            return lecturePriceIds != null ? query.setParameter("lecturePriceIds", lecturePriceIds) : query;
+        }
 }
@@ -5,16 +5,19 @@ import com.project.mentoridge.modules.account.vo.QMentor;
 import com.project.mentoridge.modules.account.vo.QUser;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.address.embeddable.Address;
+import com.project.mentoridge.modules.base.PageCountKey;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
 import com.project.mentoridge.modules.lecture.controller.response.LectureResponse;
 import com.project.mentoridge.modules.lecture.enums.DifficultyType;
 import com.project.mentoridge.modules.lecture.enums.SystemType;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.lecture.vo.LecturePrice;
+import com.project.mentoridge.modules.lecture.vo.LectureSubject;
 import com.project.mentoridge.modules.lecture.vo.QLecture;
 import com.project.mentoridge.modules.lecture.vo.QLecturePrice;
 import com.project.mentoridge.modules.purchase.vo.QEnrollment;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
@@ -29,8 +32,14 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Transactional(readOnly = true)
@@ -38,7 +47,12 @@ import java.util.stream.Collectors;
 @Repository
 public class LectureSearchRepository {
     // TODO - 테스트
+    // 검색어 : 한 번에 조회할 강의 수 (BM25 점수 순)
+    private static final int KEYWORD_BATCH_SIZE = 100;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter pageCounter;
+    private final LectureTextSearchRepository lectureTextSearchRepository;
     private final QLecture lecture = QLecture.lecture;
     private final QLecturePrice lecturePrice = QLecturePrice.lecturePrice;
 
@@ -48,18 +62,19 @@ public class LectureSearchRepository {
 
     public Page<LectureResponse> findLecturesWithEnrollmentCountByMentor(Mentor mentor, Pageable pageable) {
 
-        QueryResults<Tuple> tuples = jpaQueryFactory.select(lecture,
+        List<Tuple> tuples = jpaQueryFactory.select(lecture,
                 JPAExpressions.select(enrollment.id.count()).from(enrollment).where(lecture.eq(enrollment.lecture)))
                 .from(lecture)
                 .where(lecture.mentor.eq(mentor))
-                .fetchResults();
-        List<LectureResponse> lectureResponses = tuples.getResults().stream().map(tuple -> {
+                .fetch();
+        // 페이징하지 않으므로 count 쿼리 없이 조회 결과 수
+        List<LectureResponse> lectureResponses = tuples.stream().map(tuple -> {
             LectureResponse lectureResponse = new LectureResponse(tuple.get(0, Lecture.class));
             lectureResponse.setEnrollmentCount(tuple.get(1, Long.class));
             return lectureResponse;
         }).collect(Collectors.toList());
 
-        return new PageImpl<>(lectureResponses, pageable, tuples.getTotal());
+        return new PageImpl<>(lectureResponses, pageable, lectureResponses.size());
     }
 
     private BooleanExpression eqApproved(boolean approved) {
@@ -86,51 +101,216 @@ public class LectureSearchRepository {
 
     public Page<LecturePrice> findLecturePricesByZoneAndSearch(User _user, Address zone, LectureListRequest request, Pageable pageable) {
 
-        QueryResults<LecturePrice> lecturePrices;
-        JPAQuery<LecturePrice> query = jpaQueryFactory.selectFrom(lecturePrice)
-                .innerJoin(lecturePrice.lecture, lecture)
-                .fetchJoin()
-                .innerJoin(lecture.mentor, mentor)
-                .fetchJoin()
-                .innerJoin(mentor.user, user)
-                .fetchJoin()
+        Map<Long, Double> keywordScores = searchKeyword(request);
+        if (keywordScores != null) {
+            return findLecturePricesByZoneAndKeyword(_user, zone, request, keywordScores, pageable);
+        }
+
+        // 검색어가 없거나 검색어 색인 전(LIKE) : lecturePriceId 순
+        BooleanBuilder condition = getZoneAndSearchCondition(_user, zone, request, keywordCondition(request, null));
+        List<LecturePrice> lecturePrices = selectLecturePrices()
+                .where(condition)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(lecturePrice.id.asc())
-                .where(eqApproved(true), eqClosed(false),
-                        // 자신의 강의인 경우 - 강의 목록에서 제외
-                        mentor.user.ne(_user));
-
-        if (request != null) {
-            query = query.where(eqTitle(request.getTitle()),
-                    inSubjects(request.getSubjects()),
-                    // eqSystemType(request.getSystemType()),
-                    eqIsGroup(request.getIsGroup()),
-                    inDifficultyType(request.getDifficultyTypes()));
-
-            if (request.getSystemType() == null) {
-                // 온라인 전체 + 오프라인(zone)
-                query = query.where(eqSystemType(SystemType.ONLINE)
-                        .or(eqSystemType(SystemType.OFFLINE).and(eqState(zone.getState())).and(eqSiGunGu(zone.getSiGunGu()))));
-
-            } else if (request.getSystemType() == SystemType.ONLINE) {
-                // 온라인 전체
-                query = query.where(eqSystemType(SystemType.ONLINE));
-
-            } else if (request.getSystemType() == SystemType.OFFLINE) {
-                // 오프라인(zone)
-                if (zone != null) {
-                    query = query.where(eqState(zone.getState()),
-                            eqSiGunGu(zone.getSiGunGu()));
+                .fetch();
+
+        return pageCounter.getPage(lecturePrices, pageable, getZoneAndSearchCountKey(_user, zone, request, false), countLecturePrices().where(condition));
+    }
+
+        // keywordIndexed : 검색어를 색인으로 거른 경우 (색인 전의 LIKE 결과와 count 캐시를 나눔)
+        private PageCountKey getZoneAndSearchCountKey(User _user, Address zone, LectureListRequest request, boolean keywordIndexed) {
+            return PageCountKey.of("lecture.zone-search", _user,
+                    zone != null ? zone.getState() : null, zone != null ? zone.getSiGunGu() : null,
+                    request != null ? request.getTitle() : null,
+                    request != null ? request.getKeyword() : null,
+                    keywordIndexed,
+                    request != null ? request.getSubjects() : null,
+                    request != null ? request.getSystemType() : null,
+                    request != null ? request.getIsGroup() : null,
+                    request != null ? request.getDifficultyTypes() : null)
+                    .dependsOn(LecturePrice.class, Lecture.class, LectureSubject.class)
+                    .dependsOnProperties(User.class, "zone");
+        }
+
+        // 검색어 : 조건에 맞는 LecturePrice 를 강의의 BM25 점수 순으로 (LectureCatalogIndex 와 같은 순서)
+        // - 점수 순 강의를 KEYWORD_BATCH_SIZE 개씩 조회해서 현재 페이지가 차면 멈춤 (뒤쪽 페이지일수록 배치가 늘어남)
+        private Page<LecturePrice> findLecturePricesByZoneAndKeyword(User _user, Address zone, LectureListRequest request,
+                                                                     Map<Long, Double> keywordScores, Pageable pageable) {
+
+            if (keywordScores.isEmpty()) {
+                return new PageImpl<>(Collections.emptyList(), pageable, 0);
+            }
+
+            List<Long> rankedLectureIds = new ArrayList<>(keywordScores.keySet());
+            List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+            long skipped = 0;
+            int from = 0;
+            while (from < rankedLectureIds.size() && pageIds.size() < pageable.getPageSize()) {
+
+                // 같은 점수의 강의는 한 배치에 (같은 점수끼리는 lecturePriceId 순)
+                int to = Math.min(rankedLectureIds.size(), from + KEYWORD_BATCH_SIZE);
+                while (to < rankedLectureIds.size()
+                        && keywordScores.get(rankedLectureIds.get(to)).equals(keywordScores.get(rankedLectureIds.get(to - 1)))) {
+                    to++;
                 }
-                query = query.where(eqSystemType(SystemType.OFFLINE));
+
+                List<Tuple> tuples = jpaQueryFactory.select(lecturePrice.id, lecture.id)
+                        .from(lecturePrice)
+                        .innerJoin(lecturePrice.lecture, lecture)
+                        .innerJoin(lecture.mentor, mentor)
+                        .innerJoin(mentor.user, user)
+                        .where(getZoneAndSearchCondition(_user, zone, request, lecture.id.in(rankedLectureIds.subList(from, to))))
+                        .fetch();
+                tuples.sort(Comparator.<Tuple>comparingDouble(tuple -> keywordScores.get(tuple.get(lecture.id))).reversed()
+                        .thenComparing(tuple -> tuple.get(lecturePrice.id)));
+
+                for (Tuple tuple : tuples) {
+                    if (pageIds.size() >= pageable.getPageSize()) {
+                        break;
+                    }
+                    if (skipped++ >= pageable.getOffset()) {
+                        pageIds.add(tuple.get(lecturePrice.id));
+                    }
+                }
+                from = to;
             }
+
+            List<LecturePrice> content = Collections.emptyList();
+            if (!pageIds.isEmpty()) {
+                Map<Long, LecturePrice> lecturePrices = findLecturePricesByIds(pageIds).stream()
+                        .collect(Collectors.toMap(LecturePrice::getId, Function.identity()));
+                content = pageIds.stream()
+                        .map(lecturePrices::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+            }
+            return pageCounter.getPage(content, pageable, getZoneAndSearchCountKey(_user, zone, request, true),
+                    countLecturePrices().where(getZoneAndSearchCondition(_user, zone, request, inLectures(keywordScores))));
+        }
+
+    // 인기순 정렬용 : lecturePriceIds(점수 순서) 중 조건에 맞는 것
+    public List<Long> findLecturePriceIdsByZoneAndSearch(User _user, Address zone, LectureListRequest request, Collection<Long> lecturePriceIds) {
+
+        Map<Long, Double> keywordScores = searchKeyword(request);
+        if (lecturePriceIds.isEmpty() || (keywordScores != null && keywordScores.isEmpty())) {
+            return Collections.emptyList();
+        }
+        return countLecturePrices()
+                .where(getZoneAndSearchCondition(_user, zone, request, keywordCondition(request, keywordScores)), lecturePrice.id.in(lecturePriceIds))
+                .fetch();
+    }
+
+    // 인기순 정렬용 : 점수 없는 것을 채울 때 lastLecturePriceId 다음부터 limit 건 (id 만)
+    public List<Long> findLecturePriceIdsByZoneAndSearch(User _user, Address zone, LectureListRequest request, Long lastLecturePriceId, int limit) {
+
+        Map<Long, Double> keywordScores = searchKeyword(request);
+        if (keywordScores != null && keywordScores.isEmpty()) {
+            return Collections.emptyList();
         }
+        return countLecturePrices()
+                .where(getZoneAndSearchCondition(_user, zone, request, keywordCondition(request, keywordScores)), lecturePrice.id.gt(lastLecturePriceId))
+                .limit(limit)
+                .orderBy(lecturePrice.id.asc())
+                .fetch();
+    }
+
+    // 인기순 정렬용 : 다른 순서로 채운 현재 페이지에 total (findLecturePricesByZoneAndSearch 와 같은 count 캐시)
+    public Page<LecturePrice> getZoneAndSearchPage(List<LecturePrice> content, User _user, Address zone, LectureListRequest request, Pageable pageable) {
+
+        Map<Long, Double> keywordScores = searchKeyword(request);
+        if (keywordScores != null && keywordScores.isEmpty()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        return pageCounter.getPage(content, pageable, getZoneAndSearchCountKey(_user, zone, request, keywordScores != null),
+                countLecturePrices().where(getZoneAndSearchCondition(_user, zone, request, keywordCondition(request, keywordScores))));
+    }
+
+    // 커서 페이징 : lastLecturePriceId 다음부터 limit 건 (offset, count 쿼리 없음)
+    // - 검색어는 페이지 경로와 같은 색인으로 거르고, 순서는 커서(lecturePriceId) 순
+    public List<LecturePrice> findLecturePricesByZoneAndSearch(User _user, Address zone, LectureListRequest request, Long lastLecturePriceId, int limit) {
 
-        lecturePrices = query.fetchResults();
-        return new PageImpl<>(lecturePrices.getResults(), pageable, lecturePrices.getTotal());
+        Map<Long, Double> keywordScores = searchKeyword(request);
+        if (keywordScores != null && keywordScores.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return selectLecturePrices()
+                .where(getZoneAndSearchCondition(_user, zone, request, keywordCondition(request, keywordScores)), lecturePrice.id.gt(lastLecturePriceId))
+                .limit(limit)
+                .orderBy(lecturePrice.id.asc())
+                .fetch();
     }
 
+        // 검색어가 없거나 검색어 색인 전이면 null
+        private Map<Long, Double> searchKeyword(LectureListRequest request) {
+            return lectureTextSearchRepository.search(request != null ? request.getKeyword() : null);
+        }
+
+        // 검색어 조건 : 색인에서 찾은 강의, 기동 후 색인 전이면 LIKE
+        private BooleanExpression keywordCondition(LectureListRequest request, Map<Long, Double> keywordScores) {
+            if (keywordScores != null) {
+                return inLectures(keywordScores);
+            }
+            return containsKeyword(request != null ? request.getKeyword() : null);
+        }
+
+        private JPAQuery<LecturePrice> selectLecturePrices() {
+            return jpaQueryFactory.selectFrom(lecturePrice)
+                    .innerJoin(lecturePrice.lecture, lecture)
+                    .fetchJoin()
+                    .innerJoin(lecture.mentor, mentor)
+                    .fetchJoin()
+                    .innerJoin(mentor.user, user)
+                    .fetchJoin();
+        }
+
+        // count 용 : fetch join 없이 id 만
+        private JPAQuery<Long> countLecturePrices() {
+            return jpaQueryFactory.select(lecturePrice.id)
+                    .from(lecturePrice)
+                    .innerJoin(lecturePrice.lecture, lecture)
+                    .innerJoin(lecture.mentor, mentor)
+                    .innerJoin(mentor.user, user);
+        }
+
+        // keywordCondition : 검색어 조건 (keywordCondition(), 검색어 색인의 배치), 검색어가 없으면 null
+        private BooleanBuilder getZoneAndSearchCondition(User _user, Address zone, LectureListRequest request, BooleanExpression keywordCondition) {
+
+            BooleanBuilder condition = new BooleanBuilder()
+                    .and(eqApproved(true))
+                    .and(eqClosed(false))
+                    // 자신의 강의인 경우 - 강의 목록에서 제외
+                    .and(mentor.user.ne(_user));
+
+            if (request != null) {
+                condition.and(eqTitle(request.getTitle()))
+                        .and(keywordCondition)
+                        .and(inSubjects(request.getSubjects()))
+                        // .and(eqSystemType(request.getSystemType()))
+                        .and(eqIsGroup(request.getIsGroup()))
+                        .and(inDifficultyType(request.getDifficultyTypes()));
+
+                if (request.getSystemType() == null) {
+                    // 온라인 전체 + 오프라인(zone)
+                    condition.and(eqSystemType(SystemType.ONLINE)
+                            .or(eqSystemType(SystemType.OFFLINE).and(eqState(zone.getState())).and(eqSiGunGu(zone.getSiGunGu()))));
+
+                } else if (request.getSystemType() == SystemType.ONLINE) {
+                    // 온라인 전체
+                    condition.and(eqSystemType(SystemType.ONLINE));
+
+                } else if (request.getSystemType() == SystemType.OFFLINE) {
+                    // 오프라인(zone)
+                    if (zone != null) {
+                        condition.and(eqState(zone.getState()))
+                                .and(eqSiGunGu(zone.getSiGunGu()));
+                    }
+                    condition.and(eqSystemType(SystemType.OFFLINE));
+                }
+            }
+            return condition;
+        }
+
     // TODO - 제네릭 사용해서 util로 변경
     private BooleanExpression eqTitle(String title) {
         if (StringUtils.isBlank(title)) {
@@ -139,6 +319,27 @@ public class LectureSearchRepository {
         return lecture.title.eq(title);
     }
 
+    // 검색어 색인의 결과는 최대 LectureTextIndex.MAX_RESULTS 개 : IN 하나
+    private BooleanExpression inLectures(Map<Long, Double> keywordScores) {
+        return lecture.id.in(keywordScores.keySet());
+    }
+
+    // 검색어 색인 전 : 단어마다 제목, 부제목, 소개, 과목명 중 하나에 포함
+    private BooleanExpression containsKeyword(String keyword) {
+        if (StringUtils.isBlank(keyword)) {
+            return null;
+        }
+        BooleanExpression condition = null;
+        for (String word : StringUtils.split(keyword)) {
+            BooleanExpression contains = lecture.title.containsIgnoreCase(word)
+                    .or(lecture.subTitle.containsIgnoreCase(word))
+                    .or(lecture.introduce.containsIgnoreCase(word))
+                    .or(lecture.lectureSubjects.any().subject.krSubject.containsIgnoreCase(word));
+            condition = condition == null ? contains : condition.and(contains);
+        }
+        return condition;
+    }
+
     private BooleanExpression startsWithTitle(String title) {
         if (StringUtils.isBlank(title)) {
             return null;
@@ -157,7 +358,8 @@ public class LectureSearchRepository {
         if (Objects.isNull(systemType)) {
             return null;
         }
-        return lecture.systems.contains(systemType);
+        // lecture_system_type 서브쿼리 대신 lecture.system_mask 인덱스
+        return lecture.systemMask.in(SystemType.masksContaining(systemType));
     }
 
     private BooleanExpression eqIsGroup(Boolean isGroup) {
@@ -181,24 +383,38 @@ public class LectureSearchRepository {
         return lecture.mentor.eq(mentor);
     }
 
-    public Page<LecturePrice> findLecturePricesByMentor(Mentor _mentor, Pageable pageable) {
-
-        QueryResults<LecturePrice> lecturePrices = jpaQueryFactory.selectFrom(lecturePrice)
+    // LectureCatalogRepository 에서 검색한 현재 페이지
+    public List<LecturePrice> findLecturePricesByIds(List<Long> lecturePriceIds) {
+        return jpaQueryFactory.selectFrom(lecturePrice)
                 .innerJoin(lecturePrice.lecture, lecture)
                 .fetchJoin()
                 .innerJoin(lecture.mentor, mentor)
                 .fetchJoin()
                 .innerJoin(mentor.user, user)
                 .fetchJoin()
+                .where(lecturePrice.id.in(lecturePriceIds))
+                .fetch();
+    }
+
+    public Page<LecturePrice> findLecturePricesByMentor(Mentor _mentor, Pageable pageable) {
+
+        List<LecturePrice> lecturePrices = selectLecturePrices()
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .where(eqMentor(_mentor),
                         eqApproved(true),
                         eqClosed(false))
                 .orderBy(lecturePrice.id.asc())
-                .fetchResults();
+                .fetch();
 
-        return new PageImpl<>(lecturePrices.getResults(), pageable, lecturePrices.getTotal());
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(lecturePrice.id)
+                .from(lecturePrice)
+                .innerJoin(lecturePrice.lecture, lecture)
+                .where(eqMentor(_mentor),
+                        eqApproved(true),
+                        eqClosed(false));
+        return pageCounter.getPage(lecturePrices, pageable,
+                PageCountKey.of("lecture.mentor", _mentor).dependsOn(LecturePrice.class, Lecture.class), countQuery);
     }
 
     public LecturePrice findLecturePriceByMentor(Mentor _mentor, Long lectureId, Long lecturePriceId) {
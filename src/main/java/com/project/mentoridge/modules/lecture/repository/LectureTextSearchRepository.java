@@ -0,0 +1,221 @@
+package com.project.mentoridge.modules.lecture.repository;
+
+import com.project.mentoridge.modules.base.EntityChangedEvent;
+import com.project.mentoridge.modules.lecture.repository.catalog.LectureTextIndex;
+import com.project.mentoridge.modules.lecture.vo.Lecture;
+import com.project.mentoridge.modules.lecture.vo.LectureSubject;
+import com.project.mentoridge.modules.lecture.vo.QLecture;
+import com.project.mentoridge.modules.lecture.vo.QLectureSubject;
+import com.project.mentoridge.modules.subject.vo.QSubject;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 검색어(keyword) 색인 (LectureTextIndex) - 강의 목록의 모든 경로(LectureSearchRepository 페이지/커서, LectureCatalogRepository)가 같은 색인 사용
+ * - 기동 시(ApplicationReadyEvent) 색인, 색인 전(isReady() == false)에는 검색하는 쪽에서 LIKE 조건으로 대신
+ * - Lecture(제목, 부제목, 소개), LectureSubject 변경을 EntityChangedEvent 로 받아서 커밋 후 주기적으로 해당 강의만 다시 색인 (검색 요청에서는 색인하지 않음)
+ * - 승인, 모집 여부는 검색하는 쪽의 조건으로 거르므로 모든 강의를 색인
+ * - 누락 대비 주기적으로 전체 재색인
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class LectureTextSearchRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final PlatformTransactionManager transactionManager;
+
+    private final QLecture lecture = QLecture.lecture;
+    private final QLectureSubject lectureSubject = QLectureSubject.lectureSubject;
+    private final QSubject subject = QSubject.subject;
+
+    private final LectureTextIndex index = new LectureTextIndex();
+    private volatile boolean ready;
+
+    // 커밋된 변경 : 다음 refresh 에서 다시 색인
+    private final Queue<Long> changedLectureIds = new ConcurrentLinkedQueue<>();
+    // 조회 + 반영을 한 번에 하나씩 : 먼저 조회한 (이전) 상태가 나중에 반영되지 않도록
+    private final Lock refreshLock = new ReentrantLock();
+    // 재색인 중에 반영된 변경 : 재색인 결과(먼저 조회한 상태)로 덮어써지므로 재색인 후 다시 반영
+    private Set<Long> replayLectureIds;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // LectureCatalogIndex 와 공유
+    public LectureTextIndex getIndex() {
+        return index;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${mentoridge-config.lecture.text-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${mentoridge-config.lecture.text-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("[lecture-text] rebuild failed", e);
+        }
+    }
+
+        // 재색인은 한 번에 하나씩 (기동 시, 주기적 재색인)
+        private synchronized void load() {
+
+            refreshLock.lock();
+            try {
+                // 아직 반영하지 않은 변경도 재색인 후 다시 반영 (재색인이 실패해도 남도록)
+                replayLectureIds = drain(changedLectureIds);
+            } finally {
+                refreshLock.unlock();
+            }
+
+            try {
+                List<LectureTextIndex.Document> documents = readOnlyTransaction.execute(status -> findDocuments(null));
+                refreshLock.lock();
+                try {
+                    index.rebuild(documents);
+                } finally {
+                    refreshLock.unlock();
+                }
+                ready = true;
+                log.info("[lecture-text] rebuilt - size : {}", index.getSize());
+            } finally {
+                refreshLock.lock();
+                try {
+                    changedLectureIds.addAll(replayLectureIds);
+                    replayLectureIds = null;
+                } finally {
+                    refreshLock.unlock();
+                }
+            }
+        }
+
+    /**
+     * 커밋된 변경을 반영 - 색인 전에는 재색인(load)이 반영하므로 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${mentoridge-config.lecture.text-index.refresh-interval-ms:1000}")
+    public void refresh() {
+
+        if (!ready || changedLectureIds.isEmpty()) {
+            return;
+        }
+
+        refreshLock.lock();
+        try {
+            Set<Long> lectureIds = drain(changedLectureIds);
+            if (lectureIds.isEmpty()) {
+                return;
+            }
+            if (replayLectureIds != null) {
+                replayLectureIds.addAll(lectureIds);
+            }
+            try {
+                index.replace(lectureIds, readOnlyTransaction.execute(status -> findDocuments(lecture.id.in(lectureIds))));
+            } catch (Exception e) {
+                // 다음 refresh 에서 다시 시도
+                changedLectureIds.addAll(lectureIds);
+                log.error("[lecture-text] refresh failed", e);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * @return 검색어의 모든 토큰을 포함하는 강의의 BM25 점수 (LectureTextIndex.search 순서, 최대 MAX_RESULTS 개), 검색어가 없거나 색인 전이면 null
+     */
+    public Map<Long, Double> search(String keyword) {
+
+        if (StringUtils.isBlank(keyword) || !ready) {
+            return null;
+        }
+        return index.search(keyword);
+    }
+
+        private static Set<Long> drain(Queue<Long> queue) {
+            Set<Long> ids = new HashSet<>();
+            Long id;
+            while ((id = queue.poll()) != null) {
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        private List<LectureTextIndex.Document> findDocuments(BooleanExpression condition) {
+
+            List<Tuple> lectures = jpaQueryFactory.select(lecture.id, lecture.title, lecture.subTitle, lecture.introduce)
+                    .from(lecture)
+                    .where(condition)
+                    .fetch();
+            if (lectures.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Long> lectureIds = lectures.stream().map(tuple -> tuple.get(lecture.id)).collect(Collectors.toList());
+            Map<Long, List<String>> subjects = new HashMap<>();
+            for (List<Long> chunk : chunks(lectureIds)) {
+                for (Tuple tuple : jpaQueryFactory.select(lectureSubject.lecture.id, subject.krSubject)
+                        .from(lectureSubject)
+                        .innerJoin(lectureSubject.subject, subject)
+                        .where(lectureSubject.lecture.id.in(chunk))
+                        .fetch()) {
+                    subjects.computeIfAbsent(tuple.get(lectureSubject.lecture.id), k -> new ArrayList<>()).add(tuple.get(subject.krSubject));
+                }
+            }
+
+            return lectures.stream().map(tuple -> new LectureTextIndex.Document(tuple.get(lecture.id),
+                    tuple.get(lecture.title), tuple.get(lecture.subTitle), tuple.get(lecture.introduce),
+                    subjects.get(tuple.get(lecture.id)))).collect(Collectors.toList());
+        }
+
+        private static List<List<Long>> chunks(List<Long> ids) {
+            final int chunkSize = 1000;
+            List<List<Long>> chunks = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i += chunkSize) {
+                chunks.add(ids.subList(i, Math.min(ids.size(), i + chunkSize)));
+            }
+            return chunks;
+        }
+
+    // 커밋된 변경만 큐로 (롤백되면 호출되지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void changed(EntityChangedEvent event) {
+
+        Object entity = event.getEntity();
+        if (entity instanceof Lecture && event.isDirty("title", "subTitle", "introduce", "lectureSubjects")) {
+            changedLectureIds.add(((Lecture) entity).getId());
+        } else if (entity instanceof LectureSubject && ((LectureSubject) entity).getLecture() != null) {
+            changedLectureIds.add(((LectureSubject) entity).getLecture().getId());
+        }
+    }
+}
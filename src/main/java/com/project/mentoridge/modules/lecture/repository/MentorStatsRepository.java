@@ -0,0 +1,16 @@
+package com.project.mentoridge.modules.lecture.repository;
+
+import com.project.mentoridge.modules.lecture.vo.MentorStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface MentorStatsRepository extends JpaRepository<MentorStats, Long> {
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "delete from MentorStats s where not exists (select t.id from Mentor t where t.id = s.mentorId)")
+    int deleteOrphans();
+}
@@ -0,0 +1,44 @@
+package com.project.mentoridge.modules.lecture.repository.catalog;
+
+import com.project.mentoridge.modules.lecture.enums.DifficultyType;
+import com.project.mentoridge.modules.lecture.enums.SystemType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+
+// 목록 검색에 필요한 LecturePrice 한 건의 속성 (승인 + 모집 중인 것만 색인)
+@ToString
+@Getter
+public class LectureCatalogEntry {
+
+    private final Long lecturePriceId;
+    private final Long lectureId;
+    private final Long mentorUserId;
+    private final String title;
+    private final List<String> subjects;
+    private final DifficultyType difficulty;
+    private final List<SystemType> systems;
+    private final boolean isGroup;
+    // 멘토 지역
+    private final String state;
+    private final String siGunGu;
+
+    @Builder(access = AccessLevel.PUBLIC)
+    private LectureCatalogEntry(Long lecturePriceId, Long lectureId, Long mentorUserId, String title, List<String> subjects,
+                                DifficultyType difficulty, List<SystemType> systems, boolean isGroup, String state, String siGunGu) {
+        this.lecturePriceId = lecturePriceId;
+        this.lectureId = lectureId;
+        this.mentorUserId = mentorUserId;
+        this.title = title;
+        this.subjects = subjects != null ? subjects : Collections.emptyList();
+        this.difficulty = difficulty;
+        this.systems = systems != null ? systems : Collections.emptyList();
+        this.isGroup = isGroup;
+        this.state = state;
+        this.siGunGu = siGunGu;
+    }
+}
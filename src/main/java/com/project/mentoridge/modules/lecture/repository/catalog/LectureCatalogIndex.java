@@ -0,0 +1,425 @@
+package com.project.mentoridge.modules.lecture.repository.catalog;
+
+import com.project.mentoridge.modules.address.embeddable.Address;
+import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
+import com.project.mentoridge.modules.lecture.enums.DifficultyType;
+import com.project.mentoridge.modules.lecture.enums.LectureSortType;
+import com.project.mentoridge.modules.lecture.enums.SystemType;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 강의 목록(LectureSearchRepository.findLecturePricesByZoneAndSearch) 용 메모리 색인
+ * - LecturePrice 하나가 slot 하나, 속성 값마다 BitSet 을 두고 검색 조건은 BitSet 교집합/합집합으로 계산
+ * - slot 순서 = lecturePriceId 오름차순 : 결과를 정렬 없이 slot 순서로 페이징
+ * - 삭제된 slot 은 비워두고 (같은 id 가 다시 들어오면 재사용), 빈 slot 이 많아지거나 id 순서가 어긋나면 메모리 안에서 다시 구성
+ * - 검색어(keyword)는 강의 단위 역색인(LectureTextIndex, LectureSearchRepository 와 같은 색인)으로 찾아 다른 조건과 교집합, 결과는 BM25 점수 순
+ * - 인기순(sort=popular)은 LecturePopularityIndex 의 점수 순서대로 결과에 포함된 slot 만 골라서 페이징
+ */
+public class LectureCatalogIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private LectureCatalogEntry[] entries = new LectureCatalogEntry[0];
+    private int size;
+    private long maxLecturePriceId;
+
+    private final BitSet live = new BitSet();
+    private final BitSet group = new BitSet();
+    private final Map<String, BitSet> byTitle = new HashMap<>();
+    private final Map<String, BitSet> bySubject = new HashMap<>();
+    private final Map<DifficultyType, BitSet> byDifficulty = new EnumMap<>(DifficultyType.class);
+    private final Map<SystemType, BitSet> bySystem = new EnumMap<>(SystemType.class);
+    private final Map<String, BitSet> byState = new HashMap<>();
+    private final Map<String, BitSet> bySiGunGu = new HashMap<>();
+    private final Map<Long, BitSet> byMentorUser = new HashMap<>();
+    private final Map<Long, BitSet> byLecture = new HashMap<>();
+    private final LectureTextIndex textIndex;
+
+    @Getter
+    public static class Result {
+
+        private final List<Long> lecturePriceIds;
+        private final long total;
+
+        Result(List<Long> lecturePriceIds, long total) {
+            this.lecturePriceIds = lecturePriceIds;
+            this.total = total;
+        }
+    }
+
+    public LectureCatalogIndex(LectureTextIndex textIndex) {
+        this.textIndex = textIndex;
+    }
+
+    // 전체 교체
+    public void rebuild(Collection<LectureCatalogEntry> catalogEntries) {
+        lock.writeLock().lock();
+        try {
+            load(catalogEntries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * lectureIds 의 강의, mentorUserIds 멘토의 강의를 모두 지우고 catalogEntries 로 교체
+     * (catalogEntries 는 위 조건으로 다시 조회한 현재 상태)
+     * - 이미 slot 이 있는 lecturePriceId 는 같은 slot 에 다시 넣고, 새 id 는 뒤에 붙인다
+     * - 새 id 가 기존 slot 사이에 들어가야 할 때만 다시 구성
+     */
+    public void replace(Set<Long> lectureIds, Set<Long> mentorUserIds, Collection<LectureCatalogEntry> catalogEntries) {
+
+        lock.writeLock().lock();
+        try {
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                LectureCatalogEntry entry = entries[slot];
+                if (lectureIds.contains(entry.getLectureId()) || mentorUserIds.contains(entry.getMentorUserId())) {
+                    remove(slot);
+                }
+            }
+
+            boolean ordered = true;
+            List<LectureCatalogEntry> added = new ArrayList<>();
+            for (LectureCatalogEntry entry : catalogEntries) {
+                int slot = slotOf(entry.getLecturePriceId());
+                if (slot >= 0) {
+                    // 비워둔 slot (ex. 수정, 모집 종료 후 다시 시작)
+                    if (live.get(slot)) {
+                        remove(slot);
+                    }
+                    put(slot, entry);
+                } else {
+                    ordered &= entry.getLecturePriceId() > maxLecturePriceId;
+                    added.add(entry);
+                }
+            }
+            if (!ordered || size - live.cardinality() > Math.max(64, size / 2)) {
+                // 기존 slot 사이에 들어가야 하거나 빈 slot 이 많으면 다시 구성
+                List<LectureCatalogEntry> all = getLiveEntries();
+                all.addAll(added);
+                load(all);
+                return;
+            }
+
+            added.sort(Comparator.comparing(LectureCatalogEntry::getLecturePriceId));
+            added.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+        private List<LectureCatalogEntry> getLiveEntries() {
+            List<LectureCatalogEntry> result = new ArrayList<>(live.cardinality());
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                result.add(entries[slot]);
+            }
+            return result;
+        }
+
+        private void load(Collection<LectureCatalogEntry> catalogEntries) {
+
+            entries = new LectureCatalogEntry[Math.max(16, catalogEntries.size())];
+            size = 0;
+            maxLecturePriceId = 0;
+            live.clear();
+            group.clear();
+            byTitle.clear();
+            bySubject.clear();
+            byDifficulty.clear();
+            bySystem.clear();
+            byState.clear();
+            bySiGunGu.clear();
+            byMentorUser.clear();
+            byLecture.clear();
+
+            List<LectureCatalogEntry> sorted = new ArrayList<>(catalogEntries);
+            sorted.sort(Comparator.comparing(LectureCatalogEntry::getLecturePriceId));
+            sorted.forEach(this::add);
+        }
+
+        private void add(LectureCatalogEntry entry) {
+
+            if (size == entries.length) {
+                LectureCatalogEntry[] grown = new LectureCatalogEntry[size * 2];
+                System.arraycopy(entries, 0, grown, 0, size);
+                entries = grown;
+            }
+            int slot = size++;
+            maxLecturePriceId = Math.max(maxLecturePriceId, entry.getLecturePriceId());
+            put(slot, entry);
+        }
+
+        private void put(int slot, LectureCatalogEntry entry) {
+
+            entries[slot] = entry;
+            live.set(slot);
+            if (entry.isGroup()) {
+                group.set(slot);
+            }
+            bits(byTitle, entry.getTitle()).set(slot);
+            entry.getSubjects().forEach(subject -> bits(bySubject, subject).set(slot));
+            if (entry.getDifficulty() != null) {
+                bits(byDifficulty, entry.getDifficulty()).set(slot);
+            }
+            entry.getSystems().forEach(system -> bits(bySystem, system).set(slot));
+            bits(byState, entry.getState()).set(slot);
+            bits(bySiGunGu, entry.getSiGunGu()).set(slot);
+            bits(byMentorUser, entry.getMentorUserId()).set(slot);
+            bits(byLecture, entry.getLectureId()).set(slot);
+        }
+
+        // 값별 BitSet 은 비워도 남겨둔다 (다시 구성할 때 정리)
+        private void remove(int slot) {
+
+            LectureCatalogEntry entry = entries[slot];
+            live.clear(slot);
+            group.clear(slot);
+            clear(byTitle, entry.getTitle(), slot);
+            entry.getSubjects().forEach(subject -> clear(bySubject, subject, slot));
+            if (entry.getDifficulty() != null) {
+                clear(byDifficulty, entry.getDifficulty(), slot);
+            }
+            entry.getSystems().forEach(system -> clear(bySystem, system, slot));
+            clear(byState, entry.getState(), slot);
+            clear(bySiGunGu, entry.getSiGunGu(), slot);
+            clear(byMentorUser, entry.getMentorUserId(), slot);
+            clear(byLecture, entry.getLectureId(), slot);
+        }
+
+        private static <K> BitSet bits(Map<K, BitSet> map, K key) {
+            return map.computeIfAbsent(key, k -> new BitSet());
+        }
+
+        private static <K> void clear(Map<K, BitSet> map, K key, int slot) {
+            BitSet bits = map.get(key);
+            if (bits != null) {
+                bits.clear(slot);
+            }
+        }
+
+    public boolean containsMentorUser(Long userId) {
+        lock.readLock().lock();
+        try {
+            BitSet bits = byMentorUser.get(userId);
+            return bits != null && !bits.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Result search(Long excludeMentorUserId, Address zone, LectureListRequest request, long offset, int limit) {
+        return search(excludeMentorUserId, zone, request, offset, limit, null);
+    }
+
+    /**
+     * LectureSearchRepository.findLecturePricesByZoneAndSearch 와 같은 조건
+     * @param excludeMentorUserId 자신의 강의는 목록에서 제외
+     * @param popularity 인기순 정렬에 사용, null 이면 sort=popular 도 기본 순서
+     */
+    public Result search(Long excludeMentorUserId, Address zone, LectureListRequest request, long offset, int limit,
+                         LecturePopularityIndex popularity) {
+
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) live.clone();
+            if (excludeMentorUserId != null) {
+                andNot(result, byMentorUser.get(excludeMentorUserId));
+            }
+
+            if (request != null) {
+                if (StringUtils.isNotBlank(request.getTitle())) {
+                    and(result, byTitle.get(request.getTitle()));
+                }
+                if (!CollectionUtils.isEmpty(request.getSubjects())) {
+                    result.and(union(bySubject, request.getSubjects()));
+                }
+                if (request.getIsGroup() != null) {
+                    if (request.getIsGroup()) {
+                        result.and(group);
+                    } else {
+                        result.andNot(group);
+                    }
+                }
+                if (!CollectionUtils.isEmpty(request.getDifficultyTypes())) {
+                    result.and(union(byDifficulty, request.getDifficultyTypes()));
+                }
+
+                if (request.getSystemType() == null) {
+                    // 온라인 전체 + 오프라인(zone)
+                    BitSet offline = copy(bySystem.get(SystemType.OFFLINE));
+                    andZone(offline, zone);
+                    offline.or(copy(bySystem.get(SystemType.ONLINE)));
+                    result.and(offline);
+
+                } else if (request.getSystemType() == SystemType.ONLINE) {
+                    // 온라인 전체
+                    and(result, bySystem.get(SystemType.ONLINE));
+
+                } else if (request.getSystemType() == SystemType.OFFLINE) {
+                    // 오프라인(zone)
+                    andZone(result, zone);
+                    and(result, bySystem.get(SystemType.OFFLINE));
+                }
+            }
+
+            Map<Long, Double> scores = null;
+            if (request != null && StringUtils.isNotBlank(request.getKeyword())) {
+                scores = textIndex.search(request.getKeyword());
+                BitSet matched = new BitSet();
+                for (Long lectureId : scores.keySet()) {
+                    BitSet bits = byLecture.get(lectureId);
+                    if (bits != null) {
+                        matched.or(bits);
+                    }
+                }
+                result.and(matched);
+            }
+            if (popularity != null && request != null && request.getSort() == LectureSortType.POPULAR) {
+                return rank(result, popularity, offset, limit);
+            }
+            if (scores != null) {
+                return rank(result, scores, offset, limit);
+            }
+
+            List<Long> lecturePriceIds = new ArrayList<>(limit);
+            long skipped = 0;
+            for (int slot = result.nextSetBit(0); slot >= 0 && lecturePriceIds.size() < limit; slot = result.nextSetBit(slot + 1)) {
+                if (skipped++ < offset) {
+                    continue;
+                }
+                lecturePriceIds.add(entries[slot].getLecturePriceId());
+            }
+            return new Result(lecturePriceIds, result.cardinality());
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+        // 점수 내림차순, 같은 점수는 lecturePriceId 오름차순
+        private Result rank(BitSet result, Map<Long, Double> scores, long offset, int limit) {
+
+            List<Integer> slots = new ArrayList<>(result.cardinality());
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                slots.add(slot);
+            }
+            slots.sort(Comparator.<Integer>comparingDouble(slot -> scores.get(entries[slot].getLectureId())).reversed()
+                    .thenComparing(Comparator.naturalOrder()));
+
+            List<Long> lecturePriceIds = new ArrayList<>(limit);
+            for (int i = (int) Math.min(offset, slots.size()); i < slots.size() && lecturePriceIds.size() < limit; i++) {
+                lecturePriceIds.add(entries[slots.get(i)].getLecturePriceId());
+            }
+            return new Result(lecturePriceIds, slots.size());
+        }
+
+        // 점수 있는 slot 을 점수 순으로, 그 다음 점수 없는 slot 을 slot 순으로 (결과 전체를 정렬하지 않음)
+        private Result rank(BitSet result, LecturePopularityIndex popularity, long offset, int limit) {
+
+            List<Long> lecturePriceIds = new ArrayList<>(limit);
+            BitSet ranked = new BitSet();
+            long[] skipped = {0};
+            popularity.forEachRanked(lecturePriceId -> {
+                int slot = slotOf(lecturePriceId);
+                if (slot < 0 || !result.get(slot)) {
+                    return true;
+                }
+                ranked.set(slot);
+                if (skipped[0]++ >= offset) {
+                    lecturePriceIds.add(lecturePriceId);
+                }
+                return lecturePriceIds.size() < limit;
+            });
+
+            for (int slot = result.nextSetBit(0); slot >= 0 && lecturePriceIds.size() < limit; slot = result.nextSetBit(slot + 1)) {
+                if (ranked.get(slot) || skipped[0]++ < offset) {
+                    continue;
+                }
+                lecturePriceIds.add(entries[slot].getLecturePriceId());
+            }
+            return new Result(lecturePriceIds, result.cardinality());
+        }
+
+        // slot 은 lecturePriceId 오름차순 (비워둔 slot 포함)
+        private int slotOf(Long lecturePriceId) {
+
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midId = entries[mid].getLecturePriceId();
+                if (midId < lecturePriceId) {
+                    low = mid + 1;
+                } else if (midId > lecturePriceId) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        private void andZone(BitSet bits, Address zone) {
+            if (zone == null) {
+                return;
+            }
+            if (StringUtils.isNotBlank(zone.getState())) {
+                and(bits, byState.get(zone.getState()));
+            }
+            if (StringUtils.isNotBlank(zone.getSiGunGu())) {
+                and(bits, bySiGunGu.get(zone.getSiGunGu()));
+            }
+        }
+
+        private static void and(BitSet bits, BitSet other) {
+            if (other == null) {
+                bits.clear();
+            } else {
+                bits.and(other);
+            }
+        }
+
+        private static void andNot(BitSet bits, BitSet other) {
+            if (other != null) {
+                bits.andNot(other);
+            }
+        }
+
+        private static BitSet copy(BitSet bits) {
+            return bits == null ? new BitSet() : (BitSet) bits.clone();
+        }
+
+        private static <K> BitSet union(Map<K, BitSet> map, List<K> keys) {
+            BitSet union = new BitSet();
+            for (K key : keys) {
+                BitSet bits = map.get(key);
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            return union;
+        }
+}
@@ -0,0 +1,138 @@
+package com.project.mentoridge.modules.lecture.repository.catalog;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 강의 목록 인기순 정렬용 LecturePrice 점수 (점수 내림차순, 같은 점수는 lecturePriceId 오름차순)
+ * - 활동(수강 확인, 좋아요, 리뷰) 하나의 점수 = 가중치 * 2^(-경과 시간 / 반감기)
+ * - 점수는 기준 시각(referenceTime)으로 환산해서 저장 : 모든 점수가 같은 비율로 줄어들므로 시간이 지나도 순서가 바뀌지 않고,
+ *   활동이 생긴 LecturePrice 만 점수를 바꿔 넣으면 된다 (전체를 다시 정렬하지 않음)
+ * - 환산 값이 계속 커지므로 기준 시각을 옮길 때는 새 색인으로 다시 구성
+ */
+public class LecturePopularityIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final long referenceTime;
+    private final double decayPerMs;
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Long> ranked = new TreeSet<>(Comparator.<Long>comparingDouble(scores::get).reversed()
+            .thenComparing(Comparator.naturalOrder()));
+
+    public LecturePopularityIndex(long referenceTime, long halfLifeMs) {
+        this.referenceTime = referenceTime;
+        this.decayPerMs = Math.log(2) / halfLifeMs;
+    }
+
+    /**
+     * @param at 활동 시각 (epoch millis)
+     * @return at 에 생긴 가중치 1 짜리 활동의 점수 (기준 시각으로 환산)
+     */
+    public double weight(long at) {
+        return Math.exp(decayPerMs * (at - referenceTime));
+    }
+
+    // 점수가 0 이하이면 제외
+    public void put(Long lecturePriceId, double score) {
+        lock.writeLock().lock();
+        try {
+            update(lecturePriceId, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putAll(Map<Long, Double> lecturePriceScores) {
+        lock.writeLock().lock();
+        try {
+            lecturePriceScores.forEach(this::update);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+        // TreeSet 의 순서가 scores 를 따르므로 점수를 바꾸기 전에 빼고 다시 넣는다
+        private void update(Long lecturePriceId, double score) {
+
+            if (scores.containsKey(lecturePriceId)) {
+                ranked.remove(lecturePriceId);
+                scores.remove(lecturePriceId);
+            }
+            if (score > 0) {
+                scores.put(lecturePriceId, score);
+                ranked.add(lecturePriceId);
+            }
+        }
+
+    /**
+     * @return now 기준 점수, 없으면 0
+     */
+    public double getScore(Long lecturePriceId, long now) {
+        lock.readLock().lock();
+        try {
+            Double score = scores.get(lecturePriceId);
+            return score != null ? score * Math.exp(-decayPerMs * (now - referenceTime)) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 높은 순으로 lecturePriceId 를 넘긴다 - visitor 가 false 를 반환하면 중단
+     */
+    public void forEachRanked(Predicate<Long> visitor) {
+        lock.readLock().lock();
+        try {
+            for (Long lecturePriceId : ranked) {
+                if (!visitor.test(lecturePriceId)) {
+                    return;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 점수 높은 순서의 lecturePriceId (복사본 : 조회하는 동안 lock 을 잡지 않도록)
+     */
+    public List<Long> getRankedIds() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(ranked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인기순 정렬 (점수가 없는 LecturePrice 는 점수 있는 것 뒤에 lecturePriceId 오름차순)
+     */
+    public void sort(List<Long> lecturePriceIds) {
+        lock.readLock().lock();
+        try {
+            lecturePriceIds.sort(Comparator.<Long>comparingDouble(lecturePriceId -> scores.getOrDefault(lecturePriceId, 0.0)).reversed()
+                    .thenComparing(Comparator.naturalOrder()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.project.mentoridge.modules.lecture.repository.catalog;
+
+import com.project.mentoridge.utils.TokenizeUtil;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 강의 검색어(keyword) 용 역색인 - 강의(lectureId) 하나가 문서 하나
+ * - 색인 필드 : 제목, 부제목, 소개, 과목명 (필드별 가중치를 term frequency 에 곱함)
+ * - 한글은 음절 bigram (+ 한 글자 단어는 unigram), 그 외 문자/숫자는 단어 단위 (TokenizeUtil)
+ * - 검색어의 모든 토큰을 포함하는 강의만, BM25 점수로 정렬해서 상위 MAX_RESULTS 개
+ * - LectureTextSearchRepository 가 갱신하고, LectureSearchRepository 와 LectureCatalogIndex 가 같은 색인을 검색
+ */
+public class LectureTextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 검색 결과(후보 강의) 수 제한 : 검색하는 쪽의 IN 절, 정렬 크기가 검색어에 따라 커지지 않도록
+    public static final int MAX_RESULTS = 1000;
+
+    static final int TITLE_WEIGHT = 3;
+    static final int SUB_TITLE_WEIGHT = 2;
+    static final int SUBJECT_WEIGHT = 2;
+    static final int INTRODUCE_WEIGHT = 1;
+
+    // term -> lectureId -> (가중치 적용한) term frequency
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // lectureId -> term frequency (삭제 시 postings 정리용)
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Getter
+    public static class Document {
+
+        private final Long lectureId;
+        private final String title;
+        private final String subTitle;
+        private final String introduce;
+        private final List<String> subjects;
+
+        public Document(Long lectureId, String title, String subTitle, String introduce, List<String> subjects) {
+            this.lectureId = lectureId;
+            this.title = title;
+            this.subTitle = subTitle;
+            this.introduce = introduce;
+            this.subjects = subjects != null ? subjects : Collections.emptyList();
+        }
+    }
+
+    // 전체 교체
+    public void rebuild(Collection<Document> textDocuments) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            textDocuments.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * lectureIds 의 강의를 모두 지우고 documents 로 교체
+     * (textDocuments 는 lectureIds 로 다시 조회한 현재 상태, 삭제된 강의는 없음)
+     */
+    public void replace(Set<Long> lectureIds, Collection<Document> textDocuments) {
+        lock.writeLock().lock();
+        try {
+            lectureIds.forEach(this::delete);
+            textDocuments.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void add(Long lectureId, String title, String subTitle, String introduce, List<String> subjects) {
+        lock.writeLock().lock();
+        try {
+            put(new Document(lectureId, title, subTitle, introduce, subjects));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long lectureId) {
+        lock.writeLock().lock();
+        try {
+            delete(lectureId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long lectureId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(lectureId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+        private void put(Document document) {
+
+            Long lectureId = document.getLectureId();
+            delete(lectureId);
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            addField(frequencies, document.getTitle(), TITLE_WEIGHT);
+            addField(frequencies, document.getSubTitle(), SUB_TITLE_WEIGHT);
+            addField(frequencies, document.getIntroduce(), INTRODUCE_WEIGHT);
+            document.getSubjects().forEach(subject -> addField(frequencies, subject, SUBJECT_WEIGHT));
+
+            int length = 0;
+            for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+                postings.computeIfAbsent(frequency.getKey(), k -> new HashMap<>()).put(lectureId, frequency.getValue());
+                length += frequency.getValue();
+            }
+            documents.put(lectureId, frequencies);
+            lengths.put(lectureId, length);
+            totalLength += length;
+        }
+
+        private static void addField(Map<String, Integer> frequencies, String text, int weight) {
+            for (String token : tokenize(text)) {
+                frequencies.merge(token, weight, Integer::sum);
+            }
+        }
+
+        private void delete(Long lectureId) {
+
+            Map<String, Integer> frequencies = documents.remove(lectureId);
+            if (frequencies == null) {
+                return;
+            }
+            for (String term : frequencies.keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(lectureId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= lengths.remove(lectureId);
+        }
+
+        private void clear() {
+            postings.clear();
+            documents.clear();
+            lengths.clear();
+            totalLength = 0;
+        }
+
+    /**
+     * @return 검색어의 모든 토큰을 포함하는 강의의 BM25 점수 (lectureId 기준) - 점수 내림차순(같으면 lectureId 순), 최대 MAX_RESULTS 개
+     */
+    public Map<Long, Double> search(String keyword) {
+
+        Map<Long, Double> scores;
+        lock.readLock().lock();
+        try {
+            scores = find(keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, Double> ranked = new LinkedHashMap<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_RESULTS)
+                .forEach(score -> ranked.put(score.getKey(), score.getValue()));
+        return ranked;
+    }
+
+        private Map<Long, Double> find(String keyword) {
+
+            Set<String> terms = new LinkedHashSet<>(tokenize(keyword));
+            if (terms.isEmpty() || documents.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return Collections.emptyMap();
+                }
+                termPostings.add(posting);
+            }
+            // 가장 짧은 posting 부터 교집합
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long lectureId : termPostings.get(0).keySet()) {
+                double score = 0;
+                double normalization = K1 * (1 - B + B * lengths.get(lectureId) / averageLength);
+                for (Map<Long, Integer> posting : termPostings) {
+                    Integer frequency = posting.get(lectureId);
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    score += idf * frequency * (K1 + 1) / (frequency + normalization);
+                }
+                scores.put(lectureId, score);
+            }
+            return scores;
+        }
+
+    public static List<String> tokenize(String text) {
+        return TokenizeUtil.tokenize(text);
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.mentoridge.modules.lecture.repository.dto;
+
+import lombok.Data;
+
+@Data
+public class LectureStatsQueryDto {
+
+    private Long lectureId;
+    private Long lecturePriceId;
+    private Long mentorId;
+    private long enrollmentCount;
+    private long pickCount;
+    private long reviewCount;
+    private long scoreSum;
+    private Long mentorLectureCount;    // mentor_stats 가 없으면 null
+    private Long mentorReviewCount;
+
+    public LectureStatsQueryDto(Long lectureId, Long lecturePriceId, Long mentorId, long enrollmentCount, long pickCount,
+                                long reviewCount, long scoreSum, Long mentorLectureCount, Long mentorReviewCount) {
+        this.lectureId = lectureId;
+        this.lecturePriceId = lecturePriceId;
+        this.mentorId = mentorId;
+        this.enrollmentCount = enrollmentCount;
+        this.pickCount = pickCount;
+        this.reviewCount = reviewCount;
+        this.scoreSum = scoreSum;
+        this.mentorLectureCount = mentorLectureCount;
+        this.mentorReviewCount = mentorReviewCount;
+    }
+}
@@ -0,0 +1,294 @@
+package com.project.mentoridge.modules.lecture.service;
+
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.lecture.controller.response.EachLectureResponse;
+import com.project.mentoridge.modules.lecture.controller.response.LectureMentorResponse;
+import com.project.mentoridge.modules.lecture.controller.response.LectureResponse;
+import com.project.mentoridge.modules.lecture.vo.Lecture;
+import com.project.mentoridge.modules.lecture.vo.LecturePrice;
+import com.project.mentoridge.modules.lecture.vo.LectureSubject;
+import com.project.mentoridge.modules.purchase.vo.Enrollment;
+import com.project.mentoridge.modules.review.vo.MenteeReview;
+import com.project.mentoridge.modules.subject.vo.Subject;
+import com.project.mentoridge.modules.base.EntityChangedEvent;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 강의 상세(LectureResponse, EachLectureResponse) 조립 결과 캐시
+ * - lectureId / lecturePriceId 기준, 사용자별 필드(picked)는 캐시에 넣지 않고 조회 후 덧씌운다
+ * - 강의 수정/승인, 가격 모집 시작/종료, 리뷰 작성/삭제, 수강 확인, 멘토 프로필(닉네임, 사진) 변경을 EntityChangedEvent 로 받아서
+ *   flush 시점과 커밋 후에 해당 강의(멘토 단위 필드가 바뀌면 같은 멘토의 강의 전체)를 버린다 - 강의/멘토별 색인으로 해당 항목만 찾음
+ * - max-entries 를 넘으면 가장 오래 사용하지 않은 항목부터 버린다 (만료된 항목은 조회 시 버림)
+ * - 쓰기 트랜잭션 안에서는 캐시를 사용하지 않음 (flush 되지 않은 변경, 롤백될 변경)
+ */
+@Service
+public class LectureDetailCache {
+
+    @Value("${mentoridge-config.lecture.detail-cache.enabled:true}")
+    private boolean enabled;
+    @Value("${mentoridge-config.lecture.detail-cache.ttl-ms:600000}")
+    private long ttlMs;
+    @Value("${mentoridge-config.lecture.detail-cache.max-entries:10000}")
+    private int maxEntries;
+
+    // lectureId 기준
+    private final Region<LectureResponse> lectures = new Region<>();
+    // lecturePriceId 기준
+    private final Region<EachLectureResponse> eachLectures = new Region<>();
+    // 조회 중 무효화가 있었으면 조회 결과를 캐시하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    public LectureResponse getLectureResponse(Long lectureId, Supplier<LectureResponse> loader) {
+
+        if (!isCacheable()) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        Entry<LectureResponse> entry = lectures.get(lectureId, now);
+        if (entry != null) {
+            return entry.value;
+        }
+
+        long loadedAt = generation.get();
+        LectureResponse lectureResponse = loader.get();
+        put(lectures, lectureId, new Entry<>(lectureResponse, lectureId, lectureResponse.getLectureMentor(), now + ttlMs), loadedAt);
+        return lectureResponse;
+    }
+
+    /**
+     * @return 캐시된 응답은 공유되므로 사용자별 필드를 채우기 전에 복사할 것
+     */
+    public EachLectureResponse getEachLectureResponse(Long lectureId, Long lecturePriceId, Supplier<EachLectureResponse> loader) {
+
+        if (!isCacheable()) {
+            return loader.get();
+        }
+
+        long now = System.currentTimeMillis();
+        Entry<EachLectureResponse> entry = eachLectures.get(lecturePriceId, now);
+        if (entry != null && Objects.equals(entry.lectureId, lectureId)) {
+            return entry.value;
+        }
+
+        long loadedAt = generation.get();
+        EachLectureResponse eachLectureResponse = loader.get();
+        put(eachLectures, lecturePriceId, new Entry<>(eachLectureResponse, eachLectureResponse.getLectureId(),
+                eachLectureResponse.getLectureMentor(), now + ttlMs), loadedAt);
+        return eachLectureResponse;
+    }
+
+        private boolean isCacheable() {
+            return enabled && !(TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        }
+
+        private <T> void put(Region<T> region, Long id, Entry<T> entry, long loadedAt) {
+
+            if (generation.get() != loadedAt) {
+                return;
+            }
+            region.put(id, entry, maxEntries);
+        }
+
+    @EventListener
+    public void onFlush(EntityChangedEvent event) {
+        changed(event);
+    }
+
+    // 커밋 전에 다른 트랜잭션이 이전 값으로 캐시한 경우 대비 - 커밋 후 한 번 더
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterCommit(EntityChangedEvent event) {
+        changed(event);
+    }
+
+        private void changed(EntityChangedEvent event) {
+
+            if (!enabled) {
+                return;
+            }
+
+            Object entity = event.getEntity();
+            Invalidation invalidation = new Invalidation();
+            if (entity instanceof Lecture) {
+                // 생성/삭제 시 멘토의 강의 수가 바뀜
+                Lecture lecture = (Lecture) entity;
+                invalidation.lectureIds.add(lecture.getId());
+                invalidation.mentorIds.add(lecture.getMentor().getId());
+            } else if (entity instanceof LecturePrice) {
+                invalidation.lectureIds.add(((LecturePrice) entity).getLecture().getId());
+            } else if (entity instanceof LectureSubject) {
+                invalidation.lectureIds.add(((LectureSubject) entity).getLecture().getId());
+            } else if (entity instanceof Enrollment) {
+                invalidation.lectureIds.add(((Enrollment) entity).getLecture().getId());
+            } else if (entity instanceof MenteeReview) {
+                // 멘토의 리뷰 수가 바뀜 - 멘토를 알 수 없으면 (로딩되지 않은 강의) 전체
+                Lecture lecture = ((MenteeReview) entity).getLecture();
+                invalidation.lectureIds.add(lecture.getId());
+                if (Hibernate.isInitialized(lecture)) {
+                    invalidation.mentorIds.add(lecture.getMentor().getId());
+                } else {
+                    invalidation.all = true;
+                }
+            } else if (entity instanceof User) {
+                // 닉네임, 프로필사진 : 로그인(lastLoginAt) 등 다른 변경은 무시
+                if (event.getType() == EntityChangedEvent.Type.INSERT || !event.isDirty("nickname", "image")) {
+                    return;
+                }
+                invalidation.mentorUserIds.add(((User) entity).getId());
+            } else if (entity instanceof Subject) {
+                invalidation.all = true;
+            } else {
+                return;
+            }
+            invalidate(invalidation);
+        }
+
+        private void invalidate(Invalidation invalidation) {
+
+            generation.incrementAndGet();
+            lectures.invalidate(invalidation);
+            eachLectures.invalidate(invalidation);
+        }
+
+    public int getSize() {
+        return lectures.size() + eachLectures.size();
+    }
+
+    private static class Entry<T> {
+
+        private final T value;
+        private final Long lectureId;
+        private final Long mentorId;
+        private final Long mentorUserId;
+        private final long expiresAt;
+
+        private Entry(T value, Long lectureId, LectureMentorResponse lectureMentor, long expiresAt) {
+            this.value = value;
+            this.lectureId = lectureId;
+            this.mentorId = lectureMentor.getMentorId();
+            this.mentorUserId = lectureMentor.getMentorUserId();
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 응답 종류별 저장소 : 사용 순서(LRU)의 LinkedHashMap + 무효화용 색인 (lectureId, mentorId, mentorUserId -> 키)
+     * - LinkedHashMap(accessOrder)은 조회도 구조를 바꾸므로 모든 접근을 synchronized 로
+     */
+    private static class Region<T> {
+
+        private final LinkedHashMap<Long, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<Long, Set<Long>> byLecture = new HashMap<>();
+        private final Map<Long, Set<Long>> byMentor = new HashMap<>();
+        private final Map<Long, Set<Long>> byMentorUser = new HashMap<>();
+
+        private synchronized Entry<T> get(Long id, long now) {
+
+            Entry<T> entry = entries.get(id);
+            if (entry != null && entry.expiresAt <= now) {
+                remove(id);
+                return null;
+            }
+            return entry;
+        }
+
+        private synchronized void put(Long id, Entry<T> entry, int maxEntries) {
+
+            remove(id);
+            // 가장 오래 사용하지 않은 것부터
+            Iterator<Map.Entry<Long, Entry<T>>> eldest = entries.entrySet().iterator();
+            while (entries.size() >= maxEntries && eldest.hasNext()) {
+                Map.Entry<Long, Entry<T>> evicted = eldest.next();
+                eldest.remove();
+                unindex(evicted.getKey(), evicted.getValue());
+            }
+
+            entries.put(id, entry);
+            index(byLecture, entry.lectureId, id);
+            index(byMentor, entry.mentorId, id);
+            index(byMentorUser, entry.mentorUserId, id);
+        }
+
+        private synchronized void invalidate(Invalidation invalidation) {
+
+            if (invalidation.all) {
+                entries.clear();
+                byLecture.clear();
+                byMentor.clear();
+                byMentorUser.clear();
+                return;
+            }
+
+            Set<Long> ids = new HashSet<>();
+            collect(ids, byLecture, invalidation.lectureIds);
+            collect(ids, byMentor, invalidation.mentorIds);
+            collect(ids, byMentorUser, invalidation.mentorUserIds);
+            ids.forEach(this::remove);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+            private void remove(Long id) {
+                Entry<T> entry = entries.remove(id);
+                if (entry != null) {
+                    unindex(id, entry);
+                }
+            }
+
+            private void unindex(Long id, Entry<T> entry) {
+                removeIndex(byLecture, entry.lectureId, id);
+                removeIndex(byMentor, entry.mentorId, id);
+                removeIndex(byMentorUser, entry.mentorUserId, id);
+            }
+
+            private static void index(Map<Long, Set<Long>> index, Long value, Long id) {
+                if (value != null) {
+                    index.computeIfAbsent(value, k -> new HashSet<>()).add(id);
+                }
+            }
+
+            private static void removeIndex(Map<Long, Set<Long>> index, Long value, Long id) {
+                Set<Long> ids = value != null ? index.get(value) : null;
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    index.remove(value);
+                }
+            }
+
+            private static void collect(Set<Long> ids, Map<Long, Set<Long>> index, Collection<Long> values) {
+                for (Long value : values) {
+                    Set<Long> indexed = index.get(value);
+                    if (indexed != null) {
+                        ids.addAll(indexed);
+                    }
+                }
+            }
+    }
+
+    private static class Invalidation {
+
+        private final Set<Long> lectureIds = new HashSet<>();
+        private final Set<Long> mentorIds = new HashSet<>();
+        private final Set<Long> mentorUserIds = new HashSet<>();
+        private boolean all;
+    }
+}
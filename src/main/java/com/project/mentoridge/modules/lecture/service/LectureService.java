@@ -1,6 +1,7 @@
 package com.project.mentoridge.modules.lecture.service;
 
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.lecture.controller.request.LectureCreateRequest;
 import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
 import com.project.mentoridge.modules.lecture.controller.request.LectureUpdateRequest;
@@ -15,6 +16,7 @@ public interface LectureService {
     EachLectureResponse getEachLectureResponse(User user, Long lectureId, Long lecturePriceId);
 
     Page<EachLectureResponse> getEachLectureResponses(User user, String zone, LectureListRequest LectureListRequest, Integer page);
+    CursorResponse<EachLectureResponse> getEachLectureResponses(User user, String zone, LectureListRequest LectureListRequest, String cursor);
 
     Lecture createLecture(User user, LectureCreateRequest lectureCreateRequest);
 
@@ -3,14 +3,15 @@ package com.project.mentoridge.modules.lecture.service;
 import com.project.mentoridge.config.exception.EntityNotFoundException;
 import com.project.mentoridge.config.exception.UnauthorizedException;
 import com.project.mentoridge.modules.account.enums.RoleType;
-import com.project.mentoridge.modules.account.repository.MenteeRepository;
 import com.project.mentoridge.modules.account.repository.MentorRepository;
 import com.project.mentoridge.modules.account.repository.UserRepository;
-import com.project.mentoridge.modules.account.vo.Mentee;
 import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.address.embeddable.Address;
 import com.project.mentoridge.modules.address.util.AddressUtils;
 import com.project.mentoridge.modules.base.AbstractService;
+import com.project.mentoridge.modules.base.Cursor;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.lecture.controller.request.LectureCreateRequest;
 import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
 import com.project.mentoridge.modules.lecture.controller.request.LectureUpdateRequest;
@@ -18,6 +19,8 @@ import com.project.mentoridge.modules.lecture.controller.response.EachLectureRes
 import com.project.mentoridge.modules.lecture.controller.response.LectureMentorResponse;
 import com.project.mentoridge.modules.lecture.controller.response.LecturePriceResponse;
 import com.project.mentoridge.modules.lecture.controller.response.LectureResponse;
+import com.project.mentoridge.modules.lecture.repository.LectureCatalogRepository;
+import com.project.mentoridge.modules.lecture.repository.LecturePopularityRepository;
 import com.project.mentoridge.modules.lecture.repository.LecturePriceRepository;
 import com.project.mentoridge.modules.lecture.repository.LectureQueryRepository;
 import com.project.mentoridge.modules.lecture.repository.LectureRepository;
@@ -32,9 +35,7 @@ import com.project.mentoridge.modules.log.component.LecturePriceLogService;
 import com.project.mentoridge.modules.purchase.repository.EnrollmentRepository;
 import com.project.mentoridge.modules.purchase.repository.PickRepository;
 import com.project.mentoridge.modules.purchase.service.EnrollmentService;
-import com.project.mentoridge.modules.purchase.vo.Pick;
-import com.project.mentoridge.modules.review.repository.MenteeReviewRepository;
-import com.project.mentoridge.modules.review.vo.MenteeReview;
+import com.project.mentoridge.modules.purchase.service.PickedLecturePriceCache;
 import com.project.mentoridge.modules.subject.repository.SubjectRepository;
 import com.project.mentoridge.modules.subject.vo.Subject;
 import lombok.RequiredArgsConstructor;
@@ -56,17 +57,20 @@ public class LectureServiceImpl extends AbstractService implements LectureServic
     private final LectureRepository lectureRepository;
     private final LecturePriceRepository lecturePriceRepository;
     private final LectureSearchRepository lectureSearchRepository;
+    private final LectureCatalogRepository lectureCatalogRepository;
+    private final LecturePopularityRepository lecturePopularityRepository;
     private final LectureQueryRepository lectureQueryRepository;
+    private final LectureStatsService lectureStatsService;
+    private final LectureDetailCache lectureDetailCache;
     private final LectureLogService lectureLogService;
     private final LecturePriceLogService lecturePriceLogService;
 
     private final UserRepository userRepository;
-    private final MenteeRepository menteeRepository;
     private final MentorRepository mentorRepository;
     private final PickRepository pickRepository;
+    private final PickedLecturePriceCache pickedLecturePriceCache;
     private final EnrollmentService enrollmentService;
     private final EnrollmentRepository enrollmentRepository;
-    private final MenteeReviewRepository menteeReviewRepository;
     // private final MentorReviewRepository mentorReviewRepository;
     private final SubjectRepository subjectRepository;
 
@@ -88,42 +92,48 @@ public class LectureServiceImpl extends AbstractService implements LectureServic
     @Override
     public LectureResponse getLectureResponse(User user, Long lectureId) {
 
-        Lecture lecture = getLecture(lectureId);
-        LectureResponse lectureResponse = new LectureResponse(lecture);
-        List<LecturePriceResponse> lecturePrices = lecturePriceRepository.findByLecture(lecture).stream()
-                .map(LecturePriceResponse::new).collect(Collectors.toList());
-        lectureResponse.setLecturePrices(lecturePrices);
-        // TODO - 쿼리
-        setLectureReview(lectureResponse);
-        setLectureMentor(lectureResponse);
-        // 로그인한 경우 - 좋아요 여부 표시
-        // setPicked(user, lectureId, lectureResponse);
-
-        return lectureResponse;
+        // 사용자별 필드가 없으므로 캐시된 응답을 그대로 사용
+        return lectureDetailCache.getLectureResponse(lectureId, () -> {
+            Lecture lecture = getLecture(lectureId);
+            LectureResponse lectureResponse = new LectureResponse(lecture);
+            List<LecturePriceResponse> lecturePrices = lecturePriceRepository.findByLecture(lecture).stream()
+                    .map(LecturePriceResponse::new).collect(Collectors.toList());
+            lectureResponse.setLecturePrices(lecturePrices);
+            setLectureReview(lectureResponse);
+            setLectureMentor(lectureResponse.getLectureMentor(), lecture.getMentor());
+            // 로그인한 경우 - 좋아요 여부 표시
+            // setPicked(user, lectureId, lectureResponse);
+            return lectureResponse;
+        });
     }
 
     @Override
     public EachLectureResponse getEachLectureResponse(User user, Long lectureId, Long lecturePriceId) {
 
-        LecturePrice lecturePrice = lecturePriceRepository.findByLectureIdAndLecturePriceId(lectureId, lecturePriceId);
-        EachLectureResponse response = new EachLectureResponse(lecturePrice, lecturePrice.getLecture());
+        EachLectureResponse cached = lectureDetailCache.getEachLectureResponse(lectureId, lecturePriceId, () -> {
+            LecturePrice lecturePrice = lecturePriceRepository.findByLectureIdAndLecturePriceId(lectureId, lecturePriceId);
+            EachLectureResponse response = new EachLectureResponse(lecturePrice, lecturePrice.getLecture());
 /*
-        lectureQueryRepository.findLectureReviewQueryDto(lectureId, lecturePriceId).ifPresent(lectureReviewQueryDto -> {
-            response.setReviewCount(lectureReviewQueryDto.getReviewCount());
-            response.setScoreAverage(lectureReviewQueryDto.getScoreAverage());
-        });*/
-        Optional<LectureReviewQueryDto> optional = lectureQueryRepository.findLectureReviewQueryDto(lectureId, lecturePriceId);
-        if (optional.isPresent()) {
-            LectureReviewQueryDto lectureReviewQueryDto = optional.get();
-            response.setReviewCount(lectureReviewQueryDto.getReviewCount());
-            response.setScoreAverage(lectureReviewQueryDto.getScoreAverage());
-        } else {
-            response.setReviewCount(0L);
-            response.setScoreAverage(0.0);
-        }
-        setLectureMentor(response);
-        setPicked(user, lectureId, lecturePriceId, response);
+            lectureQueryRepository.findLectureReviewQueryDto(lectureId, lecturePriceId).ifPresent(lectureReviewQueryDto -> {
+                response.setReviewCount(lectureReviewQueryDto.getReviewCount());
+                response.setScoreAverage(lectureReviewQueryDto.getScoreAverage());
+            });*/
+            Optional<LectureReviewQueryDto> optional = lectureQueryRepository.findLectureReviewQueryDto(lectureId, lecturePriceId);
+            if (optional.isPresent()) {
+                LectureReviewQueryDto lectureReviewQueryDto = optional.get();
+                response.setReviewCount(lectureReviewQueryDto.getReviewCount());
+                response.setScoreAverage(lectureReviewQueryDto.getScoreAverage());
+            } else {
+                response.setReviewCount(0L);
+                response.setScoreAverage(0.0);
+            }
+            setLectureMentor(response.getLectureMentor(), lecturePrice.getLecture().getMentor());
+            return response;
+        });
 
+        // 캐시된 응답은 공유되므로 복사 후 사용자별 필드 표시
+        EachLectureResponse response = new EachLectureResponse(cached);
+        setPicked(user, lectureId, lecturePriceId, response);
         return response;
     }
 
@@ -137,123 +147,115 @@ public class LectureServiceImpl extends AbstractService implements LectureServic
         }
 
         // 2022.04.03 - 강의 가격별로 리스트 출력
-        Page<EachLectureResponse> lecturePrices = lectureSearchRepository.findLecturePricesByZoneAndSearch(
-                user, AddressUtils.convertStringToEmbeddableAddress(zone), lectureListRequest, getPageRequest(page))
-                .map(lecturePrice -> new EachLectureResponse(lecturePrice, lecturePrice.getLecture()));
-
-        // 컬렉션 조회 최적화
-        // - 컬렉션을 MAP 한방에 조회
-        List<Long> lectureIds = lecturePrices.stream().map(EachLectureResponse::getLectureId).collect(Collectors.toList());
-        List<Long> lecturePriceIds = lecturePrices.stream().map(lecturePrice -> lecturePrice.getLecturePrice().getLecturePriceId()).collect(Collectors.toList());
-
-        // 2022.04.18 - lecturePriceId 기준으로 enrollmentCount
-        Map<Long, Long> lectureEnrollmentQueryDtoMap = lectureQueryRepository.findLectureEnrollmentQueryDtoMap(lecturePriceIds);
-        // lecturePriceId 기준
-        Map<Long, Long> lecturePickQueryDtoMap = lectureQueryRepository.findLecturePickQueryDtoMap(lecturePriceIds);
-
-        // lectureId, lecturePriceId 기준
-        Map<Long, LectureReviewQueryDto> lectureReviewQueryDtoMap = lectureQueryRepository.findLectureReviewQueryDtoMap(lectureIds, lecturePriceIds);
-        // lectureId 기준
-        Map<Long, LectureMentorQueryDto> lectureMentorQueryDtoMap = lectureQueryRepository.findLectureMentorQueryDtoMap(lectureIds);
-        // picked 여부
-        Map<Long, Boolean> picked = getEachLecturePickedByUser(user, lecturePriceIds);
-
-        lecturePrices.forEach(eachLectureResponse -> {
-
-            Long lectureId = eachLectureResponse.getLectureId();
-            Long lecturePriceId = eachLectureResponse.getLecturePrice().getLecturePriceId();
-
-            if (lectureEnrollmentQueryDtoMap.size() != 0 && lectureEnrollmentQueryDtoMap.get(lecturePriceId) != null) {
-                eachLectureResponse.setEnrollmentCount(lectureEnrollmentQueryDtoMap.get(lecturePriceId));
-            } else {
-                eachLectureResponse.setEnrollmentCount(0L);
-            }
-
-            if (lecturePickQueryDtoMap.size() != 0 && lecturePickQueryDtoMap.get(lecturePriceId) != null) {
-                eachLectureResponse.setPickCount(lecturePickQueryDtoMap.get(lecturePriceId));
-            } else {
-                eachLectureResponse.setPickCount(0L);
-            }
-
-            LectureReviewQueryDto lectureReviewQueryDto = null;
-            if (lectureReviewQueryDtoMap.size() != 0 && lectureReviewQueryDtoMap.get(lecturePriceId) != null) {
-                lectureReviewQueryDto = lectureReviewQueryDtoMap.get(lecturePriceId);
-            }
-            if (lectureReviewQueryDto != null) {
-                eachLectureResponse.setReviewCount(lectureReviewQueryDto.getReviewCount());
-                eachLectureResponse.setScoreAverage(lectureReviewQueryDto.getScoreAverage());
-            } else {
-                eachLectureResponse.setReviewCount(0L);
-                eachLectureResponse.setScoreAverage(0.0);
-            }
+        // 메모리 색인이 준비되어 있으면 색인에서 검색 (DB 는 현재 페이지만 조회)
+        // 인기순은 메모리의 점수 순서 (색인이 없으면 점수 순서대로 조건에 맞는지 나눠서 확인)
+        Address address = AddressUtils.convertStringToEmbeddableAddress(zone);
+        Page<LecturePrice> lecturePricePage;
+        if (lectureCatalogRepository.isEnabled()) {
+            lecturePricePage = lectureCatalogRepository.findLecturePricesByZoneAndSearch(user, address, lectureListRequest, getPageRequest(page));
+        } else if (LecturePopularityRepository.isPopular(lectureListRequest) && lecturePopularityRepository.isEnabled()) {
+            lecturePricePage = lecturePopularityRepository.findLecturePricesByZoneAndSearch(user, address, lectureListRequest, getPageRequest(page));
+        } else {
+            lecturePricePage = lectureSearchRepository.findLecturePricesByZoneAndSearch(user, address, lectureListRequest, getPageRequest(page));
+        }
+        Map<Long, String> excerpts = getContentExcerpts(lecturePricePage.getContent());
+        Page<EachLectureResponse> lecturePrices = lecturePricePage
+                .map(lecturePrice -> new EachLectureResponse(lecturePrice, lecturePrice.getLecture(), excerpts.get(lecturePrice.getLecture().getId())));
+        setEachLectureCounts(user, lecturePrices.getContent());
+        return lecturePrices;
+    }
 
-            LectureMentorResponse lectureMentorResponse = eachLectureResponse.getLectureMentor();
-            LectureMentorQueryDto lectureMentorQueryDto = lectureMentorQueryDtoMap.get(lectureMentorResponse.getMentorId());
-            if (lectureMentorQueryDto != null) {
-                lectureMentorResponse.setLectureCount(lectureMentorQueryDto.getLectureCount());
-                lectureMentorResponse.setReviewCount(lectureMentorQueryDto.getReviewCount());
-            } else {
-                lectureMentorResponse.setLectureCount(0L);
-                lectureMentorResponse.setReviewCount(0L);
-            }
+    // 커서 페이징 : 페이지 번호 대신 이전 응답의 nextCursor (lecturePriceId 순, sort 는 사용하지 않음)
+    @Override
+    public CursorResponse<EachLectureResponse> getEachLectureResponses(User user, String zone, LectureListRequest lectureListRequest, String cursor) {
 
-            // 로그인한 경우 - 좋아요 여부 표시
-            // setPicked(user, lectureId, lecturePriceId, eachLectureResponse);
-            if (picked.get(lecturePriceId) != null) {
-                eachLectureResponse.setPicked(true);
-            } else {
-                eachLectureResponse.setPicked(false);
-            }
-        });
+        if (!StringUtils.hasLength(zone)) {
+            zone = user.getZone().toString();
+        }
 
-        return lecturePrices;
+        Address address = AddressUtils.convertStringToEmbeddableAddress(zone);
+        List<LecturePrice> rows = lectureSearchRepository.findLecturePricesByZoneAndSearch(user, address, lectureListRequest,
+                        getCursorIdOrZero(cursor), PAGE_SIZE + 1);
+        Map<Long, String> excerpts = getContentExcerpts(rows);
+        List<EachLectureResponse> lecturePrices = rows.stream()
+                .map(lecturePrice -> new EachLectureResponse(lecturePrice, lecturePrice.getLecture(), excerpts.get(lecturePrice.getLecture().getId())))
+                .collect(Collectors.toList());
+        CursorResponse<EachLectureResponse> response = CursorResponse.of(lecturePrices, PAGE_SIZE,
+                eachLectureResponse -> Cursor.of(eachLectureResponse.getLecturePrice().getLecturePriceId()).encode());
+        setEachLectureCounts(user, response.getContent());
+        return response;
     }
 
-        private void setLectureReview(LectureResponse lectureResponse) {
+        // 목록 : content 대신 미리보기를 한 번에 조회 (lecture.content 는 지연 로딩 - 읽지 않음)
+        private Map<Long, String> getContentExcerpts(List<LecturePrice> lecturePrices) {
+            List<Long> lectureIds = lecturePrices.stream()
+                    .map(lecturePrice -> lecturePrice.getLecture().getId()).distinct().collect(Collectors.toList());
+            return lectureQueryRepository.findContentExcerptMap(lectureIds);
+        }
 
-            Lecture lecture = getLecture(lectureResponse.getLectureId());
+        private void setEachLectureCounts(User user, List<EachLectureResponse> lecturePrices) {
 
-            List<MenteeReview> reviews = menteeReviewRepository.findByLecture(lecture);
-            lectureResponse.setReviewCount((long) reviews.size());
-            OptionalDouble scoreAverage = reviews.stream().map(MenteeReview::getScore).mapToInt(Integer::intValue).average();
-            lectureResponse.setScoreAverage(scoreAverage.isPresent() ? scoreAverage.getAsDouble() : 0.0);
+            // 컬렉션 조회 최적화
+            // - 컬렉션을 MAP 한방에 조회
+            List<Long> lectureIds = lecturePrices.stream().map(EachLectureResponse::getLectureId).collect(Collectors.toList());
+            List<Long> lecturePriceIds = lecturePrices.stream().map(lecturePrice -> lecturePrice.getLecturePrice().getLecturePriceId()).collect(Collectors.toList());
 
-        }
+            // 집계(lecture_price_stats, mentor_stats) : 조회 하나이므로 호출 스레드의 트랜잭션에서 바로 조회
+            LectureStatsService.LectureStats lectureStats = lectureStatsService.getLectureStats(lectureIds, lecturePriceIds);
+            // picked 여부 (캐시)
+            Map<Long, Boolean> picked = pickedLecturePriceCache.getPicked(user, lecturePriceIds);
+            // 2022.04.18 - lecturePriceId 기준으로 enrollmentCount
+            Map<Long, Long> lectureEnrollmentQueryDtoMap = lectureStats.getEnrollmentCounts();
+            // lecturePriceId 기준
+            Map<Long, Long> lecturePickQueryDtoMap = lectureStats.getPickCounts();
 
-        private void setLectureMentor(LectureResponse lectureResponse) {
+            // lectureId, lecturePriceId 기준
+            Map<Long, LectureReviewQueryDto> lectureReviewQueryDtoMap = lectureStats.getReviews();
+            // mentorId 기준
+            Map<Long, LectureMentorQueryDto> lectureMentorQueryDtoMap = lectureStats.getMentors();
 
-            Mentor mentor = getLecture(lectureResponse.getLectureId()).getMentor();
-            List<Lecture> lectures = lectureRepository.findByMentor(mentor);
+            lecturePrices.forEach(eachLectureResponse -> {
 
-            LectureMentorResponse lectureMentorResponse = lectureResponse.getLectureMentor();
-            lectureMentorResponse.setLectureCount((long) lectures.size());
-            lectureMentorResponse.setReviewCount((long) menteeReviewRepository.countByLectureIn(lectures));
-            lectureResponse.setLectureMentor(lectureMentorResponse);
-        }
+                Long lectureId = eachLectureResponse.getLectureId();
+                Long lecturePriceId = eachLectureResponse.getLecturePrice().getLecturePriceId();
 
-        // TODO - CHECK
-        // pick - lecturePriceId, true/false
-        private Map<Long, Boolean> getEachLecturePickedByUser(User user, List<Long> lecturePriceIds) {
+                if (lectureEnrollmentQueryDtoMap.size() != 0 && lectureEnrollmentQueryDtoMap.get(lecturePriceId) != null) {
+                    eachLectureResponse.setEnrollmentCount(lectureEnrollmentQueryDtoMap.get(lecturePriceId));
+                } else {
+                    eachLectureResponse.setEnrollmentCount(0L);
+                }
 
-            Mentee mentee = menteeRepository.findByUser(user);
-            List<Long> pickedLecturePriceIds = pickRepository.findByMenteeAndLecturePriceIds(mentee, lecturePriceIds)
-                    .stream().map(pick -> pick.getLecturePrice().getId()).collect(Collectors.toList());
+                if (lecturePickQueryDtoMap.size() != 0 && lecturePickQueryDtoMap.get(lecturePriceId) != null) {
+                    eachLectureResponse.setPickCount(lecturePickQueryDtoMap.get(lecturePriceId));
+                } else {
+                    eachLectureResponse.setPickCount(0L);
+                }
 
-            Map<Long, Boolean> map = new HashMap<>();
-            for (Long pickedLecturePriceId : pickedLecturePriceIds) {
-                map.put(pickedLecturePriceId, true);
-            }
-            return map;
-        }
+                LectureReviewQueryDto lectureReviewQueryDto = null;
+                if (lectureReviewQueryDtoMap.size() != 0 && lectureReviewQueryDtoMap.get(lecturePriceId) != null) {
+                    lectureReviewQueryDto = lectureReviewQueryDtoMap.get(lecturePriceId);
+                }
+                if (lectureReviewQueryDto != null) {
+                    eachLectureResponse.setReviewCount(lectureReviewQueryDto.getReviewCount());
+                    eachLectureResponse.setScoreAverage(lectureReviewQueryDto.getScoreAverage());
+                } else {
+                    eachLectureResponse.setReviewCount(0L);
+                    eachLectureResponse.setScoreAverage(0.0);
+                }
 
-        private void setPicked(User user, Long lectureId, Long lecturePriceId, EachLectureResponse eachLectureResponse) {
+                LectureMentorResponse lectureMentorResponse = eachLectureResponse.getLectureMentor();
+                LectureMentorQueryDto lectureMentorQueryDto = lectureMentorQueryDtoMap.get(lectureMentorResponse.getMentorId());
+                if (lectureMentorQueryDto != null) {
+                    lectureMentorResponse.setLectureCount(lectureMentorQueryDto.getLectureCount());
+                    lectureMentorResponse.setReviewCount(lectureMentorQueryDto.getReviewCount());
+                } else {
+                    lectureMentorResponse.setLectureCount(0L);
+                    lectureMentorResponse.setReviewCount(0L);
+                }
 
-            if (user == null) {
-                return;
-            }
-            Optional.ofNullable(menteeRepository.findByUser(user)).ifPresent(mentee -> {
-                Optional<Pick> optional = pickRepository.findByMenteeAndLectureIdAndLecturePriceId(mentee, lectureId, lecturePriceId);
-                if (optional.isPresent()) {
+                // 로그인한 경우 - 좋아요 여부 표시
+                // setPicked(user, lectureId, lecturePriceId, eachLectureResponse);
+                if (picked.get(lecturePriceId) != null) {
                     eachLectureResponse.setPicked(true);
                 } else {
                     eachLectureResponse.setPicked(false);
@@ -261,15 +263,29 @@ public class LectureServiceImpl extends AbstractService implements LectureServic
             });
         }
 
-        private void setLectureMentor(EachLectureResponse eachLectureResponse) {
+        // 리뷰를 모두 읽지 않고 개수, 평균만 조회
+        private void setLectureReview(LectureResponse lectureResponse) {
+
+            LectureReviewQueryDto lectureReviewQueryDto = lectureQueryRepository.findLectureReviewQueryDto(lectureResponse.getLectureId());
+            lectureResponse.setReviewCount(lectureReviewQueryDto.getReviewCount());
+            lectureResponse.setScoreAverage(lectureReviewQueryDto.getScoreAverage());
+        }
+
+        // 멘토의 강의 목록을 읽지 않고 개수만 조회
+        private void setLectureMentor(LectureMentorResponse lectureMentorResponse, Mentor mentor) {
+
+            List<Long> mentorIds = Collections.singletonList(mentor.getId());
+            lectureMentorResponse.setLectureCount(lectureQueryRepository.findMentorLectureCountMap(mentorIds).getOrDefault(mentor.getId(), 0L));
+            lectureMentorResponse.setReviewCount(lectureQueryRepository.findMentorReviewCountMap(mentorIds).getOrDefault(mentor.getId(), 0L));
+        }
 
-            Mentor mentor = getLecture(eachLectureResponse.getLectureId()).getMentor();
-            List<Lecture> lectures = lectureRepository.findByMentor(mentor);
+        private void setPicked(User user, Long lectureId, Long lecturePriceId, EachLectureResponse eachLectureResponse) {
 
-            LectureMentorResponse lectureMentorResponse = eachLectureResponse.getLectureMentor();
-            lectureMentorResponse.setLectureCount((long) lectures.size());
-            lectureMentorResponse.setReviewCount((long) menteeReviewRepository.countByLectureIn(lectures));
-            eachLectureResponse.setLectureMentor(lectureMentorResponse);
+            if (user == null) {
+                return;
+            }
+            // 멘티가 아니면 좋아요한 강의 없음
+            eachLectureResponse.setPicked(pickedLecturePriceCache.isPicked(user, lecturePriceId));
         }
 
     @Transactional
@@ -291,9 +307,7 @@ public class LectureServiceImpl extends AbstractService implements LectureServic
                     .build();
             lecture.addSubject(lectureSubject);
         }
-        Lecture saved = lectureRepository.save(lecture);
-        lectureLogService.insert(user, saved);
-        return saved;
+        return lectureRepository.save(lecture);
     }
 
     @Transactional
@@ -308,7 +322,7 @@ public class LectureServiceImpl extends AbstractService implements LectureServic
             // TODO - 예외 처리
             throw new RuntimeException("등록된 강의는 수정이 불가합니다.");
         }
-        lecture.update(lectureUpdateRequest, subjectRepository, user, lectureLogService);
+        lecture.update(lectureUpdateRequest, subjectRepository);
     }
 
     // TODO - CHECK : 리팩토링
@@ -0,0 +1,343 @@
+package com.project.mentoridge.modules.lecture.service;
+
+import com.project.mentoridge.modules.base.EntityChangedEvent;
+import com.project.mentoridge.modules.lecture.repository.LecturePriceStatsRepository;
+import com.project.mentoridge.modules.lecture.repository.LectureQueryRepository;
+import com.project.mentoridge.modules.lecture.repository.MentorStatsRepository;
+import com.project.mentoridge.modules.lecture.repository.dto.LectureMentorQueryDto;
+import com.project.mentoridge.modules.lecture.repository.dto.LectureReviewQueryDto;
+import com.project.mentoridge.modules.lecture.repository.dto.LectureStatsQueryDto;
+import com.project.mentoridge.modules.lecture.vo.Lecture;
+import com.project.mentoridge.modules.lecture.vo.LecturePrice;
+import com.project.mentoridge.modules.lecture.vo.LecturePriceStats;
+import com.project.mentoridge.modules.lecture.vo.MentorStats;
+import com.project.mentoridge.modules.purchase.vo.Enrollment;
+import com.project.mentoridge.modules.purchase.vo.Pick;
+import com.project.mentoridge.modules.review.vo.MenteeReview;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.Tuple;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 목록 카드의 집계(수강/좋아요/리뷰 수, 평점, 멘토 강의/리뷰 수)를 lecture_price_stats, mentor_stats 에서 조회
+ * - Enrollment, Pick, MenteeReview, LecturePrice, Lecture 변경을 EntityChangedEvent 로 받아서
+ *   커밋 후 변경된 LecturePrice, 멘토의 행만 원본에서 다시 계산 (증감 대신 재계산 : 중복/누락 이벤트에도 값이 틀어지지 않음)
+ * - 매일 전체를 다시 계산해서 어긋난 값과 남은 행을 정리
+ * - 아직 통계 행이 없는 LecturePrice 는 기존 집계 쿼리로 조회
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class LectureStatsService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final LectureQueryRepository lectureQueryRepository;
+    private final LecturePriceStatsRepository lecturePriceStatsRepository;
+    private final MentorStatsRepository mentorStatsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${mentoridge-config.lecture.stats.enabled:true}")
+    private boolean enabled;
+
+    // 커밋된 변경 : 다음 refresh 에서 다시 계산
+    private final Queue<Long> changedLecturePriceIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> changedEnrollmentIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> changedLectureIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> changedMentorIds = new ConcurrentLinkedQueue<>();
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    void init() {
+
+        if (!enabled) {
+            return;
+        }
+
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public LectureStats getLectureStats(List<Long> lectureIds, List<Long> lecturePriceIds) {
+
+        LectureStats stats = new LectureStats();
+        if (lecturePriceIds.isEmpty()) {
+            return stats;
+        }
+
+        List<LectureStatsQueryDto> rows = enabled ? lectureQueryRepository.findLectureStatsQueryDtos(lecturePriceIds) : Collections.emptyList();
+        Set<Long> missing = new LinkedHashSet<>(lecturePriceIds);
+        boolean mentorMissing = false;
+        for (LectureStatsQueryDto row : rows) {
+            stats.add(row);
+            missing.remove(row.getLecturePriceId());
+            mentorMissing |= row.getMentorLectureCount() == null;
+        }
+
+        // 통계 행이 아직 없는 경우 (ex. 생성 직후, 재계산 전) 원본에서 집계
+        if (!missing.isEmpty()) {
+            List<Long> missingIds = new ArrayList<>(missing);
+            stats.enrollmentCounts.putAll(lectureQueryRepository.findLectureEnrollmentQueryDtoMap(missingIds));
+            stats.pickCounts.putAll(lectureQueryRepository.findLecturePickQueryDtoMap(missingIds));
+            stats.reviews.putAll(lectureQueryRepository.findLectureReviewQueryDtoMap(lectureIds, missingIds));
+        }
+        if (!missing.isEmpty() || mentorMissing) {
+            lectureQueryRepository.findLectureMentorQueryDtoMap(lectureIds).forEach(stats.mentors::putIfAbsent);
+        }
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${mentoridge-config.lecture.stats.refresh-interval-ms:1000}")
+    public void refresh() {
+
+        if (!enabled) {
+            return;
+        }
+
+        Set<Long> lecturePriceIds = drain(changedLecturePriceIds);
+        Set<Long> enrollmentIds = drain(changedEnrollmentIds);
+        Set<Long> lectureIds = drain(changedLectureIds);
+        Set<Long> mentorIds = drain(changedMentorIds);
+        if (lecturePriceIds.isEmpty() && enrollmentIds.isEmpty() && lectureIds.isEmpty() && mentorIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> {
+                // 리뷰 -> 수강(LecturePrice), 강의 -> 멘토
+                if (!enrollmentIds.isEmpty()) {
+                    lecturePriceIds.addAll(lectureQueryRepository.findLecturePriceIdsByEnrollmentIds(enrollmentIds));
+                }
+                if (!lectureIds.isEmpty()) {
+                    mentorIds.addAll(lectureQueryRepository.findMentorIdsByLectureIds(lectureIds));
+                }
+                mentorIds.addAll(refreshLecturePriceStats(lecturePriceIds));
+                refreshMentorStats(mentorIds);
+            });
+        } catch (Exception e) {
+            // 다음 refresh 에서 다시 시도
+            changedLecturePriceIds.addAll(lecturePriceIds);
+            changedEnrollmentIds.addAll(enrollmentIds);
+            changedLectureIds.addAll(lectureIds);
+            changedMentorIds.addAll(mentorIds);
+            log.error("[stats] refresh failed", e);
+        }
+    }
+
+        private static Set<Long> drain(Queue<Long> queue) {
+            Set<Long> ids = new HashSet<>();
+            Long id;
+            while ((id = queue.poll()) != null) {
+                ids.add(id);
+            }
+            return ids;
+        }
+
+    // 전체 재계산 : 이벤트 누락, 직접 수정된 데이터 보정
+    @Scheduled(cron = "${mentoridge-config.lecture.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long lecturePrices = 0;
+            Long last = 0L;
+            List<Long> lecturePriceIds;
+            do {
+                final Long after = last;
+                lecturePriceIds = transaction.execute(status -> {
+                    List<Long> ids = lectureQueryRepository.findLecturePriceIdsAfter(after, CHUNK_SIZE);
+                    refreshLecturePriceStats(ids);
+                    return ids;
+                });
+                if (!lecturePriceIds.isEmpty()) {
+                    last = lecturePriceIds.get(lecturePriceIds.size() - 1);
+                    lecturePrices += lecturePriceIds.size();
+                }
+            } while (lecturePriceIds.size() == CHUNK_SIZE);
+
+            long mentors = 0;
+            last = 0L;
+            List<Long> mentorIds;
+            do {
+                final Long after = last;
+                mentorIds = transaction.execute(status -> {
+                    List<Long> ids = lectureQueryRepository.findMentorIdsAfter(after, CHUNK_SIZE);
+                    refreshMentorStats(ids);
+                    return ids;
+                });
+                if (!mentorIds.isEmpty()) {
+                    last = mentorIds.get(mentorIds.size() - 1);
+                    mentors += mentorIds.size();
+                }
+            } while (mentorIds.size() == CHUNK_SIZE);
+
+            int orphans = transaction.execute(status -> lecturePriceStatsRepository.deleteOrphans() + mentorStatsRepository.deleteOrphans());
+            log.info("[stats] reconciled - lecturePrices : {}, mentors : {}, orphans : {}", lecturePrices, mentors, orphans);
+
+        } catch (Exception e) {
+            log.error("[stats] reconcile failed", e);
+        }
+    }
+
+        // @return 다시 계산한 LecturePrice 의 멘토
+        private Set<Long> refreshLecturePriceStats(Collection<Long> lecturePriceIds) {
+
+            if (lecturePriceIds.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            Set<Long> mentorIds = new HashSet<>();
+            for (List<Long> chunk : chunks(lecturePriceIds)) {
+
+                Map<Long, Long> enrollmentCounts = lectureQueryRepository.findLectureEnrollmentQueryDtoMap(chunk);
+                Map<Long, Long> pickCounts = lectureQueryRepository.findLecturePickQueryDtoMap(chunk);
+                Map<Long, Tuple> reviews = lectureQueryRepository.findLectureReviewSumMap(chunk);
+                Map<Long, LecturePriceStats> saved = lecturePriceStatsRepository.findAllById(chunk).stream()
+                        .collect(Collectors.toMap(LecturePriceStats::getLecturePriceId, Function.identity()));
+
+                List<LecturePriceStats> updated = new ArrayList<>();
+                for (Tuple owner : lectureQueryRepository.findLecturePriceOwners(chunk)) {
+
+                    Long lecturePriceId = owner.get("lecturePriceId", Long.class);
+                    Long mentorId = owner.get("mentorId", Long.class);
+                    Tuple review = reviews.get(lecturePriceId);
+
+                    LecturePriceStats stats = saved.remove(lecturePriceId);
+                    if (stats == null) {
+                        stats = new LecturePriceStats(lecturePriceId);
+                    }
+                    stats.update(owner.get("lectureId", Long.class), mentorId,
+                            enrollmentCounts.getOrDefault(lecturePriceId, 0L),
+                            pickCounts.getOrDefault(lecturePriceId, 0L),
+                            review != null ? review.get("reviewCount", Long.class) : 0L,
+                            review != null ? toLong(review.get("scoreSum")) : 0L);
+                    updated.add(stats);
+                    mentorIds.add(mentorId);
+                }
+                lecturePriceStatsRepository.saveAll(updated);
+                // 삭제된 LecturePrice
+                lecturePriceStatsRepository.deleteAll(saved.values());
+            }
+            return mentorIds;
+        }
+
+        private void refreshMentorStats(Collection<Long> mentorIds) {
+
+            if (mentorIds.isEmpty()) {
+                return;
+            }
+
+            for (List<Long> chunk : chunks(mentorIds)) {
+
+                Map<Long, Long> lectureCounts = lectureQueryRepository.findMentorLectureCountMap(chunk);
+                Map<Long, Long> reviewCounts = lectureQueryRepository.findMentorReviewCountMap(chunk);
+                Map<Long, MentorStats> saved = mentorStatsRepository.findAllById(chunk).stream()
+                        .collect(Collectors.toMap(MentorStats::getMentorId, Function.identity()));
+
+                List<MentorStats> updated = new ArrayList<>();
+                for (Long mentorId : lectureQueryRepository.findMentorIds(chunk)) {
+                    MentorStats stats = saved.remove(mentorId);
+                    if (stats == null) {
+                        stats = new MentorStats(mentorId);
+                    }
+                    stats.update(lectureCounts.getOrDefault(mentorId, 0L), reviewCounts.getOrDefault(mentorId, 0L));
+                    updated.add(stats);
+                }
+                mentorStatsRepository.saveAll(updated);
+                // 삭제된 멘토
+                mentorStatsRepository.deleteAll(saved.values());
+            }
+        }
+
+        private static long toLong(Object value) {
+            return value instanceof Number ? ((Number) value).longValue() : 0L;
+        }
+
+        private static List<List<Long>> chunks(Collection<Long> ids) {
+            List<Long> list = new ArrayList<>(ids);
+            List<List<Long>> chunks = new ArrayList<>();
+            for (int i = 0; i < list.size(); i += CHUNK_SIZE) {
+                chunks.add(list.subList(i, Math.min(list.size(), i + CHUNK_SIZE)));
+            }
+            return chunks;
+        }
+
+    // 커밋된 변경만 큐로 (롤백되면 호출되지 않음), 연관 엔티티는 프록시일 수 있으므로 id 만 사용
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void changed(EntityChangedEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        Object entity = event.getEntity();
+        if (entity instanceof Enrollment) {
+            LecturePrice lecturePrice = ((Enrollment) entity).getLecturePrice();
+            addChanged(changedLecturePriceIds, lecturePrice != null ? lecturePrice.getId() : null);
+        } else if (entity instanceof Pick) {
+            LecturePrice lecturePrice = ((Pick) entity).getLecturePrice();
+            addChanged(changedLecturePriceIds, lecturePrice != null ? lecturePrice.getId() : null);
+        } else if (entity instanceof MenteeReview) {
+            MenteeReview review = (MenteeReview) entity;
+            addChanged(changedEnrollmentIds, review.getEnrollment() != null ? review.getEnrollment().getId() : null);
+            addChanged(changedLectureIds, review.getLecture() != null ? review.getLecture().getId() : null);
+        } else if (entity instanceof LecturePrice) {
+            addChanged(changedLecturePriceIds, ((LecturePrice) entity).getId());
+        } else if (entity instanceof Lecture) {
+            Lecture lecture = (Lecture) entity;
+            addChanged(changedMentorIds, lecture.getMentor() != null ? lecture.getMentor().getId() : null);
+        }
+    }
+
+        private static void addChanged(Queue<Long> queue, Long id) {
+            if (id != null) {
+                queue.add(id);
+            }
+        }
+
+    @Getter
+    public static class LectureStats {
+
+        // lecturePriceId 기준
+        private final Map<Long, Long> enrollmentCounts = new HashMap<>();
+        private final Map<Long, Long> pickCounts = new HashMap<>();
+        // lecturePriceId 기준 (리뷰가 없으면 없음)
+        private final Map<Long, LectureReviewQueryDto> reviews = new HashMap<>();
+        // mentorId 기준
+        private final Map<Long, LectureMentorQueryDto> mentors = new HashMap<>();
+
+        void add(LectureStatsQueryDto row) {
+
+            Long lecturePriceId = row.getLecturePriceId();
+            enrollmentCounts.put(lecturePriceId, row.getEnrollmentCount());
+            pickCounts.put(lecturePriceId, row.getPickCount());
+            if (row.getReviewCount() > 0) {
+                reviews.put(lecturePriceId, new LectureReviewQueryDto(row.getLectureId(), lecturePriceId,
+                        row.getReviewCount(), (double) row.getScoreSum() / row.getReviewCount()));
+            }
+            if (row.getMentorLectureCount() != null) {
+                mentors.put(row.getMentorId(), new LectureMentorQueryDto(row.getMentorId(),
+                        row.getMentorLectureCount(), row.getMentorReviewCount()));
+            }
+        }
+    }
+}
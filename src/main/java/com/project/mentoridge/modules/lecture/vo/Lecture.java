@@ -15,6 +15,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.LazyGroup;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -52,7 +53,11 @@ public class Lecture extends BaseEntity {
     @Column(nullable = false, length = 25)
     private String introduce;
 
+    // 목록에서는 읽지 않음 (LectureQueryRepository.findContentExcerptMap) : 처음 접근할 때 조회
+    @ToString.Exclude
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
     @Column(nullable = false, length = 25)
     private String content;
 
@@ -70,6 +75,10 @@ public class Lecture extends BaseEntity {
     )   // cascade = CascadeType.ALL
     private List<SystemType> systems = new ArrayList<>();
 
+    // systems 의 비트 합 (SystemType.bit) - 목록 검색용, systems 와 함께 변경
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int systemMask;
+
     @ToString.Exclude
     @OneToMany(mappedBy = "lecture", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<LecturePrice> lecturePrices = new ArrayList<>();
@@ -94,6 +103,7 @@ public class Lecture extends BaseEntity {
         this.content = content;
         this.difficulty = difficulty;
         this.systems = systems;
+        this.systemMask = SystemType.toMask(systems);
         this.thumbnail = thumbnail;
         if (lecturePrices != null) {
             lecturePrices.forEach(this::addPrice);
@@ -117,10 +127,13 @@ public class Lecture extends BaseEntity {
         enrollment.setLecture(this);
     }
 
-    private void update(LectureUpdateRequest lectureUpdateRequest, SubjectRepository subjectRepository) {
+    // 변경 이력은 AuditEventListener 가 기록
+    public void update(LectureUpdateRequest lectureUpdateRequest, SubjectRepository subjectRepository) {
 
         this.getLecturePrices().clear();
         this.getLectureSubjects().clear();
+        // 지연 로딩된 내용을 먼저 읽어서 변경 이력에 이전 내용이 남도록 (AuditEventListener)
+        this.getContent();
 
         this.title = lectureUpdateRequest.getTitle();
         this.subTitle = lectureUpdateRequest.getSubTitle();
@@ -128,6 +141,7 @@ public class Lecture extends BaseEntity {
         this.content = lectureUpdateRequest.getContent();
         this.difficulty = lectureUpdateRequest.getDifficulty();
         this.systems = lectureUpdateRequest.getSystems();
+        this.systemMask = SystemType.toMask(systems);
         this.thumbnail = lectureUpdateRequest.getThumbnail();
 
         for (LectureUpdateRequest.LecturePriceUpdateRequest lecturePriceUpdateRequest : lectureUpdateRequest.getLecturePrices()) {
@@ -142,16 +156,9 @@ public class Lecture extends BaseEntity {
                     .build();
             this.addSubject(lectureSubject);
         }
-    }
-
-    public void update(LectureUpdateRequest lectureUpdateRequest,  SubjectRepository subjectRepository, User user, LectureLogService lectureLogService) {
-
-        Lecture before = this.copy();
-        update(lectureUpdateRequest, subjectRepository);
 
         // 수정된 강의는 재승인 필요
         this.cancelApproval();
-        lectureLogService.update(user, before, this);
     }
 
     public void delete(User user, LectureLogService lectureLogService) {
@@ -170,19 +177,4 @@ public class Lecture extends BaseEntity {
         this.approved = false;
     }
 
-    private Lecture copy() {
-        return Lecture.builder()
-                .mentor(mentor)
-                .title(title)
-                .subTitle(subTitle)
-                .introduce(introduce)
-                .content(content)
-                .difficulty(difficulty)
-                .thumbnail(thumbnail)
-                .systems(systems)
-                .lecturePrices(lecturePrices)
-                .lectureSubjects(lectureSubjects)
-                .build();
-    }
-
 }
@@ -0,0 +1,62 @@
+package com.project.mentoridge.modules.lecture.vo;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 강의 목록 카드용 LecturePrice 별 집계 (read model)
+ * - 원본 테이블과 연관관계를 두지 않고 id 만 저장
+ * - LectureStatsService 가 변경된 행만 다시 계산해서 덮어쓴다
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+@Table(name = "lecture_price_stats")
+public class LecturePriceStats {
+
+    @Id
+    @Column(name = "lecture_price_id")
+    private Long lecturePriceId;
+
+    @Column(nullable = false)
+    private Long lectureId;
+
+    @Column(nullable = false)
+    private Long mentorId;
+
+    // 확인된(checked) 수강 신청 수
+    private long enrollmentCount;
+    private long pickCount;
+    private long reviewCount;
+    private long scoreSum;
+
+    private LocalDateTime updatedAt;
+
+    public LecturePriceStats(Long lecturePriceId) {
+        this.lecturePriceId = lecturePriceId;
+    }
+
+    public void update(Long lectureId, Long mentorId, long enrollmentCount, long pickCount, long reviewCount, long scoreSum) {
+        this.lectureId = lectureId;
+        this.mentorId = mentorId;
+        this.enrollmentCount = enrollmentCount;
+        this.pickCount = pickCount;
+        this.reviewCount = reviewCount;
+        this.scoreSum = scoreSum;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public double getScoreAverage() {
+        return reviewCount == 0 ? 0.0 : (double) scoreSum / reviewCount;
+    }
+}
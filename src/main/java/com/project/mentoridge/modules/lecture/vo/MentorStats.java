@@ -0,0 +1,42 @@
+package com.project.mentoridge.modules.lecture.vo;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+// 강의 목록 카드의 멘토 정보 집계 (read model)
+@ToString
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+@Table(name = "mentor_stats")
+public class MentorStats {
+
+    @Id
+    @Column(name = "mentor_id")
+    private Long mentorId;
+
+    // 멘토의 전체 강의 수, 멘토 강의들에 달린 멘티 리뷰 수
+    private long lectureCount;
+    private long reviewCount;
+
+    private LocalDateTime updatedAt;
+
+    public MentorStats(Long mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public void update(long lectureCount, long reviewCount) {
+        this.lectureCount = lectureCount;
+        this.reviewCount = reviewCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.mentoridge.modules.log.component;
+
+import com.project.mentoridge.config.security.PrincipalDetails;
+import com.project.mentoridge.modules.base.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔티티 insert/update, 컬렉션 변경을 EntityChangedEvent 로 받아서 (flush 시점, 같은 트랜잭션) LogService 에 전달
+ * - 서비스/엔티티에서 copy() 로 before 를 만들어 직접 호출할 필요 없음
+ * - LogService.captured 가 true 인 엔티티만 대상
+ * - delete, 상태 변경(updateStatus)은 기존처럼 직접 기록
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuditEventListener {
+
+    private static final String SYSTEM = "system";
+
+    private final List<LogService<?>> logServices;
+
+    private final Map<Class<?>, LogService<Object>> capturedLogServices = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    @PostConstruct
+    void init() {
+
+        for (LogService<?> logService : logServices) {
+            if (logService.isCaptured()) {
+                capturedLogServices.put(logService.getEntityType(), (LogService<Object>) logService);
+            }
+        }
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+
+        LogService<Object> logService = capturedLogServices.get(event.getEntityClass());
+        if (logService == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case INSERT:
+                logService.insert(getUsername(), event.getEntity());
+                break;
+            case UPDATE:
+                logService.update(getUsername(), event.getEntity(), event.getPropertyNames(),
+                        event.getOldState(), event.getState(), event.getDirtyProperties());
+                break;
+            case COLLECTION:
+                // 컬렉션 생성(엔티티 insert)/삭제는 제외 : 교체 전 컬렉션이 있는 경우만
+                Object before = event.getOldState()[0];
+                Object after = event.getState()[0];
+                if (before instanceof PersistentCollection && after != null) {
+                    logService.updateCollection(getUsername(), event.getEntity(), event.getPropertyNames()[0],
+                            (PersistentCollection) before, after);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+        private String getUsername() {
+
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails) {
+                PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
+                if (principalDetails.getUser() != null) {
+                    return principalDetails.getUser().getUsername();
+                }
+            }
+            return SYSTEM;
+        }
+}
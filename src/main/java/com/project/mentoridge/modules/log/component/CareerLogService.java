@@ -2,10 +2,11 @@ package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.account.vo.Career;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 @Service
 public class CareerLogService extends LogService<Career> {
@@ -26,17 +27,17 @@ public class CareerLogService extends LogService<Career> {
     }
 
     @Override
-    protected void insert(PrintWriter pw, Career vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties);
+    protected void insert(List<LogChange> changes, Career vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Career before, Career after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties);
+    protected void update(List<LogChange> changes, Career before, Career after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Career vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties);
+    protected void delete(List<LogChange> changes, Career vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
@@ -1,13 +1,16 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.Mentee;
+import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.chat.vo.Chatroom;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -23,26 +26,29 @@ public class ChatroomLogService extends LogService<Chatroom> {
     @PostConstruct
     void init() {
         properties.add(new Property("mentor", "멘토"));
-        functions.put("mentor", chatroom -> chatroom.getMentor().getUser().getUsername());
+        putFunction("mentor", (Mentor mentor) -> mentor.getUser().getUsername());
         properties.add(new Property("mentee", "멘티"));
-        functions.put("mentee", chatroom -> chatroom.getMentee().getUser().getUsername());
+        putFunction("mentee", (Mentee mentee) -> mentee.getUser().getUsername());
 
         // properties.add(new Property("closed", "종료"));
+
+        statuses.add(new Property("accusedCount", "신고 횟수"));
+        statuses.add(new Property("closed", "종료"));
     }
 
     @Override
-    protected void insert(PrintWriter pw, Chatroom vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, Chatroom vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Chatroom before, Chatroom after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, Chatroom before, Chatroom after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Chatroom vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Chatroom vo) {
+        addDeleteLogChanges(changes, vo);
     }
 /*
     // TODO - accuse
@@ -67,10 +73,10 @@ public class ChatroomLogService extends LogService<Chatroom> {
     }*/
 
     public void accuse(User user, Chatroom before, Chatroom after) {
-        this.updateStatus(user, before, after, "accusedCount", "신고 횟수");
+        this.updateStatus(user, before, after, "accusedCount");
     }
 
     public void close(User user, Chatroom before, Chatroom after) {
-        this.updateStatus(user, before, after, "closed", "종료");
+        this.updateStatus(user, before, after, "closed");
     }
 }
@@ -1,11 +1,14 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.board.vo.Comment;
+import com.project.mentoridge.modules.board.vo.Post;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 @Service
 public class CommentLogService extends LogService<Comment> {
@@ -15,31 +18,32 @@ public class CommentLogService extends LogService<Comment> {
     public CommentLogService(LogRepository logRepository) {
         super(logRepository);
         this.title = COMMENT;
+        this.captured = true;
     }
 
     @PostConstruct
     void init() {
         properties.add(new Property("post", "글"));
-        functions.put("post", comment -> comment.getPost().getTitle());
+        putFunction("post", Post::getTitle);
 
         properties.add(new Property("user", "댓글 작성자"));
-        functions.put("user", comment -> comment.getUser().getNickname());
+        putFunction("user", User::getNickname);
 
         properties.add(new Property("content", "내용"));
     }
 
     @Override
-    protected void insert(PrintWriter pw, Comment vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, Comment vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Comment before, Comment after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, Comment before, Comment after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Comment vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Comment vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
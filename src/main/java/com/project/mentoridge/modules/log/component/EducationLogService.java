@@ -2,10 +2,11 @@ package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.account.vo.Education;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 @Service
 public class EducationLogService extends LogService<Education> {
@@ -26,17 +27,17 @@ public class EducationLogService extends LogService<Education> {
     }
 
     @Override
-    protected void insert(PrintWriter pw, Education vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties);
+    protected void insert(List<LogChange> changes, Education vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Education before, Education after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties);
+    protected void update(List<LogChange> changes, Education before, Education after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Education vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties);
+    protected void delete(List<LogChange> changes, Education vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
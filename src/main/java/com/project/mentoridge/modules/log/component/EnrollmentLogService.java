@@ -1,17 +1,18 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.Mentee;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.lecture.vo.LecturePrice;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import com.project.mentoridge.modules.purchase.vo.Enrollment;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.util.List;
 import java.util.function.Function;
 
 @Slf4j
@@ -36,65 +37,52 @@ public class EnrollmentLogService extends LogService<Enrollment> {
         properties.add(new Property("lecture", "강의"));
         properties.add(new Property("lecturePrice", "옵션"));
 
-        functions.put("mentee", chatroom -> chatroom.getMentee().getUser().getUsername());
-        Function<Enrollment, String> lectureFunc = enrollment -> {
+        putFunction("mentee", (Mentee mentee) -> mentee.getUser().getUsername());
+        Function<Lecture, String> lectureFunc = _lecture -> {
             StringBuilder sb = new StringBuilder();
             sb.append("(");
-            try {
-                Lecture lecture = Hibernate.unproxy(enrollment.getLecture(), Lecture.class);
-                String lectureLog = lectureLogService.getInsertLogContent(lecture);
-                sb.append(lectureLog);
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
+            Lecture lecture = Hibernate.unproxy(_lecture, Lecture.class);
+            String lectureLog = lectureLogService.getInsertLogContent(lecture);
+            sb.append(lectureLog);
             sb.append(")");
             return sb.toString();
         };
-        functions.put("lecture", lectureFunc);
-        Function<Enrollment, String> lecturePriceFunc = enrollment -> {
-            StringBuilder sb = new StringBuilder();
-            sb.append("(");
-            try {
-                LecturePrice lecturePrice = Hibernate.unproxy(enrollment.getLecturePrice(), LecturePrice.class);
-                lecturePriceLogService.getLogContent(sb, lecturePrice);
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
+        putFunction("lecture", lectureFunc);
+        Function<LecturePrice, String> lecturePriceFunc = _lecturePrice -> {
+            try (LogContentBuilder builder = LogContentBuilder.acquire()) {
+                builder.append("(");
+                LecturePrice lecturePrice = Hibernate.unproxy(_lecturePrice, LecturePrice.class);
+                lecturePriceLogService.getLogContent(builder, lecturePrice);
+                builder.append(")");
+                return builder.toString();
             }
-            sb.append(")");
-            return sb.toString();
         };
-        functions.put("lecturePrice", lecturePriceFunc);
-    }
+        putFunction("lecturePrice", lecturePriceFunc);
 
-    @Override
-    protected void insert(PrintWriter pw, Enrollment vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+        statuses.add(new Property("checked", "신청 확인"));
+        statuses.add(new Property("finished", "강의 종료"));
     }
 
-    public String getInsertLogContent(Enrollment vo) throws NoSuchFieldException, IllegalAccessException {
-
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw);
-
-        printInsertLogContent(pw, vo, properties, functions);
-        return sw.toString();
+    @Override
+    protected void insert(List<LogChange> changes, Enrollment vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Enrollment before, Enrollment after) throws NoSuchFieldException, IllegalAccessException {
+    protected void update(List<LogChange> changes, Enrollment before, Enrollment after) {
         throw new RuntimeException();
     }
 
     @Override
-    protected void delete(PrintWriter pw, Enrollment vo) throws NoSuchFieldException, IllegalAccessException {
+    protected void delete(List<LogChange> changes, Enrollment vo) {
         throw new RuntimeException();
     }
 
     public void check(User user, Enrollment vo) {
-        this.updateStatus(user, vo, "checked", "신청 확인");
+        this.updateStatus(user, vo, "checked");
     }
 
     public void finish(User user, Enrollment vo) {
-        this.updateStatus(user, vo, "finished", "강의 종료");
+        this.updateStatus(user, vo, "finished");
     }
 }
@@ -0,0 +1,82 @@
+package com.project.mentoridge.modules.log.component;
+
+import org.hibernate.Hibernate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+// 필드 조회는 기동 시 한 번만 하고, 이후에는 MethodHandle 로 읽는다
+// - getter 가 있으면 getter 로 읽는다 : 바이트코드 향상된 엔티티의 지연 로딩 필드(ex. Post.content)는 getter 를 거쳐야 로딩된다
+final class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private FieldAccessor() {
+    }
+
+    static <T> Function<T, Object> compile(Class<?> type, String fieldName) {
+
+        Field field = findField(type, fieldName);
+        try {
+            MethodHandle getter;
+            Method method = findGetter(type, field);
+            if (method != null) {
+                method.setAccessible(true);
+                getter = LOOKUP.unreflect(method).asType(GETTER_TYPE);
+            } else {
+                field.setAccessible(true);
+                getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+            }
+            return vo -> {
+                try {
+                    return getter.invokeExact(Hibernate.unproxy(vo));
+                } catch (Throwable e) {
+                    throw new IllegalStateException(String.format("cannot read %s.%s", type.getSimpleName(), fieldName), e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(String.format("cannot access %s.%s", type.getSimpleName(), fieldName), e);
+        }
+    }
+
+    static Class<?> typeOf(Class<?> type, String fieldName) {
+        return findField(type, fieldName).getType();
+    }
+
+        private static Field findField(Class<?> type, String fieldName) {
+
+            for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                try {
+                    return clazz.getDeclaredField(fieldName);
+                } catch (NoSuchFieldException ignored) {
+                }
+            }
+            throw new IllegalArgumentException(String.format("no field %s in %s", fieldName, type.getName()));
+        }
+
+        // lombok @Getter 규칙 : getXxx, boolean 은 isXxx (필드명이 is 로 시작하면 그대로)
+        private static Method findGetter(Class<?> type, Field field) {
+
+            String fieldName = field.getName();
+            String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+            String[] names = field.getType() == boolean.class
+                    ? new String[]{fieldName.startsWith("is") ? fieldName : "is" + capitalized, "get" + capitalized}
+                    : new String[]{"get" + capitalized};
+            for (String name : names) {
+                try {
+                    Method method = type.getMethod(name);
+                    if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class) {
+                        return method;
+                    }
+                } catch (NoSuchMethodException ignored) {
+                }
+            }
+            return null;
+        }
+}
@@ -2,10 +2,11 @@ package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.inquiry.vo.Inquiry;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 @Service
 public class InquiryLogService extends LogService<Inquiry> {
@@ -25,17 +26,17 @@ public class InquiryLogService extends LogService<Inquiry> {
     }
 
     @Override
-    protected void insert(PrintWriter pw, Inquiry vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties);
+    protected void insert(List<LogChange> changes, Inquiry vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Inquiry before, Inquiry after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties);
+    protected void update(List<LogChange> changes, Inquiry before, Inquiry after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Inquiry vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties);
+    protected void delete(List<LogChange> changes, Inquiry vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
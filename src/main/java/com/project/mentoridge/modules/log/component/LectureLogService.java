@@ -1,16 +1,17 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.lecture.enums.SystemType;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.lecture.vo.LecturePrice;
 import com.project.mentoridge.modules.lecture.vo.LectureSubject;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.Log;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.List;
 import java.util.function.Function;
 
@@ -24,6 +25,7 @@ public class LectureLogService extends LogService<Lecture> {
         super(logRepository);
         this.lecturePriceLogService = lecturePriceLogService;
         this.title = LECTURE;
+        this.captured = true;
     }
 
     @PostConstruct
@@ -36,36 +38,32 @@ public class LectureLogService extends LogService<Lecture> {
         properties.add(new Property("difficulty", "난이도"));
         properties.add(new Property("thumbnail", "이미지"));
 
-        functions.put("mentor", lecture -> lecture.getMentor().getUser().getUsername());
-        Function<Lecture, String> lecturePriceFunc = lecture -> {
-            StringBuilder sb = new StringBuilder();
-            List<LecturePrice> lecturePrices = lecture.getLecturePrices();
-            int i = 1;
-            for (LecturePrice _lecturePrice : lecturePrices) {
+        putFunction("mentor", (Mentor mentor) -> mentor.getUser().getUsername());
+        // 컬렉션은 현재 값 또는 PersistentCollection 스냅샷이 전달된다
+        Function<List<LecturePrice>, String> lecturePriceFunc = lecturePrices -> {
+            try (LogContentBuilder builder = LogContentBuilder.acquire()) {
+                int i = 1;
+                for (LecturePrice _lecturePrice : lecturePrices) {
 
-                if (i == 1) {
-                    sb.append("(");
-                } else {
-                    sb.append("/(");
-                }
+                    if (i == 1) {
+                        builder.append("(");
+                    } else {
+                        builder.append("/(");
+                    }
 
-                try {
                     LecturePrice lecturePrice = Hibernate.unproxy(_lecturePrice, LecturePrice.class);
-                    lecturePriceLogService.getLogContent(sb, lecturePrice);
-                } catch (NoSuchFieldException | IllegalAccessException e) {
-                    e.printStackTrace();
+                    lecturePriceLogService.getLogContent(builder, lecturePrice);
+                    builder.append(")");
+                    i += 1;
                 }
-                sb.append(")");
-                i += 1;
+                return builder.toString();
             }
-            return sb.toString();
         };
-        functions.put("lecturePrices", lecturePriceFunc);
+        putFunction("lecturePrices", lecturePriceFunc);
         properties.add(new Property("lecturePrices", "가격"));
 
-        Function<Lecture, String> lectureSystemFunc = lecture -> {
+        Function<List<SystemType>, String> lectureSystemFunc = systems -> {
             StringBuilder sb = new StringBuilder();
-            List<SystemType> systems = lecture.getSystems();
             int i = 1;
             for(SystemType system : systems) {
                 if (i != 1) {
@@ -76,12 +74,11 @@ public class LectureLogService extends LogService<Lecture> {
             }
             return sb.toString();
         };
-        functions.put("systems", lectureSystemFunc);
+        putFunction("systems", lectureSystemFunc);
         properties.add(new Property("systems", "온/오프라인"));
 
-        Function<Lecture, String> lectureSubjectFunc = lecture -> {
+        Function<List<LectureSubject>, String> lectureSubjectFunc = lectureSubjects -> {
             StringBuilder sb = new StringBuilder();
-            List<LectureSubject> lectureSubjects = lecture.getLectureSubjects();
             int i = 1;
             for (LectureSubject lectureSubject : lectureSubjects) {
                 if (i != 1) {
@@ -92,36 +89,29 @@ public class LectureLogService extends LogService<Lecture> {
             }
             return sb.toString();
         };
-        functions.put("lectureSubjects", lectureSubjectFunc);
+        putFunction("lectureSubjects", lectureSubjectFunc);
         properties.add(new Property("lectureSubjects", "주제"));
-    }
 
-    @Override
-    protected void insert(PrintWriter pw, Lecture vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+        statuses.add(new Property("approved", "승인"));
     }
 
-    public String getInsertLogContent(Lecture vo) throws NoSuchFieldException, IllegalAccessException {
-
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw);
-        printInsertLogContent(pw, vo, properties, functions);
-
-        return sw.toString();
+    @Override
+    protected void insert(List<LogChange> changes, Lecture vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Lecture before, Lecture after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, Lecture before, Lecture after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Lecture vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Lecture vo) {
+        addDeleteLogChanges(changes, vo);
     }
 
     // 관리자가 승인
-    public String approve(Lecture lecture) {
-        return this.updateStatusByAdmin(lecture, "approved", "승인");
+    public Log approve(Lecture lecture) {
+        return this.updateStatusByAdmin(lecture, "approved");
     }
 }
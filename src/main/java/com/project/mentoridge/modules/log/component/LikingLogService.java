@@ -1,11 +1,13 @@
 package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.board.vo.Liking;
+import com.project.mentoridge.modules.board.vo.Post;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 @Service
 public class LikingLogService extends LogService<Liking> {
@@ -20,23 +22,21 @@ public class LikingLogService extends LogService<Liking> {
     @PostConstruct
     void init() {
         properties.add(new Property("post", "글"));
-        functions.put("post", post -> String.valueOf(post.getId()));
+        putFunction("post", (Post post) -> String.valueOf(post.getId()));
     }
 
     @Override
-    protected void insert(PrintWriter pw, Liking vo) throws NoSuchFieldException, IllegalAccessException {
-        pw.print(LIKING);
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, Liking vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Liking before, Liking after) throws NoSuchFieldException, IllegalAccessException {
+    protected void update(List<LogChange> changes, Liking before, Liking after) {
         throw new RuntimeException();
     }
 
     @Override
-    protected void delete(PrintWriter pw, Liking vo) throws NoSuchFieldException, IllegalAccessException {
-        pw.print(LIKING);
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Liking vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
@@ -0,0 +1,77 @@
+package com.project.mentoridge.modules.log.component;
+
+/**
+ * 로그 문자열 작성용 빌더
+ * - 스레드마다 하나를 재사용하고, 중첩 사용 시(ex. 강의 로그 안의 가격 로그)에만 새로 생성
+ */
+public final class LogContentBuilder implements AutoCloseable {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+    private static final ThreadLocal<LogContentBuilder> CACHE = ThreadLocal.withInitial(LogContentBuilder::new);
+
+    private final StringBuilder sb = new StringBuilder(INITIAL_CAPACITY);
+    private boolean inUse;
+    private boolean first = true;
+
+    private LogContentBuilder() {
+    }
+
+    public static LogContentBuilder acquire() {
+
+        LogContentBuilder builder = CACHE.get();
+        if (builder.inUse) {
+            builder = new LogContentBuilder();
+        }
+        builder.inUse = true;
+        builder.first = true;
+        builder.sb.setLength(0);
+        return builder;
+    }
+
+    public LogContentBuilder append(String text) {
+        sb.append(text);
+        return this;
+    }
+
+    // 이후 appendProperty / appendChange 는 구분자(", ") 없이 시작
+    public LogContentBuilder beginProperties() {
+        first = true;
+        return this;
+    }
+
+    public LogContentBuilder appendProperty(String name, Object value) {
+        separate();
+        sb.append(name).append(" : ").append(value);
+        return this;
+    }
+
+    public LogContentBuilder appendChange(String name, Object before, Object after) {
+        separate();
+        sb.append(name).append(" : ").append(before).append(" → ").append(after);
+        return this;
+    }
+
+        private void separate() {
+            if (first) {
+                first = false;
+            } else {
+                sb.append(", ");
+            }
+        }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+
+    @Override
+    public void close() {
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+            sb.setLength(0);
+            sb.trimToSize();
+            sb.ensureCapacity(INITIAL_CAPACITY);
+        }
+        inUse = false;
+    }
+}
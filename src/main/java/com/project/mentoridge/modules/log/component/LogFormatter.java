@@ -0,0 +1,83 @@
+package com.project.mentoridge.modules.log.component;
+
+import com.project.mentoridge.modules.log.enums.ManipulationType;
+import com.project.mentoridge.modules.log.vo.Log;
+import com.project.mentoridge.modules.log.vo.LogChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 저장된 변경 내역(Log.changes)을 조회 시점에 문자열로 변환
+@RequiredArgsConstructor
+@Component
+public class LogFormatter {
+
+    private static final String NONE = "없음";
+
+    private final List<LogService<?>> logServices;
+    private final Map<String, LogService<?>> logServiceMap = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (LogService<?> logService : logServices) {
+            logServiceMap.put(logService.getEntity(), logService);
+        }
+    }
+
+    // "[Lecture] " -> "Lecture"
+    public String getEntity(String title) {
+
+        String trimmed = title.trim();
+        for (LogService<?> logService : logServices) {
+            if (logService.getTitle() != null && logService.getTitle().trim().equals(trimmed)) {
+                return logService.getEntity();
+            }
+        }
+        return null;
+    }
+
+    public String format(Log log) {
+
+        if (log == null) {
+            return null;
+        }
+        // 엔티티 변경 이력이 아닌 로그 (ex. 로그인, 위시리스트 전체 삭제)
+        if (log.getChanges() == null) {
+            return log.getContent();
+        }
+
+        LogService<?> logService = logServiceMap.get(log.getEntity());
+        try (LogContentBuilder builder = LogContentBuilder.acquire()) {
+
+            builder.append(logService != null ? logService.getTitle() : String.format("[%s] ", log.getEntity()));
+            builder.beginProperties();
+            for (LogChange change : log.getChanges()) {
+
+                String field = change.getField();
+                String name = logService != null ? logService.getPropertyName(field) : field;
+                String before = decode(logService, field, change.getBefore());
+                String after = decode(logService, field, change.getAfter());
+                if (log.getType() == ManipulationType.INSERT) {
+                    builder.appendProperty(name, after);
+                } else if (log.getType() == ManipulationType.DELETE) {
+                    builder.appendProperty(name, before);
+                } else {
+                    builder.appendChange(name, orNone(before), orNone(after));
+                }
+            }
+            return builder.toString();
+        }
+    }
+
+        private String decode(LogService<?> logService, String field, String value) {
+            return logService != null ? logService.decode(field, value) : value;
+        }
+
+        private String orNone(String value) {
+            return value != null ? value : NONE;
+        }
+}
@@ -1,26 +1,39 @@
 package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.base.BaseEntity;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.Log;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
-
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import java.lang.reflect.Field;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.ResolvableType;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static com.project.mentoridge.modules.log.vo.Log.*;
 
 @Slf4j
 @RequiredArgsConstructor
-public abstract class LogService<T> {
+public abstract class LogService<T> implements InitializingBean {
 
     @Getter
     public static class Property {
@@ -34,17 +47,71 @@ public abstract class LogService<T> {
         private String name;
     }
 
+    // properties + functions 를 한 번에 읽을 수 있도록 컴파일한 결과
+    private static class Accessor<T> {
+
+        private final Property property;
+        private final Function<T, Object> getter;
+        private final Function<Object, String> function;
+
+        private Accessor(Property property, Function<T, Object> getter, Function<Object, String> function) {
+            this.property = property;
+            this.getter = getter;
+            this.function = function;
+        }
+
+        private Object get(T vo) {
+            return apply(getter.apply(vo));
+        }
+
+        // 필드 값(또는 Hibernate 가 들고 있는 state 값)에 function 적용
+        private Object apply(Object value) {
+            if (function == null) {
+                return value;
+            }
+            return value != null ? function.apply(value) : null;
+        }
+
+        private boolean isFunction() {
+            return function != null;
+        }
+    }
+
+    private static class StateIndexes {
+
+        private final String[] propertyNames;
+        private final Map<String, Integer> indexes;
+
+        private StateIndexes(String[] propertyNames, Map<String, Integer> indexes) {
+            this.propertyNames = propertyNames;
+            this.indexes = indexes;
+        }
+    }
+
     protected List<Property> properties = new ArrayList<>();
-    protected Map<String, Function<T, String>> functions = new HashMap<>();
+    // updateStatus 로만 기록하는 필드
+    protected List<Property> statuses = new ArrayList<>();
+    // 필드 값 -> 문자열
+    protected Map<String, Function<Object, String>> functions = new HashMap<>();
+    @Getter
     protected String title;
+    // AuditEventListener 가 insert/update 를 자동으로 기록
+    protected boolean captured = false;
 
     // private static final String SYSTEM = "system";
     private static final String ADMIN = "admin";
     protected final LogRepository logRepository;
 
+    private volatile List<Accessor<T>> accessors;
+    private final Map<String, Function<T, Object>> getters = new ConcurrentHashMap<>();
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+    // function 없이 저장하는 날짜/시간 필드 : 조회 시 epoch 값을 되돌린다 (decode)
+    private final Map<String, Class<?>> temporalTypes = new ConcurrentHashMap<>();
+    private String entity;
+    private volatile StateIndexes stateIndexes;
+
     // 사용자 활동 이력
     // TODO - MySQL? MongoDB?
-    // TODO - PrintStream, PrintWriter
 /*
     public void select(User user, T vo) {
 
@@ -60,361 +127,445 @@ public abstract class LogService<T> {
     }
     protected abstract void select(PrintWriter pw, User user, T vo);*/
 
-    public String insert(User user, T vo) {
+    @SuppressWarnings("unchecked")
+    protected <V> void putFunction(String field, Function<V, String> function) {
+        functions.put(field, value -> function.apply((V) value));
+    }
 
-        try {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
+    // 하위 클래스의 @PostConstruct(init) 이후에 호출된다
+    @Override
+    public void afterPropertiesSet() {
+        compile();
+    }
 
-            pw.print(title);
-            this.insert(pw, vo);
+        private synchronized List<Accessor<T>> compile() {
 
-            String log = sw.toString();
-            logRepository.saveLog(buildInsertLog(user.getUsername(), log));
+            if (accessors != null) {
+                return accessors;
+            }
 
-            return log;
+            List<Accessor<T>> compiled = new ArrayList<>(properties.size());
+            for (Property property : properties) {
 
-        } catch(Exception e) {
-            log.error("log-error : [insert] user : {}, vo : {}", user.getUsername(), vo.toString());
-            e.printStackTrace();
+                String field = property.getField();
+                names.put(field, property.getName());
+                compiled.add(new Accessor<>(property, getter(field), functions.get(field)));
+                addTemporalType(field);
+            }
+            for (Property status : statuses) {
+                names.put(status.getField(), status.getName());
+                getter(status.getField());
+                addTemporalType(status.getField());
+            }
+            accessors = compiled;
+            return compiled;
         }
-        return null;
+
+        private void addTemporalType(String field) {
+            Class<?> type = FieldAccessor.typeOf(getEntityType(), field);
+            if (!functions.containsKey(field) && isTemporal(type)) {
+                temporalTypes.put(field, type);
+            }
+        }
+
+        private Function<T, Object> getter(String field) {
+            return getters.computeIfAbsent(field, f -> FieldAccessor.compile(getEntityType(), f));
+        }
+
+    Class<?> getEntityType() {
+        return ResolvableType.forClass(getClass()).as(LogService.class).resolveGeneric(0);
     }
-    protected abstract void insert(PrintWriter pw, T vo) throws NoSuchFieldException, IllegalAccessException;
 
-        protected void printInsertLogContent(PrintWriter pw, T vo, List<Property> properties, Map<String, Function<T, String>> functions) throws NoSuchFieldException, IllegalAccessException {
+    boolean isCaptured() {
+        return captured;
+    }
 
-            Object value;
-            String _value;
-            int count = 0;
-            for(Property property : properties) {
+    // Log.entity 값 (ex. Lecture, MenteeReview)
+    public String getEntity() {
+        if (entity == null) {
+            entity = getEntityType().getSimpleName();
+        }
+        return entity;
+    }
 
-                String _field = property.getField();
-                if (functions.containsKey(_field)) {
+    public String getPropertyName(String field) {
+        getAccessors();
+        return names.getOrDefault(field, field);
+    }
 
-                    Function<T, String> func = functions.get(_field);
-                    _value = func.apply(vo);
-                    if (count == 0) {
-                        pw.print(String.format("%s : %s", property.getName(), _value));
-                    } else {
-                        pw.print(String.format(", %s : %s", property.getName(), _value));
-                    }
+        private Long getEntityId(T vo) {
+            return vo instanceof BaseEntity ? ((BaseEntity) vo).getId() : null;
+        }
 
-                } else {
-
-                    Field field = vo.getClass().getDeclaredField(_field);
-                    field.setAccessible(true);
-                    value = field.get(vo);
-                    if (ObjectUtils.isNotEmpty(value)) {
-                        if (count == 0) {
-                            pw.print(String.format("%s : %s", property.getName(), value.toString()));
-                        } else {
-                            pw.print(String.format(", %s : %s", property.getName(), value.toString()));
-                        }
-                    }
-                }
-                count += 1;
+        /**
+         * 저장 값 : 연관 엔티티는 id, enum 은 name, 날짜/시간은 epoch (LocalDate 는 epoch day, 그 외는 epoch milli)
+         * - function 이 있는 필드는 function 결과(문자열) 그대로
+         */
+        static String encode(Object value) {
+
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof String) {
+                return (String) value;
             }
+            if (value instanceof Enum) {
+                return ((Enum<?>) value).name();
+            }
+            if (value instanceof BaseEntity) {
+                // 프록시도 id 는 초기화 없이 읽는다
+                return String.valueOf(((BaseEntity) value).getId());
+            }
+            if (value instanceof LocalDate) {
+                return String.valueOf(((LocalDate) value).toEpochDay());
+            }
+            if (value instanceof LocalDateTime) {
+                return String.valueOf(((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            if (value instanceof Date) {
+                return String.valueOf(((Date) value).getTime());
+            }
+            return value.toString();
         }
 
-        protected void printInsertLogContent(PrintWriter pw, T vo, List<Property> properties) throws NoSuchFieldException, IllegalAccessException {
+        private static boolean isTemporal(Class<?> type) {
+            return type == LocalDate.class || type == LocalDateTime.class || Date.class.isAssignableFrom(type);
+        }
 
-            Object value;
-            int count = 0;
-            for(Property property : properties) {
-                Field field = vo.getClass().getDeclaredField(property.getField());
-                field.setAccessible(true);
-                value = field.get(vo);
-                if (ObjectUtils.isNotEmpty(value)) {
-                    if (count == 0) {
-                        pw.print(String.format("%s : %s", property.getName(), value.toString()));
-                    } else {
-                        pw.print(String.format(", %s : %s", property.getName(), value.toString()));
-                    }
-                    count += 1;
-                }
+    // 조회 시점(LogFormatter) : encode 한 날짜/시간을 읽을 수 있는 형식으로, 그 외는 저장 값 그대로
+    public String decode(String field, String value) {
+
+        getAccessors();
+        Class<?> type = temporalTypes.get(field);
+        if (value == null || type == null) {
+            return value;
+        }
+        try {
+            long epoch = Long.parseLong(value);
+            if (type == LocalDate.class) {
+                return LocalDate.ofEpochDay(epoch).toString();
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(epoch), ZoneId.systemDefault()).toString();
             }
+            return new Date(epoch).toString();
+        } catch (NumberFormatException e) {
+            // epoch 로 바꾸기 전에 저장된 값
+            return value;
         }
+    }
 
-    // 차이점만 기록
-    public String update(User user, T before, T after) {
+        private List<Accessor<T>> getAccessors() {
+            List<Accessor<T>> compiled = accessors;
+            return compiled != null ? compiled : compile();
+        }
 
-        try {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
+    public Log insert(User user, T vo) {
+        return insert(user.getUsername(), vo);
+    }
+
+    public Log insert(String username, T vo) {
 
-            pw.print(title);
-            this.update(pw, before, after);
+        try {
+            List<LogChange> changes = new ArrayList<>(properties.size());
+            this.insert(changes, vo);
 
-            String log = sw.toString();
-            logRepository.saveLog(buildUpdateLog(user.getUsername(), log));
+            Log log = buildInsertLog(username, getEntity(), getEntityId(vo), changes);
+            logRepository.saveLog(log);
 
             return log;
 
         } catch(Exception e) {
-            log.error("log-error : [update] user : {}, vo : {} -> {}", user.getUsername(), before.toString(), after.toString());
+            log.error("log-error : [insert] user : {}, vo : {}", username, vo.toString());
             e.printStackTrace();
         }
         return null;
     }
-    protected abstract void update(PrintWriter pw, T before, T after) throws NoSuchFieldException, IllegalAccessException;
-
-        protected void printUpdateLogContent(PrintWriter pw, T before, T after, List<Property> properties, Map<String, Function<T, String>> functions) throws NoSuchFieldException, IllegalAccessException {
-
-            Object beforeValue;
-            Object afterValue;
-            String _beforeValue;
-            String _afterValue;
-            int count = 0;
-            for(Property property : properties) {
-
-                String _field = property.getField();
-                if (functions.containsKey(_field)) {
-
-                    Function<T, String> func = functions.get(_field);
-                    _beforeValue = func.apply(before);
-                    _afterValue = func.apply(after);
-                    if (!_beforeValue.equals(_afterValue)) {
-                        if (count == 0) {
-                            pw.print(String.format("%s : %s → %s", property.getName(), _beforeValue, _afterValue));
-                        } else {
-                            pw.print(String.format(", %s : %s → %s", property.getName(), _beforeValue, _afterValue));
-                        }
-                        count += 1;
-                    }
+    protected abstract void insert(List<LogChange> changes, T vo);
 
-                } else {
-
-                    Field beforeField = before.getClass().getDeclaredField(property.getField());
-                    beforeField.setAccessible(true);
-                    beforeValue = beforeField.get(before);
-
-                    Field afterField = after.getClass().getDeclaredField(property.getField());
-                    afterField.setAccessible(true);
-                    afterValue = afterField.get(after);
-
-                    if (ObjectUtils.isNotEmpty(beforeValue) || ObjectUtils.isNotEmpty(afterValue)) {
-                        String beforeStr = beforeValue != null ? beforeValue.toString() : "없음";
-                        String afterStr = afterValue != null ? afterValue.toString() : "없음";
-                        if (!beforeStr.equals(afterStr)) {
-                            if (count == 0) {
-                                pw.print(String.format("%s : %s → %s", property.getName(), beforeStr, afterStr));
-                            } else {
-                                pw.print(String.format(", %s : %s → %s", property.getName(), beforeStr, afterStr));
-                            }
-                            count += 1;
-                        }
-                    }
+        protected void addInsertLogChanges(List<LogChange> changes, T vo) {
+
+            for (Accessor<T> accessor : getAccessors()) {
+                Object value = accessor.get(vo);
+                if (accessor.isFunction() || ObjectUtils.isNotEmpty(value)) {
+                    changes.add(LogChange.inserted(accessor.property.getField(), encode(value)));
                 }
             }
         }
 
-        protected void printUpdateLogContent(PrintWriter pw, T before, T after, List<Property> properties) throws NoSuchFieldException, IllegalAccessException {
-
-            Object beforeValue;
-            Object afterValue;
-            int count = 0;
-            for(Property property : properties) {
-
-                Field beforeField = before.getClass().getDeclaredField(property.getField());
-                beforeField.setAccessible(true);
-                beforeValue = beforeField.get(before);
+    // 다른 로그 안에 포함되는 경우(ex. 수강 내역 안의 강의) 사용
+    public String getInsertLogContent(T vo) {
 
-                Field afterField = after.getClass().getDeclaredField(property.getField());
-                afterField.setAccessible(true);
-                afterValue = afterField.get(after);
+        try (LogContentBuilder builder = LogContentBuilder.acquire()) {
 
-                if (ObjectUtils.isNotEmpty(beforeValue) || ObjectUtils.isNotEmpty(afterValue)) {
-                    String beforeStr = beforeValue.toString();
-                    String afterStr = afterValue.toString();
-                    if (!beforeStr.equals(afterStr)) {
-                        if (count == 0) {
-                            pw.print(String.format("%s : %s → %s", property.getName(), beforeStr, afterStr));
-                        } else {
-                            pw.print(String.format(", %s : %s → %s", property.getName(), beforeStr, afterStr));
-                        }
-                        count += 1;
-                    }
+            builder.beginProperties();
+            for (Accessor<T> accessor : getAccessors()) {
+                Object value = accessor.get(vo);
+                if (accessor.isFunction() || ObjectUtils.isNotEmpty(value)) {
+                    builder.appendProperty(accessor.property.getName(), value);
                 }
             }
+            return builder.toString();
         }
+    }
 
-    public String delete(User user, T vo) {
+    // 차이점만 기록
+    public Log update(User user, T before, T after) {
 
         try {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
-
-            pw.print(title);
-            this.delete(pw, vo);
+            List<LogChange> changes = new ArrayList<>();
+            this.update(changes, before, after);
 
-            String log = sw.toString();
-            logRepository.saveLog(buildDeleteLog(user.getUsername(), log));
+            Log log = buildUpdateLog(user.getUsername(), getEntity(), getEntityId(after), changes);
+            logRepository.saveLog(log);
 
             return log;
 
         } catch(Exception e) {
-            log.error("log-error : [delete] user : {}, vo : {}", user.getUsername(), vo.toString());
+            log.error("log-error : [update] user : {}, vo : {} -> {}", user.getUsername(), before.toString(), after.toString());
             e.printStackTrace();
         }
         return null;
     }
-    protected abstract void delete(PrintWriter pw, T vo) throws NoSuchFieldException, IllegalAccessException;
-
-        protected void printDeleteLogContent(PrintWriter pw, T vo, List<Property> properties, Map<String, Function<T, String>> functions) throws NoSuchFieldException, IllegalAccessException {
+    protected abstract void update(List<LogChange> changes, T before, T after);
 
-            Object value;
-            String _value;
-            int count = 0;
-            for(Property property : properties) {
+        protected void addUpdateLogChanges(List<LogChange> changes, T before, T after) {
 
-                String _field = property.getField();
-                if (functions.containsKey(_field)) {
+            for (Accessor<T> accessor : getAccessors()) {
 
-                    Function<T, String> func = functions.get(_field);
-                    _value = func.apply(vo);
-                    if (count == 0) {
-                        pw.print(String.format("%s : %s", property.getName(), _value));
-                    } else {
-                        pw.print(String.format(", %s : %s", property.getName(), _value));
-                    }
-
-                } else {
-
-                    Field field = vo.getClass().getDeclaredField(_field);
-                    field.setAccessible(true);
-                    value = field.get(vo);
-                    if (ObjectUtils.isNotEmpty(value)) {
-                        if (count == 0) {
-                            pw.print(String.format("%s : %s", property.getName(), value.toString()));
-                        } else {
-                            pw.print(String.format(", %s : %s", property.getName(), value.toString()));
-                        }
+                Object beforeValue = accessor.get(before);
+                Object afterValue = accessor.get(after);
+                if (accessor.isFunction() || ObjectUtils.isNotEmpty(beforeValue) || ObjectUtils.isNotEmpty(afterValue)) {
+                    String beforeStr = encode(beforeValue);
+                    String afterStr = encode(afterValue);
+                    if (!Objects.equals(beforeStr, afterStr)) {
+                        changes.add(LogChange.of(accessor.property.getField(), beforeStr, afterStr));
                     }
                 }
-                count += 1;
             }
         }
 
-        protected void printDeleteLogContent(PrintWriter pw, T vo, List<Property> properties) throws NoSuchFieldException, IllegalAccessException {
+    /**
+     * Hibernate PostUpdateEvent 로 받은 state 를 비교해서 기록 (before 스냅샷 불필요)
+     * - dirtyProperties 에 없는 컬럼은 건너뛰고, 컬렉션은 PersistentCollection 의 스냅샷과 비교
+     * - 지연 로딩 필드(ex. Post.content)는 변경 전에 로딩된 경우만 비교 (엔티티의 update 에서 먼저 읽는다)
+     * - 기록할 변경 사항이 없으면 저장하지 않는다 (ex. 조회수, 승인 여부)
+     */
+    public Log update(String username, T vo, String[] propertyNames, Object[] oldState, Object[] state, int[] dirtyProperties) {
 
-            Object value;
-            int count = 0;
-            for(Property property : properties) {
-                Field field = vo.getClass().getDeclaredField(property.getField());
-                field.setAccessible(true);
-                value = field.get(vo);
-                if (ObjectUtils.isNotEmpty(value)) {
-                    if (count == 0) {
-                        pw.print(String.format("%s : %s", property.getName(), value.toString()));
-                    } else {
-                        pw.print(String.format(", %s : %s", property.getName(), value.toString()));
+        if (oldState == null) {
+            return null;
+        }
+
+        try {
+            Map<String, Integer> indexes = getStateIndexes(propertyNames);
+            List<LogChange> changes = new ArrayList<>();
+            for (Accessor<T> accessor : getAccessors()) {
+
+                Integer index = indexes.get(accessor.property.getField());
+                if (index == null) {
+                    continue;
+                }
+
+                Object beforeState = oldState[index];
+                Object afterState = state[index];
+                boolean collection = beforeState instanceof PersistentCollection;
+                if (collection) {
+                    PersistentCollection persistentCollection = (PersistentCollection) beforeState;
+                    // 한 번도 로딩되지 않은 컬렉션은 변경될 수 없다
+                    // 같은 컬렉션 안의 변경은 컬렉션 이벤트에서 기록 (updateCollection)
+                    if (!persistentCollection.wasInitialized() || persistentCollection == afterState) {
+                        continue;
                     }
-                    count += 1;
+                    beforeState = getSnapshot(persistentCollection);
+                } else if (dirtyProperties != null && !ArrayUtils.contains(dirtyProperties, index)) {
+                    continue;
+                } else if (beforeState == LazyPropertyInitializer.UNFETCHED_PROPERTY) {
+                    // 로딩하지 않은 채 변경된 지연 로딩 필드 : 이전 값을 알 수 없다
+                    continue;
                 }
+                addStateChange(changes, accessor, beforeState, afterState);
             }
-        }
 
-    protected void updateStatus(User user, T after, String propertyField, String propertyName) {
+            if (changes.isEmpty()) {
+                return null;
+            }
 
-        try {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
+            Log log = buildUpdateLog(username, getEntity(), getEntityId(vo), changes);
+            logRepository.saveLog(log);
 
-            pw.print(title);
-            this.printUpdateStatusLogContent(pw, after, new Property(propertyField, propertyName));
-            logRepository.saveLog(buildUpdateLog(user.getUsername(), sw.toString()));
+            return log;
 
         } catch(Exception e) {
-            log.error("log-error : [update-status] user : {}, vo : {}", user.getUsername(), after.toString());
+            log.error("log-error : [update] user : {}, vo : {}", username, vo.toString());
             e.printStackTrace();
         }
+        return null;
     }
 
-    protected void updateStatus(User user, T before, T after, String propertyField, String propertyName) {
+        private static <T> void addStateChange(List<LogChange> changes, Accessor<T> accessor, Object beforeState, Object afterState) {
 
-        try {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
+            Object beforeValue = accessor.apply(beforeState);
+            Object afterValue = accessor.apply(afterState);
+            if (accessor.isFunction() || ObjectUtils.isNotEmpty(beforeValue) || ObjectUtils.isNotEmpty(afterValue)) {
+                String beforeStr = encode(beforeValue);
+                String afterStr = encode(afterValue);
+                if (!Objects.equals(beforeStr, afterStr)) {
+                    changes.add(LogChange.of(accessor.property.getField(), beforeStr, afterStr));
+                }
+            }
+        }
 
-            pw.print(title);
-            this.printUpdateStatusLogContent(pw, before, after, new Property(propertyField, propertyName));
-            logRepository.saveLog(buildUpdateLog(user.getUsername(), sw.toString()));
+        // propertyNames 는 persister 별로 고정(같은 배열)이므로 한 번만 계산
+        private Map<String, Integer> getStateIndexes(String[] propertyNames) {
 
-        } catch(Exception e) {
-            log.error("log-error : [update-status] user : {}, vo : {} -> {}", user.getUsername(), before.toString(), after.toString());
-            e.printStackTrace();
+            StateIndexes cached = stateIndexes;
+            if (cached == null || cached.propertyNames != propertyNames) {
+                Map<String, Integer> indexes = new HashMap<>(propertyNames.length);
+                for (int i = 0; i < propertyNames.length; i++) {
+                    indexes.put(propertyNames[i], i);
+                }
+                cached = new StateIndexes(propertyNames, indexes);
+                stateIndexes = cached;
+            }
+            return cached.indexes;
         }
-    }
 
-    protected void updateStatusByAdmin(T before, T after, String propertyField, String propertyName) {
+        private static Object getSnapshot(PersistentCollection collection) {
+
+            Serializable snapshot = collection.getStoredSnapshot();
+            if (snapshot instanceof Map) {
+                // PersistentSet, PersistentMap
+                return new ArrayList<>(((Map<?, ?>) snapshot).values());
+            }
+            return snapshot != null ? snapshot : collection;
+        }
+
+    /**
+     * 컬렉션만 변경된 경우 (ex. 강의 가격 추가, 주제 변경) - 엔티티 update 이벤트가 발생하지 않는다
+     * - before 는 PersistentCollection 의 스냅샷과 비교, 기록 대상이 아닌 컬렉션은 무시
+     */
+    public Log updateCollection(String username, T vo, String field, PersistentCollection before, Object after) {
+
+        if (before == null || !before.wasInitialized()) {
+            return null;
+        }
 
         try {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
+            List<LogChange> changes = new ArrayList<>(1);
+            for (Accessor<T> accessor : getAccessors()) {
+                if (accessor.property.getField().equals(field)) {
+                    addStateChange(changes, accessor, getSnapshot(before), after);
+                }
+            }
+
+            if (changes.isEmpty()) {
+                return null;
+            }
 
-            pw.print(title);
-            this.printUpdateStatusLogContent(pw, before, after, new Property(propertyField, propertyName));
-            logRepository.saveLog(buildUpdateLog(ADMIN, sw.toString()));
+            Log log = buildUpdateLog(username, getEntity(), getEntityId(vo), changes);
+            logRepository.saveLog(log);
+
+            return log;
 
         } catch(Exception e) {
-            log.error("log-error : [update-status] user : {}, vo : {} -> {}", ADMIN, before.toString(), after.toString());
+            log.error("log-error : [update-collection] user : {}, vo : {}", username, vo.toString());
             e.printStackTrace();
         }
+        return null;
     }
 
-    protected String updateStatusByAdmin(T after, String propertyField, String propertyName) {
+    public Log delete(User user, T vo) {
 
         try {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
+            List<LogChange> changes = new ArrayList<>(properties.size());
+            this.delete(changes, vo);
 
-            pw.print(title);
-            this.printUpdateStatusLogContent(pw, after, new Property(propertyField, propertyName));
-
-            String log = sw.toString();
-            logRepository.saveLog(buildUpdateLog(ADMIN, log));
+            Log log = buildDeleteLog(user.getUsername(), getEntity(), getEntityId(vo), changes);
+            logRepository.saveLog(log);
 
             return log;
 
         } catch(Exception e) {
-            log.error("log-error : [update-status] user : {}, vo : {}", ADMIN, after.toString());
+            log.error("log-error : [delete] user : {}, vo : {}", user.getUsername(), vo.toString());
             e.printStackTrace();
         }
         return null;
     }
+    protected abstract void delete(List<LogChange> changes, T vo);
 
-        private void printUpdateStatusLogContent(PrintWriter pw, T after, Property property) throws NoSuchFieldException, IllegalAccessException {
+        protected void addDeleteLogChanges(List<LogChange> changes, T vo) {
 
-            Field afterField = after.getClass().getDeclaredField(property.getField());
-            afterField.setAccessible(true);
-            Object afterValue = afterField.get(after);
-
-            if (afterValue instanceof Boolean) {
-                Boolean value = (Boolean) afterValue;
-                pw.print(String.format("%s : %s → %s", property.getName(), !value, value));
+            for (Accessor<T> accessor : getAccessors()) {
+                Object value = accessor.get(vo);
+                if (accessor.isFunction() || ObjectUtils.isNotEmpty(value)) {
+                    changes.add(LogChange.deleted(accessor.property.getField(), encode(value)));
+                }
             }
         }
 
-        private void printUpdateStatusLogContent(PrintWriter pw, T before, T after, Property property) throws NoSuchFieldException, IllegalAccessException {
+    protected Log updateStatus(User user, T after, String propertyField) {
+        return updateStatus(user.getUsername(), after, propertyField);
+    }
 
-            Object beforeValue;
-            Object afterValue;
-            Field beforeField = before.getClass().getDeclaredField(property.getField());
-            beforeField.setAccessible(true);
-            beforeValue = beforeField.get(before);
+    protected Log updateStatus(User user, T before, T after, String propertyField) {
+        return updateStatus(user.getUsername(), before, after, propertyField);
+    }
 
-            Field afterField = after.getClass().getDeclaredField(property.getField());
-            afterField.setAccessible(true);
-            afterValue = afterField.get(after);
+    protected Log updateStatusByAdmin(T before, T after, String propertyField) {
+        return updateStatus(ADMIN, before, after, propertyField);
+    }
+
+    protected Log updateStatusByAdmin(T after, String propertyField) {
+        return updateStatus(ADMIN, after, propertyField);
+    }
 
-            if (ObjectUtils.isNotEmpty(beforeValue) || ObjectUtils.isNotEmpty(afterValue)) {
-                String beforeStr = beforeValue.toString();
-                String afterStr = afterValue.toString();
-                if (!beforeStr.equals(afterStr)) {
-                    pw.print(String.format("%s : %s → %s", property.getName(), beforeStr, afterStr));
+        private Log updateStatus(String username, T after, String propertyField) {
+
+            try {
+                List<LogChange> changes = new ArrayList<>(1);
+                Object afterValue = getter(propertyField).apply(after);
+                if (afterValue instanceof Boolean) {
+                    Boolean value = (Boolean) afterValue;
+                    changes.add(LogChange.of(propertyField, encode(!value), encode(value)));
                 }
+
+                Log log = buildUpdateLog(username, getEntity(), getEntityId(after), changes);
+                logRepository.saveLog(log);
+
+                return log;
+
+            } catch(Exception e) {
+                log.error("log-error : [update-status] user : {}, vo : {}", username, after.toString());
+                e.printStackTrace();
             }
+            return null;
+        }
+
+        private Log updateStatus(String username, T before, T after, String propertyField) {
 
+            try {
+                List<LogChange> changes = new ArrayList<>(1);
+                Function<T, Object> getter = getter(propertyField);
+                Object beforeValue = getter.apply(before);
+                Object afterValue = getter.apply(after);
+                if (ObjectUtils.isNotEmpty(beforeValue) || ObjectUtils.isNotEmpty(afterValue)) {
+                    String beforeStr = encode(beforeValue);
+                    String afterStr = encode(afterValue);
+                    if (!Objects.equals(beforeStr, afterStr)) {
+                        changes.add(LogChange.of(propertyField, beforeStr, afterStr));
+                    }
+                }
+
+                Log log = buildUpdateLog(username, getEntity(), getEntityId(after), changes);
+                logRepository.saveLog(log);
+
+                return log;
+
+            } catch(Exception e) {
+                log.error("log-error : [update-status] user : {}, vo : {} -> {}", username, before.toString(), after.toString());
+                e.printStackTrace();
+            }
+            return null;
         }
 }
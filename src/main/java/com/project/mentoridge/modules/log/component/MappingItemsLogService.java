@@ -4,32 +4,50 @@ import com.project.mentoridge.modules.log.component.LogService.Property;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.ResolvableType;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 @Slf4j
 @RequiredArgsConstructor
-public abstract class MappingItemsLogService<T> {
+public abstract class MappingItemsLogService<T> implements InitializingBean {
 
     protected List<Property> properties = new ArrayList<>();
 
-    protected void getLogContent(StringBuilder sb, T vo) throws NoSuchFieldException, IllegalAccessException {
+    private volatile List<Function<T, Object>> getters;
 
-        Object value;
-        int count = 0;
-        for(Property property : properties) {
-            Field field = vo.getClass().getDeclaredField(property.getField());
-            field.setAccessible(true);
-            value = field.get(vo);
+    // 하위 클래스의 @PostConstruct(init) 이후에 호출된다
+    @Override
+    public void afterPropertiesSet() {
+        compile();
+    }
+
+        private synchronized List<Function<T, Object>> compile() {
+
+            if (getters != null) {
+                return getters;
+            }
+
+            Class<?> type = ResolvableType.forClass(getClass()).as(MappingItemsLogService.class).resolveGeneric(0);
+            List<Function<T, Object>> compiled = new ArrayList<>(properties.size());
+            for (Property property : properties) {
+                compiled.add(FieldAccessor.compile(type, property.getField()));
+            }
+            getters = compiled;
+            return compiled;
+        }
+
+    protected void getLogContent(LogContentBuilder builder, T vo) {
+
+        List<Function<T, Object>> compiled = getters != null ? getters : compile();
+        builder.beginProperties();
+        for (int i = 0; i < compiled.size(); i++) {
+            Object value = compiled.get(i).apply(vo);
             if (ObjectUtils.isNotEmpty(value)) {
-                if (count == 0) {
-                    sb.append(String.format("%s : %s", property.getName(), value.toString()));
-                } else {
-                    sb.append(String.format(", %s : %s", property.getName(), value.toString()));
-                }
-                count += 1;
+                builder.appendProperty(properties.get(i).getName(), value);
             }
         }
     }
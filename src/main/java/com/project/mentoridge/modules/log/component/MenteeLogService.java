@@ -1,12 +1,13 @@
 package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.account.vo.Mentee;
+import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
-import java.util.function.Function;
+import java.util.List;
 
 @Service
 public class MenteeLogService extends LogService<Mentee> {
@@ -23,22 +24,21 @@ public class MenteeLogService extends LogService<Mentee> {
         properties.add(new Property("user", "사용자"));
         properties.add(new Property("subjects", "관심 주제"));
 
-        Function<Mentee, String> func = mentee -> mentee.getUser().getUsername();
-        functions.put("user", func);
+        putFunction("user", User::getUsername);
     }
 
     @Override
-    protected void insert(PrintWriter pw, Mentee vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, Mentee vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Mentee before, Mentee after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, Mentee before, Mentee after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Mentee vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Mentee vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
@@ -1,15 +1,16 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.Mentee;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import com.project.mentoridge.modules.purchase.vo.Enrollment;
 import com.project.mentoridge.modules.review.vo.MenteeReview;
 import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.util.List;
 import java.util.function.Function;
 
 @Service
@@ -24,6 +25,7 @@ public class MenteeReviewLogService extends LogService<MenteeReview> {
         this.lectureLogService = lectureLogService;
         this.enrollmentLogService = enrollmentLogService;
         this.title = MENTEE_REVIEW;
+        this.captured = true;
     }
 
     @PostConstruct
@@ -35,56 +37,39 @@ public class MenteeReviewLogService extends LogService<MenteeReview> {
         properties.add(new Property("enrollment", "수강 내역"));
         properties.add(new Property("lecture", "강의"));
 
-        functions.put("mentee", review -> review.getMentee().getUser().getNickname());
-        Function<MenteeReview, String> enrollmentFunc = review -> {
+        putFunction("mentee", (Mentee mentee) -> mentee.getUser().getNickname());
+        Function<Enrollment, String> enrollmentFunc = _enrollment -> {
             StringBuilder sb = new StringBuilder();
             sb.append("(");
-            try {
-                Enrollment enrollment = Hibernate.unproxy(review.getEnrollment(), Enrollment.class);
-                sb.append(enrollmentLogService.getInsertLogContent(enrollment));
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
+            Enrollment enrollment = Hibernate.unproxy(_enrollment, Enrollment.class);
+            sb.append(enrollmentLogService.getInsertLogContent(enrollment));
             sb.append(")");
             return sb.toString();
         };
-        functions.put("enrollment", enrollmentFunc);
-        Function<MenteeReview, String> lectureFunc = review -> {
+        putFunction("enrollment", enrollmentFunc);
+        Function<Lecture, String> lectureFunc = _lecture -> {
             StringBuilder sb = new StringBuilder();
             sb.append("(");
-            try {
-                Lecture lecture = Hibernate.unproxy(review.getLecture(), Lecture.class);
-                sb.append(lectureLogService.getInsertLogContent(lecture));
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
+            Lecture lecture = Hibernate.unproxy(_lecture, Lecture.class);
+            sb.append(lectureLogService.getInsertLogContent(lecture));
             sb.append(")");
             return sb.toString();
         };
-        functions.put("lecture", lectureFunc);
+        putFunction("lecture", lectureFunc);
     }
 
     @Override
-    protected void insert(PrintWriter pw, MenteeReview vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
-    }
-
-    public String getInsertLogContent(MenteeReview vo) throws NoSuchFieldException, IllegalAccessException {
-
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw);
-
-        printInsertLogContent(pw, vo, properties, functions);
-        return sw.toString();
+    protected void insert(List<LogChange> changes, MenteeReview vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, MenteeReview before, MenteeReview after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, MenteeReview before, MenteeReview after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, MenteeReview vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, MenteeReview vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
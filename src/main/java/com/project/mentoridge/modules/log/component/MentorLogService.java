@@ -1,12 +1,13 @@
 package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.account.vo.Mentor;
+import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
-import java.util.function.Function;
+import java.util.List;
 
 @Service
 public class MentorLogService extends LogService<Mentor> {
@@ -23,22 +24,21 @@ public class MentorLogService extends LogService<Mentor> {
         properties.add(new Property("user", "사용자"));
         properties.add(new Property("bio", "소개"));
 
-        Function<Mentor, String> func = mentor -> mentor.getUser().getUsername();
-        functions.put("user", func);
+        putFunction("user", User::getUsername);
     }
 
     @Override
-    protected void insert(PrintWriter pw, Mentor vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, Mentor vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Mentor before, Mentor after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, Mentor before, Mentor after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Mentor vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Mentor vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
@@ -1,13 +1,15 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import com.project.mentoridge.modules.review.vo.MenteeReview;
 import com.project.mentoridge.modules.review.vo.MentorReview;
 import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 import java.util.function.Function;
 
 @Service
@@ -20,6 +22,7 @@ public class MentorReviewLogService extends LogService<MentorReview> {
         super(logRepository);
         this.menteeReviewLogService = menteeReviewLogService;
         this.title = MENTOR_REVIEW;
+        this.captured = true;
     }
 
     @PostConstruct
@@ -29,34 +32,30 @@ public class MentorReviewLogService extends LogService<MentorReview> {
         properties.add(new Property("mentor", "멘토"));
         properties.add(new Property("parent", "멘티 리뷰"));
 
-        functions.put("mentor", review -> review.getMentor().getUser().getNickname());
-        Function<MentorReview, String> parentFunc = review -> {
+        putFunction("mentor", (Mentor mentor) -> mentor.getUser().getNickname());
+        Function<MenteeReview, String> parentFunc = parent -> {
             StringBuilder sb = new StringBuilder();
             sb.append("(");
-            try {
-                MenteeReview menteeReview = Hibernate.unproxy(review.getParent(), MenteeReview.class);
-                sb.append(menteeReviewLogService.getInsertLogContent(menteeReview));
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
+            MenteeReview menteeReview = Hibernate.unproxy(parent, MenteeReview.class);
+            sb.append(menteeReviewLogService.getInsertLogContent(menteeReview));
             sb.append(")");
             return sb.toString();
         };
-        functions.put("parent", parentFunc);
+        putFunction("parent", parentFunc);
     }
 
     @Override
-    protected void insert(PrintWriter pw, MentorReview vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, MentorReview vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, MentorReview before, MentorReview after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, MentorReview before, MentorReview after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, MentorReview vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, MentorReview vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
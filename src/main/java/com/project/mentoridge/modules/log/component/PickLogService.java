@@ -1,14 +1,16 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.Mentee;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import com.project.mentoridge.modules.purchase.vo.Pick;
 import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 import java.util.function.Function;
 
 import static com.project.mentoridge.modules.log.vo.Log.buildDeleteLog;
@@ -30,35 +32,31 @@ public class PickLogService extends LogService<Pick> {
         properties.add(new Property("mentee", "멘티"));
         properties.add(new Property("lecture", "강의"));
 
-        functions.put("mentee", chatroom -> chatroom.getMentee().getUser().getUsername());
-        Function<Pick, String> lectureFunc = pick -> {
+        putFunction("mentee", (Mentee mentee) -> mentee.getUser().getUsername());
+        Function<Lecture, String> lectureFunc = _lecture -> {
             StringBuilder sb = new StringBuilder();
             sb.append("(");
-            try {
-                Lecture lecture = Hibernate.unproxy(pick.getLecture(), Lecture.class);
-                sb.append(lectureLogService.getInsertLogContent(lecture));
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                e.printStackTrace();
-            }
+            Lecture lecture = Hibernate.unproxy(_lecture, Lecture.class);
+            sb.append(lectureLogService.getInsertLogContent(lecture));
             sb.append(")");
             return sb.toString();
         };
-        functions.put("lecture", lectureFunc);
+        putFunction("lecture", lectureFunc);
     }
 
     @Override
-    protected void insert(PrintWriter pw, Pick vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, Pick vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Pick before, Pick after) throws NoSuchFieldException, IllegalAccessException {
+    protected void update(List<LogChange> changes, Pick before, Pick after) {
         throw new RuntimeException();
     }
 
     @Override
-    protected void delete(PrintWriter pw, Pick vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Pick vo) {
+        addDeleteLogChanges(changes, vo);
     }
 
     public void deleteAll(User user) {
@@ -1,11 +1,13 @@
 package com.project.mentoridge.modules.log.component;
 
+import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.board.vo.Post;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 @Service
 public class PostLogService extends LogService<Post> {
@@ -15,12 +17,13 @@ public class PostLogService extends LogService<Post> {
     public PostLogService(LogRepository logRepository) {
         super(logRepository);
         this.title = POST;
+        this.captured = true;
     }
 
     @PostConstruct
     void init() {
         properties.add(new Property("user", "글 작성자"));
-        functions.put("user", post -> post.getUser().getNickname());
+        putFunction("user", User::getNickname);
 
         properties.add(new Property("category", "카테고리"));
         properties.add(new Property("title", "제목"));
@@ -29,17 +32,17 @@ public class PostLogService extends LogService<Post> {
     }
 
     @Override
-    protected void insert(PrintWriter pw, Post vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties, functions);
+    protected void insert(List<LogChange> changes, Post vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, Post before, Post after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties, functions);
+    protected void update(List<LogChange> changes, Post before, Post after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, Post vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties, functions);
+    protected void delete(List<LogChange> changes, Post vo) {
+        addDeleteLogChanges(changes, vo);
     }
 }
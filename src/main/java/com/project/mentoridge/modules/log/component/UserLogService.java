@@ -2,10 +2,11 @@ package com.project.mentoridge.modules.log.component;
 
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.log.repository.LogRepository;
+import com.project.mentoridge.modules.log.vo.LogChange;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.io.PrintWriter;
+import java.util.List;
 
 import static com.project.mentoridge.modules.log.vo.Log.buildUpdateLog;
 
@@ -31,37 +32,42 @@ public class UserLogService extends LogService<User> {
         properties.add(new Property("zone", "지역"));
         properties.add(new Property("role", "권한"));
         properties.add(new Property("provider", "OAuth"));
+
+        statuses.add(new Property("password", "비밀번호"));
+        statuses.add(new Property("image", "이미지"));
+        statuses.add(new Property("fcmToken", "FCM Token"));
+        statuses.add(new Property("emailVerified", "이메일 인증 여부"));
     }
 
     @Override
-    protected void insert(PrintWriter pw, User vo) throws NoSuchFieldException, IllegalAccessException {
-        printInsertLogContent(pw, vo, properties);
+    protected void insert(List<LogChange> changes, User vo) {
+        addInsertLogChanges(changes, vo);
     }
 
     @Override
-    protected void update(PrintWriter pw, User before, User after) throws NoSuchFieldException, IllegalAccessException {
-        printUpdateLogContent(pw, before, after, properties);
+    protected void update(List<LogChange> changes, User before, User after) {
+        addUpdateLogChanges(changes, before, after);
     }
 
     @Override
-    protected void delete(PrintWriter pw, User vo) throws NoSuchFieldException, IllegalAccessException {
-        printDeleteLogContent(pw, vo, properties);
+    protected void delete(List<LogChange> changes, User vo) {
+        addDeleteLogChanges(changes, vo);
     }
 
     public void updatePassword(User user, User before, User after) {
-        this.updateStatus(user, before, after, "password", "비밀번호");
+        this.updateStatus(user, before, after, "password");
     }
 
     public void updateImage(User user, User before, User after) {
-        this.updateStatus(user, before, after, "image", "이미지");
+        this.updateStatus(user, before, after, "image");
     }
 
     public void updateFcmToken(User user, User before, User after) {
-        this.updateStatus(user, before, after, "fcmToken", "FCM Token");
+        this.updateStatus(user, before, after, "fcmToken");
     }
 
     public void verifyEmail(User user) {
-        this.updateStatus(user, user, "emailVerified", "이메일 인증 여부");
+        this.updateStatus(user, user, "emailVerified");
     }
 
     // TODO - log
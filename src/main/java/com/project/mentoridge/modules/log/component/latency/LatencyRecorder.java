@@ -0,0 +1,68 @@
+package com.project.mentoridge.modules.log.component.latency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * endpoint(method + URL 패턴) 별 최근 응답 시간 분포
+ * - LoggingAspect 에서 접근 로그와 같은 값으로 기록
+ * - endpoint 수가 maxEndpoints 를 넘으면 OTHER 로 합친다
+ */
+@Component
+public class LatencyRecorder {
+
+    static final String OTHER = "OTHER";
+
+    private final long windowMs;
+    private final int slotCount;
+    private final int maxEndpoints;
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<String, RollingHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyRecorder(@Value("${mentoridge-config.latency.window-seconds:300}") long windowSeconds,
+                           @Value("${mentoridge-config.latency.slot-count:10}") int slotCount,
+                           @Value("${mentoridge-config.latency.max-endpoints:500}") int maxEndpoints) {
+        this(windowSeconds * 1000, slotCount, maxEndpoints, System::currentTimeMillis);
+    }
+
+    LatencyRecorder(long windowMs, int slotCount, int maxEndpoints, LongSupplier clock) {
+        this.windowMs = windowMs;
+        this.slotCount = slotCount;
+        this.maxEndpoints = maxEndpoints;
+        this.clock = clock;
+    }
+
+    public void record(String endpoint, long latencyMs, boolean error) {
+
+        RollingHistogram histogram = histograms.get(endpoint);
+        if (histogram == null) {
+            String key = histograms.size() < maxEndpoints ? endpoint : OTHER;
+            histogram = histograms.computeIfAbsent(key, k -> new RollingHistogram(windowMs, slotCount, clock));
+        }
+        histogram.record(latencyMs, error);
+    }
+
+    // 최근 window 동안 요청이 없는 endpoint 는 제외
+    public Map<String, RollingHistogram.Snapshot> getSnapshots() {
+
+        Map<String, RollingHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+        histograms.forEach((endpoint, histogram) -> {
+            RollingHistogram.Snapshot snapshot = histogram.snapshot();
+            if (snapshot.getCount() > 0) {
+                snapshots.put(endpoint, snapshot);
+            }
+        });
+        return snapshots;
+    }
+
+    public void clear() {
+        histograms.clear();
+    }
+}
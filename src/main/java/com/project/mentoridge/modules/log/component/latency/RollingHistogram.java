@@ -0,0 +1,161 @@
+package com.project.mentoridge.modules.log.component.latency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 windowMs 동안의 응답 시간 분포
+ * - window 를 slotCount 개의 slot 으로 나눈 ring buffer, 오래된 slot 은 재사용 시 초기화
+ * - bucket 경계는 1, 2, 4, ..., 2^(BUCKET_COUNT-2) ms 와 그 이상 (log scale)
+ * - 백분위는 해당 bucket 의 상한값으로 근사 (최대 2배 오차, 최댓값을 넘지 않음)
+ */
+public class RollingHistogram {
+
+    static final int BUCKET_COUNT = 18;
+
+    private final long slotMs;
+    private final Slot[] slots;
+    private final LongSupplier clock;
+
+    public RollingHistogram(long windowMs, int slotCount, LongSupplier clock) {
+        if (windowMs <= 0 || slotCount <= 0 || windowMs < slotCount) {
+            throw new IllegalArgumentException("windowMs, slotCount must be positive and windowMs >= slotCount");
+        }
+        this.slotMs = windowMs / slotCount;
+        this.slots = new Slot[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot();
+        }
+        this.clock = clock;
+    }
+
+    public void record(long latencyMs, boolean error) {
+
+        long epoch = clock.getAsLong() / slotMs;
+        Slot slot = slots[(int) (epoch % slots.length)];
+        if (slot.epoch != epoch) {
+            synchronized (slot) {
+                if (slot.epoch != epoch) {
+                    slot.reset(epoch);
+                }
+            }
+        }
+        slot.record(Math.max(0, latencyMs), error);
+    }
+
+        static int bucketOf(long latencyMs) {
+            if (latencyMs <= 1) {
+                return 0;
+            }
+            // ceil(log2(latencyMs))
+            int bucket = 64 - Long.numberOfLeadingZeros(latencyMs - 1);
+            return Math.min(bucket, BUCKET_COUNT - 1);
+        }
+
+        static long upperBoundOf(int bucket) {
+            return bucket < BUCKET_COUNT - 1 ? 1L << bucket : Long.MAX_VALUE;
+        }
+
+    public Snapshot snapshot() {
+
+        long current = clock.getAsLong() / slotMs;
+        long[] buckets = new long[BUCKET_COUNT];
+        long count = 0, errors = 0, sum = 0, max = 0;
+        for (Slot slot : slots) {
+            // window 밖의 slot 은 제외
+            if (slot.epoch <= current - slots.length || slot.epoch > current) {
+                continue;
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] += slot.buckets.get(i);
+            }
+            count += slot.count.get();
+            errors += slot.errors.get();
+            sum += slot.sum.get();
+            max = Math.max(max, slot.max.get());
+        }
+        return new Snapshot(buckets, count, errors, sum, max);
+    }
+
+    private static class Slot {
+
+        private volatile long epoch = -1;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        private void reset(long epoch) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+            count.set(0);
+            errors.set(0);
+            sum.set(0);
+            max.set(0);
+            this.epoch = epoch;
+        }
+
+        private void record(long latencyMs, boolean error) {
+            buckets.incrementAndGet(bucketOf(latencyMs));
+            count.incrementAndGet();
+            if (error) {
+                errors.incrementAndGet();
+            }
+            sum.addAndGet(latencyMs);
+            max.accumulateAndGet(latencyMs, Math::max);
+        }
+    }
+
+    public static class Snapshot {
+
+        private final long[] buckets;
+        private final long count;
+        private final long errors;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] buckets, long count, long errors, long sum, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.errors = errors;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        // percentile : 0 ~ 100
+        public long getPercentile(double percentile) {
+
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(rank, 1)) {
+                    return Math.min(upperBoundOf(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
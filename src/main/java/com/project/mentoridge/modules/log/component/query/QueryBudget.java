@@ -0,0 +1,66 @@
+package com.project.mentoridge.modules.log.component.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 하나의 SQL 수 / 실행 시간 / 같은 형태의 반복(N+1)을 검사
+ * - 위반 시 경고 로그, fail-on-violation 이면 예외 (테스트에서 회귀 방지)
+ */
+@Slf4j
+@Component
+public class QueryBudget {
+
+    private final int maxCount;
+    private final long maxTimeMs;
+    private final int maxRepeat;
+    private final boolean failOnViolation;
+
+    public QueryBudget(@Value("${mentoridge-config.query-budget.max-count:30}") int maxCount,
+                       @Value("${mentoridge-config.query-budget.max-time-ms:500}") long maxTimeMs,
+                       @Value("${mentoridge-config.query-budget.max-repeat:5}") int maxRepeat,
+                       @Value("${mentoridge-config.query-budget.fail-on-violation:false}") boolean failOnViolation) {
+        this.maxCount = maxCount;
+        this.maxTimeMs = maxTimeMs;
+        this.maxRepeat = maxRepeat;
+        this.failOnViolation = failOnViolation;
+    }
+
+    /**
+     * @return 위반 내역 (없으면 빈 리스트)
+     */
+    public List<String> check(String name, QueryContext context) {
+
+        List<String> violations = new ArrayList<>();
+        if (context.getCount() > maxCount) {
+            violations.add(String.format("count : %d > %d", context.getCount(), maxCount));
+        }
+        long timeMs = context.getExecuteNs() / 1_000_000;
+        if (timeMs > maxTimeMs) {
+            violations.add(String.format("time : %dms > %dms", timeMs, maxTimeMs));
+        }
+        List<String> repeated = context.getShapes().entrySet().stream()
+                .filter(entry -> entry.getValue() > maxRepeat)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> String.format("%dx %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.toList());
+        if (!repeated.isEmpty()) {
+            violations.add("repeated (N+1) : " + repeated);
+        }
+
+        if (!violations.isEmpty()) {
+            String message = String.format("[query-budget] %s - %s", name, String.join(", ", violations));
+            log.warn(message);
+            if (failOnViolation) {
+                throw new QueryBudgetExceededException(message);
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.mentoridge.modules.log.component.query;
+
+// mentoridge-config.query-budget.fail-on-violation=true 일 때만 발생 (테스트용)
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.mentoridge.modules.log.component.query;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 하나에서 실행된 SQL 집계
+ * - QueryInspector 가 문장 수와 형태(shape)별 횟수를, QueryTimeListener 가 실행 시간을 기록
+ * - 요청 스레드에서만 접근하므로 동기화하지 않음
+ */
+public class QueryContext {
+
+    private static final ThreadLocal<QueryContext> holder = new ThreadLocal<>();
+
+    // 형태 종류가 너무 많아지지 않도록 제한
+    static final int MAX_SHAPES = 200;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    // batch fetch(default_batch_fetch_size) 의 in (?, ?, ...) 는 크기와 무관하게 같은 형태로
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int count;
+    private long executeNs;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    public static QueryContext begin() {
+        QueryContext context = new QueryContext();
+        holder.set(context);
+        return context;
+    }
+
+    // 요청 밖(스케줄러, 배치 등)에서는 null
+    public static QueryContext current() {
+        return holder.get();
+    }
+
+    public static void end() {
+        holder.remove();
+    }
+
+    void addStatement(String sql) {
+        count++;
+        String shape = shapeOf(sql);
+        if (shapes.containsKey(shape) || shapes.size() < MAX_SHAPES) {
+            shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+        static String shapeOf(String sql) {
+            String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+            shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+            shape = IN_LIST.matcher(shape).replaceAll("(?)");
+            return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        }
+
+    void addExecuteTime(long ns) {
+        executeNs += ns;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getExecuteNs() {
+        return executeNs;
+    }
+
+    public Map<String, Integer> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.mentoridge.modules.log.component.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// hibernate.session_factory.statement_inspector : SQL 은 바꾸지 않고 현재 요청의 QueryContext 에 기록만 한다
+public class QueryInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryContext context = QueryContext.current();
+        if (context != null) {
+            context.addStatement(sql);
+        }
+        return sql;
+    }
+}
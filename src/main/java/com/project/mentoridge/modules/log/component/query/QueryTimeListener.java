@@ -0,0 +1,36 @@
+package com.project.mentoridge.modules.log.component.query;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * hibernate.session.events.auto : 세션마다 생성되어 JDBC 실행 시간을 현재 요청의 QueryContext 에 더한다
+ * (Hibernate 가 직접 생성하므로 public 기본 생성자 필요)
+ */
+public class QueryTimeListener extends BaseSessionEventListener {
+
+    private long startNs = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startNs = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryContext context = QueryContext.current();
+        if (context != null && startNs >= 0) {
+            context.addExecuteTime(System.nanoTime() - startNs);
+        }
+        startNs = -1;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
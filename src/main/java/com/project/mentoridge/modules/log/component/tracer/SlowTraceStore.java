@@ -0,0 +1,69 @@
+package com.project.mentoridge.modules.log.component.tracer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 가장 느린 요청 N 개만 보관
+ * - min-heap 으로 현재 N 번째보다 느린 요청만 교체
+ * - 대부분의 요청은 volatile 임계값 비교만 하고 끝난다
+ */
+@Component
+public class SlowTraceStore {
+
+    private static final Comparator<Trace> BY_ELAPSED = Comparator.comparingLong(Trace::getElapsedNs);
+
+    private final int size;
+    private final PriorityQueue<Trace> traces;
+    private volatile long thresholdNs = -1;
+
+    public SlowTraceStore(@Value("${mentoridge-config.trace.slowest-size:50}") int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.size = size;
+        this.traces = new PriorityQueue<>(size, BY_ELAPSED);
+    }
+
+    public void offer(Trace trace) {
+
+        if (trace.getElapsedNs() <= thresholdNs) {
+            return;
+        }
+
+        synchronized (traces) {
+            if (traces.size() < size) {
+                traces.offer(trace);
+            } else if (trace.getElapsedNs() > traces.peek().getElapsedNs()) {
+                traces.poll();
+                traces.offer(trace);
+            }
+            if (traces.size() == size) {
+                thresholdNs = traces.peek().getElapsedNs();
+            }
+        }
+    }
+
+    // 느린 순
+    public List<Trace> getTraces() {
+
+        List<Trace> result;
+        synchronized (traces) {
+            result = new ArrayList<>(traces);
+        }
+        result.sort(BY_ELAPSED.reversed());
+        return result;
+    }
+
+    public void clear() {
+        synchronized (traces) {
+            traces.clear();
+            thresholdNs = -1;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.mentoridge.modules.log.component.tracer;
+
+import lombok.Getter;
+
+// Tracer.begin ~ end 사이의 구간 (controller → service → repository)
+@Getter
+public class Span {
+
+    private final int level;
+    private final String message;
+    private final long startTimeNs;
+    private final long offsetNs;        // 요청 시작 후 경과 시간
+    private long elapsedNs = -1;        // 종료 전 : -1
+    private String exception;
+
+    Span(int level, String message, long offsetNs) {
+        this.level = level;
+        this.message = message;
+        this.startTimeNs = System.nanoTime();
+        this.offsetNs = offsetNs;
+    }
+
+    void end(Throwable e) {
+        this.elapsedNs = System.nanoTime() - startTimeNs;
+        if (e != null) {
+            this.exception = e.getClass().getSimpleName();
+        }
+    }
+
+    public boolean isEnded() {
+        return elapsedNs >= 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.mentoridge.modules.log.component.tracer;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 요청 하나의 전체 구간 (첫 번째 span 이 요청 자체)
+@Getter
+public class Trace {
+
+    // 반복 호출이 많은 요청에서 메모리가 늘어나지 않도록 제한
+    static final int MAX_SPANS = 500;
+
+    private final String id;
+    private final String message;
+    private final LocalDateTime startedAt;
+    private final long startTimeNs;
+    private long elapsedNs = -1;
+    private int droppedSpans;
+
+    private final List<Span> spans = new ArrayList<>();
+
+    Trace(String id, String message) {
+        this.id = id;
+        this.message = message;
+        this.startedAt = LocalDateTime.now();
+        this.startTimeNs = System.nanoTime();
+    }
+
+    Span addSpan(int level, String message) {
+        Span span = new Span(level, message, System.nanoTime() - startTimeNs);
+        if (spans.size() < MAX_SPANS) {
+            spans.add(span);
+        } else {
+            droppedSpans++;
+        }
+        return span;
+    }
+
+    void end() {
+        this.elapsedNs = System.nanoTime() - startTimeNs;
+    }
+
+    // begin 순서
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+}
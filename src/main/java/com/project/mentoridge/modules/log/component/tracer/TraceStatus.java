@@ -8,10 +8,16 @@ public class TraceStatus {
     private TraceId traceId;
     private Long startTimeMs;
     private String message;
+    private Span span;
 
     public TraceStatus(TraceId traceId, Long startTimeMs, String message) {
+        this(traceId, startTimeMs, message, null);
+    }
+
+    public TraceStatus(TraceId traceId, Long startTimeMs, String message, Span span) {
         this.traceId = traceId;
         this.startTimeMs = startTimeMs;
         this.message = message;
+        this.span = span;
     }
 }
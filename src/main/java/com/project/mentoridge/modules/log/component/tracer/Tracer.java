@@ -1,23 +1,99 @@
 package com.project.mentoridge.modules.log.component.tracer;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * 요청 단위 추적
+ * - 첫 begin 에서 TraceId 를 만들고, 중첩된 begin 은 createNextId 로 level 을 올린다
+ * - 첫 번째 level 이 끝나면 요청 전체(Trace)를 SlowTraceStore 에 전달
+ */
 @Slf4j
+@RequiredArgsConstructor
 @Component
 public class Tracer {
 
+    private static final String START_PREFIX = "-->";
+    private static final String COMPLETE_PREFIX = "<--";
+    private static final String EX_PREFIX = "<X-";
+
+    private final SlowTraceStore slowTraceStore;
+
+    private final ThreadLocal<TraceId> traceIdHolder = new ThreadLocal<>();
+    private final ThreadLocal<Trace> traceHolder = new ThreadLocal<>();
+
     public TraceStatus begin(String message) {
-        TraceId traceId = new TraceId();
-        long startTimeMs = System.currentTimeMillis();
-        return new TraceStatus(traceId, startTimeMs, message);
+
+        syncTraceId();
+        TraceId traceId = traceIdHolder.get();
+        if (traceId.isFirstLevel()) {
+            traceHolder.set(new Trace(traceId.getId(), message));
+        }
+        Span span = traceHolder.get().addSpan(traceId.getLevel(), message);
+        if (log.isDebugEnabled()) {
+            log.debug("[{}] {}{}", traceId.getId(), addSpace(START_PREFIX, traceId.getLevel()), message);
+        }
+        return new TraceStatus(traceId, System.currentTimeMillis(), message, span);
     }
 
+        private void syncTraceId() {
+            TraceId traceId = traceIdHolder.get();
+            traceIdHolder.set(traceId == null ? new TraceId() : traceId.createNextId());
+        }
+
     public void end(TraceStatus status) {
+        complete(status, null);
+    }
+
+    public void exception(TraceStatus status, Throwable e) {
+        complete(status, e);
+    }
+
+        private void complete(TraceStatus status, Throwable e) {
+
+            Span span = status.getSpan();
+            span.end(e);
+
+            TraceId traceId = status.getTraceId();
+            if (log.isDebugEnabled()) {
+                log.debug("[{}] {}{} time={}ms{}", traceId.getId(),
+                        addSpace(e == null ? COMPLETE_PREFIX : EX_PREFIX, traceId.getLevel()), status.getMessage(),
+                        span.getElapsedNs() / 1_000_000, e == null ? "" : " ex=" + e);
+            }
 
+            if (traceId.isFirstLevel()) {
+                Trace trace = traceHolder.get();
+                clear();
+                if (trace != null) {
+                    trace.end();
+                    slowTraceStore.offer(trace);
+                }
+            } else {
+                traceIdHolder.set(traceId.createPreviousId());
+            }
+        }
+
+        private static String addSpace(String prefix, int level) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < level; i++) {
+                sb.append(i == level - 1 ? "|" + prefix : "|   ");
+            }
+            return sb.toString();
+        }
+
+    public boolean isTracing() {
+        return traceIdHolder.get() != null;
     }
 
-    public void exception(TraceStatus status, Exception e) {
+    public String getTraceId() {
+        TraceId traceId = traceIdHolder.get();
+        return traceId != null ? traceId.getId() : null;
+    }
 
+    // 요청이 비정상 종료되어 end 가 호출되지 않은 경우 정리
+    public void clear() {
+        traceIdHolder.remove();
+        traceHolder.remove();
     }
 }
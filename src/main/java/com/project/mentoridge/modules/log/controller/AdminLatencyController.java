@@ -0,0 +1,36 @@
+package com.project.mentoridge.modules.log.controller;
+
+import com.project.mentoridge.modules.log.component.latency.LatencyRecorder;
+import com.project.mentoridge.modules.log.controller.response.LatencyResponse;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Api(tags = {"AdminLatencyController"})
+@RequestMapping("/api/admin/latencies")
+@RequiredArgsConstructor
+@RestController
+public class AdminLatencyController {
+
+    private final LatencyRecorder latencyRecorder;
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @ApiOperation("endpoint 별 최근 응답 시간 (p99 내림차순)")
+    @GetMapping
+    public ResponseEntity<?> getLatencies() {
+        List<LatencyResponse> latencies = latencyRecorder.getSnapshots().entrySet().stream()
+                .map(entry -> new LatencyResponse(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(LatencyResponse::getP99Ms).reversed())
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(latencies);
+    }
+}
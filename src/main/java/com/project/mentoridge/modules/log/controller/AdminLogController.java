@@ -0,0 +1,38 @@
+package com.project.mentoridge.modules.log.controller;
+
+import com.project.mentoridge.modules.base.CursorResponse;
+import com.project.mentoridge.modules.log.controller.request.LogSearchRequest;
+import com.project.mentoridge.modules.log.controller.response.LogResponse;
+import com.project.mentoridge.modules.log.service.LogQueryService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Api(tags = {"AdminLogController"})
+@RequestMapping("/api/admin/logs")
+@RequiredArgsConstructor
+@RestController
+public class AdminLogController {
+
+    private final LogQueryService logQueryService;
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @ApiOperation("사용자 활동 이력 검색 - 커서 페이징")
+    @GetMapping
+    public ResponseEntity<?> getLogs(@Validated @ModelAttribute LogSearchRequest logSearchRequest, BindingResult bindingResult) {
+
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.badRequest().body(bindingResult.getAllErrors());
+        }
+        CursorResponse<LogResponse> logs = logQueryService.getLogResponses(logSearchRequest);
+        return ResponseEntity.ok(logs);
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.mentoridge.modules.log.controller;
+
+import com.project.mentoridge.modules.log.component.tracer.SlowTraceStore;
+import com.project.mentoridge.modules.log.controller.response.TraceResponse;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.project.mentoridge.config.response.Response.ok;
+
+@Api(tags = {"AdminTraceController"})
+@RequestMapping("/api/admin/traces")
+@RequiredArgsConstructor
+@RestController
+public class AdminTraceController {
+
+    private final SlowTraceStore slowTraceStore;
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @ApiOperation("가장 느린 요청 목록")
+    @GetMapping
+    public ResponseEntity<?> getTraces() {
+        List<TraceResponse> traces = slowTraceStore.getTraces().stream()
+                .map(TraceResponse::new).collect(Collectors.toList());
+        return ResponseEntity.ok(traces);
+    }
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @ApiOperation("느린 요청 목록 초기화")
+    @DeleteMapping
+    public ResponseEntity<?> clearTraces() {
+        slowTraceStore.clear();
+        return ok();
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.mentoridge.modules.log.controller.request;
+
+import com.project.mentoridge.modules.log.enums.ManipulationType;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.time.LocalDateTime;
+
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LogSearchRequest {
+
+    private String username;
+    private ManipulationType type;
+    private String title;                   // 로그 제목 prefix (ex. "[Lecture] ")
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;             // 이상
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;               // 미만
+
+    private String cursor;                  // 이전 응답의 nextCursor
+    @Min(1) @Max(100)
+    private Integer size = 20;
+
+    @Builder(access = AccessLevel.PUBLIC)
+    private LogSearchRequest(String username, ManipulationType type, String title, LocalDateTime from, LocalDateTime to, String cursor, Integer size) {
+        this.username = username;
+        this.type = type;
+        this.title = title;
+        this.from = from;
+        this.to = to;
+        this.cursor = cursor;
+        if (size != null) {
+            this.size = size;
+        }
+    }
+}
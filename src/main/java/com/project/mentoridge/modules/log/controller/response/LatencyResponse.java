@@ -0,0 +1,28 @@
+package com.project.mentoridge.modules.log.controller.response;
+
+import com.project.mentoridge.modules.log.component.latency.RollingHistogram;
+import lombok.Data;
+
+@Data
+public class LatencyResponse {
+
+    private String endpoint;
+    private long count;
+    private long errors;
+    private double meanMs;
+    private long p50Ms;
+    private long p90Ms;
+    private long p99Ms;
+    private long maxMs;
+
+    public LatencyResponse(String endpoint, RollingHistogram.Snapshot snapshot) {
+        this.endpoint = endpoint;
+        this.count = snapshot.getCount();
+        this.errors = snapshot.getErrors();
+        this.meanMs = Math.round(snapshot.getMean() * 10) / 10.0;
+        this.p50Ms = snapshot.getPercentile(50);
+        this.p90Ms = snapshot.getPercentile(90);
+        this.p99Ms = snapshot.getPercentile(99);
+        this.maxMs = snapshot.getMax();
+    }
+}
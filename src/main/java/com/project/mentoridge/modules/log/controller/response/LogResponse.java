@@ -0,0 +1,28 @@
+package com.project.mentoridge.modules.log.controller.response;
+
+import com.project.mentoridge.modules.log.enums.ManipulationType;
+import com.project.mentoridge.modules.log.vo.Log;
+import com.project.mentoridge.utils.LocalDateTimeUtil;
+import lombok.Data;
+
+@Data
+public class LogResponse {
+
+    private String logId;
+    private ManipulationType type;
+    private String username;
+    private String entity;
+    private Long entityId;
+    private String content;
+    private String createdAt;
+
+    public LogResponse(Log log, String content) {
+        this.logId = log.getId();
+        this.type = log.getType();
+        this.username = log.getUsername();
+        this.entity = log.getEntity();
+        this.entityId = log.getEntityId();
+        this.content = content;
+        this.createdAt = LocalDateTimeUtil.getDateTimeToString(log.getCreatedAt());
+    }
+}
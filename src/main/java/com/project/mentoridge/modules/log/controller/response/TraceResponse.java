@@ -0,0 +1,51 @@
+package com.project.mentoridge.modules.log.controller.response;
+
+import com.project.mentoridge.modules.log.component.tracer.Span;
+import com.project.mentoridge.modules.log.component.tracer.Trace;
+import com.project.mentoridge.utils.LocalDateTimeUtil;
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+public class TraceResponse {
+
+    private String traceId;
+    private String message;
+    private String startedAt;
+    private double elapsedMs;
+    private int droppedSpans;
+    private List<SpanResponse> spans;
+
+    public TraceResponse(Trace trace) {
+        this.traceId = trace.getId();
+        this.message = trace.getMessage();
+        this.startedAt = LocalDateTimeUtil.getDateTimeToString(trace.getStartedAt());
+        this.elapsedMs = toMs(trace.getElapsedNs());
+        this.droppedSpans = trace.getDroppedSpans();
+        this.spans = trace.getSpans().stream().map(SpanResponse::new).collect(Collectors.toList());
+    }
+
+    private static double toMs(long ns) {
+        return ns / 1_000L / 1000.0;
+    }
+
+    @Data
+    public static class SpanResponse {
+
+        private int level;
+        private String message;
+        private double offsetMs;
+        private double elapsedMs;
+        private String exception;
+
+        public SpanResponse(Span span) {
+            this.level = span.getLevel();
+            this.message = span.getMessage();
+            this.offsetMs = toMs(span.getOffsetNs());
+            this.elapsedMs = span.isEnded() ? toMs(span.getElapsedNs()) : -1;
+            this.exception = span.getException();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.mentoridge.modules.log.repository;
 
+import com.project.mentoridge.modules.log.vo.AccessLog;
 import com.project.mentoridge.modules.log.vo.Log;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -14,4 +15,9 @@ public class ConsoleLogRepository implements LogRepository {
     public void saveLog(Log _log) {
         log.info(_log.toString());
     }
+
+    @Override
+    public void saveAccessLog(AccessLog accessLog) {
+        log.debug(accessLog.toString());
+    }
 }
@@ -0,0 +1,219 @@
+package com.project.mentoridge.modules.log.repository;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import com.project.mentoridge.modules.log.vo.AccessLog;
+import com.project.mentoridge.modules.log.vo.Log;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.ByteBuf;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그를 로컬 저널(LogJournal)에 먼저 기록하고, 봉인된 세그먼트를 백그라운드에서 Mongo 로 전송
+ * - Mongo 장애 중에도 요청 스레드는 막히지 않고, 로그는 디스크에 남아 있다가 복구 후 전송된다
+ * - _id 를 미리 부여하므로 재전송 시 중복은 무시 (duplicate key)
+ */
+@Slf4j
+@Profile({"prod"})
+@ConditionalOnProperty(name = "mentoridge-config.log.journal.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Repository
+public class JournalLogRepository implements LogRepository {
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${mentoridge-config.log.journal.dir:log-journal}")
+    private String dir;
+    @Value("${mentoridge-config.log.journal.segment-size:16777216}")
+    private int segmentSize;
+    @Value("${mentoridge-config.log.journal.force-interval-ms:200}")
+    private long forceIntervalMs;
+    @Value("${mentoridge-config.log.journal.roll-interval-ms:5000}")
+    private long rollIntervalMs;
+    @Value("${mentoridge-config.log.journal.ship-interval-ms:1000}")
+    private long shipIntervalMs;
+    @Value("${mentoridge-config.log.journal.batch-size:500}")
+    private int batchSize;
+    @Value("${mentoridge-config.log.journal.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+    @Value("${mentoridge-config.log.journal.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private LogJournal journal;
+    private ScheduledExecutorService scheduler;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong shipped = new AtomicLong();
+
+    // 전송 실패 시 지수 backoff
+    private long backoffMs;
+    private long nextShipAt;
+
+    @PostConstruct
+    void init() throws IOException {
+
+        MongoLogRepository.ensureIndexes(mongoTemplate);
+
+        journal = new LogJournal(Paths.get(dir), segmentSize);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-journal-shipper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(journal::force, forceIntervalMs, forceIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::ship, shipIntervalMs, shipIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void destroy() throws IOException {
+
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 활성 세그먼트를 봉인하고 마지막으로 전송 (실패하면 다음 실행 시 전송)
+        journal.close();
+        backoffMs = 0;
+        nextShipAt = 0;
+        ship();
+    }
+
+    @Override
+    public void saveLog(Log _log) {
+
+        try {
+            if (journal.append(encode(_log))) {
+                appended.incrementAndGet();
+                return;
+            }
+        } catch (Exception e) {
+            log.error("[journal] append failed - log : {}", _log, e);
+        }
+        dropped.incrementAndGet();
+    }
+
+    @Override
+    public void saveAccessLog(AccessLog accessLog) {
+
+        try {
+            if (journal.append(encode(accessLog))) {
+                appended.incrementAndGet();
+                return;
+            }
+        } catch (Exception e) {
+            log.error("[journal] append failed - access log : {}", accessLog, e);
+        }
+        dropped.incrementAndGet();
+    }
+
+        // Log, AccessLog 모두 같은 컬렉션(logs)에 저장
+        private byte[] encode(Object value) {
+
+            Document document = new Document();
+            mongoTemplate.getConverter().write(value, document);
+            if (document.get("_id") == null) {
+                document.put("_id", new ObjectId());
+            }
+
+            ByteBuf buffer = new RawBsonDocument(document, DOCUMENT_CODEC).getByteBuffer();
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+    void ship() {
+
+        if (System.currentTimeMillis() < nextShipAt) {
+            return;
+        }
+
+        try {
+            journal.roll(rollIntervalMs);
+            for (Path segment : journal.getSealedSegments()) {
+                ship(segment);
+                journal.delete(segment);
+            }
+            backoffMs = 0;
+
+        } catch (Exception e) {
+            backoffMs = backoffMs == 0 ? shipIntervalMs : Math.min(backoffMs * 2, maxBackoffMs);
+            nextShipAt = System.currentTimeMillis() + backoffMs;
+            log.warn("[journal] ship failed - retry after {}ms", backoffMs, e);
+        }
+    }
+
+        private void ship(Path segment) throws IOException {
+
+            MongoCollection<RawBsonDocument> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Log.class))
+                    .withDocumentClass(RawBsonDocument.class);
+
+            List<RawBsonDocument> batch = new ArrayList<>(batchSize);
+            for (byte[] record : LogJournal.read(segment)) {
+                batch.add(new RawBsonDocument(record));
+                if (batch.size() >= batchSize) {
+                    insert(collection, batch);
+                }
+            }
+            insert(collection, batch);
+        }
+
+        private void insert(MongoCollection<RawBsonDocument> collection, List<RawBsonDocument> batch) {
+
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                collection.insertMany(batch, new InsertManyOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                // 이전 전송에서 이미 들어간 문서만 무시
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                        throw e;
+                    }
+                }
+            }
+            shipped.addAndGet(batch.size());
+            batch.clear();
+        }
+
+    public long getAppended() {
+        return appended.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getShipped() {
+        return shipped.get();
+    }
+}
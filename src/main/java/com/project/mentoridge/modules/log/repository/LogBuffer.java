@@ -0,0 +1,179 @@
+package com.project.mentoridge.modules.log.repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 크기 제한 큐 + 백그라운드 워커
+ * - batchSize 만큼 쌓이거나 flushIntervalMs 가 지나면 flusher 로 한 번에 전달
+ * - 큐가 가득 차면 offerTimeoutMs 만큼 기다린 뒤 버림 (dropped)
+ */
+@Slf4j
+public class LogBuffer<T> {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final Consumer<List<T>> flusher;
+
+    private final AtomicLong offered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LogBuffer(String name, int capacity, int batchSize, long flushIntervalMs, long offerTimeoutMs, Consumer<List<T>> flusher) {
+        if (capacity <= 0 || batchSize <= 0 || flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("capacity, batchSize, flushIntervalMs must be positive");
+        }
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.flusher = flusher;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, name + "-flusher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public boolean offer(T item) {
+
+        if (!running) {
+            countDrop();
+            return false;
+        }
+
+        boolean accepted;
+        try {
+            accepted = offerTimeoutMs > 0 ? queue.offer(item, offerTimeoutMs, TimeUnit.MILLISECONDS) : queue.offer(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (accepted) {
+            offered.incrementAndGet();
+        } else {
+            countDrop();
+        }
+        return accepted;
+    }
+
+        private void countDrop() {
+            long count = dropped.incrementAndGet();
+            // 1, 2, 4, 8, ... 번째마다만 경고
+            if ((count & (count - 1)) == 0) {
+                log.warn("[{}] buffer overflow - dropped : {}", name, count);
+            }
+        }
+
+    private void run() {
+
+        List<T> batch = new ArrayList<>(batchSize);
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+        while (running || !queue.isEmpty()) {
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                flush(batch);
+                deadline = System.currentTimeMillis() + flushIntervalMs;
+                continue;
+            }
+
+            try {
+                // shutdown 을 늦게 알아채지 않도록 짧게 끊어서 대기
+                T item = queue.poll(Math.min(remaining, POLL_TIMEOUT_MS), TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    batch.add(item);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+        }
+        // 종료 시 남은 것까지 모두 flush
+        queue.drainTo(batch);
+        flush(batch);
+    }
+
+        private void flush(List<T> batch) {
+
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                flusher.accept(new ArrayList<>(batch));
+                flushed.addAndGet(batch.size());
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                log.error("[{}] flush failed - size : {}", name, batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+
+    public void shutdown(long timeoutMs) {
+
+        running = false;
+        Thread thread = worker;
+        if (thread == null) {
+            return;
+        }
+
+        try {
+            thread.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (thread.isAlive()) {
+            thread.interrupt();
+            log.warn("[{}] shutdown timed out - remaining : {}", name, queue.size());
+        } else if (!queue.isEmpty()) {
+            List<T> rest = new ArrayList<>(queue.size());
+            queue.drainTo(rest);
+            flush(rest);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getOffered() {
+        return offered.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getFlushed() {
+        return flushed.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.mentoridge.modules.log.repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 로컬 디스크에 append-only 로 기록하는 세그먼트 저널
+ * - 레코드 : [length(4)][crc32(4)][payload] 를 memory-mapped 세그먼트 파일에 순서대로 기록
+ * - 세그먼트가 가득 차거나 roll() 이 호출되면 봉인(.sealed) 후 새 세그먼트 생성
+ * - fsync 는 append 마다 하지 않고 force() 호출 시 한 번에 (batching)
+ * - 재시작 시 남아 있는 활성 세그먼트(.seg)는 봉인하고, 읽을 때 잘린 레코드 이후는 버린다
+ */
+@Slf4j
+public class LogJournal implements Closeable {
+
+    static final String ACTIVE_SUFFIX = ".seg";
+    static final String SEALED_SUFFIX = ".sealed";
+    private static final int HEADER_SIZE = 8;
+
+    private final Path dir;
+    private final int segmentSize;
+
+    private long sequence;
+    private Path activePath;
+    private MappedByteBuffer active;
+    private long activeCreatedAt;
+    private boolean dirty;
+
+    public LogJournal(Path dir, int segmentSize) throws IOException {
+
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be larger than " + HEADER_SIZE);
+        }
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(dir);
+        recover();
+    }
+
+        // 이전 실행에서 봉인되지 못한 세그먼트를 봉인하고, 다음 sequence 를 결정
+        private void recover() throws IOException {
+
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                for (Path path : stream) {
+                    String fileName = path.getFileName().toString();
+                    if (fileName.endsWith(ACTIVE_SUFFIX)) {
+                        path = seal(path);
+                        fileName = path.getFileName().toString();
+                    }
+                    if (fileName.endsWith(SEALED_SUFFIX)) {
+                        sequence = Math.max(sequence, parseSequence(fileName) + 1);
+                    }
+                }
+            }
+        }
+
+        private static long parseSequence(String fileName) {
+            return Long.parseLong(fileName.substring(0, fileName.indexOf('.')));
+        }
+
+    /**
+     * @return 레코드가 세그먼트 하나보다 크면 false
+     */
+    public synchronized boolean append(byte[] record) throws IOException {
+
+        int required = HEADER_SIZE + record.length;
+        if (required > segmentSize) {
+            return false;
+        }
+
+        if (active != null && active.remaining() < required) {
+            roll();
+        }
+        if (active == null) {
+            open();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+
+        active.putInt(record.length);
+        active.putInt((int) crc.getValue());
+        active.put(record);
+        dirty = true;
+        return true;
+    }
+
+        private void open() throws IOException {
+
+            activePath = dir.resolve(String.format("%020d%s", sequence++, ACTIVE_SUFFIX));
+            try (FileChannel channel = FileChannel.open(activePath,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // 채널을 닫아도 mapping 은 유지된다
+                active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+            activeCreatedAt = System.currentTimeMillis();
+        }
+
+    // 마지막 force() 이후 기록된 내용을 디스크에 반영
+    public synchronized void force() {
+        if (active != null && dirty) {
+            active.force();
+            dirty = false;
+        }
+    }
+
+    // 활성 세그먼트를 봉인 (비어 있으면 아무것도 하지 않음)
+    public synchronized void roll() throws IOException {
+
+        if (active == null) {
+            return;
+        }
+        force();
+        active = null;
+        seal(activePath);
+        activePath = null;
+    }
+
+    // 활성 세그먼트가 olderThanMs 보다 오래되었으면 봉인
+    public synchronized void roll(long olderThanMs) throws IOException {
+        if (active != null && System.currentTimeMillis() - activeCreatedAt >= olderThanMs) {
+            roll();
+        }
+    }
+
+        private static Path seal(Path path) throws IOException {
+            String fileName = path.getFileName().toString();
+            Path sealed = path.resolveSibling(fileName.substring(0, fileName.length() - ACTIVE_SUFFIX.length()) + SEALED_SUFFIX);
+            return Files.move(path, sealed, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+    // 봉인된 세그먼트 (오래된 순)
+    public List<Path> getSealedSegments() throws IOException {
+
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SEALED_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * 세그먼트의 레코드를 순서대로 읽는다
+     * - length 가 0 이면 기록된 끝, crc 가 맞지 않으면 잘린 레코드로 보고 중단
+     */
+    public static List<byte[]> read(Path segment) throws IOException {
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        List<byte[]> records = new ArrayList<>();
+        while (buffer.remaining() >= HEADER_SIZE) {
+
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+
+            byte[] record = new byte[length];
+            buffer.get(record);
+
+            CRC32 crc = new CRC32();
+            crc.update(record, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                log.warn("[journal] corrupted record - segment : {}, position : {}", segment, buffer.position() - length - HEADER_SIZE);
+                break;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    public void delete(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        roll();
+    }
+}
@@ -1,8 +1,13 @@
 package com.project.mentoridge.modules.log.repository;
 
+import com.project.mentoridge.modules.log.vo.AccessLog;
 import com.project.mentoridge.modules.log.vo.Log;
 
 public interface LogRepository {
 
     void saveLog(Log log);
+
+    // 접근 로그를 저장하지 않는 구현(ex. 벤치마크의 람다)은 무시
+    default void saveAccessLog(AccessLog accessLog) {
+    }
 }
@@ -1,13 +1,90 @@
 package com.project.mentoridge.modules.log.repository;
 
+import com.project.mentoridge.modules.log.vo.AccessLog;
 import com.project.mentoridge.modules.log.vo.Log;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+// 요청 스레드에서는 큐에 넣기만 하고, insertMany 는 백그라운드에서 처리
 @Profile({"prod"})
-@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "mentoridge-config.log.journal.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
 @Repository
-public interface MongoLogRepository extends MongoRepository<Log, String>, LogRepository {
+public class MongoLogRepository implements LogRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${mentoridge-config.log.buffer.capacity:10000}")
+    private int capacity;
+    @Value("${mentoridge-config.log.buffer.batch-size:500}")
+    private int batchSize;
+    @Value("${mentoridge-config.log.buffer.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+    @Value("${mentoridge-config.log.buffer.offer-timeout-ms:5}")
+    private long offerTimeoutMs;
+    @Value("${mentoridge-config.log.buffer.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private LogBuffer<Log> buffer;
+    // 요청마다 쌓이므로 변경 이력과 별도 큐를 사용 (접근 로그가 많아도 변경 이력은 버려지지 않도록)
+    private LogBuffer<AccessLog> accessLogBuffer;
+
+    @PostConstruct
+    void init() {
+        ensureIndexes(mongoTemplate);
+
+        buffer = new LogBuffer<>("log", capacity, batchSize, flushIntervalMs, offerTimeoutMs,
+                logs -> mongoTemplate.insert(logs, Log.class));
+        buffer.start();
+
+        accessLogBuffer = new LogBuffer<>("access-log", capacity, batchSize, flushIntervalMs, 0,
+                accessLogs -> mongoTemplate.insert(accessLogs, AccessLog.class));
+        accessLogBuffer.start();
+    }
+
+    // spring.data.mongodb.auto-index-creation 이 꺼져 있으므로 직접 생성
+    static void ensureIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations indexOps = mongoTemplate.indexOps(Log.class);
+        indexOps.ensureIndex(new Index().on("entity", Sort.Direction.ASC).on("entityId", Sort.Direction.ASC).named("entity_entityId"));
+        indexOps.ensureIndex(new Index().on("entity", Sort.Direction.ASC).on("changes.field", Sort.Direction.ASC).named("entity_changes_field"));
+        // 관리자 조회 (AdminLogController) : 조건 + _id 역순 커서
+        indexOps.ensureIndex(new Index().on("username", Sort.Direction.ASC).on("_id", Sort.Direction.DESC).named("username_id"));
+        indexOps.ensureIndex(new Index().on("type", Sort.Direction.ASC).on("_id", Sort.Direction.DESC).named("type_id"));
+        indexOps.ensureIndex(new Index().on("entity", Sort.Direction.ASC).on("_id", Sort.Direction.DESC).named("entity_id"));
+    }
+
+    @PreDestroy
+    void destroy() {
+        buffer.shutdown(shutdownTimeoutMs);
+        accessLogBuffer.shutdown(shutdownTimeoutMs);
+    }
+
+    @Override
+    public void saveLog(Log log) {
+        buffer.offer(log);
+    }
+
+    @Override
+    public void saveAccessLog(AccessLog accessLog) {
+        // 요청 스레드를 기다리게 하지 않고 바로 버림
+        accessLogBuffer.offer(accessLog);
+    }
+
+    public LogBuffer<Log> getBuffer() {
+        return buffer;
+    }
+
+    public LogBuffer<AccessLog> getAccessLogBuffer() {
+        return accessLogBuffer;
+    }
 }
@@ -0,0 +1,99 @@
+package com.project.mentoridge.modules.log.service;
+
+import com.project.mentoridge.config.exception.InvalidInputException;
+import com.project.mentoridge.modules.base.AbstractService;
+import com.project.mentoridge.modules.base.CursorResponse;
+import com.project.mentoridge.modules.log.component.LogFormatter;
+import com.project.mentoridge.modules.log.controller.request.LogSearchRequest;
+import com.project.mentoridge.modules.log.controller.response.LogResponse;
+import com.project.mentoridge.modules.log.vo.Log;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 활동 이력 조회
+ * - 모든 조건은 (조건 필드, _id 역순) 인덱스를 타도록 구성 (MongoLogRepository.ensureIndexes)
+ * - 기간 조건은 createdAt 대신 _id(ObjectId 의 생성 시각) 범위로 변환 (초 단위)
+ * - skip/limit 대신 마지막 _id 를 커서로 사용
+ */
+@RequiredArgsConstructor
+@Service
+public class LogQueryService extends AbstractService {
+
+    private final MongoTemplate mongoTemplate;
+    private final LogFormatter logFormatter;
+
+    public CursorResponse<LogResponse> getLogResponses(LogSearchRequest searchRequest) {
+
+        int size = searchRequest.getSize();
+        Query query = getQuery(searchRequest)
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(size + 1);
+
+        List<Log> logs = mongoTemplate.find(query, Log.class);
+        return CursorResponse.of(logs, size, Log::getId)
+                .map(log -> new LogResponse(log, logFormatter.format(log)));
+    }
+
+        private Query getQuery(LogSearchRequest searchRequest) {
+
+            Query query = new Query();
+            if (StringUtils.isNotBlank(searchRequest.getUsername())) {
+                query.addCriteria(Criteria.where("username").is(searchRequest.getUsername()));
+            }
+            if (searchRequest.getType() != null) {
+                query.addCriteria(Criteria.where("type").is(searchRequest.getType()));
+            }
+            if (StringUtils.isNotBlank(searchRequest.getTitle())) {
+                String entity = logFormatter.getEntity(searchRequest.getTitle());
+                if (entity != null) {
+                    query.addCriteria(Criteria.where("entity").is(entity));
+                } else {
+                    // 변경 내역이 아닌 로그는 content 가 제목으로 시작한다 (ex. "[Pick] 위시리스트 전체 삭제")
+                    query.addCriteria(Criteria.where("content").regex("^" + Pattern.quote(searchRequest.getTitle())));
+                }
+            }
+
+            // _id 범위 : [from, min(cursor, to))
+            ObjectId lower = searchRequest.getFrom() != null ? ObjectId.getSmallestWithDate(toDate(searchRequest.getFrom())) : null;
+            ObjectId upper = searchRequest.getTo() != null ? ObjectId.getSmallestWithDate(toDate(searchRequest.getTo())) : null;
+            if (searchRequest.getCursor() != null) {
+                ObjectId cursor = getObjectId(searchRequest.getCursor());
+                upper = upper == null || cursor.compareTo(upper) < 0 ? cursor : upper;
+            }
+            if (lower != null || upper != null) {
+                Criteria id = Criteria.where("_id");
+                if (lower != null) {
+                    id.gte(lower);
+                }
+                if (upper != null) {
+                    id.lt(upper);
+                }
+                query.addCriteria(id);
+            }
+            return query;
+        }
+
+        private ObjectId getObjectId(String cursor) {
+            if (!ObjectId.isValid(cursor)) {
+                throw new InvalidInputException("잘못된 커서입니다.");
+            }
+            return new ObjectId(cursor);
+        }
+
+        private Date toDate(LocalDateTime dateTime) {
+            return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+        }
+}
@@ -0,0 +1,164 @@
+package com.project.mentoridge.modules.log.service;
+
+import com.mongodb.client.result.DeleteResult;
+import com.project.mentoridge.modules.log.enums.ManipulationType;
+import com.project.mentoridge.modules.log.vo.Log;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * logs 컬렉션 보관 기간 관리
+ * - ManipulationType 별 보관 기간이 지난 로그를 gzip(JSON Lines) 파일로 내보낸 뒤 삭제
+ * - AccessLog 는 type 이 없으므로 별도 보관 기간 적용
+ * - 기간 조건은 _id(ObjectId 생성 시각) 범위로 변환해서 (type, _id) 인덱스를 사용
+ * - BATCH_SIZE 건씩 보관 파일에 쓰고, 파일을 닫은 뒤 그 파일에 쓴 _id 만 삭제
+ *   (범위로 삭제하면 버퍼/저널에서 늦게 들어온 같은 범위의 로그가 보관 없이 삭제됨)
+ * - TTL 인덱스는 보관(archive) 전에 삭제되므로 사용하지 않음
+ */
+@Slf4j
+@Profile({"prod"})
+@RequiredArgsConstructor
+@Service
+public class LogRetentionService {
+
+    private static final String ACCESS = "access";
+    private static final int BATCH_SIZE = 10000;
+    private static final DateTimeFormatter ARCHIVE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${mentoridge-config.log.retention.archive-dir:log-archive}")
+    private String archiveDir;
+    // 0 이하 : 삭제하지 않음
+    @Value("${mentoridge-config.log.retention.select-days:30}")
+    private int selectDays;
+    @Value("${mentoridge-config.log.retention.insert-days:365}")
+    private int insertDays;
+    @Value("${mentoridge-config.log.retention.update-days:365}")
+    private int updateDays;
+    @Value("${mentoridge-config.log.retention.delete-days:365}")
+    private int deleteDays;
+    @Value("${mentoridge-config.log.retention.access-days:90}")
+    private int accessDays;
+
+    private final Map<ManipulationType, Integer> retentionDays = new EnumMap<>(ManipulationType.class);
+
+    @PostConstruct
+    void init() {
+        retentionDays.put(ManipulationType.SELECT, selectDays);
+        retentionDays.put(ManipulationType.INSERT, insertDays);
+        retentionDays.put(ManipulationType.UPDATE, updateDays);
+        retentionDays.put(ManipulationType.DELETE, deleteDays);
+    }
+
+    @Scheduled(cron = "${mentoridge-config.log.retention.cron:0 0 4 * * *}")
+    public void expire() {
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<ManipulationType, Integer> entry : retentionDays.entrySet()) {
+            if (entry.getValue() > 0) {
+                ManipulationType type = entry.getKey();
+                expire(type.name().toLowerCase(), Criteria.where("type").is(type), now.minusDays(entry.getValue()));
+            }
+        }
+        if (accessDays > 0) {
+            expire(ACCESS, Criteria.where("type").exists(false), now.minusDays(accessDays));
+        }
+    }
+
+    /**
+     * cutoff 이전 로그를 보관 파일로 내보내고 삭제
+     * @return 삭제된 로그 수
+     */
+    long expire(String partition, Criteria criteria, LocalDateTime cutoff) {
+
+        String collection = mongoTemplate.getCollectionName(Log.class);
+        ObjectId boundary = ObjectId.getSmallestWithDate(Date.from(cutoff.atZone(ZoneId.systemDefault()).toInstant()));
+        String suffix = LocalDateTime.now().format(ARCHIVE_SUFFIX);
+
+        long expired = 0;
+        try {
+            ObjectId last = null;
+            for (int part = 0; ; part++) {
+
+                Criteria range = Criteria.where("_id").lt(boundary);
+                if (last != null) {
+                    range = Criteria.where("_id").gt(last).lt(boundary);
+                }
+                List<ObjectId> archived = archive(String.format("logs-%s-%s-%d.jsonl.gz", partition, suffix, part),
+                        new Query(criteria).addCriteria(range), collection);
+                if (archived.isEmpty()) {
+                    break;
+                }
+
+                // 보관 파일에 쓴 로그만 삭제
+                DeleteResult result = mongoTemplate.remove(new Query(Criteria.where("_id").in(archived)), collection);
+                expired += result.getDeletedCount();
+                if (archived.size() < BATCH_SIZE) {
+                    break;
+                }
+                last = archived.get(archived.size() - 1);
+            }
+            log.info("[retention] {} - expired : {}, cutoff : {}", partition, expired, cutoff);
+
+        } catch (Exception e) {
+            log.error("[retention] {} - failed, cutoff : {}", partition, cutoff, e);
+        }
+        return expired;
+    }
+
+        // @return 보관한 _id (_id 순, 최대 BATCH_SIZE 개)
+        private List<ObjectId> archive(String fileName, Query query, String collection) throws IOException {
+
+            Path dir = Paths.get(archiveDir);
+            Files.createDirectories(dir);
+            Path file = dir.resolve(fileName);
+
+            List<ObjectId> archived = new ArrayList<>();
+            query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(BATCH_SIZE);
+            try (CloseableIterator<Document> documents = mongoTemplate.stream(query, Document.class, collection);
+                 Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)) {
+
+                while (documents.hasNext()) {
+                    Document document = documents.next();
+                    writer.write(document.toJson());
+                    writer.write('\n');
+                    archived.add(document.getObjectId("_id"));
+                }
+            }
+
+            if (archived.isEmpty()) {
+                Files.deleteIfExists(file);
+            }
+            return archived;
+        }
+}
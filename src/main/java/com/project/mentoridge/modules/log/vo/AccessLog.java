@@ -4,12 +4,19 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 
+// type 이 없는 로그 (LogRetentionService 에서 구분)
+@ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter //@Setter
 @Document(collection = "logs")
@@ -18,24 +25,36 @@ public class AccessLog {
     @Id @GeneratedValue(strategy = GenerationType.AUTO)
     private String id;
 
-    // TODO - sessionId를 왜 저장해야하는가
-    private String sessionId;
-    private String osType;
+    private String method;
     private String accessPath;
+    // 요청이 매핑된 URL 패턴 (ex. /api/lectures/{lecture_id})
+    private String pattern;
+    private int status;
+    private long latencyMs;
+
+    private String userAgent;
     private String ip;
-    private String lastAccessAt;
 
     private Long userId;
     private String username;
     private String loginAt;
 
+    private LocalDateTime createdAt;
+
     @Builder(access = AccessLevel.PUBLIC)
-    public AccessLog(String sessionId, String osType, String accessPath, String ip, String lastAccessAt, Long userId, String username, String loginAt) {
-        this.sessionId = sessionId;
-        this.osType = osType;
+    public AccessLog(String method, String accessPath, String pattern, int status, long latencyMs,
+                     String userAgent, String ip, Long userId, String username, String loginAt) {
+        // Log 와 동일하게 생성 시점에 _id 부여
+        Date now = new Date();
+        this.id = new ObjectId(now).toHexString();
+        this.createdAt = LocalDateTime.ofInstant(now.toInstant(), ZoneId.systemDefault());
+        this.method = method;
         this.accessPath = accessPath;
+        this.pattern = pattern;
+        this.status = status;
+        this.latencyMs = latencyMs;
+        this.userAgent = userAgent;
         this.ip = ip;
-        this.lastAccessAt = lastAccessAt;
         this.userId = userId;
         this.username = username;
         this.loginAt = loginAt;
@@ -3,17 +3,31 @@ package com.project.mentoridge.modules.log.vo;
 import com.project.mentoridge.config.exception.EntityNotFoundException;
 import com.project.mentoridge.modules.log.enums.ManipulationType;
 import lombok.*;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
 
 import static com.project.mentoridge.modules.log.enums.ManipulationType.*;
 
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter //@Setter
+@CompoundIndexes({
+        @CompoundIndex(name = "entity_entityId", def = "{'entity': 1, 'entityId': 1}"),
+        @CompoundIndex(name = "entity_changes_field", def = "{'entity': 1, 'changes.field': 1}"),
+        @CompoundIndex(name = "username_id", def = "{'username': 1, '_id': -1}"),
+        @CompoundIndex(name = "type_id", def = "{'type': 1, '_id': -1}"),
+        @CompoundIndex(name = "entity_id", def = "{'entity': 1, '_id': -1}")
+})
 @Document(collection = "logs")
 public class Log {
 
@@ -24,11 +38,25 @@ public class Log {
     private String username;
     private String content;
 
+    // 엔티티 변경 이력은 content 대신 아래 필드로 저장하고, 문자열은 조회 시 LogFormatter 로 만든다
+    private String entity;
+    private Long entityId;
+    private List<LogChange> changes;
+
+    private LocalDateTime createdAt;
+
     @Builder(access = AccessLevel.PRIVATE)
-    private Log(ManipulationType type, String username, String content) {
+    private Log(ManipulationType type, String username, String content, String entity, Long entityId, List<LogChange> changes) {
+        // 생성 시점에 _id 를 부여 : _id 순서 = 생성 순서 (커서 페이징, 기간 조회에 사용)
+        Date now = new Date();
+        this.id = new ObjectId(now).toHexString();
+        this.createdAt = LocalDateTime.ofInstant(now.toInstant(), ZoneId.systemDefault());
         this.type = type;
         this.username = username;
         this.content = content;
+        this.entity = entity;
+        this.entityId = entityId;
+        this.changes = changes;
     }
 
     public static Log buildSelectLog(String username, String content) {
@@ -63,4 +91,34 @@ public class Log {
                 .build();
     }
 
+    public static Log buildInsertLog(String username, String entity, Long entityId, List<LogChange> changes) {
+        return Log.builder()
+                .type(INSERT)
+                .username(username)
+                .entity(entity)
+                .entityId(entityId)
+                .changes(changes)
+                .build();
+    }
+
+    public static Log buildUpdateLog(String username, String entity, Long entityId, List<LogChange> changes) {
+        return Log.builder()
+                .type(UPDATE)
+                .username(username)
+                .entity(entity)
+                .entityId(entityId)
+                .changes(changes)
+                .build();
+    }
+
+    public static Log buildDeleteLog(String username, String entity, Long entityId, List<LogChange> changes) {
+        return Log.builder()
+                .type(DELETE)
+                .username(username)
+                .entity(entity)
+                .entityId(entityId)
+                .changes(changes)
+                .build();
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.project.mentoridge.modules.log.vo;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 필드 단위 변경 내역 (insert : after 만, delete : before 만)
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class LogChange {
+
+    private String field;
+    private String before;
+    private String after;
+
+    private LogChange(String field, String before, String after) {
+        this.field = field;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static LogChange of(String field, String before, String after) {
+        return new LogChange(field, before, after);
+    }
+
+    public static LogChange inserted(String field, String value) {
+        return new LogChange(field, null, value);
+    }
+
+    public static LogChange deleted(String field, String value) {
+        return new LogChange(field, value, null);
+    }
+}
@@ -16,6 +16,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Optional<Notification> findByUserAndId(User user, Long notificationId);
     List<Notification> findByUser(User user);
     Page<Notification> findByUserOrderByIdDesc(User user, Pageable pageable);
+    // 커서 페이징 (count 쿼리 없음)
+    List<Notification> findByUserAndIdLessThanOrderByIdDesc(User user, Long id, Pageable pageable);
     
     int countByUserAndCheckedIsFalse(User user);
 
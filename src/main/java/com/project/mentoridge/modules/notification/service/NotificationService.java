@@ -5,6 +5,8 @@ import com.project.mentoridge.modules.account.controller.response.NotificationRe
 import com.project.mentoridge.modules.account.repository.UserRepository;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.base.AbstractService;
+import com.project.mentoridge.modules.base.Cursor;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.notification.enums.NotificationType;
 import com.project.mentoridge.modules.notification.repository.NotificationRepository;
 import com.project.mentoridge.modules.notification.vo.Notification;
@@ -14,6 +16,8 @@ import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.project.mentoridge.config.exception.EntityNotFoundException.EntityType.NOTIFICATION;
 import static com.project.mentoridge.config.exception.EntityNotFoundException.EntityType.USER;
 
@@ -36,6 +40,14 @@ public class NotificationService extends AbstractService {
         return getNotifications(user, page).map(NotificationResponse::new);
     }
 
+    // 커서 페이징 (id 역순)
+    @Transactional(readOnly = true)
+    public CursorResponse<NotificationResponse> getNotificationResponses(User user, String cursor) {
+        List<Notification> notifications = notificationRepository.findByUserAndIdLessThanOrderByIdDesc(user, getCursorIdOrMax(cursor), getCursorRequest());
+        return CursorResponse.of(notifications, PAGE_SIZE, notification -> Cursor.of(notification.getId()).encode())
+                .map(NotificationResponse::new);
+    }
+
     @Transactional(readOnly = true)
     public int countUncheckedNotifications(User user) {
         return notificationRepository.countByUserAndCheckedIsFalse(user);
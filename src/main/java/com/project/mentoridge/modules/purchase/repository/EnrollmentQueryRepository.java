@@ -1,6 +1,8 @@
 package com.project.mentoridge.modules.purchase.repository;
 
 import com.project.mentoridge.modules.account.vo.Mentee;
+import com.project.mentoridge.modules.base.PageCountKey;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.lecture.controller.response.EachLectureResponse;
 import com.project.mentoridge.modules.lecture.vo.QLecture;
 import com.project.mentoridge.modules.lecture.vo.QLecturePrice;
@@ -8,13 +10,14 @@ import com.project.mentoridge.modules.purchase.controller.response.EnrollmentWit
 import com.project.mentoridge.modules.purchase.controller.response.EnrollmentWithSimpleEachLectureResponse;
 import com.project.mentoridge.modules.purchase.vo.Enrollment;
 import com.project.mentoridge.modules.purchase.vo.QEnrollment;
+import com.project.mentoridge.modules.review.vo.MenteeReview;
 import com.project.mentoridge.modules.review.vo.QMenteeReview;
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,7 @@ import java.util.stream.Collectors;
 public class EnrollmentQueryRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter pageCounter;
     private final QEnrollment enrollment = QEnrollment.enrollment;
     private final QMenteeReview menteeReview = QMenteeReview.menteeReview;
 
@@ -36,21 +40,29 @@ public class EnrollmentQueryRepository {
 
     public Page<EnrollmentWithSimpleEachLectureResponse> findEnrollments(Mentee mentee, boolean reviewed, Pageable pageable) {
 
-        QueryResults<Enrollment> enrollments = jpaQueryFactory.selectFrom(enrollment)
+        BooleanExpression hasReview = JPAExpressions.selectFrom(menteeReview).where(menteeReview.enrollment.eq(enrollment)).exists();
+        List<Enrollment> enrollments = jpaQueryFactory.selectFrom(enrollment)
                 .innerJoin(enrollment.lecturePrice, lecturePrice)
                 .fetchJoin()
                 .innerJoin(lecturePrice.lecture, lecture)
                 .fetchJoin()
-                .where(reviewed ? JPAExpressions.selectFrom(menteeReview).where(menteeReview.enrollment.eq(enrollment)).exists() : JPAExpressions.selectFrom(menteeReview).where(menteeReview.enrollment.eq(enrollment)).notExists(),
+                .where(reviewed ? hasReview : hasReview.not(),
                         enrollment.mentee.eq(mentee), enrollment.checked.eq(true))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetchResults();
+                .fetch();
 
-        List<EnrollmentWithSimpleEachLectureResponse> results = enrollments.getResults().stream().map(EnrollmentWithSimpleEachLectureResponse::new)
+        List<EnrollmentWithSimpleEachLectureResponse> results = enrollments.stream().map(EnrollmentWithSimpleEachLectureResponse::new)
                 .collect(Collectors.toList());
 
-        return new PageImpl<>(results, pageable, enrollments.getTotal());
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(enrollment.id)
+                .from(enrollment)
+                .innerJoin(enrollment.lecturePrice, lecturePrice)
+                .innerJoin(lecturePrice.lecture, lecture)
+                .where(reviewed ? hasReview : hasReview.not(),
+                        enrollment.mentee.eq(mentee), enrollment.checked.eq(true));
+        return pageCounter.getPage(results, pageable,
+                PageCountKey.of("enrollment.mentee", mentee, reviewed).dependsOn(Enrollment.class, MenteeReview.class), countQuery);
     }
 
     public EnrollmentWithSimpleEachLectureResponse findEnrollment(Mentee mentee, Long enrollmentId) {
@@ -67,7 +79,7 @@ public class EnrollmentQueryRepository {
 
     public Page<EnrollmentWithEachLectureResponse> findEnrollmentsWithEachLecture(Mentee mentee, boolean checked, Pageable pageable) {
 
-        QueryResults<Enrollment> enrollments = jpaQueryFactory.selectFrom(enrollment)
+        List<Enrollment> enrollments = jpaQueryFactory.selectFrom(enrollment)
                 .innerJoin(enrollment.lecturePrice, lecturePrice)
                 .fetchJoin()
                 .innerJoin(enrollment.lecture, lecture)
@@ -75,10 +87,17 @@ public class EnrollmentQueryRepository {
                 .where(enrollment.mentee.eq(mentee), enrollment.checked.eq(checked))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetchResults();
-        List<EnrollmentWithEachLectureResponse> results = enrollments.getResults()
+                .fetch();
+        List<EnrollmentWithEachLectureResponse> results = enrollments
                 .stream().map(EnrollmentWithEachLectureResponse::new).collect(Collectors.toList());
-        return new PageImpl<>(results, pageable, enrollments.getTotal());
+
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(enrollment.id)
+                .from(enrollment)
+                .innerJoin(enrollment.lecturePrice, lecturePrice)
+                .innerJoin(enrollment.lecture, lecture)
+                .where(enrollment.mentee.eq(mentee), enrollment.checked.eq(checked));
+        return pageCounter.getPage(results, pageable,
+                PageCountKey.of("enrollment.mentee-checked", mentee, checked).dependsOn(Enrollment.class), countQuery);
     }
 
     public EachLectureResponse findEachLectureOfEnrollment(Mentee mentee, Long enrollmentId, boolean checked) {
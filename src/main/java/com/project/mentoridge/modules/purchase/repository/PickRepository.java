@@ -28,6 +28,10 @@ public interface PickRepository extends JpaRepository<Pick, Long> {
     @Query(value = "select p from Pick p where p.mentee = :mentee and p.lecturePrice.id in :lecturePriceIds")
     List<Pick> findByMenteeAndLecturePriceIds(@Param("mentee") Mentee mentee, @Param("lecturePriceIds") List<Long> lecturePriceIds);
 
+    // 멘티(userId)가 좋아요한 lecturePriceId 전체 - PickedLecturePriceCache
+    @Query(value = "select p.lecturePrice.id from Pick p where p.mentee.user.id = :userId")
+    List<Long> findLecturePriceIdsByMenteeUserId(@Param("userId") Long userId);
+
     @Transactional
     void deleteByMentee(Mentee mentee);
 
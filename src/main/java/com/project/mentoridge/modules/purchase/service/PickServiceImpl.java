@@ -45,6 +45,7 @@ public class PickServiceImpl extends AbstractService implements PickService {
     private final LectureQueryRepository lectureQueryRepository;
 
     private final PickLogService pickLogService;
+    private final PickedLecturePriceCache pickedLecturePriceCache;
 
         private Lecture getLecture(Long lectureId) {
             return lectureRepository.findById(lectureId)
@@ -106,10 +107,12 @@ public class PickServiceImpl extends AbstractService implements PickService {
             Pick _pick = pick.get();
             _pick.delete(menteeUser, pickLogService);
             pickRepository.delete(_pick);
+            pickedLecturePriceCache.unpicked(menteeUser.getId(), lecturePriceId);
             return null;
         } else {
             Pick saved = pickRepository.save(buildPick(mentee, lecture, lecturePrice));
             pickLogService.insert(menteeUser, saved);
+            pickedLecturePriceCache.picked(menteeUser.getId(), lecturePriceId);
             return saved.getId();
         }
     }
@@ -121,5 +124,6 @@ public class PickServiceImpl extends AbstractService implements PickService {
         // TODO - batch
         pickRepository.deleteByMentee(mentee);
         pickLogService.deleteAll(menteeUser);
+        pickedLecturePriceCache.evict(menteeUser.getId());
     }
 }
@@ -0,0 +1,191 @@
+package com.project.mentoridge.modules.purchase.service;
+
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.purchase.repository.PickRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멘티(userId)별 좋아요한 lecturePriceId 캐시 - 강의 목록/상세의 picked 표시용
+ * - 처음 조회할 때 한 번 읽어서 정렬된 long[] 로 보관 (멘티 한 명의 좋아요 수는 작으므로 bitmap 보다 작고 이진 탐색으로 조회)
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 멘티부터 제거, ttl 이 지나면 다시 읽음
+ * - PickServiceImpl 의 좋아요/취소/전체 삭제 후 커밋되면 갱신, 멘티 탈퇴 시 제거
+ * - 쓰기 트랜잭션 안에서는 캐시를 사용하지 않음 (커밋되지 않은 변경, 롤백될 변경)
+ */
+@RequiredArgsConstructor
+@Service
+public class PickedLecturePriceCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final PickRepository pickRepository;
+
+    @Value("${mentoridge-config.pick.cache.enabled:true}")
+    private boolean enabled;
+    @Value("${mentoridge-config.pick.cache.ttl-ms:600000}")
+    private long ttlMs;
+    @Value("${mentoridge-config.pick.cache.max-entries:10000}")
+    private int maxEntries;
+
+    // userId 기준, 접근 순서 (LRU)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 조회 중 변경이 있었으면 조회 결과를 캐시하지 않는다
+    private long generation;
+
+    /**
+     * @return lecturePriceId -> true (좋아요한 것만)
+     */
+    public Map<Long, Boolean> getPicked(User user, Collection<Long> lecturePriceIds) {
+
+        Map<Long, Boolean> picked = new HashMap<>();
+        if (user == null || lecturePriceIds.isEmpty()) {
+            return picked;
+        }
+
+        long[] pickedIds = getPickedIds(user.getId());
+        for (Long lecturePriceId : lecturePriceIds) {
+            if (Arrays.binarySearch(pickedIds, lecturePriceId) >= 0) {
+                picked.put(lecturePriceId, true);
+            }
+        }
+        return picked;
+    }
+
+    public boolean isPicked(User user, Long lecturePriceId) {
+        return user != null && Arrays.binarySearch(getPickedIds(user.getId()), lecturePriceId) >= 0;
+    }
+
+        private long[] getPickedIds(Long userId) {
+
+            if (!isCacheable()) {
+                return load(userId);
+            }
+
+            long loadedAt;
+            synchronized (this) {
+                Entry entry = entries.get(userId);
+                if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                    return entry.lecturePriceIds;
+                }
+                loadedAt = generation;
+            }
+
+            long[] lecturePriceIds = load(userId);
+            synchronized (this) {
+                if (generation == loadedAt) {
+                    entries.put(userId, new Entry(lecturePriceIds, System.currentTimeMillis() + ttlMs));
+                    evict();
+                }
+            }
+            return lecturePriceIds;
+        }
+
+        private long[] load(Long userId) {
+            List<Long> lecturePriceIds = pickRepository.findLecturePriceIdsByMenteeUserId(userId);
+            if (lecturePriceIds.isEmpty()) {
+                return EMPTY;
+            }
+            return lecturePriceIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        }
+
+        private void evict() {
+            while (entries.size() > maxEntries) {
+                Long eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+            }
+        }
+
+        private boolean isCacheable() {
+            return enabled && !(TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+        }
+
+    // 좋아요 : 커밋 후 반영
+    public void picked(Long userId, Long lecturePriceId) {
+        afterCommit(() -> update(userId, lecturePriceId, true));
+    }
+
+    // 좋아요 취소 : 커밋 후 반영
+    public void unpicked(Long userId, Long lecturePriceId) {
+        afterCommit(() -> update(userId, lecturePriceId, false));
+    }
+
+    // 전체 삭제, 탈퇴 : 커밋 후 제거
+    public void evict(Long userId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                entries.remove(userId);
+            }
+        });
+    }
+
+        private void afterCommit(Runnable runnable) {
+
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                runnable.run();
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        }
+
+        // 캐시에 없는 멘티는 다음 조회 때 읽으므로 그대로 둔다
+        private synchronized void update(Long userId, Long lecturePriceId, boolean picked) {
+
+            generation++;
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return;
+            }
+            long[] lecturePriceIds = entry.lecturePriceIds;
+            int index = Arrays.binarySearch(lecturePriceIds, lecturePriceId);
+            if (picked == (index >= 0)) {
+                return;
+            }
+
+            long[] updated;
+            if (picked) {
+                int insertion = -index - 1;
+                updated = new long[lecturePriceIds.length + 1];
+                System.arraycopy(lecturePriceIds, 0, updated, 0, insertion);
+                updated[insertion] = lecturePriceId;
+                System.arraycopy(lecturePriceIds, insertion, updated, insertion + 1, lecturePriceIds.length - insertion);
+            } else {
+                updated = new long[lecturePriceIds.length - 1];
+                System.arraycopy(lecturePriceIds, 0, updated, 0, index);
+                System.arraycopy(lecturePriceIds, index + 1, updated, index, lecturePriceIds.length - index - 1);
+            }
+            entries.put(userId, new Entry(updated, entry.expiresAt));
+        }
+
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    private static class Entry {
+
+        // 오름차순, 중복 없음 (갱신 시 복사)
+        private final long[] lecturePriceIds;
+        private final long expiresAt;
+
+        private Entry(long[] lecturePriceIds, long expiresAt) {
+            this.lecturePriceIds = lecturePriceIds;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
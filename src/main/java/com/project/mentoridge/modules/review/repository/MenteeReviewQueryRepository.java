@@ -4,6 +4,8 @@ import com.project.mentoridge.modules.account.vo.QMentee;
 import com.project.mentoridge.modules.account.vo.QUser;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.base.BaseEntity;
+import com.project.mentoridge.modules.base.PageCountKey;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.lecture.vo.QLecture;
 import com.project.mentoridge.modules.lecture.vo.QLecturePrice;
@@ -14,12 +16,11 @@ import com.project.mentoridge.modules.review.controller.response.ReviewWithSimpl
 import com.project.mentoridge.modules.review.vo.MenteeReview;
 import com.project.mentoridge.modules.review.vo.MentorReview;
 import com.project.mentoridge.modules.review.vo.QMenteeReview;
-import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +36,7 @@ import java.util.stream.Collectors;
 public class MenteeReviewQueryRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter pageCounter;
     private final QMenteeReview menteeReview = QMenteeReview.menteeReview;
     private final QMentee mentee = QMentee.mentee;
     private final QUser user = QUser.user;
@@ -46,7 +48,7 @@ public class MenteeReviewQueryRepository {
 
     public Page<MenteeReview> findReviewsWithUserByLecture(Lecture lecture, Pageable pageable) {
 
-        QueryResults<MenteeReview> reviews = jpaQueryFactory.selectFrom(menteeReview)
+        List<MenteeReview> reviews = jpaQueryFactory.selectFrom(menteeReview)
                 .innerJoin(menteeReview.mentee, mentee)
                 .fetchJoin()
                 .innerJoin(mentee.user, user)
@@ -55,8 +57,9 @@ public class MenteeReviewQueryRepository {
                 .limit(pageable.getPageSize())
                 .where(eqLecture(lecture))
                 .orderBy(menteeReview.id.desc())
-                .fetchResults();
-        return new PageImpl<>(reviews.getResults(), pageable, reviews.getTotal());
+                .fetch();
+        return pageCounter.getPage(reviews, pageable,
+                PageCountKey.of("review.lecture", lecture).dependsOn(MenteeReview.class), countByMentee().where(eqLecture(lecture)));
     }
 
     // TODO - 제네릭 사용
@@ -74,8 +77,16 @@ public class MenteeReviewQueryRepository {
         return menteeReview.mentee.user.eq(user);
     }
 
-        private Map<Long, MentorReview> getChildren(QueryResults<MenteeReview> parents) {
-            List<Long> parentIds = parents.getResults().stream().map(BaseEntity::getId).collect(Collectors.toList());
+        // count 용 : fetch join 없이 id 만
+        private JPAQuery<Long> countByMentee() {
+            return jpaQueryFactory.select(menteeReview.id)
+                    .from(menteeReview)
+                    .innerJoin(menteeReview.mentee, mentee)
+                    .innerJoin(mentee.user, user);
+        }
+
+        private Map<Long, MentorReview> getChildren(List<MenteeReview> parents) {
+            List<Long> parentIds = parents.stream().map(BaseEntity::getId).collect(Collectors.toList());
             List<MentorReview> children
                     = em.createQuery("select r from MentorReview r join fetch r.mentor m join fetch m.user u where r.parent.id in :parentIds", MentorReview.class)
                     .setParameter("parentIds", parentIds).getResultList();
@@ -87,7 +98,7 @@ public class MenteeReviewQueryRepository {
 
     public Page<ReviewResponse> findReviewsWithChildByLecture(Lecture lecture, Pageable pageable) {
 
-        QueryResults<MenteeReview> parents = jpaQueryFactory.selectFrom(menteeReview)
+        List<MenteeReview> parents = jpaQueryFactory.selectFrom(menteeReview)
                 .innerJoin(menteeReview.mentee, mentee)
                 .fetchJoin()
                 .innerJoin(mentee.user, user)
@@ -96,17 +107,18 @@ public class MenteeReviewQueryRepository {
                 .limit(pageable.getPageSize())
                 .where(eqLecture(lecture))
                 .orderBy(menteeReview.id.desc())
-                .fetchResults();
+                .fetch();
 
         Map<Long, MentorReview> map = getChildren(parents);
-        List<ReviewResponse> results = parents.getResults().stream()
+        List<ReviewResponse> results = parents.stream()
                 .map(parent -> new ReviewResponse(parent, map.get(parent.getId()))).collect(Collectors.toList());
-        return new PageImpl<>(results, pageable, parents.getTotal());
+        return pageCounter.getPage(results, pageable,
+                PageCountKey.of("review.lecture", lecture).dependsOn(MenteeReview.class), countByMentee().where(eqLecture(lecture)));
     }
 
     public Page<ReviewResponse> findReviewsWithChildByLecturePrice(List<Enrollment> enrollments, Pageable pageable) {
 
-        QueryResults<MenteeReview> parents = jpaQueryFactory.selectFrom(menteeReview)
+        List<MenteeReview> parents = jpaQueryFactory.selectFrom(menteeReview)
                 .innerJoin(menteeReview.mentee, mentee)
                 .fetchJoin()
                 .innerJoin(mentee.user, user)
@@ -115,17 +127,19 @@ public class MenteeReviewQueryRepository {
                 .limit(pageable.getPageSize())
                 .where(menteeReview.enrollment.in(enrollments))
                 .orderBy(menteeReview.id.desc())
-                .fetchResults();
+                .fetch();
 
         Map<Long, MentorReview> map = getChildren(parents);
-        List<ReviewResponse> results = parents.getResults().stream()
+        List<ReviewResponse> results = parents.stream()
                 .map(parent -> new ReviewResponse(parent, map.get(parent.getId()))).collect(Collectors.toList());
-        return new PageImpl<>(results, pageable, parents.getTotal());
+        return pageCounter.getPage(results, pageable,
+                PageCountKey.of("review.enrollments", enrollments).dependsOn(MenteeReview.class),
+                countByMentee().where(menteeReview.enrollment.in(enrollments)));
     }
 
     public Page<ReviewWithSimpleEachLectureResponse> findReviewsWithChildAndSimpleEachLectureByUser(User user, Pageable pageable) {
 
-        QueryResults<MenteeReview> parents = jpaQueryFactory.selectFrom(menteeReview)
+        List<MenteeReview> parents = jpaQueryFactory.selectFrom(menteeReview)
                 .innerJoin(menteeReview.enrollment, enrollment)
                 .fetchJoin()
                 .innerJoin(enrollment.lecturePrice, lecturePrice)
@@ -136,13 +150,20 @@ public class MenteeReviewQueryRepository {
                 .limit(pageable.getPageSize())
                 .where(eqUser(user), lecture.approved.isTrue())
                 .orderBy(menteeReview.id.desc())
-                .fetchResults();
+                .fetch();
 
         Map<Long, MentorReview> map = getChildren(parents);
-        List<ReviewWithSimpleEachLectureResponse> results = parents.getResults().stream()
+        List<ReviewWithSimpleEachLectureResponse> results = parents.stream()
                 .map(parent -> new ReviewWithSimpleEachLectureResponse(parent, map.get(parent.getId()))).collect(Collectors.toList());
 
-        return new PageImpl<>(results, pageable, parents.getTotal());
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(menteeReview.id)
+                .from(menteeReview)
+                .innerJoin(menteeReview.enrollment, enrollment)
+                .innerJoin(enrollment.lecturePrice, lecturePrice)
+                .innerJoin(menteeReview.lecture, lecture)
+                .where(eqUser(user), lecture.approved.isTrue());
+        return pageCounter.getPage(results, pageable,
+                PageCountKey.of("review.user", user).dependsOn(MenteeReview.class, Lecture.class), countQuery);
     }
 
     // TODO - with User
@@ -160,7 +181,7 @@ public class MenteeReviewQueryRepository {
 //
 //        Map<Long, Review> map = children.stream()
 //                .collect(Collectors.toMap(child -> child.getParent().getId(), child -> child));
-//        List<ReviewResponse> results = parents.getResults().stream()
+//        List<ReviewResponse> results = parents.stream()
 //                .map(parent -> new ReviewResponse(parent, map.get(parent.getId()))).collect(Collectors.toList());
 //
 //        return new PageImpl<>(results, pageable, parents.getTotal());
@@ -142,16 +142,14 @@ public class MenteeReviewService extends AbstractService {
             throw new RuntimeException("이미 해당 수강내역의 후기가 존재합니다.");
         }
 
-        MenteeReview saved = menteeReviewRepository.save(menteeReviewCreateRequest.toEntity(mentee, enrollment.getLecture(), enrollment));
-        menteeReviewLogService.insert(menteeUser, saved);
-        return saved;
+        return menteeReviewRepository.save(menteeReviewCreateRequest.toEntity(mentee, enrollment.getLecture(), enrollment));
     }
 
     public void updateMenteeReview(User menteeUser, Long menteeReviewId, MenteeReviewUpdateRequest menteeReviewUpdateRequest) {
 
         MenteeReview menteeReview = menteeReviewRepository.findById(menteeReviewId)
                 .orElseThrow(() -> new EntityNotFoundException(REVIEW));
-        menteeReview.update(menteeReviewUpdateRequest, menteeUser, menteeReviewLogService);
+        menteeReview.update(menteeReviewUpdateRequest);
     }
 
     /*
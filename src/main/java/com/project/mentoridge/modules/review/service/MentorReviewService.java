@@ -64,9 +64,7 @@ public class MentorReviewService extends AbstractService {
         MenteeReview parent = menteeReviewRepository.findMenteeReviewByLectureAndId(lecture, menteeReviewId)
                 .orElseThrow(() -> new EntityNotFoundException(REVIEW));
 
-        MentorReview saved = mentorReviewRepository.save(mentorReviewCreateRequest.toEntity(mentor, parent));
-        mentorReviewLogService.insert(mentorUser, saved);
-        return saved;
+        return mentorReviewRepository.save(mentorReviewCreateRequest.toEntity(mentor, parent));
     }
 
     public void updateMentorReview(User mentorUser, Long lectureId, Long menteeReviewId, Long mentorReviewId, MentorReviewUpdateRequest mentorReviewUpdateRequest) {
@@ -81,7 +79,7 @@ public class MentorReviewService extends AbstractService {
         // 3. 해당 리뷰에 대한 댓글이 맞는가?
         MentorReview mentorReview = mentorReviewRepository.findByParentAndId(parent, mentorReviewId)
                 .orElseThrow(() -> new EntityNotFoundException(REVIEW));
-        mentorReview.update(mentorReviewUpdateRequest, mentorUser, mentorReviewLogService);
+        mentorReview.update(mentorReviewUpdateRequest);
     }
 
     public void deleteMentorReview(User mentorUser, Long lectureId, Long menteeReviewId, Long mentorReviewId) {
@@ -75,22 +75,9 @@ public class MenteeReview extends BaseEntity {
         menteeReviewLogService.delete(user, this);
     }
 
-    public void update(MenteeReviewUpdateRequest menteeReviewUpdateRequest, User user, MenteeReviewLogService menteeReviewLogService) {
-
-        MenteeReview before = this.copy();
-
+    // 변경 이력은 AuditEventListener 가 기록
+    public void update(MenteeReviewUpdateRequest menteeReviewUpdateRequest) {
         setScore(menteeReviewUpdateRequest.getScore());
         setContent(menteeReviewUpdateRequest.getContent());
-        menteeReviewLogService.update(user, before, this);
-    }
-
-    private MenteeReview copy() {
-        return MenteeReview.builder()
-                .score(score)
-                .content(content)
-                .mentee(mentee)
-                .enrollment(enrollment)
-                .lecture(lecture)
-                .build();
     }
 }
@@ -55,17 +55,8 @@ public class MentorReview extends BaseEntity {
         this.parent = parent;
     }
 
-    public void update(MentorReviewUpdateRequest mentorReviewUpdateRequest, User user, MentorReviewLogService mentorReviewLogService) {
-        MentorReview before = this.copy();
+    // 변경 이력은 AuditEventListener 가 기록
+    public void update(MentorReviewUpdateRequest mentorReviewUpdateRequest) {
         setContent(mentorReviewUpdateRequest.getContent());
-        mentorReviewLogService.update(user, before, this);
-    }
-
-    private MentorReview copy() {
-        return MentorReview.builder()
-                .content(content)
-                .mentor(mentor)
-                .parent(parent)
-                .build();
     }
 }
@@ -0,0 +1,52 @@
+package com.project.mentoridge.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토큰 분리 (강의 검색, 게시판 검색)
+ * - 한글은 음절 bigram (+ 한 글자 단어는 unigram), 그 외 문자/숫자는 단어 단위, 소문자로 변환
+ */
+public class TokenizeUtil {
+
+    public static List<String> tokenize(String text) {
+
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            char c = normalized.charAt(start);
+            if (!Character.isLetterOrDigit(c)) {
+                start++;
+                continue;
+            }
+            boolean hangul = isHangul(c);
+            int end = start + 1;
+            while (end < length && Character.isLetterOrDigit(normalized.charAt(end)) && isHangul(normalized.charAt(end)) == hangul) {
+                end++;
+            }
+
+            if (!hangul) {
+                tokens.add(normalized.substring(start, end));
+            } else if (end - start == 1) {
+                tokens.add(normalized.substring(start, end));
+            } else {
+                for (int i = start; i + 1 < end; i++) {
+                    tokens.add(normalized.substring(i, i + 2));
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+        private static boolean isHangul(char c) {
+            return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+        }
+}
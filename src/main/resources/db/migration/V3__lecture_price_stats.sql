@@ -0,0 +1,39 @@
+-- 강의 목록 카드용 집계 (LectureStatsService 가 변경 시 갱신, 매일 재계산)
+CREATE TABLE IF NOT EXISTS `lecture_price_stats` (
+  `lecture_price_id` bigint NOT NULL,
+  `lecture_id` bigint NOT NULL,
+  `mentor_id` bigint NOT NULL,
+  `enrollment_count` bigint NOT NULL DEFAULT '0',
+  `pick_count` bigint NOT NULL DEFAULT '0',
+  `review_count` bigint NOT NULL DEFAULT '0',
+  `score_sum` bigint NOT NULL DEFAULT '0',
+  `updated_at` datetime DEFAULT NULL,
+  PRIMARY KEY (`lecture_price_id`),
+  KEY `IDX_LECTURE_PRICE_STATS_MENTOR_ID` (`mentor_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE IF NOT EXISTS `mentor_stats` (
+  `mentor_id` bigint NOT NULL,
+  `lecture_count` bigint NOT NULL DEFAULT '0',
+  `review_count` bigint NOT NULL DEFAULT '0',
+  `updated_at` datetime DEFAULT NULL,
+  PRIMARY KEY (`mentor_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 기존 데이터
+INSERT INTO `lecture_price_stats` (`lecture_price_id`, `lecture_id`, `mentor_id`, `enrollment_count`, `pick_count`, `review_count`, `score_sum`, `updated_at`)
+SELECT lp.lecture_price_id, l.lecture_id, l.mentor_id,
+       (SELECT COUNT(*) FROM enrollment e WHERE e.lecture_price_id = lp.lecture_price_id AND e.checked = 1),
+       (SELECT COUNT(*) FROM pick p WHERE p.lecture_price_id = lp.lecture_price_id),
+       (SELECT COUNT(*) FROM mentee_review r INNER JOIN enrollment e ON r.enrollment_id = e.enrollment_id WHERE e.lecture_price_id = lp.lecture_price_id),
+       (SELECT COALESCE(SUM(r.score), 0) FROM mentee_review r INNER JOIN enrollment e ON r.enrollment_id = e.enrollment_id WHERE e.lecture_price_id = lp.lecture_price_id),
+       NOW()
+FROM lecture_price lp
+INNER JOIN lecture l ON lp.lecture_id = l.lecture_id;
+
+INSERT INTO `mentor_stats` (`mentor_id`, `lecture_count`, `review_count`, `updated_at`)
+SELECT t.mentor_id,
+       (SELECT COUNT(*) FROM lecture l WHERE l.mentor_id = t.mentor_id),
+       (SELECT COUNT(*) FROM mentee_review r INNER JOIN lecture l ON r.lecture_id = l.lecture_id WHERE l.mentor_id = t.mentor_id),
+       NOW()
+FROM mentor t;
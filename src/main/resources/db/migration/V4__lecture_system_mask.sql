@@ -0,0 +1,13 @@
+-- 수업방식(lecture_system_type)의 비트 합 : ONLINE = 1, OFFLINE = 2 (SystemType.bit)
+-- 목록 검색의 수업방식 조건을 lecture_system_type 서브쿼리 대신 인덱스로 조회
+ALTER TABLE `lecture` ADD COLUMN `system_mask` int NOT NULL DEFAULT '0';
+
+-- 기존 데이터
+UPDATE `lecture` l
+SET l.system_mask = (
+    SELECT COALESCE(SUM(CASE s.systems WHEN 'ONLINE' THEN 1 WHEN 'OFFLINE' THEN 2 ELSE 0 END), 0)
+    FROM (SELECT DISTINCT lecture_id, systems FROM lecture_system_type) s
+    WHERE s.lecture_id = l.lecture_id
+);
+
+CREATE INDEX `IDX_LECTURE_SYSTEM_MASK` ON `lecture` (`system_mask`, `approved`);
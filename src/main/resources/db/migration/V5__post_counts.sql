@@ -0,0 +1,9 @@
+-- 게시글 목록/상세의 댓글 수, 좋아요 수 (댓글/좋아요 변경 시 증감, PostCountService 가 매일 보정)
+ALTER TABLE `post`
+  ADD COLUMN `comment_count` bigint NOT NULL DEFAULT '0',
+  ADD COLUMN `liking_count` bigint NOT NULL DEFAULT '0';
+
+-- 기존 데이터
+UPDATE `post` p
+SET p.comment_count = (SELECT COUNT(*) FROM `comment` c WHERE c.post_id = p.post_id),
+    p.liking_count = (SELECT COUNT(*) FROM `liking` l WHERE l.post_id = p.post_id);
@@ -0,0 +1,7 @@
+-- 댓글단 글 / 좋아요한 글 리스트 : post 에서 EXISTS (user_id = ? AND post_id = p.post_id) 로 조회
+CREATE INDEX `IDX_COMMENT_USER_ID_POST_ID` ON `comment` (`user_id`, `post_id`);
+CREATE INDEX `IDX_LIKING_USER_ID_POST_ID` ON `liking` (`user_id`, `post_id`);
+
+-- user_id 외래 키는 위 인덱스를 사용
+DROP INDEX `FK_COMMENT_USER_ID` ON `comment`;
+DROP INDEX `FK_LIKING_USER_ID` ON `liking`;
@@ -13,6 +13,7 @@ import com.project.mentoridge.modules.log.component.MenteeLogService;
 import com.project.mentoridge.modules.purchase.repository.EnrollmentRepository;
 import com.project.mentoridge.modules.purchase.repository.PickRepository;
 import com.project.mentoridge.modules.purchase.service.EnrollmentService;
+import com.project.mentoridge.modules.purchase.service.PickedLecturePriceCache;
 import com.project.mentoridge.modules.purchase.vo.Enrollment;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,8 @@ class MenteeServiceTest {
     ChatroomRepository chatroomRepository;
     @Mock
     PickRepository pickRepository;
+    @Mock
+    PickedLecturePriceCache pickedLecturePriceCache;
 
     @Mock
     EnrollmentService enrollmentService;
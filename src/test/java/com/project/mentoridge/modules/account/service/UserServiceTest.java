@@ -247,8 +247,10 @@ class UserServiceTest {
         // message 삭제
         verify(messageRepository).deleteBySender(user);
         // 좋아요 삭제
+        verify(postRepository).subtractLikingCountsByUser(1L);
         verify(likingRepository).deleteByUser(user);
         // 댓글 삭제
+        verify(postRepository).subtractCommentCountsByUser(1L);
         verify(commentRepository).deleteByUser(user);
 
         // 글 삭제
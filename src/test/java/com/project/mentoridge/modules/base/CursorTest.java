@@ -0,0 +1,50 @@
+package com.project.mentoridge.modules.base;
+
+import com.project.mentoridge.config.exception.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorTest {
+
+    @Test
+    void encode_and_decode_id() {
+
+        // given
+        String token = Cursor.of(123L).encode();
+
+        // when
+        Cursor cursor = Cursor.decode(token);
+
+        // then
+        assertNull(cursor.getKey());
+        assertEquals(123L, (long) cursor.getId());
+    }
+
+    @Test
+    void encode_and_decode_key_and_id() {
+
+        // given
+        String token = Cursor.of(12.5, 7L).encode();
+
+        // when
+        Cursor cursor = Cursor.decode(token);
+
+        // then
+        assertEquals("12.5", cursor.getKey());
+        assertEquals(12.5, cursor.getKeyAsDouble());
+        assertEquals(7L, (long) cursor.getId());
+    }
+
+    @Test
+    void decode_blank() {
+        assertNull(Cursor.decode(null));
+        assertNull(Cursor.decode(""));
+    }
+
+    @Test
+    void decode_invalid() {
+        assertThrows(InvalidInputException.class, () -> Cursor.decode("!!!"));
+        assertThrows(InvalidInputException.class, () -> Cursor.decode(Cursor.of("a", null).encode()));
+    }
+}
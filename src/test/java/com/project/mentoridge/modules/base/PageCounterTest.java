@@ -0,0 +1,129 @@
+package com.project.mentoridge.modules.base;
+
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.board.vo.Post;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PageCounterTest {
+
+    @Mock
+    JPAQuery<Long> countQuery;
+
+    private PageCounter pageCounter;
+
+    @BeforeEach
+    void init() {
+        pageCounter = new PageCounter();
+        ReflectionTestUtils.setField(pageCounter, "cacheEnabled", true);
+        ReflectionTestUtils.setField(pageCounter, "ttlMs", 30000L);
+        ReflectionTestUtils.setField(pageCounter, "maxEntries", 100);
+        ReflectionTestUtils.setField(pageCounter, "estimateThreshold", 1000);
+    }
+
+    @Test
+    void get_last_page_without_count() {
+
+        // given
+        List<Long> content = Arrays.asList(1L, 2L, 3L);
+
+        // when
+        Page<Long> page = pageCounter.getPage(content, PageRequest.of(1, 5), PageCountKey.of("test"), countQuery);
+
+        // then
+        assertEquals(8, page.getTotalElements());
+        verifyNoInteractions(countQuery);
+    }
+
+    @Test
+    void get_cached_count_until_dependency_changed() {
+
+        // given
+        List<Long> content = Arrays.asList(1L, 2L);
+        when(countQuery.fetchCount()).thenReturn(10L, 11L);
+
+        // when
+        pageCounter.getPage(content, PageRequest.of(0, 2), PageCountKey.of("test", 1L).dependsOn(Post.class), countQuery);
+        Page<Long> cached = pageCounter.getPage(content, PageRequest.of(1, 2), PageCountKey.of("test", 1L).dependsOn(Post.class), countQuery);
+
+        pageCounter.afterCommit(EntityChangedEvent.inserted(mock(Post.class), Post.class));
+        Page<Long> counted = pageCounter.getPage(content, PageRequest.of(0, 2), PageCountKey.of("test", 1L).dependsOn(Post.class), countQuery);
+
+        // then
+        assertEquals(10, cached.getTotalElements());
+        assertEquals(11, counted.getTotalElements());
+        verify(countQuery, times(2)).fetchCount();
+    }
+
+    @Test
+    void keep_cached_count_when_other_property_changed() {
+
+        // given
+        List<Long> content = Arrays.asList(1L, 2L);
+        when(countQuery.fetchCount()).thenReturn(10L, 11L);
+        pageCounter.getPage(content, PageRequest.of(0, 2), PageCountKey.of("test").dependsOnProperties(User.class, "zone"), countQuery);
+
+        // when
+        // 로그인 : lastLoginAt 만 변경
+        pageCounter.afterCommit(EntityChangedEvent.updated(mock(User.class), User.class,
+                new String[]{"lastLoginAt", "zone"}, new Object[2], new Object[2], new int[]{0}));
+        Page<Long> cached = pageCounter.getPage(content, PageRequest.of(0, 2), PageCountKey.of("test").dependsOnProperties(User.class, "zone"), countQuery);
+        // 지역 변경
+        pageCounter.afterCommit(EntityChangedEvent.updated(mock(User.class), User.class,
+                new String[]{"lastLoginAt", "zone"}, new Object[2], new Object[2], new int[]{1}));
+        Page<Long> counted = pageCounter.getPage(content, PageRequest.of(0, 2), PageCountKey.of("test").dependsOnProperties(User.class, "zone"), countQuery);
+
+        // then
+        assertEquals(10, cached.getTotalElements());
+        assertEquals(11, counted.getTotalElements());
+        verify(countQuery, times(2)).fetchCount();
+    }
+
+    @Test
+    void get_estimated_page() {
+
+        // given
+        ReflectionTestUtils.setField(pageCounter, "estimateEnabled", true);
+        ReflectionTestUtils.setField(pageCounter, "estimateThreshold", 3);
+        List<Long> content = Arrays.asList(1L, 2L);
+        when(countQuery.clone()).thenReturn(countQuery);
+        when(countQuery.limit(4L)).thenReturn(countQuery);
+        when(countQuery.fetch()).thenReturn(Arrays.asList(1L, 2L, 3L, 4L));
+
+        // when
+        Page<Long> page = pageCounter.getPage(content, PageRequest.of(0, 2), PageCountKey.of("test"), countQuery);
+
+        // then
+        assertTrue(page instanceof EstimatedPage);
+        assertTrue(((EstimatedPage<Long>) page).isTotalEstimated());
+        assertEquals(3, page.getTotalElements());
+        verify(countQuery, never()).fetchCount();
+    }
+
+    @Test
+    void get_empty_page() {
+
+        // given
+        // when
+        Page<Long> page = pageCounter.getPage(Collections.emptyList(), PageRequest.of(0, 10), PageCountKey.of("test"), countQuery);
+
+        // then
+        assertEquals(0, page.getTotalElements());
+        verifyNoInteractions(countQuery);
+    }
+}
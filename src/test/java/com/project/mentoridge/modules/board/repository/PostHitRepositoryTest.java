@@ -0,0 +1,96 @@
+package com.project.mentoridge.modules.board.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostHitRepositoryTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private PostHitRepository postHitRepository;
+
+    @BeforeEach
+    void init() {
+        postHitRepository = new PostHitRepository(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(postHitRepository, "stripeCount", 4);
+        postHitRepository.init();
+    }
+
+    @Test
+    void get_pending_hits() {
+
+        // given
+        postHitRepository.hit(1L);
+        postHitRepository.hit(1L);
+        postHitRepository.hit(2L);
+
+        // when
+        Map<Long, Long> pending = postHitRepository.getPending(Arrays.asList(1L, 2L, 3L));
+
+        // then
+        assertEquals(2L, pending.get(1L));
+        assertEquals(1L, pending.get(2L));
+        assertFalse(pending.containsKey(3L));
+        assertEquals(2L, postHitRepository.getPending(1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush_aggregated_hits() {
+
+        // given
+        postHitRepository.hit(2L);
+        postHitRepository.hit(1L);
+        postHitRepository.hit(2L);
+
+        // when
+        postHitRepository.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertEquals(2, args.getValue().size());
+        assertArrayEquals(new Object[]{1L, 1L}, args.getValue().get(0));
+        assertArrayEquals(new Object[]{2L, 2L}, args.getValue().get(1));
+        assertEquals(0L, postHitRepository.getPending(2L));
+
+        // 누적된 조회 수가 없으면 update 하지 않음
+        postHitRepository.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void keep_pending_hits_when_flush_failed() {
+
+        // given
+        postHitRepository.hit(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        postHitRepository.flush();
+
+        // then
+        assertEquals(1L, postHitRepository.getPending(1L));
+    }
+}
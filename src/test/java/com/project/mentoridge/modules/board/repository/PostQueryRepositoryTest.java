@@ -1,6 +1,7 @@
 package com.project.mentoridge.modules.board.repository;
 
 import com.project.mentoridge.modules.board.controller.response.PostResponse;
+import com.project.mentoridge.modules.board.vo.Post;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -8,8 +9,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest(properties = {"spring.config.location=classpath:application-test.yml"})
 class PostQueryRepositoryTest {
 
@@ -22,12 +27,65 @@ class PostQueryRepositoryTest {
         System.out.println(posts);
     }
 
+    @Test
+    void findCommentingPosts_by_cursor() {
+
+        // given
+        List<Post> first = postQueryRepository.findCommentingPosts(1L, Long.MAX_VALUE, 3);
+        assertIdsDescendingBelow(first, Long.MAX_VALUE);
+
+        // when
+        Long cursor = first.isEmpty() ? Long.MAX_VALUE : first.get(first.size() - 1).getId();
+        List<Post> next = postQueryRepository.findCommentingPosts(1L, cursor, 3);
+
+        // then
+        // 여러 번 댓글 단 글도 한 번, 다음 페이지는 커서 미만
+        assertIdsDescendingBelow(next, cursor);
+    }
+
     @Test
     void findLikingPosts() {
         Page<PostResponse> posts = postQueryRepository.findLikingPosts(1L, Pageable.ofSize(10));
         System.out.println(posts);
     }
 
+    @Test
+    void findLikingPosts_by_cursor() {
+
+        // given
+        List<Post> first = postQueryRepository.findLikingPosts(1L, Long.MAX_VALUE, 3);
+        assertIdsDescendingBelow(first, Long.MAX_VALUE);
+
+        // when
+        Long cursor = first.isEmpty() ? Long.MAX_VALUE : first.get(first.size() - 1).getId();
+        List<Post> next = postQueryRepository.findLikingPosts(1L, cursor, 3);
+
+        // then
+        assertIdsDescendingBelow(next, cursor);
+    }
+
+        // 중복 없이 id 역순, 모두 cursor 미만
+        private static void assertIdsDescendingBelow(List<Post> posts, Long cursor) {
+
+            assertThat(posts).extracting(Post::getId).doesNotHaveDuplicates()
+                    .isSortedAccordingTo(Comparator.reverseOrder())
+                    .allMatch(id -> id < cursor);
+        }
+
+    @Test
+    void findContentExcerptMap() {
+
+        // given
+        List<Long> postIds = Arrays.asList(1L, 2L, 3L);
+
+        // when
+        Map<Long, String> excerpts = postQueryRepository.findContentExcerptMap(postIds);
+
+        // then
+        assertThat(excerpts.keySet()).isSubsetOf(postIds);
+        assertThat(excerpts.values()).allMatch(excerpt -> excerpt == null || excerpt.length() <= PostQueryRepository.EXCERPT_LENGTH);
+    }
+
     @Test
     void findPostCommentQueryDtoMap() {
         Map<Long, Long> postCommentQueryDtoMap = postQueryRepository.findPostCommentQueryDtoMap(Arrays.asList(1L, 2L, 3L));
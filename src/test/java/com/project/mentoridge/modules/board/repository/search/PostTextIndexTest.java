@@ -0,0 +1,87 @@
+package com.project.mentoridge.modules.board.repository.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostTextIndexTest {
+
+    private PostTextIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new PostTextIndex();
+        index.addPost(1L, "자바 스터디 모집", "주말 오전 스터디");
+        index.addPost(2L, "스프링 질문", "트랜잭션 전파 질문입니다");
+        index.addPost(3L, "강의 요청", "spring boot 강의 요청합니다");
+        index.addComment(10L, 2L, "자바 스프링 강의 추천");
+    }
+
+    @Test
+    void search_title_content_and_comment() {
+
+        // given
+        // when
+        // then
+        assertEquals(Arrays.asList(1L, 2L), postIds(index.search("자바", 0, 10)));
+        assertEquals(Arrays.asList(3L, 2L), postIds(index.search("강의", 0, 10)));
+        // 모든 토큰 포함
+        assertEquals(Arrays.asList(2L), postIds(index.search("자바 스프링", 0, 10)));
+        assertTrue(index.search("파이썬", 0, 10).getHits().isEmpty());
+    }
+
+    @Test
+    void search_by_prefix() {
+
+        // given
+        // when
+        PostTextIndex.Result result = index.search("spr", 0, 10);
+
+        // then
+        assertEquals(Arrays.asList(3L), postIds(result));
+        assertEquals(1, result.getTotal());
+    }
+
+    @Test
+    void search_after_cursor() {
+
+        // given
+        index.addPost(4L, "스터디", "스터디");
+        index.addPost(5L, "스터디", "스터디");
+
+        // when
+        List<PostTextIndex.Hit> first = index.searchAfter("스터디", null, 2);
+        List<PostTextIndex.Hit> second = index.searchAfter("스터디", first.get(first.size() - 1), 2);
+
+        // then
+        // 같은 점수는 최신 글(postId 큰 것) 먼저
+        assertEquals(Arrays.asList(5L, 4L), first.stream().map(PostTextIndex.Hit::getPostId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(1L), second.stream().map(PostTextIndex.Hit::getPostId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void remove_comment_and_post() {
+
+        // given
+        // when
+        index.removeComment(10L);
+        // then
+        assertEquals(Arrays.asList(1L), postIds(index.search("자바", 0, 10)));
+
+        // when
+        index.addComment(11L, 3L, "자바로 부탁드려요");
+        index.removePost(3L);
+        // then
+        assertEquals(Arrays.asList(1L), postIds(index.search("자바", 0, 10)));
+        assertEquals(2, index.getSize());
+    }
+
+        private List<Long> postIds(PostTextIndex.Result result) {
+            return result.getHits().stream().map(PostTextIndex.Hit::getPostId).collect(Collectors.toList());
+        }
+}
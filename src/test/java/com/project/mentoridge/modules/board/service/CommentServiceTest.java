@@ -6,6 +6,7 @@ import com.project.mentoridge.modules.board.controller.request.CommentCreateRequ
 import com.project.mentoridge.modules.board.controller.request.CommentUpdateRequest;
 import com.project.mentoridge.modules.board.repository.CommentRepository;
 import com.project.mentoridge.modules.board.repository.PostRepository;
+import com.project.mentoridge.modules.board.repository.PostSearchRepository;
 import com.project.mentoridge.modules.board.vo.Comment;
 import com.project.mentoridge.modules.board.vo.Post;
 import com.project.mentoridge.modules.log.component.CommentLogService;
@@ -32,6 +33,8 @@ class CommentServiceTest {
     @Mock
     PostRepository postRepository;
     @Mock
+    PostSearchRepository postSearchRepository;
+    @Mock
     UserRepository userRepository;
 
     @Test
@@ -63,7 +66,9 @@ class CommentServiceTest {
 
         // then
         verify(commentRepository).save(any(Comment.class));
-        verify(commentLogService).insert(commentWriter, saved);
+        verify(postRepository).addCommentCount(1L, 1);
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(commentLogService);
     }
 
     @Test
@@ -87,8 +92,9 @@ class CommentServiceTest {
         commentService.updateComment(commentWriter, 1L, 1L, updateRequest);
 
         // then
-        verify(comment).update(eq(updateRequest), eq(commentWriter), eq(commentLogService));
-        // verify(commentLogService).update(eq(commentWriter), any(Comment.class), any(Comment.class));
+        verify(comment).update(eq(updateRequest));
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(commentLogService);
     }
 
     @Test
@@ -112,6 +118,7 @@ class CommentServiceTest {
         // then
         verify(comment).delete(commentWriter, commentLogService);
         verify(commentRepository).delete(comment);
+        verify(postRepository).addCommentCount(1L, -1);
         // verify(commentLogService).delete(eq(commentWriter), any(Comment.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.project.mentoridge.modules.board.service;
+
+import com.project.mentoridge.modules.board.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCountServiceTest {
+
+    @InjectMocks
+    PostCountService postCountService;
+    @Mock
+    PostRepository postRepository;
+
+    @Test
+    void recount_nothing() {
+
+        // given
+        // when
+        int corrected = postCountService.recount(Collections.emptyList());
+
+        // then
+        assertEquals(0, corrected);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void reconcile_by_chunk() {
+
+        // given
+        List<Long> chunk = LongStream.rangeClosed(1, 500).boxed().collect(Collectors.toList());
+        when(postRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(chunk);
+        when(postRepository.findIdsAfter(eq(500L), any(Pageable.class))).thenReturn(Arrays.asList(501L, 502L));
+
+        // when
+        postCountService.reconcile();
+
+        // then
+        verify(postRepository).recountByIds(chunk);
+        verify(postRepository).recountByIds(Arrays.asList(501L, 502L));
+        verify(postRepository, never()).findIdsAfter(eq(502L), any(Pageable.class));
+    }
+}
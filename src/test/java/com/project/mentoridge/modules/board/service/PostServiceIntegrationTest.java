@@ -12,6 +12,7 @@ import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.address.repository.AddressRepository;
 import com.project.mentoridge.modules.base.AbstractIntegrationTest;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.board.controller.request.PostCreateRequest;
 import com.project.mentoridge.modules.board.controller.request.PostUpdateRequest;
 import com.project.mentoridge.modules.board.controller.response.PostResponse;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,6 +53,8 @@ class PostServiceIntegrationTest extends AbstractIntegrationTest {
     CommentRepository commentRepository;
     @Autowired
     LikingRepository likingRepository;
+    @Autowired
+    PostCountService postCountService;
 
     @Autowired
     UserRepository userRepository;
@@ -143,6 +147,12 @@ class PostServiceIntegrationTest extends AbstractIntegrationTest {
                 .post(post3)
                 .user(user1)
                 .build());
+
+        // 리포지토리로 직접 저장한 댓글/좋아요 수 반영
+        postCountService.recount(Arrays.asList(post1.getId(), post2.getId(), post3.getId()));
+        em.refresh(post1);
+        em.refresh(post2);
+        em.refresh(post3);
     }
 
     @Test
@@ -390,7 +400,8 @@ class PostServiceIntegrationTest extends AbstractIntegrationTest {
                 () -> assertThat(response).extracting("content").isEqualTo(post3.getContent()),
                 () -> assertThat(response).extracting("createdAt").isEqualTo(LocalDateTimeUtil.getDateTimeToString(post3.getCreatedAt())),
 
-                () -> assertThat(response).extracting("hits").isEqualTo(post3.getHits()),
+                // 반영 전 조회 수 포함
+                () -> assertThat(response).extracting("hits").isEqualTo(post3.getHits() + 1),
 
                 // setCounts
                 () -> assertThat(response).extracting("likingCount").isEqualTo(1L),
@@ -464,6 +475,20 @@ class PostServiceIntegrationTest extends AbstractIntegrationTest {
         );
     }
 
+    @DisplayName("댓글단 글 리스트 - 커서 페이징")
+    @Test
+    void get_commenting_PostResponses_by_cursor() {
+        // user2가 post1에 댓글 2개 : 글은 한 번만
+
+        // given
+        // when
+        CursorResponse<PostResponse> responses = postService.getCommentingPostResponses(user2, (String) null);
+        // then
+        assertThat(responses.getContent()).extracting("postId").containsExactly(post1.getId());
+        assertFalse(responses.isHasNext());
+        assertNull(responses.getNextCursor());
+    }
+
     @Test
     void create_post() {
 
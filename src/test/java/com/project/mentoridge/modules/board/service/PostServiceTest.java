@@ -17,8 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,8 +42,12 @@ class PostServiceTest {
     @Mock
     ContentSearchRepository contentSearchRepository;
     @Mock
+    PostSearchRepository postSearchRepository;
+    @Mock
     PostLogService postLogService;
     @Mock
+    PostHitRepository postHitRepository;
+    @Mock
     UserRepository userRepository;
     @Mock
     CommentRepository commentRepository;
@@ -64,11 +72,13 @@ class PostServiceTest {
                 .content("content")
                 .build();
         when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postHitRepository.getPending(1L)).thenReturn(1L);
 
         // when
         PostResponse postResponse = postService.getPostResponse(user, 1L);
 
         // then
+        verify(postHitRepository).hit(1L);
         assertAll(
                 () -> assertThat(postResponse.getUserNickname()).isEqualTo("user"),
                 () -> assertThat(postResponse.getCategory()).isEqualTo(post.getCategory()),
@@ -77,6 +87,34 @@ class PostServiceTest {
                 () -> assertThat(postResponse.getHits()).isEqualTo(1)
         );
     }
+    @Test
+    void get_paged_posts_when_search_is_blank() {
+
+        // given
+        User user = mock(User.class);
+        when(user.getNickname()).thenReturn("user");
+
+        Post post = Post.builder()
+                .user(user)
+                .category(CategoryType.LECTURE_REQUEST)
+                .title("title")
+                .content("content")
+                .build();
+        ReflectionTestUtils.setField(post, "id", 1L);
+        ReflectionTestUtils.setField(post, "hits", 3);
+        when(postRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(Collections.singletonList(post)));
+        when(postHitRepository.getPending(anyCollection())).thenReturn(Collections.singletonMap(1L, 2L));
+
+        // when
+        Page<PostResponse> postResponses = postService.getPostResponses(user, " ", 1);
+
+        // then
+        // 저장된 조회 수 + 반영 전 조회 수 (한 번만 더함)
+        assertThat(postResponses.getContent()).hasSize(1);
+        assertThat(postResponses.getContent().get(0).getHits()).isEqualTo(5);
+        verify(postHitRepository).getPending(anyCollection());
+    }
+
     // TODO - setCounts
 /*
     @Test
@@ -132,7 +170,8 @@ class PostServiceTest {
 
         // then
         verify(postRepository).save(any(Post.class));
-        verify(postLogService).insert(user, saved);
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(postLogService);
     }
 
     @Test
@@ -182,8 +221,9 @@ class PostServiceTest {
         postService.updatePost(user, 1L, updateRequest);
 
         // then
-        verify(post).update(eq(updateRequest), eq(user), eq(postLogService));
-        // verify(postLogService).update(eq(user), any(Post.class), any(Post.class));
+        verify(post).update(eq(updateRequest));
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(postLogService);
     }
 
     // 글 삭제
@@ -299,6 +339,7 @@ class PostServiceTest {
         // then
         verify(likingRepository).save(any(Liking.class));
         verify(likingLogService).insert(user, saved);
+        verify(postRepository).addLikingCount(1L, 1);
     }
 
     @Test
@@ -327,6 +368,7 @@ class PostServiceTest {
         // then
         verify(liking).delete(eq(user), eq(likingLogService));
         verify(likingRepository).delete(liking);
+        verify(postRepository).addLikingCount(1L, -1);
         // verify(likingLogService).delete(eq(user), any(Liking.class));
     }
 }
\ No newline at end of file
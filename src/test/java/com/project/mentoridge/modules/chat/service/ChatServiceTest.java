@@ -1,5 +1,6 @@
 package com.project.mentoridge.modules.chat.service;
 
+import com.project.mentoridge.config.exception.UnauthorizedException;
 import com.project.mentoridge.config.security.PrincipalDetails;
 import com.project.mentoridge.modules.account.repository.MenteeRepository;
 import com.project.mentoridge.modules.account.repository.MentorRepository;
@@ -28,6 +29,7 @@ import java.util.Optional;
 
 import static com.project.mentoridge.modules.base.TestDataBuilder.getUserWithName;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -148,6 +150,29 @@ class ChatServiceTest {
     }
 */
 
+    @Test
+    void get_scrolled_ChatMessages_by_non_member() {
+
+        // given
+        User mentorUser = mock(User.class);
+        when(mentorUser.getId()).thenReturn(1L);
+        User menteeUser = mock(User.class);
+        when(menteeUser.getId()).thenReturn(2L);
+        Chatroom chatroom = Chatroom.builder()
+                .mentor(Mentor.builder().user(mentorUser).build())
+                .mentee(Mentee.builder().user(menteeUser).build())
+                .build();
+        when(chatroomRepository.findWithMentorUserAndMenteeUserById(1L)).thenReturn(Optional.of(chatroom));
+
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(3L);
+
+        // when
+        // then
+        assertThrows(UnauthorizedException.class, () -> chatService.getChatMessagesOfChatroom(user, 1L, null));
+        verifyNoInteractions(messageRepository);
+    }
+
     @Test
     void create_chatroom_by_mentor_when_already_exists() {
 
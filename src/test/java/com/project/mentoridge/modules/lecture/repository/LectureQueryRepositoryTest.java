@@ -9,6 +9,7 @@ import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.base.BaseEntity;
 import com.project.mentoridge.modules.lecture.repository.dto.LectureMentorQueryDto;
 import com.project.mentoridge.modules.lecture.repository.dto.LectureReviewQueryDto;
+import com.project.mentoridge.modules.lecture.vo.Lecture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @RepositoryTest
@@ -76,6 +78,24 @@ class LectureQueryRepositoryTest {
         lectureMentorQueryDtoMap.values().forEach(System.out::println);
     }
 
+    @Test
+    void findContentExcerptMap() {
+
+        // given
+        List<Lecture> lectures = lectureRepository.findAll();
+        List<Long> lectureIds = lectures.stream().map(BaseEntity::getId).collect(Collectors.toList());
+
+        // when
+        Map<Long, String> excerpts = lectureQueryRepository.findContentExcerptMap(lectureIds);
+
+        // then
+        lectures.forEach(lecture -> {
+            String content = lecture.getContent();
+            String excerpt = content.length() > LectureQueryRepository.EXCERPT_LENGTH ? content.substring(0, LectureQueryRepository.EXCERPT_LENGTH) : content;
+            assertEquals(excerpt, excerpts.get(lecture.getId()));
+        });
+    }
+
 //    @Test
 //    void test() {
 //
@@ -8,6 +8,7 @@ import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.address.embeddable.Address;
 import com.project.mentoridge.modules.address.repository.AddressRepository;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.lecture.vo.LecturePrice;
@@ -21,8 +22,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import org.springframework.transaction.PlatformTransactionManager;
+
 import javax.persistence.EntityManager;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -40,6 +45,8 @@ class LectureSearchRepositoryTest {
     LectureRepository lectureRepository;
     @Autowired
     EntityManager em;
+    @Autowired
+    PlatformTransactionManager transactionManager;
 
     private LectureSearchRepository lectureSearchRepository;
 
@@ -49,7 +56,10 @@ class LectureSearchRepositoryTest {
         assertNotNull(addressRepository);
 
         JPAQueryFactory jpaQueryFactory = new JPAQueryFactory(em);
-        lectureSearchRepository = new LectureSearchRepository(jpaQueryFactory);
+        LectureTextSearchRepository lectureTextSearchRepository = new LectureTextSearchRepository(jpaQueryFactory, transactionManager);
+        lectureTextSearchRepository.init();
+        lectureTextSearchRepository.rebuild();
+        lectureSearchRepository = new LectureSearchRepository(jpaQueryFactory, new PageCounter(), lectureTextSearchRepository);
     }
 
 //    @WithAccount(NAME)
@@ -121,6 +131,31 @@ class LectureSearchRepositoryTest {
         assertThat(count).isEqualTo(0);
     }
 
+    @Test
+    void search_by_keyword_in_page_and_cursor() {
+
+        // given
+        Mentee mentee = menteeRepository.findAll().stream().findFirst()
+                .orElseThrow(RuntimeException::new);
+        User menteeUser = mentee.getUser();
+        Lecture _lecture = lectureRepository.findAll().stream()
+                .filter(Lecture::isApproved).findFirst()
+                .orElseThrow(RuntimeException::new);
+
+        // when
+        LectureListRequest listRequest = LectureListRequest.builder()
+                .keyword(_lecture.getTitle())
+                .build();
+        Page<LecturePrice> page = lectureSearchRepository.findLecturePricesByZoneAndSearch(menteeUser, menteeUser.getZone(), listRequest, PageRequest.ofSize(100));
+        List<LecturePrice> cursor = lectureSearchRepository.findLecturePricesByZoneAndSearch(menteeUser, menteeUser.getZone(), listRequest, 0L, 100);
+
+        // then
+        // 같은 검색어 색인 : 순서(관련도 순 / lecturePriceId 순)만 다름
+        assertThat(cursor).extracting(LecturePrice::getId)
+                .containsExactlyInAnyOrderElementsOf(page.getContent().stream().map(LecturePrice::getId).collect(Collectors.toList()));
+        assertThat(page.getTotalElements()).isEqualTo(page.getContent().size());
+    }
+
     @Test
     void test() {
 
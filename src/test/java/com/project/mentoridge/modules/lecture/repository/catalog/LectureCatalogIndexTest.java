@@ -0,0 +1,256 @@
+package com.project.mentoridge.modules.lecture.repository.catalog;
+
+import com.project.mentoridge.modules.address.embeddable.Address;
+import com.project.mentoridge.modules.lecture.controller.request.LectureListRequest;
+import com.project.mentoridge.modules.lecture.enums.DifficultyType;
+import com.project.mentoridge.modules.lecture.enums.LectureSortType;
+import com.project.mentoridge.modules.lecture.enums.SystemType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LectureCatalogIndexTest {
+
+    private static final Address ZONE = Address.of("서울특별시", "종로구", null);
+
+    private LectureCatalogIndex index;
+
+    private static LectureCatalogEntry entry(long lecturePriceId, long lectureId, long mentorUserId, String subject,
+                                             DifficultyType difficulty, SystemType system, boolean isGroup, String siGunGu) {
+        return LectureCatalogEntry.builder()
+                .lecturePriceId(lecturePriceId)
+                .lectureId(lectureId)
+                .mentorUserId(mentorUserId)
+                .title("title" + lectureId)
+                .subjects(Collections.singletonList(subject))
+                .difficulty(difficulty)
+                .systems(Collections.singletonList(system))
+                .isGroup(isGroup)
+                .state("서울특별시")
+                .siGunGu(siGunGu)
+                .build();
+    }
+
+    @BeforeEach
+    void setup() {
+        LectureTextIndex textIndex = new LectureTextIndex();
+        textIndex.add(1L, "title1", null, null, Collections.singletonList("자바"));
+        textIndex.add(2L, "title2", null, null, Collections.singletonList("파이썬"));
+        textIndex.add(3L, "title3", null, null, Collections.singletonList("자바"));
+        index = new LectureCatalogIndex(textIndex);
+        index.rebuild(Arrays.asList(
+                entry(1, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, false, "종로구"),
+                entry(2, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, true, "종로구"),
+                entry(3, 2, 20, "파이썬", DifficultyType.ADVANCED, SystemType.OFFLINE, false, "종로구"),
+                entry(4, 3, 30, "자바", DifficultyType.INTERMEDIATE, SystemType.OFFLINE, false, "강남구")
+        ));
+    }
+
+    @Test
+    void search_without_request() {
+
+        // given
+        // when
+        LectureCatalogIndex.Result result = index.search(99L, ZONE, null, 0, 20);
+
+        // then
+        assertEquals(4, result.getTotal());
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), result.getLecturePriceIds());
+    }
+
+    @Test
+    void exclude_own_lectures() {
+
+        // given
+        // when
+        LectureCatalogIndex.Result result = index.search(10L, ZONE, null, 0, 20);
+
+        // then
+        assertEquals(Arrays.asList(3L, 4L), result.getLecturePriceIds());
+    }
+
+    @Test
+    void online_and_offline_in_zone_when_systemType_is_null() {
+
+        // given
+        LectureListRequest request = LectureListRequest.builder().build();
+
+        // when
+        LectureCatalogIndex.Result result = index.search(99L, ZONE, request, 0, 20);
+
+        // then
+        assertEquals(Arrays.asList(1L, 2L, 3L), result.getLecturePriceIds());
+    }
+
+    @Test
+    void search_by_filters() {
+
+        // given
+        LectureListRequest request = LectureListRequest.builder()
+                .subjects(Collections.singletonList("자바"))
+                .systemType(SystemType.ONLINE)
+                .isGroup(true)
+                .difficultyTypes(Arrays.asList(DifficultyType.BASIC, DifficultyType.BEGINNER))
+                .build();
+
+        // when
+        LectureCatalogIndex.Result result = index.search(99L, ZONE, request, 0, 20);
+
+        // then
+        assertEquals(1, result.getTotal());
+        assertEquals(Collections.singletonList(2L), result.getLecturePriceIds());
+    }
+
+    @Test
+    void search_offline_by_zone() {
+
+        // given
+        LectureListRequest request = LectureListRequest.builder()
+                .systemType(SystemType.OFFLINE)
+                .build();
+
+        // when
+        LectureCatalogIndex.Result result = index.search(99L, Address.of("서울특별시", "강남구", null), request, 0, 20);
+
+        // then
+        assertEquals(Collections.singletonList(4L), result.getLecturePriceIds());
+    }
+
+    @Test
+    void page() {
+
+        // given
+        // when
+        LectureCatalogIndex.Result result = index.search(99L, ZONE, null, 1, 2);
+
+        // then
+        assertEquals(4, result.getTotal());
+        assertEquals(Arrays.asList(2L, 3L), result.getLecturePriceIds());
+    }
+
+    @Test
+    void replace_changed_lecture() {
+
+        // given
+        // lecture 1 수정 : 가격 1, 2 삭제 → 5 추가
+        // when
+        index.replace(new HashSet<>(Collections.singletonList(1L)), Collections.emptySet(),
+                Collections.singletonList(entry(5, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, false, "종로구")));
+
+        // then
+        assertEquals(Arrays.asList(3L, 4L, 5L), index.search(99L, ZONE, null, 0, 20).getLecturePriceIds());
+        assertTrue(index.containsMentorUser(10L));
+    }
+
+    @Test
+    void replace_with_smaller_id() {
+
+        // given
+        // 모집 종료된 가격 2 가 다시 열림
+        index.replace(new HashSet<>(Collections.singletonList(1L)), Collections.emptySet(),
+                Collections.singletonList(entry(1, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, false, "종로구")));
+
+        // when
+        index.replace(new HashSet<>(Collections.singletonList(1L)), Collections.emptySet(), Arrays.asList(
+                entry(1, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, false, "종로구"),
+                entry(2, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, true, "종로구")));
+
+        // then
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), index.search(99L, ZONE, null, 0, 20).getLecturePriceIds());
+    }
+
+    @Test
+    void replace_with_new_id_between_slots() {
+
+        // given
+        // 가격 2 가 색인에 없던 상태
+        index.rebuild(Arrays.asList(
+                entry(1, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, false, "종로구"),
+                entry(3, 2, 20, "파이썬", DifficultyType.ADVANCED, SystemType.OFFLINE, false, "종로구"),
+                entry(4, 3, 30, "자바", DifficultyType.INTERMEDIATE, SystemType.OFFLINE, false, "강남구")
+        ));
+
+        // when
+        // 기존 slot 사이에 들어가야 하는 새 id : 다시 구성
+        index.replace(new HashSet<>(Collections.singletonList(1L)), Collections.emptySet(), Arrays.asList(
+                entry(1, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, false, "종로구"),
+                entry(2, 1, 10, "자바", DifficultyType.BASIC, SystemType.ONLINE, true, "종로구")));
+
+        // then
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), index.search(99L, ZONE, null, 0, 20).getLecturePriceIds());
+        assertEquals(4, index.getSize());
+    }
+
+    @Test
+    void remove_by_mentor_user() {
+
+        // given
+        // when
+        // 멘토 지역 변경 : 종로구 → 강남구
+        index.replace(Collections.emptySet(), new HashSet<>(Collections.singletonList(20L)),
+                Collections.singletonList(entry(3, 2, 20, "파이썬", DifficultyType.ADVANCED, SystemType.OFFLINE, false, "강남구")));
+
+        // then
+        LectureListRequest request = LectureListRequest.builder().systemType(SystemType.OFFLINE).build();
+        assertEquals(Collections.emptyList(), index.search(99L, ZONE, request, 0, 20).getLecturePriceIds());
+        assertEquals(2, index.search(99L, Address.of("서울특별시", "강남구", null), request, 0, 20).getTotal());
+    }
+
+    @Test
+    void search_by_keyword_with_filters() {
+
+        // given
+        LectureListRequest request = LectureListRequest.builder()
+                .keyword("자바")
+                .systemType(SystemType.ONLINE)
+                .build();
+
+        // when
+        LectureCatalogIndex.Result result = index.search(99L, ZONE, request, 0, 20);
+
+        // then
+        // 과목명(자바) 일치 + 온라인
+        assertEquals(Arrays.asList(1L, 2L), result.getLecturePriceIds());
+        assertEquals(2, result.getTotal());
+    }
+
+    @Test
+    void remove_keyword_when_lecture_removed() {
+
+        // given
+        // when
+        index.replace(new HashSet<>(Collections.singletonList(2L)), Collections.emptySet(), Collections.emptyList());
+
+        // then
+        LectureListRequest request = LectureListRequest.builder().keyword("파이썬").build();
+        assertEquals(0, index.search(99L, ZONE, request, 0, 20).getTotal());
+    }
+
+    @Test
+    void search_sorted_by_popularity() {
+
+        // given
+        LecturePopularityIndex popularity = new LecturePopularityIndex(0, 1000);
+        popularity.put(3L, 5.0);
+        popularity.put(1L, 2.0);
+        // 강남구 : 검색 결과에 없음
+        popularity.put(4L, 9.0);
+        LectureListRequest request = LectureListRequest.builder().sort(LectureSortType.POPULAR).build();
+
+        // when
+        LectureCatalogIndex.Result first = index.search(99L, ZONE, request, 0, 2, popularity);
+        LectureCatalogIndex.Result second = index.search(99L, ZONE, request, 2, 2, popularity);
+
+        // then
+        // 점수 순 다음 점수 없는 slot 순
+        assertEquals(Arrays.asList(3L, 1L), first.getLecturePriceIds());
+        assertEquals(Collections.singletonList(2L), second.getLecturePriceIds());
+        assertEquals(3, first.getTotal());
+    }
+}
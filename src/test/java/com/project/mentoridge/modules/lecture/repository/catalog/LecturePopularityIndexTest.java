@@ -0,0 +1,91 @@
+package com.project.mentoridge.modules.lecture.repository.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LecturePopularityIndexTest {
+
+    @Test
+    void weight_halves_every_halfLife() {
+
+        // given
+        LecturePopularityIndex index = new LecturePopularityIndex(10000, 1000);
+
+        // when
+        // then
+        assertEquals(1.0, index.weight(10000), 1e-9);
+        assertEquals(0.5, index.weight(9000), 1e-9);
+        assertEquals(2.0, index.weight(11000), 1e-9);
+    }
+
+    @Test
+    void getScore_decayed_from_referenceTime() {
+
+        // given
+        LecturePopularityIndex index = new LecturePopularityIndex(0, 1000);
+        index.put(1L, 4.0);
+
+        // when
+        // then
+        assertEquals(2.0, index.getScore(1L, 1000), 1e-9);
+        assertEquals(0, index.getScore(2L, 1000));
+    }
+
+    @Test
+    void reorder_when_score_changed() {
+
+        // given
+        LecturePopularityIndex index = new LecturePopularityIndex(0, 1000);
+        index.put(1L, 3.0);
+        index.put(2L, 2.0);
+        index.put(3L, 1.0);
+
+        // when
+        index.put(3L, 5.0);
+        index.put(1L, 0);
+
+        // then
+        List<Long> ranked = new ArrayList<>();
+        index.forEachRanked(ranked::add);
+        assertEquals(Arrays.asList(3L, 2L), ranked);
+        assertEquals(2, index.getSize());
+    }
+
+    @Test
+    void getRankedIds_is_snapshot() {
+
+        // given
+        LecturePopularityIndex index = new LecturePopularityIndex(0, 1000);
+        index.put(1L, 1.0);
+        index.put(2L, 3.0);
+
+        // when
+        List<Long> rankedIds = index.getRankedIds();
+        index.put(3L, 5.0);
+
+        // then
+        assertEquals(Arrays.asList(2L, 1L), rankedIds);
+        assertEquals(Arrays.asList(3L, 2L, 1L), index.getRankedIds());
+    }
+
+    @Test
+    void sort_unscored_after_scored() {
+
+        // given
+        LecturePopularityIndex index = new LecturePopularityIndex(0, 1000);
+        index.put(4L, 1.0);
+        index.put(2L, 3.0);
+        List<Long> lecturePriceIds = new ArrayList<>(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+
+        // when
+        index.sort(lecturePriceIds);
+
+        // then
+        assertEquals(Arrays.asList(2L, 4L, 1L, 3L, 5L), lecturePriceIds);
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.mentoridge.modules.lecture.repository.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LectureTextIndexTest {
+
+    private LectureTextIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new LectureTextIndex();
+        index.add(1L, "자바 기초 강의", "객체지향 입문", "처음 배우는 자바", Collections.singletonList("자바"));
+        index.add(2L, "스프링 부트", "자바 웹 개발", "스프링으로 웹 서비스 만들기", Collections.singletonList("스프링"));
+        index.add(3L, "파이썬 데이터 분석", "pandas 입문", "데이터 분석 기초", Collections.singletonList("파이썬"));
+    }
+
+    @Test
+    void tokenize() {
+
+        // given
+        // when
+        // then
+        assertEquals(Arrays.asList("자바", "스프", "프링", "boot2", "강"), LectureTextIndex.tokenize("자바 스프링 Boot2 강"));
+        assertTrue(LectureTextIndex.tokenize(" - ").isEmpty());
+    }
+
+    @Test
+    void search_ranked_by_bm25() {
+
+        // given
+        // when
+        Map<Long, Double> scores = index.search("자바");
+
+        // then
+        // 제목, 과목명에 있는 강의가 부제목에만 있는 강의보다 높다
+        assertEquals(2, scores.size());
+        assertTrue(scores.get(1L) > scores.get(2L));
+        assertEquals(Arrays.asList(1L, 2L), new ArrayList<>(scores.keySet()));
+    }
+
+    @Test
+    void search_limited_to_max_results() {
+
+        // given
+        for (long lectureId = 10; lectureId < 10 + LectureTextIndex.MAX_RESULTS; lectureId++) {
+            index.add(lectureId, "자바 실습", null, null, Collections.emptyList());
+        }
+
+        // when
+        Map<Long, Double> scores = index.search("자바");
+
+        // then
+        assertEquals(LectureTextIndex.MAX_RESULTS, scores.size());
+        // 점수가 높은 강의부터
+        List<Double> values = new ArrayList<>(scores.values());
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i - 1) >= values.get(i));
+        }
+    }
+
+    @Test
+    void search_requires_all_tokens() {
+
+        // given
+        // when
+        // then
+        assertEquals(Collections.singleton(3L), index.search("데이터 분석").keySet());
+        assertEquals(Collections.singleton(2L), index.search("스프링 웹").keySet());
+        assertTrue(index.search("스프링 파이썬").isEmpty());
+    }
+
+    @Test
+    void search_after_update_and_remove() {
+
+        // given
+        index.add(2L, "코틀린 스프링", null, null, Collections.emptyList());
+        index.remove(3L);
+
+        // when
+        // then
+        assertEquals(Collections.singleton(2L), index.search("코틀린").keySet());
+        assertTrue(index.search("웹").isEmpty());
+        assertTrue(index.search("파이썬").isEmpty());
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.mentoridge.modules.lecture.service;
+
+import com.project.mentoridge.modules.account.vo.Mentor;
+import com.project.mentoridge.modules.base.EntityChangedEvent;
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.lecture.controller.response.LectureMentorResponse;
+import com.project.mentoridge.modules.lecture.controller.response.LectureResponse;
+import com.project.mentoridge.modules.lecture.vo.Lecture;
+import com.project.mentoridge.modules.lecture.vo.LecturePrice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureDetailCacheTest {
+
+    private LectureDetailCache lectureDetailCache;
+
+    @BeforeEach
+    void init() {
+        lectureDetailCache = new LectureDetailCache();
+        ReflectionTestUtils.setField(lectureDetailCache, "enabled", true);
+        ReflectionTestUtils.setField(lectureDetailCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(lectureDetailCache, "maxEntries", 100);
+    }
+
+    @Test
+    void get_cached_lectureResponse() {
+
+        // given
+        AtomicInteger loaded = new AtomicInteger();
+        Supplier<LectureResponse> loader = () -> {
+            loaded.incrementAndGet();
+            return lectureResponse(1L, 10L, 100L);
+        };
+
+        // when
+        LectureResponse first = lectureDetailCache.getLectureResponse(1L, loader);
+        LectureResponse second = lectureDetailCache.getLectureResponse(1L, loader);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loaded.get());
+    }
+
+    @Test
+    void evict_least_recently_used_when_full() {
+
+        // given
+        ReflectionTestUtils.setField(lectureDetailCache, "maxEntries", 2);
+        AtomicInteger loaded = new AtomicInteger();
+        lectureDetailCache.getLectureResponse(1L, () -> lectureResponse(1L, 10L, 100L));
+        lectureDetailCache.getLectureResponse(2L, () -> lectureResponse(2L, 10L, 100L));
+        lectureDetailCache.getLectureResponse(1L, () -> {
+            loaded.incrementAndGet();
+            return lectureResponse(1L, 10L, 100L);
+        });
+
+        // when
+        lectureDetailCache.getLectureResponse(3L, () -> lectureResponse(3L, 20L, 200L));
+
+        // then
+        // 2번만 버리고 최근에 사용한 1번은 남는다
+        assertEquals(2, lectureDetailCache.getSize());
+        lectureDetailCache.getLectureResponse(1L, () -> {
+            loaded.incrementAndGet();
+            return lectureResponse(1L, 10L, 100L);
+        });
+        assertEquals(0, loaded.get());
+    }
+
+    @Test
+    void invalidate_when_lecturePrice_changed() {
+
+        // given
+        AtomicInteger loaded = new AtomicInteger();
+        Supplier<LectureResponse> loader = () -> {
+            loaded.incrementAndGet();
+            return lectureResponse(1L, 10L, 100L);
+        };
+        lectureDetailCache.getLectureResponse(1L, loader);
+
+        Lecture lecture = mock(Lecture.class);
+        when(lecture.getId()).thenReturn(1L);
+        LecturePrice lecturePrice = mock(LecturePrice.class);
+        when(lecturePrice.getLecture()).thenReturn(lecture);
+        EntityChangedEvent event = EntityChangedEvent.updated(lecturePrice, LecturePrice.class,
+                new String[]{"closed"}, new Object[]{false}, new Object[]{true}, new int[]{0});
+
+        // when
+        lectureDetailCache.afterCommit(event);
+        lectureDetailCache.getLectureResponse(1L, loader);
+
+        // then
+        assertEquals(2, loaded.get());
+    }
+
+    @Test
+    void invalidate_lectures_of_mentor_when_mentor_user_changed() {
+
+        // given
+        lectureDetailCache.getLectureResponse(1L, () -> lectureResponse(1L, 10L, 100L));
+        lectureDetailCache.getLectureResponse(2L, () -> lectureResponse(2L, 10L, 100L));
+        lectureDetailCache.getLectureResponse(3L, () -> lectureResponse(3L, 20L, 200L));
+
+        User mentorUser = mock(User.class);
+        when(mentorUser.getId()).thenReturn(100L);
+        EntityChangedEvent event = EntityChangedEvent.updated(mentorUser, User.class,
+                new String[]{"image", "nickname"}, new Object[]{null, "before"}, new Object[]{null, "after"}, new int[]{1});
+
+        // when
+        lectureDetailCache.onFlush(event);
+
+        // then
+        assertEquals(1, lectureDetailCache.getSize());
+    }
+
+    @Test
+    void not_invalidate_when_mentor_user_logged_in() {
+
+        // given
+        lectureDetailCache.getLectureResponse(1L, () -> lectureResponse(1L, 10L, 100L));
+        lectureDetailCache.getLectureResponse(2L, () -> lectureResponse(2L, 10L, 100L));
+
+        User mentorUser = mock(User.class);
+        EntityChangedEvent event = EntityChangedEvent.updated(mentorUser, User.class,
+                new String[]{"lastLoginAt", "nickname"}, new Object[]{null, "nickname"}, new Object[]{LocalDateTime.now(), "nickname"}, new int[]{0});
+
+        // when
+        lectureDetailCache.afterCommit(event);
+
+        // then
+        assertEquals(2, lectureDetailCache.getSize());
+        verify(mentorUser, never()).getId();
+    }
+
+        private LectureResponse lectureResponse(Long lectureId, Long mentorId, Long mentorUserId) {
+
+            User user = mock(User.class);
+            when(user.getId()).thenReturn(mentorUserId);
+            Mentor mentor = mock(Mentor.class);
+            when(mentor.getId()).thenReturn(mentorId);
+            when(mentor.getUser()).thenReturn(user);
+
+            LectureResponse lectureResponse = mock(LectureResponse.class);
+            lenient().when(lectureResponse.getLectureId()).thenReturn(lectureId);
+            when(lectureResponse.getLectureMentor()).thenReturn(new LectureMentorResponse(mentor));
+            return lectureResponse;
+        }
+}
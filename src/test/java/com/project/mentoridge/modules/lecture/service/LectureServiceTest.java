@@ -9,6 +9,8 @@ import com.project.mentoridge.modules.account.vo.Mentor;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.lecture.controller.request.LectureCreateRequest;
 import com.project.mentoridge.modules.lecture.controller.request.LectureUpdateRequest;
+import com.project.mentoridge.modules.lecture.repository.LectureCatalogRepository;
+import com.project.mentoridge.modules.lecture.repository.LecturePopularityRepository;
 import com.project.mentoridge.modules.lecture.repository.LecturePriceRepository;
 import com.project.mentoridge.modules.lecture.repository.LectureQueryRepository;
 import com.project.mentoridge.modules.lecture.repository.LectureRepository;
@@ -19,6 +21,7 @@ import com.project.mentoridge.modules.log.component.LectureLogService;
 import com.project.mentoridge.modules.log.component.LecturePriceLogService;
 import com.project.mentoridge.modules.purchase.repository.EnrollmentRepository;
 import com.project.mentoridge.modules.purchase.repository.PickRepository;
+import com.project.mentoridge.modules.purchase.service.PickedLecturePriceCache;
 import com.project.mentoridge.modules.purchase.service.EnrollmentService;
 import com.project.mentoridge.modules.purchase.vo.Enrollment;
 import com.project.mentoridge.modules.review.repository.MenteeReviewRepository;
@@ -51,8 +54,14 @@ public class LectureServiceTest {
     @Mock
     LectureSearchRepository lectureSearchRepository;
     @Mock
+    LectureCatalogRepository lectureCatalogRepository;
+    @Mock
+    LecturePopularityRepository lecturePopularityRepository;
+    @Mock
     LectureQueryRepository lectureQueryRepository;
     @Mock
+    LectureStatsService lectureStatsService;
+    @Mock
     LectureLogService lectureLogService;
     @Mock
     LecturePriceLogService lecturePriceLogService;
@@ -66,6 +75,8 @@ public class LectureServiceTest {
     @Mock
     PickRepository pickRepository;
     @Mock
+    PickedLecturePriceCache pickedLecturePriceCache;
+    @Mock
     EnrollmentService enrollmentService;
     @Mock
     EnrollmentRepository enrollmentRepository;
@@ -95,7 +106,8 @@ public class LectureServiceTest {
 
         // then
         verify(lectureRepository).save(lecture);
-        verify(lectureLogService).insert(mentorUser, saved);
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(lectureLogService);
     }
 
     @DisplayName("수강 등록된 강의는 수정 불가")
@@ -136,7 +148,7 @@ public class LectureServiceTest {
         lectureService.updateLecture(mentorUser, 1L, lectureUpdateRequest);
 
         // then
-        verify(lecture).update(lectureUpdateRequest, subjectRepository, mentorUser, lectureLogService);
+        verify(lecture).update(lectureUpdateRequest, subjectRepository);
 //        // 수정된 강의는 재승인 필요
 //        verify(lecture).cancelApproval();
 //        verify(lectureLogService).update(eq(mentorUser), any(Lecture.class), any(Lecture.class));
@@ -0,0 +1,117 @@
+package com.project.mentoridge.modules.lecture.service;
+
+import com.project.mentoridge.modules.lecture.repository.LecturePriceStatsRepository;
+import com.project.mentoridge.modules.lecture.repository.LectureQueryRepository;
+import com.project.mentoridge.modules.lecture.repository.MentorStatsRepository;
+import com.project.mentoridge.modules.lecture.repository.dto.LectureMentorQueryDto;
+import com.project.mentoridge.modules.lecture.repository.dto.LectureReviewQueryDto;
+import com.project.mentoridge.modules.lecture.repository.dto.LectureStatsQueryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LectureStatsServiceTest {
+
+    @InjectMocks
+    LectureStatsService lectureStatsService;
+    @Mock
+    LectureQueryRepository lectureQueryRepository;
+    @Mock
+    LecturePriceStatsRepository lecturePriceStatsRepository;
+    @Mock
+    MentorStatsRepository mentorStatsRepository;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(lectureStatsService, "enabled", true);
+    }
+
+    @Test
+    void get_lecture_stats_from_stats_rows() {
+
+        // given
+        List<Long> lectureIds = Collections.singletonList(1L);
+        List<Long> lecturePriceIds = Arrays.asList(10L, 11L);
+        when(lectureQueryRepository.findLectureStatsQueryDtos(lecturePriceIds)).thenReturn(Arrays.asList(
+                new LectureStatsQueryDto(1L, 10L, 100L, 3L, 2L, 2L, 9L, 5L, 7L),
+                new LectureStatsQueryDto(1L, 11L, 100L, 0L, 1L, 0L, 0L, 5L, 7L)));
+
+        // when
+        LectureStatsService.LectureStats stats = lectureStatsService.getLectureStats(lectureIds, lecturePriceIds);
+
+        // then
+        assertEquals(3L, (long) stats.getEnrollmentCounts().get(10L));
+        assertEquals(2L, (long) stats.getPickCounts().get(10L));
+        LectureReviewQueryDto review = stats.getReviews().get(10L);
+        assertEquals(2L, review.getReviewCount());
+        assertEquals(4.5, review.getScoreAverage());
+        // 리뷰가 없으면 기존 집계 쿼리와 같이 없음
+        assertNull(stats.getReviews().get(11L));
+
+        LectureMentorQueryDto mentor = stats.getMentors().get(100L);
+        assertEquals(5L, mentor.getLectureCount());
+        assertEquals(7L, mentor.getReviewCount());
+
+        verify(lectureQueryRepository, never()).findLectureEnrollmentQueryDtoMap(anyList());
+        verify(lectureQueryRepository, never()).findLectureMentorQueryDtoMap(anyList());
+    }
+
+    @Test
+    void get_lecture_stats_with_missing_rows() {
+
+        // given
+        List<Long> lectureIds = Arrays.asList(1L, 2L);
+        List<Long> lecturePriceIds = Arrays.asList(10L, 20L);
+        when(lectureQueryRepository.findLectureStatsQueryDtos(lecturePriceIds)).thenReturn(Collections.singletonList(
+                new LectureStatsQueryDto(1L, 10L, 100L, 3L, 2L, 0L, 0L, 5L, 7L)));
+        List<Long> missing = Collections.singletonList(20L);
+        when(lectureQueryRepository.findLectureEnrollmentQueryDtoMap(missing)).thenReturn(Collections.singletonMap(20L, 4L));
+        when(lectureQueryRepository.findLecturePickQueryDtoMap(missing)).thenReturn(Collections.emptyMap());
+        when(lectureQueryRepository.findLectureReviewQueryDtoMap(lectureIds, missing))
+                .thenReturn(Collections.singletonMap(20L, new LectureReviewQueryDto(2L, 20L, 1L, 3.0)));
+        when(lectureQueryRepository.findLectureMentorQueryDtoMap(lectureIds))
+                .thenReturn(Collections.singletonMap(100L, new LectureMentorQueryDto(100L, 2L, 1L)));
+
+        // when
+        LectureStatsService.LectureStats stats = lectureStatsService.getLectureStats(lectureIds, lecturePriceIds);
+
+        // then
+        assertEquals(3L, (long) stats.getEnrollmentCounts().get(10L));
+        assertEquals(4L, (long) stats.getEnrollmentCounts().get(20L));
+        assertNull(stats.getPickCounts().get(20L));
+        assertEquals(3.0, stats.getReviews().get(20L).getScoreAverage());
+        // 통계 행이 있는 멘토는 통계 값 유지
+        assertEquals(5L, stats.getMentors().get(100L).getLectureCount());
+    }
+
+    @Test
+    void get_lecture_stats_when_disabled() {
+
+        // given
+        ReflectionTestUtils.setField(lectureStatsService, "enabled", false);
+        List<Long> lectureIds = Collections.singletonList(1L);
+        List<Long> lecturePriceIds = Collections.singletonList(10L);
+        when(lectureQueryRepository.findLectureEnrollmentQueryDtoMap(lecturePriceIds)).thenReturn(Collections.singletonMap(10L, 1L));
+
+        // when
+        LectureStatsService.LectureStats stats = lectureStatsService.getLectureStats(lectureIds, lecturePriceIds);
+
+        // then
+        verify(lectureQueryRepository, never()).findLectureStatsQueryDtos(any());
+        assertEquals(1L, (long) stats.getEnrollmentCounts().get(10L));
+    }
+}
@@ -31,6 +31,8 @@ class CareerLogServiceTest extends AbstractIntegrationTest {
     CareerService careerService;
     @Autowired
     CareerLogService careerLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Autowired
     LoginService loginService;
@@ -63,7 +65,7 @@ class CareerLogServiceTest extends AbstractIntegrationTest {
                 .others("othersA")
                 .build();
         // when
-        String log = careerLogService.insert(user, career);
+        String log = logFormatter.format(careerLogService.insert(user, career));
         // then
         assertEquals(String.format("[Career] 직업 : %s, 직장명 : %s, 그 외 경력 : %s, 자격증 : %s",
                 career.getJob(), career.getCompanyName(), career.getOthers(), career.getLicense()), log);
@@ -98,7 +100,7 @@ class CareerLogServiceTest extends AbstractIntegrationTest {
                 .others("othersB")
                 .build();
         // when
-        String log = careerLogService.update(user, before, after);
+        String log = logFormatter.format(careerLogService.update(user, before, after));
         // then
         assertEquals(String.format("[Career] 직업 : %s → %s, 직장명 : %s → %s, 그 외 경력 : %s → %s, 자격증 : %s → %s",
                 before.getJob(), after.getJob(),
@@ -133,7 +135,7 @@ class CareerLogServiceTest extends AbstractIntegrationTest {
                 .others("othersA")
                 .build();
         // when
-        String log = careerLogService.delete(user, career);
+        String log = logFormatter.format(careerLogService.delete(user, career));
         // then
         assertEquals(String.format("[Career] 직업 : %s, 직장명 : %s, 그 외 경력 : %s, 자격증 : %s",
                 career.getJob(), career.getCompanyName(), career.getOthers(), career.getLicense()), log);
@@ -18,6 +18,8 @@ class ChatroomLogServiceTest {
 
     @Autowired
     ChatroomLogService chatroomLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -57,7 +59,7 @@ class ChatroomLogServiceTest {
                 .build();
 
         // when
-        String log = chatroomLogService.insert(menteeUser, chatroom);
+        String log = logFormatter.format(chatroomLogService.insert(menteeUser, chatroom));
         // then
         assertEquals(String.format("[Chatroom] 멘토 : %s, 멘티 : %s",
                 chatroom.getMentor().getUser().getUsername(), chatroom.getMentee().getUser().getUsername()), log);
@@ -101,7 +103,7 @@ class ChatroomLogServiceTest {
                 .build();
 
         // when
-        String log = chatroomLogService.delete(menteeUser, chatroom);
+        String log = logFormatter.format(chatroomLogService.delete(menteeUser, chatroom));
         // then
         assertEquals(String.format("[Chatroom] 멘토 : %s, 멘티 : %s",
                 chatroom.getMentor().getUser().getUsername(), chatroom.getMentee().getUser().getUsername()), log);
@@ -17,6 +17,8 @@ class CommentLogServiceTest {
 
     @Autowired
     CommentLogService commentLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -41,7 +43,7 @@ class CommentLogServiceTest {
                 .build();
 
         // when
-        String log = commentLogService.insert(commentWriter, comment);
+        String log = logFormatter.format(commentLogService.insert(commentWriter, comment));
         // then
         assertEquals(String.format("[Comment] 글 : %s, 댓글 작성자 : %s, 내용 : %s",
                 comment.getPost().getTitle(), comment.getUser().getNickname(), comment.getContent()), log);
@@ -76,7 +78,7 @@ class CommentLogServiceTest {
                 .build();
 
         // when
-        String log = commentLogService.update(commentWriter, before, after);
+        String log = logFormatter.format(commentLogService.update(commentWriter, before, after));
         // then
         assertEquals(String.format("[Comment] 내용 : %s → %s", before.getContent(), after.getContent()), log);
     }
@@ -104,7 +106,7 @@ class CommentLogServiceTest {
                 .build();
 
         // when
-        String log = commentLogService.delete(commentWriter, comment);
+        String log = logFormatter.format(commentLogService.delete(commentWriter, comment));
         // then
         assertEquals(String.format("[Comment] 글 : %s, 댓글 작성자 : %s, 내용 : %s",
                 comment.getPost().getTitle(), comment.getUser().getNickname(), comment.getContent()), log);
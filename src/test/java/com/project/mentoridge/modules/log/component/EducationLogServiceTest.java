@@ -16,6 +16,8 @@ class EducationLogServiceTest {
 
     @Autowired
     EducationLogService educationLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -30,7 +32,7 @@ class EducationLogServiceTest {
                 .others("othersA")
                 .build();
         // when
-        String log = educationLogService.insert(user, education);
+        String log = logFormatter.format(educationLogService.insert(user, education));
         // then
         assertEquals(String.format("[Education] 최종학력 : %s, 학교명 : %s, 전공 : %s, 그 외 학력 : %s",
                 education.getEducationLevel(), education.getSchoolName(), education.getMajor(), education.getOthers()), log);
@@ -56,7 +58,7 @@ class EducationLogServiceTest {
                 .others("othersB")
                 .build();
         // when
-        String log = educationLogService.update(user, before, after);
+        String log = logFormatter.format(educationLogService.update(user, before, after));
         // then
         assertEquals(String.format("[Education] 최종학력 : %s → %s, 학교명 : %s → %s, 전공 : %s → %s, 그 외 학력 : %s → %s",
                 before.getEducationLevel(), after.getEducationLevel(),
@@ -79,7 +81,7 @@ class EducationLogServiceTest {
                 .others("othersA")
                 .build();
         // when
-        String log = educationLogService.delete(user, education);
+        String log = logFormatter.format(educationLogService.delete(user, education));
         // then
         assertEquals(String.format("[Education] 최종학력 : %s, 학교명 : %s, 전공 : %s, 그 외 학력 : %s",
                 education.getEducationLevel(), education.getSchoolName(), education.getMajor(), education.getOthers()), log);
@@ -26,6 +26,8 @@ class EnrollmentLogServiceTest {
 
     @Autowired
     EnrollmentLogService enrollmentLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -110,7 +112,7 @@ class EnrollmentLogServiceTest {
 
         // when
         // then
-        String log = enrollmentLogService.insert(menteeUser, enrollment);
+        String log = logFormatter.format(enrollmentLogService.insert(menteeUser, enrollment));
         assertThat(log).isEqualTo("[Enrollment] 멘티 : menteeUser@email.com, " +
                 "강의 : (멘토 : mentorUser@email.com, 제목 : titleA, 소제목 : subTitleA, 소개 : introduceA, 내용 : contentA, 난이도 : BASIC, 이미지 : thumbnailA, " +
                 "가격 : (그룹여부 : true, 멤버 수 : 5, 시간당 가격 : 10000, 1회당 강의 시간 : 3, 강의 횟수 : 5, 최종 수강료 : 150000)/(그룹여부 : false, 멤버 수 : 0, 시간당 가격 : 5000, 1회당 강의 시간 : 10, 강의 횟수 : 5, 최종 수강료 : 250000), " +
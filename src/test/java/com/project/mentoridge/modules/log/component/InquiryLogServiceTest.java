@@ -21,6 +21,8 @@ class InquiryLogServiceTest {
 
     @Autowired
     InquiryLogService inquiryLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -36,7 +38,7 @@ class InquiryLogServiceTest {
                 .build();
 
         // when
-        String log = inquiryLogService.insert(user, inquiry);
+        String log = logFormatter.format(inquiryLogService.insert(user, inquiry));
         // then
         assertEquals(String.format("[Inquiry] 유형 : %s, 제목 : %s, 내용 : %s",
                 inquiry.getType(), inquiry.getTitle(), inquiry.getContent()), log);
@@ -61,7 +63,7 @@ class InquiryLogServiceTest {
                 .content("contentB")
                 .build();
         // when
-        String log = inquiryLogService.update(user, before, after);
+        String log = logFormatter.format(inquiryLogService.update(user, before, after));
         // then
         assertEquals(String.format("[Inquiry] 유형 : %s → %s, 제목 : %s → %s, 내용 : %s → %s",
                 before.getType(), after.getType(),
@@ -83,7 +85,7 @@ class InquiryLogServiceTest {
                 .content("contentA")
                 .build();
         // when
-        String log = inquiryLogService.delete(user, inquiry);
+        String log = logFormatter.format(inquiryLogService.delete(user, inquiry));
         // then
         assertEquals(String.format("[Inquiry] 유형 : %s, 제목 : %s, 내용 : %s",
                 inquiry.getType(), inquiry.getTitle(), inquiry.getContent()), log);
@@ -11,19 +11,26 @@ import com.project.mentoridge.modules.lecture.vo.Lecture;
 import com.project.mentoridge.modules.lecture.vo.LecturePrice;
 import com.project.mentoridge.modules.lecture.vo.LectureSubject;
 import com.project.mentoridge.modules.subject.vo.Subject;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ServiceTest
 class LectureLogServiceTest {
 
     @Autowired
     LectureLogService lectureLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -90,7 +97,7 @@ class LectureLogServiceTest {
                 .build();
 
         // when
-        String log = lectureLogService.insert(user, lecture);
+        String log = logFormatter.format(lectureLogService.insert(user, lecture));
         // then
 /*        assertEquals(String.format("[Lecture] 멘토 : %s, 제목 : %s, 소제목 : %s, 소개 : %s, 내용 : %s, 난이도 : %s, 이미지 : %s",
                 lecture.getMentor().getUser().getUsername(), lecture.getTitle(), lecture.getSubTitle(), lecture.getIntroduce(), lecture.getContent(), lecture.getDifficulty(), lecture.getThumbnail()),
@@ -158,7 +165,7 @@ class LectureLogServiceTest {
                 .build();
 
         // when
-        String log = lectureLogService.update(user, before, after);
+        String log = logFormatter.format(lectureLogService.update(user, before, after));
         // then
         assertEquals(String.format("[Lecture] 제목 : %s → %s, 소제목 : %s → %s, 소개 : %s → %s, 내용 : %s → %s, 난이도 : %s → %s, 이미지 : %s → %s, 온/오프라인 : %s → %s",
                 before.getTitle(), after.getTitle(),
@@ -170,6 +177,33 @@ class LectureLogServiceTest {
                 before.getSystems().get(0).getName(), after.getSystems().get(0).getName()), log);
     }
 
+    @Test
+    void update_collection_content() {
+
+        // given
+        Mentor mentor = Mentor.builder()
+                .user(User.builder()
+                        .username("username")
+                        .nickname("nickname")
+                        .build())
+                .bio("bio")
+                .build();
+        Lecture lecture = Lecture.builder()
+                .mentor(mentor)
+                .title("titleA")
+                .systems(Arrays.asList(SystemType.ONLINE, SystemType.OFFLINE))
+                .build();
+        // 컬렉션만 변경 : 변경 전 값은 PersistentCollection 스냅샷
+        PersistentCollection before = mock(PersistentCollection.class);
+        when(before.wasInitialized()).thenReturn(true);
+        when(before.getStoredSnapshot()).thenReturn(new ArrayList<>(Collections.singletonList(SystemType.ONLINE)));
+
+        // when
+        String log = logFormatter.format(lectureLogService.updateCollection("username", lecture, "systems", before, lecture.getSystems()));
+        // then
+        assertThat(log).isEqualTo("[Lecture] 온/오프라인 : 온라인 → 온라인/오프라인");
+    }
+
     @Test
     void delete_content() throws NoSuchFieldException, IllegalAccessException {
 
@@ -234,7 +268,7 @@ class LectureLogServiceTest {
                 .build();
 
         // when
-        String log = lectureLogService.delete(user, lecture);
+        String log = logFormatter.format(lectureLogService.delete(user, lecture));
         // then
         assertThat(log).isEqualTo("[Lecture] 멘토 : username, 제목 : titleA, 소제목 : subTitleA, 소개 : introduceA, 내용 : contentA, 난이도 : BASIC, 이미지 : thumbnailA, 가격 : (그룹여부 : true, 멤버 수 : 5, 시간당 가격 : 10000, 1회당 강의 시간 : 3, 강의 횟수 : 5, 최종 수강료 : 150000)/(그룹여부 : false, 멤버 수 : 0, 시간당 가격 : 5000, 1회당 강의 시간 : 10, 강의 횟수 : 5, 최종 수강료 : 250000), 온/오프라인 : 온라인/오프라인, 주제 : 자바/파이썬");
     }
@@ -269,7 +303,7 @@ class LectureLogServiceTest {
                 .build();
 
         // when
-        String log = lectureLogService.approve(lecture);
+        String log = logFormatter.format(lectureLogService.approve(lecture));
         // then
         assertThat(log).isEqualTo("[Lecture] 승인 : true → false");
     }
@@ -16,6 +16,8 @@ class MenteeLogServiceTest {
 
     @Autowired
     MenteeLogService menteeLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -37,7 +39,7 @@ class MenteeLogServiceTest {
                 .build();
 
         // when
-        String log = menteeLogService.insert(user, mentee);
+        String log = logFormatter.format(menteeLogService.insert(user, mentee));
         // then
         assertEquals(String.format("[Mentee] 사용자 : %s, 관심 주제 : %s", mentee.getUser().getUsername(), mentee.getSubjects()), log);
     }
@@ -66,7 +68,7 @@ class MenteeLogServiceTest {
                 .build();
 
         // when
-        String log = menteeLogService.update(user, before, after);
+        String log = logFormatter.format(menteeLogService.update(user, before, after));
         // then
         assertEquals(String.format("[Mentee] 관심 주제 : %s → %s", before.getSubjects(), after.getSubjects()), log);
     }
@@ -91,7 +93,7 @@ class MenteeLogServiceTest {
                 .build();
 
         // when
-        String log = menteeLogService.delete(user, mentee);
+        String log = logFormatter.format(menteeLogService.delete(user, mentee));
         // then
         assertEquals(String.format("[Mentee] 사용자 : %s, 관심 주제 : %s", mentee.getUser().getUsername(), mentee.getSubjects()), log);
     }
@@ -27,6 +27,8 @@ class MenteeReviewLogServiceTest {
 
     @Autowired
     MenteeReviewLogService menteeReviewLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     User userA = User.builder()
             .username("usernameA")
@@ -119,7 +121,7 @@ class MenteeReviewLogServiceTest {
         User user = mock(User.class);
         // when
         // then
-        String log = menteeReviewLogService.insert(user, review);
+        String log = logFormatter.format(menteeReviewLogService.insert(user, review));
         assertThat(log).isEqualTo("[Mentee Review] 평점 : 5, 내용 : Good!, 멘티 : nicknameB, " +
                 "수강 내역 : (멘티 : usernameB, " +
                 "강의 : (멘토 : usernameA, 제목 : titleA, 소제목 : subTitleA, 소개 : introduceA, 내용 : contentA, 난이도 : BASIC, 이미지 : thumbnailA, " +
@@ -144,7 +146,7 @@ class MenteeReviewLogServiceTest {
                 .build();
 
         // when
-        String log = menteeReviewLogService.update(user, review, after);
+        String log = logFormatter.format(menteeReviewLogService.update(user, review, after));
         // then
         assertThat(log).isEqualTo("[Mentee Review] 평점 : 5 → 1, 내용 : Good! → Bad");
     }
@@ -155,7 +157,7 @@ class MenteeReviewLogServiceTest {
         // given
         User user = mock(User.class);
         // when
-        String log = menteeReviewLogService.delete(user, review);
+        String log = logFormatter.format(menteeReviewLogService.delete(user, review));
         // then
         assertThat(log).isEqualTo("[Mentee Review] 평점 : 5, 내용 : Good!, 멘티 : nicknameB, " +
                 "수강 내역 : (멘티 : usernameB, " +
@@ -14,6 +14,8 @@ class MentorLogServiceTest {
 
     @Autowired
     MentorLogService mentorLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -35,7 +37,7 @@ class MentorLogServiceTest {
                 .build();
 
         // when
-        String log = mentorLogService.insert(user, mentor);
+        String log = logFormatter.format(mentorLogService.insert(user, mentor));
         // then
         assertEquals(String.format("[Mentor] 사용자 : %s, 소개 : %s", mentor.getUser().getUsername(), mentor.getBio()), log);
     }
@@ -64,7 +66,7 @@ class MentorLogServiceTest {
                 .build();
 
         // when
-        String log = mentorLogService.update(user, before, after);
+        String log = logFormatter.format(mentorLogService.update(user, before, after));
         // then
         assertEquals(String.format("[Mentor] 소개 : %s → %s", before.getBio(), after.getBio()), log);
     }
@@ -89,7 +91,7 @@ class MentorLogServiceTest {
                 .build();
 
         // when
-        String log = mentorLogService.delete(user, mentor);
+        String log = logFormatter.format(mentorLogService.delete(user, mentor));
         // then
         assertEquals(String.format("[Mentor] 사용자 : %s, 소개 : %s", mentor.getUser().getUsername(), mentor.getBio()), log);
     }
@@ -28,6 +28,8 @@ class MentorReviewLogServiceTest {
 
     @Autowired
     MentorReviewLogService mentorReviewLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     User mentorUser = User.builder()
             .username("mentorUser@email.com")
@@ -124,7 +126,7 @@ class MentorReviewLogServiceTest {
 
         // given
         // when
-        String log = mentorReviewLogService.insert(mentorUser, review);
+        String log = logFormatter.format(mentorReviewLogService.insert(mentorUser, review));
         // then
         assertThat(log).isEqualTo("[Mentor Review] 내용 : Thank You!, 멘토 : mentorUser, " +
                 "멘티 리뷰 : (평점 : 5, 내용 : Good!, 멘티 : menteeUser, " +
@@ -148,7 +150,7 @@ class MentorReviewLogServiceTest {
                 .build();
 
         // when
-        String log = mentorReviewLogService.update(mentorUser, review, after);
+        String log = logFormatter.format(mentorReviewLogService.update(mentorUser, review, after));
         // then
         assertThat(log).isEqualTo("[Mentor Review] 내용 : Thank You! → Sorry");
     }
@@ -158,7 +160,7 @@ class MentorReviewLogServiceTest {
 
         // given
         // when
-        String log = mentorReviewLogService.delete(mentorUser, review);
+        String log = logFormatter.format(mentorReviewLogService.delete(mentorUser, review));
         // then
         assertThat(log).isEqualTo("[Mentor Review] 내용 : Thank You!, 멘토 : mentorUser, 멘티 리뷰 : (평점 : 5, 내용 : Good!, 멘티 : menteeUser, 수강 내역 : (멘티 : menteeUser@email.com, 강의 : (멘토 : mentorUser@email.com, 제목 : titleA, 소제목 : subTitleA, 소개 : introduceA, 내용 : contentA, 난이도 : BASIC, 이미지 : thumbnailA, 가격 : (그룹여부 : true, 멤버 수 : 5, 시간당 가격 : 10000, 1회당 강의 시간 : 3, 강의 횟수 : 5, 최종 수강료 : 150000)/(그룹여부 : false, 멤버 수 : 0, 시간당 가격 : 5000, 1회당 강의 시간 : 10, 강의 횟수 : 5, 최종 수강료 : 250000), 온/오프라인 : 온라인/오프라인, 주제 : 자바/파이썬), 옵션 : (그룹여부 : false, 멤버 수 : 0, 시간당 가격 : 5000, 1회당 강의 시간 : 10, 강의 횟수 : 5, 최종 수강료 : 250000)), 강의 : (멘토 : mentorUser@email.com, 제목 : titleA, 소제목 : subTitleA, 소개 : introduceA, 내용 : contentA, 난이도 : BASIC, 이미지 : thumbnailA, 가격 : (그룹여부 : true, 멤버 수 : 5, 시간당 가격 : 10000, 1회당 강의 시간 : 3, 강의 횟수 : 5, 최종 수강료 : 150000)/(그룹여부 : false, 멤버 수 : 0, 시간당 가격 : 5000, 1회당 강의 시간 : 10, 강의 횟수 : 5, 최종 수강료 : 250000), 온/오프라인 : 온라인/오프라인, 주제 : 자바/파이썬))");
     }
@@ -4,6 +4,7 @@ import com.project.mentoridge.configuration.annotation.ServiceTest;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.board.enums.CategoryType;
 import com.project.mentoridge.modules.board.vo.Post;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -16,6 +17,8 @@ class PostLogServiceTest {
 
     @Autowired
     PostLogService postLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -31,7 +34,7 @@ class PostLogServiceTest {
                 .image(null)
                 .build();
         // when
-        String log = postLogService.insert(postWriter, post);
+        String log = logFormatter.format(postLogService.insert(postWriter, post));
 
         // then
         assertEquals(String.format("[Post] 글 작성자 : %s, 카테고리 : %s, 제목 : %s, 내용 : %s",
@@ -60,7 +63,7 @@ class PostLogServiceTest {
                 .build();
 
         // when
-        String log = postLogService.update(postWriter, before, after);
+        String log = logFormatter.format(postLogService.update(postWriter, before, after));
 
         // then
         assertEquals(String.format("[Post] 카테고리 : %s → %s, 제목 : %s → %s, 내용 : %s → %s, 이미지 : %s → %s",
@@ -85,10 +88,57 @@ class PostLogServiceTest {
                 .image("https://mentoridge-bucket.s3.ap-northeast-2.amazonaws.com/image/03725ffb-acf7-4fec-b28d-9f9239b1f3c0")
                 .build();
         // when
-        String log = postLogService.delete(postWriter, post);
+        String log = logFormatter.format(postLogService.delete(postWriter, post));
 
         // then
         assertEquals(String.format("[Post] 글 작성자 : %s, 카테고리 : %s, 제목 : %s, 내용 : %s, 이미지 : %s",
                 post.getUser().getNickname(), post.getCategory(), post.getTitle(), post.getContent(), post.getImage()), log);
     }
-}
\ No newline at end of file
+
+    @Test
+    void update_state_with_unfetched_content() {
+
+        // given
+        User postWriter = mock(User.class);
+        Post post = Post.builder()
+                .user(postWriter)
+                .title("title_update")
+                .category(CategoryType.TALK)
+                .content("content_update")
+                .image(null)
+                .build();
+        // 내용을 로딩하지 않은 채 변경 : 이전 값은 UNFETCHED_PROPERTY
+        String[] propertyNames = {"category", "content", "image", "title", "user"};
+        Object[] oldState = {CategoryType.LECTURE_REQUEST, LazyPropertyInitializer.UNFETCHED_PROPERTY, null, "title", postWriter};
+        Object[] state = {CategoryType.TALK, "content_update", null, "title_update", postWriter};
+
+        // when
+        String log = logFormatter.format(postLogService.update("username", post, propertyNames, oldState, state, new int[]{0, 1, 3}));
+
+        // then
+        assertEquals(String.format("[Post] 카테고리 : %s → %s, 제목 : %s → %s",
+                CategoryType.LECTURE_REQUEST, CategoryType.TALK, "title", "title_update"), log);
+    }
+
+    @Test
+    void delete_lazy_content() {
+
+        // given
+        // 바이트코드 향상된 엔티티의 지연 로딩 필드는 getter 를 거쳐야 로딩된다 - 필드는 비어 있고 getter 만 값을 돌려준다
+        User postWriter = mock(User.class);
+        when(postWriter.getNickname()).thenReturn("postWriter");
+        Post post = mock(Post.class);
+        when(post.getUser()).thenReturn(postWriter);
+        when(post.getCategory()).thenReturn(CategoryType.LECTURE_REQUEST);
+        when(post.getTitle()).thenReturn("title");
+        when(post.getContent()).thenReturn("content");
+        when(post.getImage()).thenReturn(null);
+
+        // when
+        String log = logFormatter.format(postLogService.delete(postWriter, post));
+
+        // then
+        assertEquals(String.format("[Post] 글 작성자 : %s, 카테고리 : %s, 제목 : %s, 내용 : %s",
+                "postWriter", CategoryType.LECTURE_REQUEST, "title", "content"), log);
+    }
+}
@@ -6,6 +6,10 @@ import com.project.mentoridge.modules.account.vo.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @ServiceTest
@@ -13,6 +17,8 @@ class UserLogServiceTest {
 
     @Autowired
     UserLogService userLogService;
+    @Autowired
+    LogFormatter logFormatter;
 
     @Test
     void insert_content() throws NoSuchFieldException, IllegalAccessException {
@@ -30,7 +36,7 @@ class UserLogServiceTest {
                 .build();
 
         // when
-        String log = userLogService.insert(user, user);
+        String log = logFormatter.format(userLogService.insert(user, user));
         // then
         assertEquals(String.format("[User] 아이디 : %s, 이름 : %s, 성별 : %s, 생년월일 : %s, 연락처 : %s, 닉네임 : %s, 지역 : %s",
                 user.getUsername(), user.getName(), user.getGender(), user.getBirthYear(), user.getPhoneNumber(), user.getNickname(), user.getZone()), log);
@@ -62,7 +68,7 @@ class UserLogServiceTest {
                 .zone("서울특별시 강남구 압구정동")
                 .build();
         // when
-        String log = userLogService.update(user, before, after);
+        String log = logFormatter.format(userLogService.update(user, before, after));
         // then
         assertEquals(String.format("[User] 아이디 : %s → %s, 이름 : %s → %s, 성별 : %s → %s, 생년월일 : %s → %s, 연락처 : %s → %s, 닉네임 : %s → %s, 지역 : %s → %s",
                 before.getUsername(), after.getUsername(),
@@ -90,9 +96,25 @@ class UserLogServiceTest {
                 .zone("서울특별시 강남구 청담동")
                 .build();
         // when
-        String log = userLogService.delete(user, user);
+        String log = logFormatter.format(userLogService.delete(user, user));
         // then
         assertEquals(String.format("[User] 아이디 : %s, 이름 : %s, 성별 : %s, 생년월일 : %s, 연락처 : %s, 닉네임 : %s, 지역 : %s",
                 user.getUsername(), user.getName(), user.getGender(), user.getBirthYear(), user.getPhoneNumber(), user.getNickname(), user.getZone()), log);
     }
-}
\ No newline at end of file
+
+    @Test
+    void encode_values() {
+
+        // given
+        LocalDate date = LocalDate.of(2022, 3, 18);
+        LocalDateTime dateTime = LocalDateTime.of(2022, 3, 18, 10, 30);
+
+        // when
+        // then
+        // enum 은 name, 날짜/시간은 epoch
+        assertEquals("MALE", LogService.encode(GenderType.MALE));
+        assertEquals(String.valueOf(date.toEpochDay()), LogService.encode(date));
+        assertEquals(String.valueOf(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()), LogService.encode(dateTime));
+        assertEquals("서울특별시 강남구 청담동", LogService.encode("서울특별시 강남구 청담동"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.mentoridge.modules.log.component.latency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RollingHistogramTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    void bucket() {
+        assertEquals(0, RollingHistogram.bucketOf(0));
+        assertEquals(0, RollingHistogram.bucketOf(1));
+        assertEquals(1, RollingHistogram.bucketOf(2));
+        assertEquals(2, RollingHistogram.bucketOf(3));
+        assertEquals(2, RollingHistogram.bucketOf(4));
+        assertEquals(10, RollingHistogram.bucketOf(1000));
+        assertEquals(RollingHistogram.BUCKET_COUNT - 1, RollingHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentile() {
+
+        // given
+        RollingHistogram histogram = new RollingHistogram(10_000, 10, now::get);
+
+        // when
+        for (int i = 0; i < 98; i++) {
+            histogram.record(10, false);
+        }
+        histogram.record(300, true);
+        histogram.record(700, true);
+
+        // then
+        RollingHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(2, snapshot.getErrors());
+        assertEquals(700, snapshot.getMax());
+        assertEquals(16, snapshot.getPercentile(50));
+        assertEquals(512, snapshot.getPercentile(99));
+        // 상한값이 최댓값보다 크면 최댓값
+        assertEquals(700, snapshot.getPercentile(100));
+    }
+
+    @Test
+    void expire_old_slots() {
+
+        // given
+        RollingHistogram histogram = new RollingHistogram(10_000, 10, now::get);
+        histogram.record(10, false);
+
+        // when
+        now.addAndGet(5_000);
+        histogram.record(20, false);
+
+        // then
+        assertEquals(2, histogram.snapshot().getCount());
+
+        // when
+        now.addAndGet(6_000);
+
+        // then
+        assertEquals(1, histogram.snapshot().getCount());
+        assertEquals(20, histogram.snapshot().getMax());
+
+        // when
+        now.addAndGet(10_000);
+
+        // then
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getPercentile(99));
+    }
+
+    @Test
+    void reuse_slot_after_window() {
+
+        // given
+        RollingHistogram histogram = new RollingHistogram(10_000, 10, now::get);
+        histogram.record(10, false);
+
+        // when
+        // 같은 slot 위치로 돌아옴
+        now.addAndGet(10_000);
+        histogram.record(30, false);
+
+        // then
+        RollingHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(30, snapshot.getMax());
+    }
+}
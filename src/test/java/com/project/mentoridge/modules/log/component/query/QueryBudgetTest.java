@@ -0,0 +1,106 @@
+package com.project.mentoridge.modules.log.component.query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryBudgetTest {
+
+    private final QueryInspector queryInspector = new QueryInspector();
+
+    @AfterEach
+    void clear() {
+        QueryContext.end();
+    }
+
+    @Test
+    void shape() {
+        assertEquals("select * from user where id=? and name=?",
+                QueryContext.shapeOf("select *\n  from user where id=1 and name='a''b'"));
+        assertEquals("select * from career where mentor_id in (?)",
+                QueryContext.shapeOf("select * from career where mentor_id in (?, ?, ?)"));
+    }
+
+    @Test
+    void ignore_outside_request() {
+
+        // given
+        // when
+        queryInspector.inspect("select 1");
+
+        // then
+        assertNull(QueryContext.current());
+    }
+
+    @Test
+    void detect_repeated_statements() {
+
+        // given
+        QueryBudget queryBudget = new QueryBudget(30, 500, 5, false);
+        QueryContext context = QueryContext.begin();
+
+        // when
+        queryInspector.inspect("select * from post");
+        for (int i = 0; i < 10; i++) {
+            queryInspector.inspect("select * from user where user_id=?");
+        }
+
+        // then
+        assertEquals(11, context.getCount());
+        assertEquals(10, (int) context.getShapes().get("select * from user where user_id=?"));
+        List<String> violations = queryBudget.check("GET /api/posts", context);
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).startsWith("repeated (N+1)"));
+    }
+
+    @Test
+    void exceed_count() {
+
+        // given
+        QueryBudget queryBudget = new QueryBudget(3, 500, 5, false);
+        QueryContext context = QueryContext.begin();
+
+        // when
+        queryInspector.inspect("select * from lecture where lecture_id=?");
+        queryInspector.inspect("select * from mentor where mentor_id=?");
+        queryInspector.inspect("select * from user where user_id=?");
+        queryInspector.inspect("select * from lecture_price where lecture_id=?");
+
+        // then
+        List<String> violations = queryBudget.check("GET /api/lectures/1", context);
+        assertEquals(1, violations.size());
+        assertEquals("count : 4 > 3", violations.get(0));
+    }
+
+    @Test
+    void fail_on_violation() {
+
+        // given
+        QueryBudget queryBudget = new QueryBudget(1, 500, 5, true);
+        QueryContext context = QueryContext.begin();
+
+        // when
+        queryInspector.inspect("select * from lecture");
+        queryInspector.inspect("select * from mentor");
+
+        // then
+        assertThrows(QueryBudgetExceededException.class, () -> queryBudget.check("GET /api/lectures", context));
+    }
+
+    @Test
+    void within_budget() {
+
+        // given
+        QueryBudget queryBudget = new QueryBudget(30, 500, 5, true);
+        QueryContext context = QueryContext.begin();
+
+        // when
+        queryInspector.inspect("select * from lecture");
+
+        // then
+        assertTrue(queryBudget.check("GET /api/lectures", context).isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.mentoridge.modules.log.component.tracer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracerTest {
+
+    private SlowTraceStore slowTraceStore;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setup() {
+        slowTraceStore = new SlowTraceStore(2);
+        tracer = new Tracer(slowTraceStore);
+    }
+
+    @Test
+    void record_nested_spans() {
+
+        // given
+        TraceStatus request = tracer.begin("GET /api/lectures");
+        TraceStatus controller = tracer.begin("LectureController.getLectures(..)");
+        TraceStatus service = tracer.begin("LectureService.getLectureResponses(..)");
+
+        // when
+        tracer.end(service);
+        tracer.exception(controller, new IllegalStateException());
+        tracer.end(request);
+
+        // then
+        assertFalse(tracer.isTracing());
+        List<Trace> traces = slowTraceStore.getTraces();
+        assertEquals(1, traces.size());
+
+        Trace trace = traces.get(0);
+        assertEquals(request.getTraceId().getId(), trace.getId());
+        assertEquals("GET /api/lectures", trace.getMessage());
+        assertTrue(trace.getElapsedNs() >= 0);
+
+        List<Span> spans = trace.getSpans();
+        assertEquals(3, spans.size());
+        assertEquals(0, spans.get(0).getLevel());
+        assertEquals(1, spans.get(1).getLevel());
+        assertEquals(2, spans.get(2).getLevel());
+        assertEquals("IllegalStateException", spans.get(1).getException());
+        assertTrue(spans.stream().allMatch(Span::isEnded));
+    }
+
+    @Test
+    void same_trace_id_in_request() {
+
+        // given
+        TraceStatus request = tracer.begin("GET /api/posts");
+
+        // when
+        TraceStatus service = tracer.begin("PostService.getPostResponses(..)");
+        tracer.end(service);
+        TraceStatus repository = tracer.begin("PostRepository.findAll(..)");
+
+        // then
+        assertEquals(request.getTraceId().getId(), service.getTraceId().getId());
+        assertEquals(request.getTraceId().getId(), repository.getTraceId().getId());
+        assertEquals(1, repository.getTraceId().getLevel());
+    }
+
+    @Test
+    void cap_spans() {
+
+        // given
+        TraceStatus request = tracer.begin("GET /api/posts");
+
+        // when
+        for (int i = 0; i < Trace.MAX_SPANS + 10; i++) {
+            tracer.end(tracer.begin("PostRepository.findById(..)"));
+        }
+        tracer.end(request);
+
+        // then
+        Trace trace = slowTraceStore.getTraces().get(0);
+        assertEquals(Trace.MAX_SPANS, trace.getSpans().size());
+        assertEquals(11, trace.getDroppedSpans());
+    }
+
+    @Test
+    void keep_slowest_traces() {
+
+        // given
+        Trace fast = new Trace("fast", "fast");
+        Trace slow = new Trace("slow", "slow");
+        Trace slowest = new Trace("slowest", "slowest");
+        fast.end();
+        sleep(5);
+        slow.end();
+        sleep(5);
+        slowest.end();
+
+        // when
+        slowTraceStore.offer(slowest);
+        slowTraceStore.offer(fast);
+        slowTraceStore.offer(slow);
+
+        // then
+        List<Trace> traces = slowTraceStore.getTraces();
+        assertEquals(2, traces.size());
+        assertEquals("slowest", traces.get(0).getId());
+        assertEquals("slow", traces.get(1).getId());
+    }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+}
@@ -0,0 +1,107 @@
+package com.project.mentoridge.modules.log.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogBufferTest {
+
+    @Test
+    void flush_by_size() throws InterruptedException {
+
+        // given
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        LogBuffer<Integer> buffer = new LogBuffer<>("test", 100, 3, 60000, 0, batch -> {
+            batches.add(batch);
+            latch.countDown();
+        });
+        buffer.start();
+
+        // when
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        // then
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertThat(batches.get(0)).containsExactly(1, 2, 3);
+        buffer.shutdown(1000);
+    }
+
+    @Test
+    void flush_by_time() throws InterruptedException {
+
+        // given
+        List<Integer> flushed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        LogBuffer<Integer> buffer = new LogBuffer<>("test", 100, 100, 50, 0, batch -> {
+            flushed.addAll(batch);
+            latch.countDown();
+        });
+        buffer.start();
+
+        // when
+        buffer.offer(1);
+
+        // then
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertThat(flushed).containsExactly(1);
+        buffer.shutdown(1000);
+    }
+
+    @Test
+    void drop_when_full() throws InterruptedException {
+
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        LogBuffer<Integer> buffer = new LogBuffer<>("test", 1, 1, 60000, 0, batch -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        buffer.start();
+
+        // when
+        // 워커가 첫 번째 batch 에서 대기하는 동안 큐(1) 가 가득 참
+        buffer.offer(1);
+        Thread.sleep(100);
+        buffer.offer(2);
+        boolean accepted = buffer.offer(3);
+
+        // then
+        assertFalse(accepted);
+        assertEquals(1, buffer.getDropped());
+        blocked.countDown();
+        buffer.shutdown(1000);
+    }
+
+    @Test
+    void drain_on_shutdown() {
+
+        // given
+        List<Integer> flushed = Collections.synchronizedList(new ArrayList<>());
+        LogBuffer<Integer> buffer = new LogBuffer<>("test", 100, 100, 60000, 0, flushed::addAll);
+        buffer.start();
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+        }
+
+        // when
+        buffer.shutdown(5000);
+
+        // then
+        assertEquals(10, flushed.size());
+        assertEquals(10, buffer.getFlushed());
+        assertFalse(buffer.offer(10));
+    }
+}
@@ -0,0 +1,141 @@
+package com.project.mentoridge.modules.log.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void append_and_read() throws IOException {
+
+        // given
+        LogJournal journal = new LogJournal(dir, 1024);
+
+        // when
+        journal.append(bytes("a"));
+        journal.append(bytes("bc"));
+        journal.roll();
+
+        // then
+        List<Path> segments = journal.getSealedSegments();
+        assertEquals(1, segments.size());
+        List<byte[]> records = LogJournal.read(segments.get(0));
+        assertEquals(2, records.size());
+        assertEquals("a", string(records.get(0)));
+        assertEquals("bc", string(records.get(1)));
+    }
+
+    @Test
+    void roll_when_segment_is_full() throws IOException {
+
+        // given
+        // 레코드 하나 = 헤더(8) + 12 = 20 bytes
+        LogJournal journal = new LogJournal(dir, 50);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertTrue(journal.append(bytes(String.format("record-%05d", i))));
+        }
+        journal.close();
+
+        // then
+        List<Path> segments = journal.getSealedSegments();
+        assertEquals(3, segments.size());
+        assertEquals(2, LogJournal.read(segments.get(0)).size());
+        assertEquals(2, LogJournal.read(segments.get(1)).size());
+        assertEquals(1, LogJournal.read(segments.get(2)).size());
+    }
+
+    @Test
+    void reject_record_larger_than_segment() throws IOException {
+
+        // given
+        LogJournal journal = new LogJournal(dir, 16);
+
+        // when
+        // then
+        assertFalse(journal.append(new byte[9]));
+        assertTrue(journal.append(new byte[8]));
+    }
+
+    @Test
+    void recover_active_segment_on_restart() throws IOException {
+
+        // given
+        LogJournal journal = new LogJournal(dir, 1024);
+        journal.append(bytes("a"));
+        journal.force();
+        // 봉인 전에 프로세스가 종료된 상황
+
+        // when
+        LogJournal restarted = new LogJournal(dir, 1024);
+        restarted.append(bytes("b"));
+        restarted.roll();
+
+        // then
+        List<Path> segments = restarted.getSealedSegments();
+        assertEquals(2, segments.size());
+        assertEquals("a", string(LogJournal.read(segments.get(0)).get(0)));
+        assertEquals("b", string(LogJournal.read(segments.get(1)).get(0)));
+    }
+
+    @Test
+    void stop_at_corrupted_record() throws IOException {
+
+        // given
+        LogJournal journal = new LogJournal(dir, 1024);
+        journal.append(bytes("a"));
+        journal.append(bytes("b"));
+        journal.roll();
+        Path segment = journal.getSealedSegments().get(0);
+
+        // when
+        // 두 번째 레코드의 payload 를 변경
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(8 + 1 + 8);
+            file.write('x');
+        }
+
+        // then
+        List<byte[]> records = LogJournal.read(segment);
+        assertEquals(1, records.size());
+        assertEquals("a", string(records.get(0)));
+    }
+
+    @Test
+    void delete_segment() throws IOException {
+
+        // given
+        LogJournal journal = new LogJournal(dir, 1024);
+        journal.append(bytes("a"));
+        journal.roll();
+        Path segment = journal.getSealedSegments().get(0);
+
+        // when
+        journal.delete(segment);
+
+        // then
+        assertFalse(Files.exists(segment));
+        assertTrue(journal.getSealedSegments().isEmpty());
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.mentoridge.modules.log.service;
+
+import com.project.mentoridge.modules.base.CursorResponse;
+import com.project.mentoridge.modules.log.component.LogFormatter;
+import com.project.mentoridge.modules.log.controller.request.LogSearchRequest;
+import com.project.mentoridge.modules.log.controller.response.LogResponse;
+import com.project.mentoridge.modules.log.enums.ManipulationType;
+import com.project.mentoridge.modules.log.vo.Log;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LogQueryServiceTest {
+
+    @InjectMocks
+    LogQueryService logQueryService;
+    @Mock
+    MongoTemplate mongoTemplate;
+    @Mock
+    LogFormatter logFormatter;
+
+    @Test
+    void get_logs_with_cursor() {
+
+        // given
+        Log log1 = Log.buildInsertLog("user", "content1");
+        Log log2 = Log.buildInsertLog("user", "content2");
+        Log log3 = Log.buildInsertLog("user", "content3");
+        when(mongoTemplate.find(any(Query.class), eq(Log.class))).thenReturn(Arrays.asList(log3, log2, log1));
+        when(logFormatter.format(any(Log.class))).thenAnswer(invocation -> ((Log) invocation.getArgument(0)).getContent());
+
+        String cursor = new ObjectId().toHexString();
+        LogSearchRequest searchRequest = LogSearchRequest.builder()
+                .username("user")
+                .type(ManipulationType.INSERT)
+                .cursor(cursor)
+                .size(2)
+                .build();
+
+        // when
+        CursorResponse<LogResponse> response = logQueryService.getLogResponses(searchRequest);
+
+        // then
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(Log.class));
+        Query query = captor.getValue();
+        Document queryObject = query.getQueryObject();
+        assertAll(
+                () -> assertEquals("user", queryObject.get("username")),
+                () -> assertEquals(ManipulationType.INSERT, queryObject.get("type")),
+                () -> assertEquals(new ObjectId(cursor), ((Document) queryObject.get("_id")).get("$lt")),
+                () -> assertEquals(3, query.getLimit()),
+                () -> assertEquals(new Document("_id", -1), query.getSortObject())
+        );
+
+        assertAll(
+                () -> assertEquals(2, response.getContent().size()),
+                () -> assertEquals("content3", response.getContent().get(0).getContent()),
+                () -> assertTrue(response.isHasNext()),
+                () -> assertEquals(log2.getId(), response.getNextCursor())
+        );
+    }
+
+    @Test
+    void get_logs_by_title() {
+
+        // given
+        when(logFormatter.getEntity("[Lecture] ")).thenReturn("Lecture");
+        when(mongoTemplate.find(any(Query.class), eq(Log.class))).thenReturn(Collections.emptyList());
+
+        LogSearchRequest searchRequest = LogSearchRequest.builder()
+                .title("[Lecture] ")
+                .build();
+
+        // when
+        CursorResponse<LogResponse> response = logQueryService.getLogResponses(searchRequest);
+
+        // then
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(Log.class));
+        assertEquals("Lecture", captor.getValue().getQueryObject().get("entity"));
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void get_logs_with_invalid_cursor() {
+
+        // given
+        LogSearchRequest searchRequest = LogSearchRequest.builder()
+                .cursor("invalid")
+                .build();
+
+        // when
+        // then
+        assertThrows(RuntimeException.class, () -> logQueryService.getLogResponses(searchRequest));
+    }
+}
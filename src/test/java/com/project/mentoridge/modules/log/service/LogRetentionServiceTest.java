@@ -0,0 +1,126 @@
+package com.project.mentoridge.modules.log.service;
+
+import com.mongodb.client.result.DeleteResult;
+import com.project.mentoridge.modules.log.enums.ManipulationType;
+import com.project.mentoridge.modules.log.vo.Log;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LogRetentionServiceTest {
+
+    @InjectMocks
+    LogRetentionService logRetentionService;
+    @Mock
+    MongoTemplate mongoTemplate;
+
+    @TempDir
+    Path archiveDir;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(logRetentionService, "archiveDir", archiveDir.toString());
+        when(mongoTemplate.getCollectionName(Log.class)).thenReturn("logs");
+    }
+
+    private static CloseableIterator<Document> iterator(Document... documents) {
+
+        Iterator<Document> iterator = Arrays.asList(documents).iterator();
+        return new CloseableIterator<Document>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Document next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Test
+    void archive_and_remove() throws IOException {
+
+        // given
+        ObjectId id1 = new ObjectId();
+        ObjectId id2 = new ObjectId();
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("logs")))
+                .thenReturn(iterator(new Document("_id", id1).append("type", "SELECT"), new Document("_id", id2).append("type", "SELECT")));
+        when(mongoTemplate.remove(any(Query.class), eq("logs"))).thenReturn(DeleteResult.acknowledged(2));
+
+        // when
+        long expired = logRetentionService.expire("select", Criteria.where("type").is(ManipulationType.SELECT), LocalDateTime.now());
+
+        // then
+        assertEquals(2, expired);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(captor.capture(), eq("logs"));
+        // 보관 파일에 쓴 _id 만 삭제
+        Document removeQuery = captor.getValue().getQueryObject();
+        assertEquals(Arrays.asList(id1, id2), ((Document) removeQuery.get("_id")).get("$in"));
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(archiveDir)) {
+            files = stream.collect(Collectors.toList());
+        }
+        assertEquals(1, files.size());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(files.get(0))), StandardCharsets.UTF_8))) {
+            assertEquals(2, reader.lines().count());
+        }
+    }
+
+    @Test
+    void nothing_to_expire() throws IOException {
+
+        // given
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("logs"))).thenReturn(iterator());
+
+        // when
+        long expired = logRetentionService.expire("select", Criteria.where("type").is(ManipulationType.SELECT), LocalDateTime.now());
+
+        // then
+        assertEquals(0, expired);
+        verify(mongoTemplate, never()).remove(any(Query.class), anyString());
+        try (Stream<Path> stream = Files.list(archiveDir)) {
+            assertEquals(0, stream.count());
+        }
+    }
+}
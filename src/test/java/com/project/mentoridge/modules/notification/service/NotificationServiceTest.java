@@ -3,6 +3,8 @@ package com.project.mentoridge.modules.notification.service;
 import com.project.mentoridge.modules.account.controller.response.NotificationResponse;
 import com.project.mentoridge.modules.account.repository.UserRepository;
 import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.base.Cursor;
+import com.project.mentoridge.modules.base.CursorResponse;
 import com.project.mentoridge.modules.notification.enums.NotificationType;
 import com.project.mentoridge.modules.notification.repository.NotificationRepository;
 import com.project.mentoridge.modules.notification.vo.Notification;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,6 +51,25 @@ public class NotificationServiceTest {
         assertThat(response.getContent()).hasSize(0);
     }
 
+    @Test
+    void get_cursor_NotificationResponses() {
+
+        // given
+        User user = mock(User.class);
+        when(notificationRepository.findByUserAndIdLessThanOrderByIdDesc(eq(user), anyLong(), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        // when
+        CursorResponse<NotificationResponse> first = notificationService.getNotificationResponses(user, (String) null);
+        notificationService.getNotificationResponses(user, Cursor.of(15L).encode());
+
+        // then
+        assertThat(first.getContent()).hasSize(0);
+        assertThat(first.isHasNext()).isFalse();
+        assertThat(first.getNextCursor()).isNull();
+        verify(notificationRepository).findByUserAndIdLessThanOrderByIdDesc(eq(user), eq(Long.MAX_VALUE), any(Pageable.class));
+        verify(notificationRepository).findByUserAndIdLessThanOrderByIdDesc(eq(user), eq(15L), any(Pageable.class));
+    }
+
     @Test
     void count_unchecked_notifications() {
 
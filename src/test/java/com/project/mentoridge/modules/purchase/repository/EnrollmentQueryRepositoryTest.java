@@ -1,6 +1,7 @@
 package com.project.mentoridge.modules.purchase.repository;
 
 import com.project.mentoridge.configuration.annotation.RepositoryTest;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.purchase.controller.response.EnrollmentWithSimpleEachLectureResponse;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.project.mentoridge.modules.account.repository.MenteeRepository;
@@ -30,7 +31,7 @@ class EnrollmentQueryRepositoryTest {
     @BeforeEach
     void init() {
         jpaQueryFactory = new JPAQueryFactory(em);
-        enrollmentQueryRepository = new EnrollmentQueryRepository(jpaQueryFactory);
+        enrollmentQueryRepository = new EnrollmentQueryRepository(jpaQueryFactory, new PageCounter());
     }
 
     @Test
@@ -47,6 +47,8 @@ class PickServiceTest {
 
     @Mock
     PickLogService pickLogService;
+    @Mock
+    PickedLecturePriceCache pickedLecturePriceCache;
 
     @Test
     void getPickWithSimpleEachLectureResponses() {
@@ -93,6 +95,7 @@ class PickServiceTest {
         // pick 생성
         verify(pickRepository).save(any(Pick.class));
         verify(pickLogService).insert(menteeUser, saved);
+        verify(pickedLecturePriceCache).picked(any(), eq(1L));
         assertThat(pickId).isEqualTo(1L);
     }
 
@@ -123,6 +126,7 @@ class PickServiceTest {
         // verify(pickLogService).delete(menteeUser, pick);
         verify(pickRepository).delete(pick);
         verify(pickRepository, atMost(0)).save(any(Pick.class));
+        verify(pickedLecturePriceCache).unpicked(any(), eq(1L));
     }
 
     @Test
@@ -140,5 +144,6 @@ class PickServiceTest {
         // then
         verify(pickRepository).deleteByMentee(mentee);
         verify(pickLogService).deleteAll(menteeUser);
+        verify(pickedLecturePriceCache).evict(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.project.mentoridge.modules.purchase.service;
+
+import com.project.mentoridge.modules.account.vo.User;
+import com.project.mentoridge.modules.purchase.repository.PickRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PickedLecturePriceCacheTest {
+
+    @Mock
+    PickRepository pickRepository;
+
+    private PickedLecturePriceCache pickedLecturePriceCache;
+
+    @BeforeEach
+    void init() {
+        pickedLecturePriceCache = new PickedLecturePriceCache(pickRepository);
+        ReflectionTestUtils.setField(pickedLecturePriceCache, "enabled", true);
+        ReflectionTestUtils.setField(pickedLecturePriceCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(pickedLecturePriceCache, "maxEntries", 2);
+    }
+
+    @Test
+    void get_picked_from_cache() {
+
+        // given
+        User user = user(1L);
+        when(pickRepository.findLecturePriceIdsByMenteeUserId(1L)).thenReturn(Arrays.asList(5L, 3L));
+
+        // when
+        Map<Long, Boolean> picked = pickedLecturePriceCache.getPicked(user, Arrays.asList(1L, 3L, 5L));
+        boolean detail = pickedLecturePriceCache.isPicked(user, 3L);
+
+        // then
+        assertEquals(2, picked.size());
+        assertTrue(picked.get(3L));
+        assertTrue(picked.get(5L));
+        assertTrue(detail);
+        verify(pickRepository, times(1)).findLecturePriceIdsByMenteeUserId(1L);
+    }
+
+    @Test
+    void update_when_picked_and_unpicked() {
+
+        // given
+        User user = user(1L);
+        when(pickRepository.findLecturePriceIdsByMenteeUserId(1L)).thenReturn(Collections.singletonList(3L));
+        pickedLecturePriceCache.isPicked(user, 3L);
+
+        // when
+        pickedLecturePriceCache.picked(1L, 1L);
+        pickedLecturePriceCache.unpicked(1L, 3L);
+
+        // then
+        assertTrue(pickedLecturePriceCache.isPicked(user, 1L));
+        assertFalse(pickedLecturePriceCache.isPicked(user, 3L));
+        verify(pickRepository, times(1)).findLecturePriceIdsByMenteeUserId(1L);
+    }
+
+    @Test
+    void evict_least_recently_used() {
+
+        // given
+        when(pickRepository.findLecturePriceIdsByMenteeUserId(anyLong())).thenReturn(Collections.emptyList());
+        pickedLecturePriceCache.isPicked(user(1L), 1L);
+        pickedLecturePriceCache.isPicked(user(2L), 1L);
+        pickedLecturePriceCache.isPicked(user(1L), 1L);
+
+        // when
+        pickedLecturePriceCache.isPicked(user(3L), 1L);
+
+        // then
+        assertEquals(2, pickedLecturePriceCache.getSize());
+        pickedLecturePriceCache.isPicked(user(2L), 1L);
+        verify(pickRepository, times(2)).findLecturePriceIdsByMenteeUserId(2L);
+        verify(pickRepository, times(1)).findLecturePriceIdsByMenteeUserId(1L);
+    }
+
+        private User user(Long userId) {
+            User user = mock(User.class);
+            when(user.getId()).thenReturn(userId);
+            return user;
+        }
+}
@@ -6,6 +6,7 @@ import com.project.mentoridge.modules.account.repository.UserRepository;
 import com.project.mentoridge.modules.account.vo.User;
 import com.project.mentoridge.modules.lecture.repository.LectureRepository;
 import com.project.mentoridge.modules.lecture.vo.Lecture;
+import com.project.mentoridge.modules.base.PageCounter;
 import com.project.mentoridge.modules.review.controller.response.ReviewResponse;
 import com.project.mentoridge.modules.review.controller.response.ReviewWithSimpleEachLectureResponse;
 import com.project.mentoridge.modules.review.vo.MenteeReview;
@@ -40,7 +41,7 @@ class MenteeReviewQueryRepositoryTest {
     @BeforeEach
     void init() {
         jpaQueryFactory = new JPAQueryFactory(em);
-        menteeReviewQueryRepository = new MenteeReviewQueryRepository(jpaQueryFactory, em);
+        menteeReviewQueryRepository = new MenteeReviewQueryRepository(jpaQueryFactory, new PageCounter(), em);
     }
 
     @Test
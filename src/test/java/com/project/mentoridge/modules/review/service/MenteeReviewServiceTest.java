@@ -343,7 +343,8 @@ class MenteeReviewServiceTest extends AbstractServiceTest {
 
         // then
         verify(menteeReviewRepository).save(any(MenteeReview.class));
-        verify(menteeReviewLogService).insert(menteeUser, saved);
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(menteeReviewLogService);
     }
 
     @Test
@@ -360,8 +361,9 @@ class MenteeReviewServiceTest extends AbstractServiceTest {
         menteeReviewService.updateMenteeReview(menteeUser, 1L, menteeReviewUpdateRequest);
 
         // then
-        verify(menteeReview).update(menteeReviewUpdateRequest, menteeUser, menteeReviewLogService);
-        // verify(menteeReviewLogService).update(eq(menteeUser), any(MenteeReview.class), any(MenteeReview.class));
+        verify(menteeReview).update(menteeReviewUpdateRequest);
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(menteeReviewLogService);
     }
 
     @Test
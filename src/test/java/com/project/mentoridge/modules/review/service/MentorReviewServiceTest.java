@@ -97,7 +97,8 @@ class MentorReviewServiceTest {
 
         // then
         verify(mentorReviewRepository).save(mentorReviewCreateRequest.toEntity(mentor, parent));
-        verify(mentorReviewLogService).insert(eq(mentorUser), eq(saved));
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(mentorReviewLogService);
     }
 
     @Test
@@ -121,8 +122,9 @@ class MentorReviewServiceTest {
         mentorReviewService.updateMentorReview(mentorUser, 1L, 1L, 2L, mentorReviewUpdateRequest);
 
         // then
-        verify(review).update(mentorReviewUpdateRequest, mentorUser, mentorReviewLogService);
-        // verify(mentorReviewLogService).update(eq(mentorUser), any(MentorReview.class), any(MentorReview.class));
+        verify(review).update(mentorReviewUpdateRequest);
+        // insert/update 이력은 AuditEventListener 가 기록
+        verifyNoInteractions(mentorReviewLogService);
     }
 
     @Test